@@ -5,12 +5,14 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/06/03 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  定期実行(収支整合性検証のスイープ)を有効化
  *
  */
 package com.yonetani.webapp.accountbook;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  *<pre>
@@ -23,6 +25,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *
  */
 @SpringBootApplication
+@EnableScheduling
 public class MyHouseholdAccountBookApplication {
 
 	public static void main(String[] args) {
@@ -1,12 +1,13 @@
 /**
  * ExpenditureAmountItemHolderクラス（ドメインクラス）を生成するためのコンポーネントクラスです。
- * 指定した年月で支出金額テーブル情報を検索し、検索結果（支出金額テーブル情報）をもとにドメインのホルダークラス(ExpenditureAmountItemHolder)を生成します。
+ * 支出金額テーブルへの反映内容(新規追加・加算値、増減値)を格納するドメインのホルダークラス(ExpenditureAmountItemHolder)を生成します。
  *
  *------------------------------------------------
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/10/14 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  DB上での加減算対応(支出金額テーブルの全件読込を廃止)
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.account.component;
@@ -15,17 +16,14 @@ import org.springframework.stereotype.Component;
 
 import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemHolder;
-import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemInquiryList;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
-import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
 
 /**
  *<pre>
  * ExpenditureAmountItemHolderクラス（ドメインクラス）を生成するためのコンポーネントクラスです。
- * 指定した年月で支出金額テーブル情報を検索し、検索結果（支出金額テーブル情報）をもとにドメインのホルダークラス(ExpenditureAmountItemHolder)を生成します。
+ * 支出金額テーブルへの反映内容(新規追加・加算値、増減値)を格納するドメインのホルダークラス(ExpenditureAmountItemHolder)を生成します。
+ * 支出金額テーブルへの加減算はDB上で行うため、ホルダー生成時に支出金額テーブルは検索しません。
  * 
  *</pre>
  *
@@ -34,29 +32,20 @@ import lombok.extern.log4j.Log4j2;
  *
  */
 @Component
-@Log4j2
 @RequiredArgsConstructor
 public class ExpenditureAmountItemHolderComponent {
 	
-	// 支出金額テーブル:SISYUTU_KINGAKU_TABLEポジトリー
-	private final SisyutuKingakuTableRepository sisyutuKingakuTableRepository;
 	// 支出項目情報取得コンポーネント
 	private final ExpenditureItemInfoComponent expenditureItemInfoComponent;
 	
 	/**
 	 *<pre>
-	 * 指定した検索条件をもとに、ホルダークラス(ExpenditureAmountItemHolder)を生成して返します。
+	 * 空のホルダークラス(ExpenditureAmountItemHolder)を生成して返します。
 	 *</pre>
-	 * @param search 検索条件(ユーザID, 年月)
-	 * @return 支出金額テーブル情報を格納したホルダークラス(ExpenditureAmountItemHolder)
+	 * @return 支出金額テーブルへの反映内容を格納するホルダークラス(ExpenditureAmountItemHolder)
 	 *
 	 */
-	public ExpenditureAmountItemHolder build(SearchQueryUserIdAndYearMonth search) {
-		log.debug("road:search="+ search);
-		
-		// 指定された検索条件をもとに支出金額テーブルを検索
-		ExpenditureAmountItemInquiryList searchResult = sisyutuKingakuTableRepository.findBy(search);
-		// 検索結果をもとに支出金額テーブル情報を格納したホルダークラス(ExpenditureAmountItemHolder)を生成して返却
-		return ExpenditureAmountItemHolder.from(searchResult.getValues(), expenditureItemInfoComponent);
+	public ExpenditureAmountItemHolder build() {
+		return ExpenditureAmountItemHolder.from(expenditureItemInfoComponent);
 	}
 }
@@ -4,6 +4,9 @@
  * ・買い物リストの支出項目に対応する支出テーブル情報と支出金額テーブル情報が登録されてるかどうかをチェックし、NGの項目に対応するエラーメッセージを返す機能
  * ・必須支出項目に対応する支出テーブル情報を取得して返す機能
  * 
+ * 対象の支出項目の支出テーブル情報と支出金額テーブル情報は、それぞれ支出項目コードのリストによる1回の一括検索で
+ * 取得したスナップショット(ShoppingRegistExpenditureSnapshot)から参照します。
+ * 
  * [対象の支出項目]
  * ・支出項目コード:飲食(0051)＋支出区分(無駄使いなし)
  * ・支出項目コード:飲食(0051)＋支出区分(無駄遣いB)
@@ -19,6 +22,7 @@
  * 日付       : version  コメントなど
  * 2025/01/12 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  必須支出項目の支出テーブル情報・支出金額テーブル情報を2回の一括検索(スナップショット)で取得するよう変更
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.account.component;
@@ -35,9 +39,8 @@ import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookCont
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItemInquiryList;
-import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCode;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory;
+import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.ShoppingRegistExpenditureSnapshot;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.expenditure.ExpenditureCategory;
@@ -56,6 +59,9 @@ import lombok.extern.log4j.Log4j2;
  * ・買い物リストの支出項目に対応する支出テーブル情報と支出金額テーブル情報が登録されてるかどうかをチェックし、NGの項目に対応するエラーメッセージを返す機能
  * ・必須支出項目に対応する支出テーブル情報を取得して返す機能
  * 
+ * 対象の支出項目の支出テーブル情報と支出金額テーブル情報は、それぞれ支出項目コードのリストによる1回の一括検索で
+ * 取得したスナップショット(ShoppingRegistExpenditureSnapshot)から参照します。
+ * 
  * [対象の支出項目]
  * ・支出項目コード:飲食(0051)＋支出区分(無駄使いなし)
  * ・支出項目コード:飲食(0051)＋支出区分(無駄遣いB)
@@ -88,6 +94,9 @@ public class ShoppingRegistExpenditureItemComponent {
 	private final ExpenditureItemCode workItemCode = ExpenditureItemCode.from(MyHouseholdAccountBookContent.SISYUTU_ITEM_CODE_RYUUDOU_KEIHI_VALUE);
 	// 定数:住居設備の支出項目コード
 	private final ExpenditureItemCode houseEquipmentItemCode = ExpenditureItemCode.from(MyHouseholdAccountBookContent.SISYUTU_ITEM_CODE_JYUUKYO_SETUBI_VALUE);
+	// 定数:一括検索対象の支出項目コードのリスト
+	private final List<ExpenditureItemCode> targetItemCodeList = List.of(
+			foodItemCode, dineOutItemCode, consumerGoodsItemCode, clothesItemCode, workItemCode, houseEquipmentItemCode);
 	
 	// 支出テーブル:EXPENDITURE_TABLEリポジトリー
 	private final ExpenditureTableRepository expenditureRepository;
@@ -108,97 +117,85 @@ public class ShoppingRegistExpenditureItemComponent {
 		log.debug("checkExpenditureAndSisyutuKingaku:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
 		
 		List<String> responseMessage = new ArrayList<>();
-		// 簡易タイプ買い物リストの項目に対応する支出テーブル情報と支出金額テーブル情報を取得
+		// 簡易タイプ買い物リストの項目に対応する支出テーブル情報と支出金額テーブル情報を一括で取得
 		// 支出テーブル情報には外食、仕事のデータ登録なしでOK。データがある場合でも値の更新は不要
+		ShoppingRegistExpenditureSnapshot snapshot = loadExpenditureSnapshot(userId, targetYearMonth);
 		// 飲食(無駄遣いなし)
-		ExpenditureItemInquiryList beforeFoodList = expenditureRepository.findByExpenditureItemCodeAndCategory(
-				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory.from(userId, targetYearMonth, foodItemCode, ExpenditureCategory.NON_WASTED));
-		if(!beforeFoodList.isOne()) {
+		if(!snapshot.getExpenditureItemList(foodItemCode, ExpenditureCategory.NON_WASTED).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("飲食(無駄づかいなし)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄使いなし)の支出情報を登録してから再度実行してください。");
 		}
 		// 飲食(無駄遣いB)
-		ExpenditureItemInquiryList beforeFoodBList = expenditureRepository.findByExpenditureItemCodeAndCategory(
-				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory.from(userId, targetYearMonth, foodItemCode, ExpenditureCategory.WASTED_B));
-		if(!beforeFoodBList.isOne() ) {
+		if(!snapshot.getExpenditureItemList(foodItemCode, ExpenditureCategory.WASTED_B).isOne() ) {
 			// エラーメッセージを追加
 			responseMessage.add("飲食(無駄遣いB)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄遣いB)の支出情報を登録してから再度実行してください。");
 		}
 		// 飲食(無駄使いC)
-		ExpenditureItemInquiryList beforeFoodCList = expenditureRepository.findByExpenditureItemCodeAndCategory(
-				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory.from(userId, targetYearMonth, foodItemCode, ExpenditureCategory.WASTED_C));
-		if(!beforeFoodCList.isOne()) {
+		if(!snapshot.getExpenditureItemList(foodItemCode, ExpenditureCategory.WASTED_C).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("飲食(無駄使いC)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄使いC)の支出情報を登録してから再度実行してください。");
 		}
 		// 支出金額テーブル情報(飲食)
-		ExpenditureAmountItem beforeFood = sisyutuKingakuTableRepository.findByPrimaryKey(SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, foodItemCode));
-		if(beforeFood == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(飲食)が登録されていません。管理者に問い合わせてください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
-		}
+		checkExpenditureAmountItem(snapshot, foodItemCode, "飲食");
 		
 		// 一人プチ贅沢・外食
-		SearchQueryUserIdAndYearMonthAndExpenditureItemCode searchDineOut = SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, dineOutItemCode);
-		ExpenditureItemInquiryList beforeDineOutList = expenditureRepository.findByExpenditureItemCode(searchDineOut);
-		if(!beforeDineOutList.isOne()) {
+		if(!snapshot.getExpenditureItemList(dineOutItemCode).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("一人プチ贅沢・外食に対応する支出情報が登録されていないか複数登録されています。支出登録画面で一人プチ贅沢・外食の支出情報を登録してから再度実行してください。");
 		}
-		ExpenditureAmountItem beforeDineOut = sisyutuKingakuTableRepository.findByPrimaryKey(searchDineOut);
-		if(beforeDineOut == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(一人プチ贅沢・外食)が登録されていません。管理者に問い合わせてください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
-		}
+		checkExpenditureAmountItem(snapshot, dineOutItemCode, "一人プチ贅沢・外食");
 		
 		// 日用消耗品
-		SearchQueryUserIdAndYearMonthAndExpenditureItemCode searchConsumerGoods = SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, consumerGoodsItemCode);
-		ExpenditureItemInquiryList beforeConsumerGoodsList = expenditureRepository.findByExpenditureItemCode(searchConsumerGoods);
-		if(!beforeConsumerGoodsList.isOne()) {
+		if(!snapshot.getExpenditureItemList(consumerGoodsItemCode).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("日用消耗品に対応する支出情報が登録されていないか複数登録されています。支出登録画面で日用消耗品の支出情報を登録してから再度実行してください。");
 		}
-		ExpenditureAmountItem beforeConsumerGoods = sisyutuKingakuTableRepository.findByPrimaryKey(searchConsumerGoods);
-		if(beforeConsumerGoods == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(日用消耗品)が登録されていません。管理者に問い合わせてください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
-		}
+		checkExpenditureAmountItem(snapshot, consumerGoodsItemCode, "日用消耗品");
 		
 		// 被服費
-		SearchQueryUserIdAndYearMonthAndExpenditureItemCode searchClothes = SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, clothesItemCode);
-		ExpenditureItemInquiryList beforeClothesList = expenditureRepository.findByExpenditureItemCode(searchClothes);
-		if(!beforeClothesList.isOne()) {
+		if(!snapshot.getExpenditureItemList(clothesItemCode).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("被服費に対応する支出情報が登録されていないか複数登録されています。支出登録画面で被服費の支出情報を登録してから再度実行してください。");
 		}
-		ExpenditureAmountItem beforeClothes = sisyutuKingakuTableRepository.findByPrimaryKey(searchClothes);
-		if(beforeClothes == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(被服費)が登録されていません。管理者に問い合わせてください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
-		}
+		checkExpenditureAmountItem(snapshot, clothesItemCode, "被服費");
 		
 		// 仕事(流動経費)
-		SearchQueryUserIdAndYearMonthAndExpenditureItemCode searchWork = SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, workItemCode);
-		ExpenditureItemInquiryList beforeWorkList = expenditureRepository.findByExpenditureItemCode(searchWork);
-		if(!beforeWorkList.isOne()) {
+		if(!snapshot.getExpenditureItemList(workItemCode).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("仕事(流動経費)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で仕事(流動経費)の支出情報を登録してから再度実行してください。");
 		}
-		ExpenditureAmountItem beforeWork = sisyutuKingakuTableRepository.findByPrimaryKey(searchWork);
-		if(beforeWork == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(仕事(流動経費))が登録されていません。管理者に問い合わせてください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
-		}
+		checkExpenditureAmountItem(snapshot, workItemCode, "仕事(流動経費)");
 		
 		// 住居設備
-		SearchQueryUserIdAndYearMonthAndExpenditureItemCode searchHouseEquipment = SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, houseEquipmentItemCode);
-		ExpenditureItemInquiryList beforeHouseEquipmentList = expenditureRepository.findByExpenditureItemCode(searchHouseEquipment);
-		if(!beforeHouseEquipmentList.isOne()) {
+		if(!snapshot.getExpenditureItemList(houseEquipmentItemCode).isOne()) {
 			// エラーメッセージを追加
 			responseMessage.add("住居設備に対応する支出情報が登録されていないか複数登録されています。支出登録画面で住居設備の支出情報を登録してから再度実行してください。");
 		}
-		ExpenditureAmountItem beforeHouseEquipment = sisyutuKingakuTableRepository.findByPrimaryKey(searchHouseEquipment);
-		if(beforeHouseEquipment == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(住居設備)が登録されていません。管理者に問い合わせてください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
-		}
+		checkExpenditureAmountItem(snapshot, houseEquipmentItemCode, "住居設備");
 		return responseMessage;
 	}
 	
+	/**
+	 *<pre>
+	 * 買い物リストの支出項目に対応する支出テーブル情報と支出金額テーブル情報を、それぞれ支出項目コードのリストで一括検索し、
+	 * スナップショットとして返します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @return 買い物登録の対象となる支出項目のスナップショット
+	 *
+	 */
+	public ShoppingRegistExpenditureSnapshot loadExpenditureSnapshot(UserId userId, TargetYearMonth targetYearMonth) {
+		log.debug("loadExpenditureSnapshot:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+		SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList search = SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList.from(
+				userId, targetYearMonth, targetItemCodeList);
+		return ShoppingRegistExpenditureSnapshot.from(
+				userId,
+				targetYearMonth,
+				expenditureRepository.findByExpenditureItemCodeList(search),
+				sisyutuKingakuTableRepository.findByExpenditureItemCodeList(search));
+	}
+	
 	/**
 	 *<pre>
 	 * 買い物リストの支出項目に対応する情報が支出登録情報のリスト(セッション登録情報)に設定されてるかどうかをチェックし、NGの項目に対応するエラーメッセージを返します。
@@ -271,18 +268,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている飲食(無駄づかいなし)の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている飲食(無駄づかいなし)の情報
 	 *
 	 */
-	public ExpenditureItem getFoodExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getFoodExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getFoodExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getFoodExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 飲食(無駄づかいなし)
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCodeAndCategory(
-				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory.from(userId, targetYearMonth, foodItemCode, ExpenditureCategory.NON_WASTED));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(foodItemCode, ExpenditureCategory.NON_WASTED);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("飲食(無駄づかいなし)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄使いなし)の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("飲食(無駄づかいなし)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄使いなし)の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -292,18 +287,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている飲食(無駄遣いB)の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている飲食(無駄遣いB)の情報
 	 *
 	 */
-	public ExpenditureItem getFoodBExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getFoodBExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getFoodBExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getFoodBExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 飲食(無駄遣いB)
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCodeAndCategory(
-				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory.from(userId, targetYearMonth, foodItemCode, ExpenditureCategory.WASTED_B));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(foodItemCode, ExpenditureCategory.WASTED_B);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("飲食(無駄遣いB)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄遣いB)の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("飲食(無駄遣いB)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄遣いB)の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -313,18 +306,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている飲食(無駄遣いC)の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている飲食(無駄遣いC)の情報
 	 *
 	 */
-	public ExpenditureItem getFoodCExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getFoodCExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getFoodCExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getFoodCExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 飲食(無駄遣いC)
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCodeAndCategory(
-				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory.from(userId, targetYearMonth, foodItemCode, ExpenditureCategory.WASTED_C));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(foodItemCode, ExpenditureCategory.WASTED_C);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("飲食(無駄遣いC)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄遣いC)の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("飲食(無駄遣いC)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で飲食(無駄遣いC)の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -334,17 +325,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている一人プチ贅沢・外食の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている一人プチ贅沢・外食の情報
 	 *
 	 */
-	public ExpenditureItem getDineOutExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getDineOutExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getDineOutExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getDineOutExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 一人プチ贅沢・外食
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCode(SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, dineOutItemCode));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(dineOutItemCode);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("一人プチ贅沢・外食に対応する支出情報が登録されていないか複数登録されています。支出登録画面で一人プチ贅沢・外食の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("一人プチ贅沢・外食に対応する支出情報が登録されていないか複数登録されています。支出登録画面で一人プチ贅沢・外食の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -354,17 +344,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている日用消耗品の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている日用消耗品の情報
 	 *
 	 */
-	public ExpenditureItem getConsumerGoodsExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getConsumerGoodsExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getConsumerGoodsExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getConsumerGoodsExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 日用消耗品
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCode(SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, consumerGoodsItemCode));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(consumerGoodsItemCode);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("日用消耗品に対応する支出情報が登録されていないか複数登録されています。支出登録画面で日用消耗品の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("日用消耗品に対応する支出情報が登録されていないか複数登録されています。支出登録画面で日用消耗品の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -374,17 +363,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている被服費の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている被服費の情報
 	 *
 	 */
-	public ExpenditureItem getClothesExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getClothesExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getClothesExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getClothesExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 被服費
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCode(SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, clothesItemCode));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(clothesItemCode);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("被服費に対応する支出情報が登録されていないか複数登録されています。支出登録画面で被服費の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("被服費に対応する支出情報が登録されていないか複数登録されています。支出登録画面で被服費の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -394,17 +382,16 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている仕事(流動経費)の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている仕事(流動経費)の情報
 	 *
 	 */
-	public ExpenditureItem getWorkExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getWorkExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getWorkExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getWorkExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 仕事(流動経費)
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCode(SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, workItemCode));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(workItemCode);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("仕事(流動経費)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で仕事(流動経費)の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("仕事(流動経費)に対応する支出情報が登録されていないか複数登録されています。支出登録画面で仕事(流動経費)の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
@@ -414,18 +401,34 @@ public class ShoppingRegistExpenditureItemComponent {
 	 * 支出テーブル情報に登録されている住居設備の情報を取得して返します。
 	 * 対象データなしか複数件登録されている場合、予期しないエラーを返します。
 	 *</pre>
-	 * @param userId ユーザID
-	 * @param targetYearMonth 対象年月(YYYYMM)
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
 	 * @return 支出テーブル情報に登録されている住居設備の情報
 	 *
 	 */
-	public ExpenditureItem getHouseEquipmentExpenditureItem(UserId userId, TargetYearMonth targetYearMonth) {
-		log.debug("getHouseEquipmentExpenditureItem:userid=" + userId.getValue() + ",targetYearMonth=" + targetYearMonth.getValue());
+	public ExpenditureItem getHouseEquipmentExpenditureItem(ShoppingRegistExpenditureSnapshot snapshot) {
+		log.debug("getHouseEquipmentExpenditureItem:userid=" + snapshot.getUserId().getValue() + ",targetYearMonth=" + snapshot.getTargetYearMonth().getValue());
 		// 住居設備
-		ExpenditureItemInquiryList beforeList = expenditureRepository.findByExpenditureItemCode(SearchQueryUserIdAndYearMonthAndExpenditureItemCode.from(userId, targetYearMonth, houseEquipmentItemCode));
+		ExpenditureItemInquiryList beforeList = snapshot.getExpenditureItemList(houseEquipmentItemCode);
 		if(!beforeList.isOne()) {
-			throw new MyHouseholdAccountBookRuntimeException("住居設備に対応する支出情報が登録されていないか複数登録されています。支出登録画面で住居設備の支出情報を再登録してから再度実行してください。[userId=" + userId.getValue() + "][targetYearMonth:" + targetYearMonth.getValue() + "]");
+			throw new MyHouseholdAccountBookRuntimeException("住居設備に対応する支出情報が登録されていないか複数登録されています。支出登録画面で住居設備の支出情報を再登録してから再度実行してください。[userId=" + snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
 		}
 		return beforeList.getValues().get(0);
 	}
+	
+	/**
+	 *<pre>
+	 * 指定した支出項目コードに対応する支出金額テーブル情報がスナップショットに含まれているかをチェックします。
+	 * 登録されていない場合、予期しないエラーを返します。
+	 *</pre>
+	 * @param snapshot 買い物登録の対象となる支出項目のスナップショット
+	 * @param itemCode 支出項目コード
+	 * @param itemName エラーメッセージに出力する支出項目名
+	 *
+	 */
+	private void checkExpenditureAmountItem(ShoppingRegistExpenditureSnapshot snapshot, ExpenditureItemCode itemCode, String itemName) {
+		if(snapshot.getExpenditureAmountItem(itemCode) == null) {
+			throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル情報(" + itemName + ")が登録されていません。管理者に問い合わせてください。[userId="
+					+ snapshot.getUserId().getValue() + "][targetYearMonth:" + snapshot.getTargetYearMonth().getValue() + "]");
+		}
+	}
 }
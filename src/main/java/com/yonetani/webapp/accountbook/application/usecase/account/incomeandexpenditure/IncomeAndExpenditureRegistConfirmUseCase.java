@@ -8,12 +8,21 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/02/26 : 1.00.00  新規作成（リファクタリング対応 IncomeAndExpenditureRegistUseCaseからの分離）
+ * 2026/10/17 : 1.02.00  各月の収支画面の表示データキャッシュ破棄対応
+ * 2026/10/17 : 1.02.00  収入・支出・支出金額テーブルの登録・更新をJDBCバッチでまとめて実行するよう対応
+ * 2026/10/17 : 1.02.00  更新・削除対象の更新前の支出情報を一括取得するよう対応
+ * 2026/10/17 : 1.02.00  支出金額テーブルをDB上で加減算するよう対応(支出金額テーブルの全件読込を廃止)
+ * 2026/10/17 : 1.02.00  収入コード・支出コードをコード採番テーブルから採番するよう対応
+ * 2026/10/17 : 1.02.00  支出金額テーブルの登録・加算件数の検証コメントを修正
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.account.incomeandexpenditure;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntSupplier;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,14 +30,20 @@ import org.springframework.util.CollectionUtils;
 
 import com.yonetani.webapp.accountbook.application.usecase.account.component.ShoppingRegistExpenditureItemComponent;
 import com.yonetani.webapp.accountbook.application.usecase.account.component.ExpenditureAmountItemHolderComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.CodeSequenceComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountDelta;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemHolder;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
 import com.yonetani.webapp.accountbook.domain.model.account.income.IncomeItem;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceBlock;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCodeList;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.income.IncomeTableRepository;
@@ -81,6 +96,10 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 	private final ExpenditureAmountItemHolderComponent expenditureAmountItemHolderComponent;
 	// 買い物登録時の支出項目に対応する支出テーブル情報と支出金額テーブル情報にアクセスするコンポーネント
 	private final ShoppingRegistExpenditureItemComponent checkComponent;
+	// 各月の収支画面の表示データキャッシュ
+	private final AccountMonthInquiryCacheComponent monthInquiryCache;
+	// コード採番コンポーネント
+	private final CodeSequenceComponent codeSequenceComponent;
 
 	/**
 	 *<pre>
@@ -165,20 +184,20 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 		// 初期登録かどうかのフラグ　(収支登録確認画面からの遷移:true／各月の収支画面の更新ボタン押下からの遷移：false)
 		// ・初期の場合は必ず収入テーブル情報登録件数が0件となるので、0件の場合は初期登録と判断
 		boolean initFlg = (incomeDataCount == 0) ? true : false;
-		// 現在の支出テーブル情報登録件数を取得
-		int expenditureDataCount = expenditureRepository.countBy(search);
 
 		// ② 収入レコード処理
 		IncomeProcessResult incomeResult = processIncomeRegistration(userId, targetYearMonth, incomeRegistItemList, incomeDataCount);
 		// ③ 支出レコード処理(支出金額テーブル情報保持ホルダーを生成し渡す)
-		ExpenditureAmountItemHolder expenditureAmountItemHolder = expenditureAmountItemHolderComponent.build(search);
-		ExpenditureProcessResult expenditureResult = processExpenditureRegistration(userId, targetYearMonth, expenditureRegistItemList, initFlg, expenditureDataCount, expenditureAmountItemHolder);
+		ExpenditureAmountItemHolder expenditureAmountItemHolder = expenditureAmountItemHolderComponent.build();
+		ExpenditureProcessResult expenditureResult = processExpenditureRegistration(userId, targetYearMonth, expenditureRegistItemList, initFlg, expenditureAmountItemHolder);
 		// ④ 支出情報更新ありの場合、支出金額テーブルを更新
 		if(expenditureResult.updateFlg) {
 			updateSisyutuKingakuTable(expenditureAmountItemHolder);
 		}
 		// ⑤ 収入情報、支出情報更新ありの場合、収支テーブルを更新しメッセージを設定
 		updateIncomeAndExpenditureAndSetMessage(userId, targetYearMonth, initFlg, incomeResult, expenditureResult, response);
+		// ⑥ 対象年月の各月の収支画面の表示データキャッシュを破棄(コミット後にも再破棄)
+		monthInquiryCache.evict(search);
 
 		response.setTransactionSuccessFull();
 
@@ -192,7 +211,7 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 	 * @param userId ユーザID
 	 * @param targetYearMonth 対象年月
 	 * @param incomeRegistItemList セッションに設定されている収入情報のリスト
-	 * @param incomeDataCount 現在の収入テーブル情報登録件数
+	 * @param incomeDataCount 現在の収入テーブル情報登録件数(収入コードの初回採番時の初期値)
 	 * @return 収入処理結果
 	 *
 	 */
@@ -207,6 +226,15 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 		RegularIncomeAmount incomeAmount = RegularIncomeAmount.ZERO;
 		// 積立金取崩金額の初期値=null(値なしの場合、null値となるので初期値はnull)
 		WithdrawingAmount withdrawingAmount = WithdrawingAmount.NULL;
+		// 収入テーブルへの登録・更新・論理削除対象(JDBCバッチでまとめて実行)
+		List<IncomeItem> addIncomeList = new ArrayList<>();
+		List<IncomeItem> updIncomeList = new ArrayList<>();
+		List<IncomeItem> delIncomeList = new ArrayList<>();
+		// 新規追加する収入情報の件数分の収入コードをまとめて採番
+		CodeSequenceBlock incomeCodeBlock = reserveNewCodeBlock(
+				CodeSequenceKey.from(userId, CodeSequenceKey.INCOME_CODE, targetYearMonth),
+				incomeRegistItemList.stream().filter(item -> isNewData(item.getAction(), item.getDataType())).count(),
+				() -> incomeDataCount);
 		// 収入情報の件数分繰り返す
 		for(IncomeRegistItem incomeRegistData : incomeRegistItemList) {
 
@@ -228,15 +256,11 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 						// 対象年月
 						targetYearMonth,
 						// 収入コード(新規発番)
-						IncomeCode.from(++incomeDataCount),
+						IncomeCode.from(incomeCodeBlock.next()),
 						// 収支登録情報(セッション)
 						incomeRegistData);
-				// 収入テーブルに登録
-				int addCount = incomeRepository.add(addIncomeData);
-				// 追加件数が1件以上の場合、業務エラー
-				if(addCount != 1) {
-					throw new MyHouseholdAccountBookRuntimeException("収入テーブル:INCOME_TABLEへの追加件数が不正でした。[件数=" + addCount + "][add data:" + addIncomeData + "]");
-				}
+				// 収入テーブルへの登録対象に追加
+				addIncomeList.add(addIncomeData);
 				// 収入金額を加算
 				incomeAmount = incomeAmount.add(RegularIncomeAmount.from(incomeRegistData));
 				// 積立金取崩金額を加算
@@ -260,12 +284,8 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 							IncomeCode.from(incomeRegistData.getIncomeCode()),
 							// 収支登録情報(セッション)
 							incomeRegistData);
-					// 収入テーブルを更新
-					int updCount = incomeRepository.update(updIncomeData);
-					// 更新件数が1件以上の場合、業務エラー
-					if(updCount != 1) {
-						throw new MyHouseholdAccountBookRuntimeException("収入テーブル:INCOME_TABLEへの更新件数が不正でした。[件数=" + updCount + "][update data:" + updIncomeData + "]");
-					}
+					// 収入テーブルの更新対象に追加
+					updIncomeList.add(updIncomeData);
 					// 収入金額を加算
 					incomeAmount = incomeAmount.add(RegularIncomeAmount.from(incomeRegistData));
 					// 積立金取崩金額を加算
@@ -286,12 +306,8 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 							IncomeCode.from(incomeRegistData.getIncomeCode()),
 							// 収支登録情報(セッション)
 							incomeRegistData);
-					// 収入テーブルの対象データを論理削除
-					int delCount = incomeRepository.delete(delIncomeData);
-					// 削除件数が1件以上の場合、業務エラー
-					if(delCount != 1) {
-						throw new MyHouseholdAccountBookRuntimeException("収入テーブル:INCOME_TABLEへの削除件数が不正でした。[件数=" + delCount + "][delete data:" + delIncomeData + "]");
-					}
+					// 収入テーブルの論理削除対象に追加
+					delIncomeList.add(delIncomeData);
 					// 収入情報更新あり
 					incomeUpdateFlg = true;
 				} else {
@@ -304,6 +320,16 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 			}
 		}
 
+		// 収入テーブルに登録(1件ずつ件数を検証し、件数が1件以外の場合は業務エラー)
+		verifyUpdateCounts(incomeRepository.addAll(addIncomeList), addIncomeList,
+				"収入テーブル:INCOME_TABLEへの追加件数が不正でした。", "add data");
+		// 収入テーブルを更新
+		verifyUpdateCounts(incomeRepository.updateAll(updIncomeList), updIncomeList,
+				"収入テーブル:INCOME_TABLEへの更新件数が不正でした。", "update data");
+		// 収入テーブルの対象データを論理削除
+		verifyUpdateCounts(incomeRepository.deleteAll(delIncomeList), delIncomeList,
+				"収入テーブル:INCOME_TABLEへの削除件数が不正でした。", "delete data");
+
 		return new IncomeProcessResult(incomeUpdateFlg, incomeAmount, withdrawingAmount);
 	}
 
@@ -315,7 +341,6 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 	 * @param targetYearMonth 対象年月
 	 * @param expenditureRegistItemList セッションに設定されている支出情報のリスト
 	 * @param initFlg 初期登録かどうかのフラグ
-	 * @param expenditureDataCount 現在の支出テーブル情報登録件数
 	 * @param expenditureAmountItemHolder 支出金額テーブル情報保持ホルダー(呼び出し元で生成済)
 	 * @return 支出処理結果
 	 *
@@ -325,7 +350,6 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 			TargetYearMonth targetYearMonth,
 			List<ExpenditureRegistItem> expenditureRegistItemList,
 			boolean initFlg,
-			int expenditureDataCount,
 			ExpenditureAmountItemHolder expenditureAmountItemHolder) {
 		// 支出情報更新ありの場合、支出テーブルを更新
 		boolean expenditureUpdateFlg = false;
@@ -333,6 +357,17 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 		ExpectedExpenditureAmount expectedExpenditureAmount = ExpectedExpenditureAmount.ZERO;
 		// 支出金額
 		ExpenditureAmount expenditureAmount = ExpenditureAmount.ZERO;
+		// 支出テーブルへの登録・更新・論理削除対象(JDBCバッチでまとめて実行)
+		List<ExpenditureItem> addExpenditureList = new ArrayList<>();
+		List<ExpenditureItem> updExpenditureList = new ArrayList<>();
+		List<ExpenditureItem> delExpenditureList = new ArrayList<>();
+		// 更新・削除対象の更新前の支出情報を一括で取得(更新後-更新前の値を計算用)
+		Map<ExpenditureCode, ExpenditureItem> beforeExpenditureMap = findBeforeExpenditureMap(userId, targetYearMonth, expenditureRegistItemList);
+		// 新規追加する支出情報の件数分の支出コードをまとめて採番(初回採番時は現在の支出テーブル情報登録件数を初期値とする)
+		CodeSequenceBlock expenditureCodeBlock = reserveNewCodeBlock(
+				CodeSequenceKey.from(userId, CodeSequenceKey.EXPENDITURE_CODE, targetYearMonth),
+				expenditureRegistItemList.stream().filter(item -> isNewData(item.getAction(), item.getDataType())).count(),
+				() -> expenditureRepository.countBy(SearchQueryUserIdAndYearMonth.from(userId, targetYearMonth)));
 
 		// 支出情報の件数分繰り返す
 		for(ExpenditureRegistItem expenditureRegistData : expenditureRegistItemList) {
@@ -354,15 +389,11 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 						// 対象年月
 						targetYearMonth,
 						// 支出コード(新規発番)
-						ExpenditureCode.from(++expenditureDataCount),
+						ExpenditureCode.from(expenditureCodeBlock.next()),
 						// 支出登録情報(セッション)
 						expenditureRegistData);
-				// 支出テーブルに登録
-				int addCount = expenditureRepository.add(addExpenditureData);
-				// 追加件数が1件以上の場合、業務エラー
-				if(addCount != 1) {
-					throw new MyHouseholdAccountBookRuntimeException("支出テーブル：EXPENDITURE_TABLEへの追加件数が不正でした。[件数=" + addCount + "][add data:" + addExpenditureData + "]");
-				}
+				// 支出テーブルへの登録対象に追加
+				addExpenditureList.add(addExpenditureData);
 				// 支出予定金額を加算
 				expectedExpenditureAmount = expectedExpenditureAmount.add(addExpenditureData.getExpectedExpenditureAmount());
 				// 支出金額を加算
@@ -382,9 +413,7 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 					// 支出コード(セッション)の値をもとに、更新対象の支出コードのドメインタイプを生成
 					ExpenditureCode sisyutuCode = ExpenditureCode.from(expenditureRegistData.getExpenditureCode());
 					// 更新前の支出登録情報を取得(更新後-更新前の値を計算用)
-					// 値が取れない場合は該当データの更新でエラーとなるのでここではnull判定しない
-					ExpenditureItem beforeExpenditureData = expenditureRepository.findByPrimaryKey(
-							SearchQueryUserIdAndYearMonthAndExpenditureCode.from(userId, targetYearMonth, sisyutuCode));
+					ExpenditureItem beforeExpenditureData = getBeforeExpenditureData(beforeExpenditureMap, sisyutuCode);
 
 					// セッションの支出登録情報から支出テーブル情報(ドメイン)を生成
 					ExpenditureItem updExpenditureData = ExpenditureItem.createExpenditureItem(
@@ -399,12 +428,8 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 							// 支出登録情報(セッション)
 							expenditureRegistData);
 
-					// 支出テーブルを更新
-					int updCount = expenditureRepository.update(updExpenditureData);
-					// 更新件数が1件以上の場合、業務エラー
-					if(updCount != 1) {
-						throw new MyHouseholdAccountBookRuntimeException("支出テーブル：EXPENDITURE_TABLEへの更新件数が不正でした。[件数=" + updCount + "][update data:" + updExpenditureData + "]");
-					}
+					// 支出テーブルの更新対象に追加
+					updExpenditureList.add(updExpenditureData);
 					// 支出金額を加算
 					expenditureAmount = expenditureAmount.add(updExpenditureData.getExpenditureAmount());
 
@@ -420,9 +445,7 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 					// 支出コード(セッション)の値をもとに、削除対象の支出コードのドメインタイプを生成
 					ExpenditureCode sisyutuCode = ExpenditureCode.from(expenditureRegistData.getExpenditureCode());
 					// 削除前の支出登録情報を取得(更新後-更新前の値を計算用)
-					// 値が取れない場合は該当データの論理削除でエラーとなるのでここではnull判定しない
-					ExpenditureItem beforeExpenditureData = expenditureRepository.findByPrimaryKey(
-							SearchQueryUserIdAndYearMonthAndExpenditureCode.from(userId, targetYearMonth, sisyutuCode));
+					ExpenditureItem beforeExpenditureData = getBeforeExpenditureData(beforeExpenditureMap, sisyutuCode);
 
 					// セッションの支出登録情報から支出テーブル情報(ドメイン)を生成
 					ExpenditureItem delExpenditureData = ExpenditureItem.createExpenditureItem(
@@ -436,12 +459,8 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 							sisyutuCode,
 							// 支出登録情報(セッション)
 							expenditureRegistData);
-					// 支出テーブルの対象データを論理削除
-					int delCount = expenditureRepository.delete(delExpenditureData);
-					// 削除件数が1件以上の場合、業務エラー
-					if(delCount != 1) {
-						throw new MyHouseholdAccountBookRuntimeException("支出テーブル：EXPENDITURE_TABLEへの削除件数が不正でした。[件数=" + delCount + "][delete data:" + delExpenditureData + "]");
-					}
+					// 支出テーブルの論理削除対象に追加
+					delExpenditureList.add(delExpenditureData);
 
 					// 削除前の支出情報をもとに、対象の支出金額テーブル情報の情報を更新
 					expenditureAmountItemHolder.delete(beforeExpenditureData);
@@ -460,9 +479,100 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 			}
 		}
 
+		// 支出テーブルに登録(1件ずつ件数を検証し、件数が1件以外の場合は業務エラー)
+		verifyUpdateCounts(expenditureRepository.addAll(addExpenditureList), addExpenditureList,
+				"支出テーブル：EXPENDITURE_TABLEへの追加件数が不正でした。", "add data");
+		// 支出テーブルを更新
+		verifyUpdateCounts(expenditureRepository.updateAll(updExpenditureList), updExpenditureList,
+				"支出テーブル：EXPENDITURE_TABLEへの更新件数が不正でした。", "update data");
+		// 支出テーブルの対象データを論理削除
+		verifyUpdateCounts(expenditureRepository.deleteAll(delExpenditureList), delExpenditureList,
+				"支出テーブル：EXPENDITURE_TABLEへの削除件数が不正でした。", "delete data");
+
 		return new ExpenditureProcessResult(expenditureUpdateFlg, expenditureAmount, expectedExpenditureAmount);
 	}
 
+	/**
+	 *<pre>
+	 * 支出情報のリストのうち、更新・削除対象(DBロードかつアクションが更新または削除)の支出情報の
+	 * 更新前データを1回の問い合わせでまとめて取得し、支出コードをキーとしたマップで返します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param targetYearMonth 対象年月
+	 * @param expenditureRegistItemList セッションに設定されている支出情報のリスト
+	 * @return 支出コードをキーとした更新前の支出情報のマップ(更新・削除対象なしの場合は空のマップ)
+	 *
+	 */
+	private Map<ExpenditureCode, ExpenditureItem> findBeforeExpenditureMap(
+			UserId userId,
+			TargetYearMonth targetYearMonth,
+			List<ExpenditureRegistItem> expenditureRegistItemList) {
+		// 更新・削除対象の支出コードを抽出
+		List<ExpenditureCode> targetCodeList = expenditureRegistItemList.stream()
+			.filter(item -> Objects.equals(item.getDataType(), MyHouseholdAccountBookContent.DATA_TYPE_LOAD))
+			.filter(item -> Objects.equals(item.getAction(), MyHouseholdAccountBookContent.ACTION_TYPE_UPDATE)
+					|| Objects.equals(item.getAction(), MyHouseholdAccountBookContent.ACTION_TYPE_DELETE))
+			.map(item -> ExpenditureCode.from(item.getExpenditureCode()))
+			.distinct()
+			.toList();
+		if(targetCodeList.isEmpty()) {
+			return Map.of();
+		}
+		return expenditureRepository.findByPrimaryKeyList(
+				SearchQueryUserIdAndYearMonthAndExpenditureCodeList.from(userId, targetYearMonth, targetCodeList));
+	}
+
+	/**
+	 *<pre>
+	 * 一括取得した更新前の支出情報のマップから、指定の支出コードに対応する支出情報を返します。
+	 * 該当データがない場合、更新・削除対象のデータが存在しないため予期しないエラーとします。
+	 *</pre>
+	 * @param beforeExpenditureMap 支出コードをキーとした更新前の支出情報のマップ
+	 * @param sisyutuCode 支出コード
+	 * @return 更新前の支出情報
+	 *
+	 */
+	private ExpenditureItem getBeforeExpenditureData(Map<ExpenditureCode, ExpenditureItem> beforeExpenditureMap,
+			ExpenditureCode sisyutuCode) {
+		ExpenditureItem beforeExpenditureData = beforeExpenditureMap.get(sisyutuCode);
+		if(beforeExpenditureData == null) {
+			throw new MyHouseholdAccountBookRuntimeException("更新対象の支出情報が支出テーブル：EXPENDITURE_TABLEに存在しません。管理者に問い合わせてください。[expenditureCode=" + sisyutuCode + "]");
+		}
+		return beforeExpenditureData;
+	}
+
+	/**
+	 *<pre>
+	 * 新規追加するデータのアクション・データタイプかどうかを判定します。
+	 *</pre>
+	 * @param action アクション
+	 * @param dataType データタイプ
+	 * @return 新規追加する(変更なし以外で、データタイプが新規追加の)場合true
+	 *
+	 */
+	private boolean isNewData(String action, String dataType) {
+		return !Objects.equals(action, MyHouseholdAccountBookContent.ACTION_TYPE_NON_UPDATE)
+				&& Objects.equals(dataType, MyHouseholdAccountBookContent.DATA_TYPE_NEW);
+	}
+	
+	/**
+	 *<pre>
+	 * 新規追加するデータの件数分のコードをまとめて採番し、採番ブロックを返します。
+	 * 新規追加するデータがない場合は採番せず、nullを返します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param newDataCount 新規追加するデータの件数
+	 * @param initialNumberSupplier 初回採番時の発番済みの最終番号(登録済みのデータ件数)を返す処理
+	 * @return 採番ブロック(新規追加するデータがない場合はnull)
+	 *
+	 */
+	private CodeSequenceBlock reserveNewCodeBlock(CodeSequenceKey key, long newDataCount, IntSupplier initialNumberSupplier) {
+		if(newDataCount == 0) {
+			return null;
+		}
+		return codeSequenceComponent.reserve(key, (int)newDataCount, initialNumberSupplier);
+	}
+	
 	/**
 	 *<pre>
 	 * 支出金額テーブルを更新します。
@@ -471,24 +581,39 @@ public class IncomeAndExpenditureRegistConfirmUseCase {
 	 *
 	 */
 	private void updateSisyutuKingakuTable(ExpenditureAmountItemHolder expenditureAmountItemHolder) {
-		// ホルダーから新規追加データのリストを取得し対象件数分データを追加
-		expenditureAmountItemHolder.getAddList().forEach(addData -> {
-			// 支出金額テーブルに登録
-			int addCount = sisyutuKingakuTableRepository.add(addData);
-			// 追加件数が1件以上の場合、業務エラー
-			if(addCount != 1) {
-				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの追加件数が不正でした。[件数=" + addCount + "][add data:" + addData + "]");
+		// ホルダーから新規追加・加算値のリストを取得し、支出金額テーブルにまとめて登録(登録済みの場合はDB上で加算)
+		// データごとに新規登録、または登録済みのデータへの加算のどちらか1件となるため、件数が1件であることを検証
+		List<ExpenditureAmountItem> upsertList = expenditureAmountItemHolder.getUpsertList();
+		int[] upsertCounts = sisyutuKingakuTableRepository.upsertAll(upsertList);
+		for(int i = 0; i < upsertList.size(); i++) {
+			if(upsertCounts[i] != 1) {
+				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの追加件数が不正でした。[件数=" + upsertCounts[i] + "][add data:" + upsertList.get(i) + "]");
 			}
-		});
-		// ホルダーから更新データのリストを取得し対象件数分データを更新
-		expenditureAmountItemHolder.getUpdateList().forEach(updData -> {
-			// 支出金額テーブルを更新
-			int updCount = sisyutuKingakuTableRepository.update(updData);
-			// 更新件数が1件以上の場合、業務エラー
-			if(updCount != 1) {
-				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの更新件数が不正でした。[件数=" + updCount + "][add data:" + updData + "]");
+		}
+		// ホルダーから増減値のリストを取得し、支出金額テーブルをまとめてDB上で加減算
+		// 対象データなし、または加減算後の値がマイナス値の場合は更新件数0件となり業務エラー
+		List<ExpenditureAmountDelta> deltaList = expenditureAmountItemHolder.getDeltaList();
+		verifyUpdateCounts(sisyutuKingakuTableRepository.updateDeltaAll(deltaList), deltaList,
+				"支出金額テーブル:SISYUTU_KINGAKU_TABLEへの更新件数が不正でした(加減算対象の支出金額情報が存在しないか、加減算結果がマイナス値)。", "delta data");
+	}
+
+	/**
+	 *<pre>
+	 * 一括登録・更新したデータごとの件数を検証します。
+	 * 件数が1件以外のデータがある場合、業務エラーとします。
+	 *</pre>
+	 * @param counts データごとの登録・更新件数
+	 * @param dataList 登録・更新したデータのリスト
+	 * @param message 件数不正時のエラーメッセージ
+	 * @param dataLabel エラーメッセージに出力するデータの見出し
+	 *
+	 */
+	private void verifyUpdateCounts(int[] counts, List<?> dataList, String message, String dataLabel) {
+		for(int i = 0; i < dataList.size(); i++) {
+			if(counts[i] != 1) {
+				throw new MyHouseholdAccountBookRuntimeException(message + "[件数=" + counts[i] + "][" + dataLabel + ":" + dataList.get(i) + "]");
 			}
-		});
+		}
 	}
 
 	/**
@@ -10,6 +10,12 @@
  * 2025/12/21 : 1.01.00  リファクタリング対応(DDD適応)
  * 2026/05/09 : 1.01.01  リファクタリング追加対応(対象年月ドメインの集約)
  * 2026/06/13 : 1.02.00  支出別一覧追加対応(ExpenditureTableRepository追加・viewType対応・execRead処理順番見直し)
+ * 2026/10/17 : 1.02.00  検証済みの表示データをユーザID、対象年月単位でキャッシュするよう対応
+ * 2026/10/17 : 1.02.00  収支整合性検証をデータバージョン変更時のみ実施(バックグラウンド検証モード対応)
+ * 2026/10/17 : 1.02.00  表示種別に応じた明細の遅延取得、データ存在検証の存在確認化、支出一覧部分の再表示対応
+ * 2026/10/17 : 1.02.00  整合性検証済みバージョンの登録をコミット後の新規トランザクションで行うよう明示
+ * 2026/10/17 : 1.02.00  参照専用トランザクション(レプリカへの振り分け対象)を設定
+ * 2026/10/17 : 1.02.00  現在の対象年月をログインユーザ情報(セッション)から取得するよう対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.account.inquiry;
@@ -18,11 +24,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.util.StringUtils;
 
 import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent.MonthInquiryData;
+import com.yonetani.webapp.accountbook.application.usecase.common.IncomeAndExpenditureConsistencySweepComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.IncomeAndExpenditureValidatedVersionComponent;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureItemList;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
@@ -57,6 +69,7 @@ import lombok.extern.log4j.Log4j2;
 @Service
 @Log4j2
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AccountMonthInquiryUseCase {
 	
 	// ユーザ情報照会ユースケース
@@ -69,6 +82,12 @@ public class AccountMonthInquiryUseCase {
 	private final IncomeAndExpenditureConsistencyService consistencyService;
 	// 指定月の支出情報を取得するリポジトリー
 	private final ExpenditureTableRepository expenditureRepository;
+	// 各月の収支画面の表示データキャッシュ
+	private final AccountMonthInquiryCacheComponent monthInquiryCache;
+	// 収支整合性検証のスイープ(検証モード判定)
+	private final IncomeAndExpenditureConsistencySweepComponent consistencySweep;
+	// 整合性検証済みバージョンの登録(参照専用トランザクションの場合はコミット後に登録)
+	private final IncomeAndExpenditureValidatedVersionComponent validatedVersionComponent;
 	
 	/**
 	 *<pre>
@@ -82,7 +101,7 @@ public class AccountMonthInquiryUseCase {
 		log.debug("read:userid=" + user.getUserId());
 		
 		// ユーザIDに対応する現在の対象年月の値を取得
-		TargetYearMonth yearMonth = userInquiry.getTargetYearMonth(UserId.from(user.getUserId()));
+		TargetYearMonth yearMonth = userInquiry.getTargetYearMonth(user);
 		
 		// 収支画面に表示する対象年月情報を生成
 		AccountMonthInquiryTargetYearMonthInfo targetYearMonthInfo = AccountMonthInquiryTargetYearMonthInfo.from(
@@ -212,19 +231,22 @@ public class AccountMonthInquiryUseCase {
 		SearchQueryUserIdAndYearMonth searchCondition = SearchQueryUserIdAndYearMonth.from(
 				UserId.from(user.getUserId()), TargetYearMonth.from(targetYearMonthInfo.getTargetYearMonth()));
 
-		// ①ユーザID,対象年月を検索条件に支出金額情報(SisyutuKingakuTable)を取得
-		AccountMonthInquiryExpenditureItemList expenditureItemList = sisyutuRepository.select(searchCondition);
-		// ②ユーザID,対象年月を検索条件に収支集約(IncomeAndExpenditureTable)を取得
-		IncomeAndExpenditure incomeAndExpenditure = syuusiRepository.findByPrimaryKey(searchCondition);
-		// ③ユーザID,対象年月を検索条件に支出情報(ExpenditureTable)を取得(viewTypeによらず常時取得)
-		AccountMonthInquiryExpenditureList monthExpenditureList = AccountMonthInquiryExpenditureList.from(
-				expenditureRepository.findBy(searchCondition));
-
-		// ④データ存在の整合性検証(収支データなし&(支出金額データあり OR 支出データあり)の場合はエラー)
-		consistencyService.validateDataExistence(incomeAndExpenditure, expenditureItemList, monthExpenditureList, searchCondition);
+		// ①～②ユーザID,対象年月に対応する検証済みの収支集約を取得(キャッシュにない場合はDBから取得して検証)
+		// キャッシュの破棄世代はDBからの取得前に取得する(取得中に更新された場合は登録しない)
+		long cacheGeneration = monthInquiryCache.getGeneration();
+		MonthInquiryData monthInquiryData = monthInquiryCache.get(searchCondition);
+		boolean cacheUpdateFlg = false;
+		if(monthInquiryData == null) {
+			monthInquiryData = loadMonthInquiryData(searchCondition);
+			cacheUpdateFlg = true;
+		}
+		IncomeAndExpenditure incomeAndExpenditure = monthInquiryData.getIncomeAndExpenditure();
 
-		// ⑤収支情報(ドメインモデル)をレスポンスに設定
+		// ③収支情報(ドメインモデル)をレスポンスに設定
 		if(incomeAndExpenditure.isEmpty()) {
+			if(cacheUpdateFlg) {
+				monthInquiryCache.put(searchCondition, monthInquiryData, cacheGeneration);
+			}
 			// 該当月の収支データがない場合、メッセージを設定
 			response.addMessage("該当月の収支データがありません。");
 			response.setSyuusiDataFlg(false);
@@ -232,9 +254,6 @@ public class AccountMonthInquiryUseCase {
 			return response;
 			
 		} else {
-			// 収支整合性検証(収入・支出の合計値が収支テーブルの値と一致するかをドメインサービスで検証)
-			consistencyService.validateAll(incomeAndExpenditure, searchCondition);
-
 			// 収支情報(ドメインモデル)から収支情報(レスポンス)への変換
 			// 収入金額(積立金取崩金額以外の収入金額)
 			response.setSyuunyuuKingaku(incomeAndExpenditure.getRegularIncomeAmount().toFormatString());
@@ -248,8 +267,14 @@ public class AccountMonthInquiryUseCase {
 			response.setSyuusiKingaku(incomeAndExpenditure.getBalanceAmount().toFormatString());
 		}
 
-		// ⑥viewType=item の場合のみ、支出金額情報のリスト(ドメインモデル)をレスポンスに設定
+		// ④viewType=item の場合のみ、支出金額情報のリスト(ドメインモデル)を取得しレスポンスに設定
 		if("item".equals(normalizedViewType)) {
+			if(monthInquiryData.getExpenditureItemList() == null) {
+				// ユーザID,対象年月を検索条件に支出金額情報(SisyutuKingakuTable)を取得
+				monthInquiryData = monthInquiryData.withExpenditureItemList(sisyutuRepository.select(searchCondition));
+				cacheUpdateFlg = true;
+			}
+			AccountMonthInquiryExpenditureItemList expenditureItemList = monthInquiryData.getExpenditureItemList();
 			if(expenditureItemList.isEmpty()) {
 				// 支出金額情報のリストが0件の場合、メッセージを設定
 				response.addMessage("登録済みの支出金額情報が0件です。");
@@ -259,17 +284,60 @@ public class AccountMonthInquiryUseCase {
 			}
 		}
 
-		// ⑦viewType=expenditure の場合のみ、支出別一覧(③取得済み)をレスポンスに設定
+		// ⑤viewType=expenditure の場合のみ、支出別一覧を取得しレスポンスに設定
 		if("expenditure".equals(normalizedViewType)) {
+			if(monthInquiryData.getMonthExpenditureList() == null) {
+				// ユーザID,対象年月を検索条件に支出情報(ExpenditureTable)を取得
+				monthInquiryData = monthInquiryData.withMonthExpenditureList(
+						AccountMonthInquiryExpenditureList.from(expenditureRepository.findBy(searchCondition)));
+				cacheUpdateFlg = true;
+			}
+			AccountMonthInquiryExpenditureList monthExpenditureList = monthInquiryData.getMonthExpenditureList();
 			if(!monthExpenditureList.isEmpty()) {
 				response.addExpenditureList(convertExpenditureList(monthExpenditureList));
 			}
 			response.setExpenditureTotalAmount(monthExpenditureList.getTotalAmount().toFormatString());
 		}
 
+		// ⑥DBから取得したデータがある場合、キャッシュに登録
+		if(cacheUpdateFlg) {
+			monthInquiryCache.put(searchCondition, monthInquiryData, cacheGeneration);
+		}
+
 		return response;
 	}
 
+	/**
+	 *<pre>
+	 * ユーザID,対象年月を検索条件に収支集約をDBから取得し、整合性を検証して各月の収支画面の表示データを返します。
+	 * 支出金額情報・支出情報の明細は表示種別に応じて必要になった時点で取得するため、ここでは取得しません。
+	 *</pre>
+	 * @param searchCondition 検索条件(ユーザID、対象年月)
+	 * @return 検証済みの各月の収支画面の表示データ(明細未取得)
+	 *
+	 */
+	private MonthInquiryData loadMonthInquiryData(SearchQueryUserIdAndYearMonth searchCondition) {
+		// ①ユーザID,対象年月を検索条件に収支集約(IncomeAndExpenditureTable)を取得
+		IncomeAndExpenditure incomeAndExpenditure = syuusiRepository.findByPrimaryKey(searchCondition);
+
+		// ②データ存在の整合性検証(収支データなし&(支出金額データあり OR 支出データあり)の場合はエラー)
+		// 明細は取得せず、存在確認の問い合わせで検証
+		consistencyService.validateDataExistence(incomeAndExpenditure, searchCondition);
+		if(!incomeAndExpenditure.isEmpty() && !consistencySweep.isBackgroundMode()) {
+			// 収支整合性検証(収入・支出の合計値が収支テーブルの値と一致するかをドメインサービスで検証)
+			// 前回検証時から収支データが変更されていない場合は検証を省略
+			// バックグラウンド検証モードの場合、検証は定期実行のスイープで行う
+			IncomeAndExpenditureDataVersion validatedVersion = consistencyService.validateAllIfChangedWithoutRegist(
+					incomeAndExpenditure, searchCondition);
+			if(validatedVersion != null) {
+				// 参照専用トランザクション(レプリカ)では更新できないため、整合性検証済みバージョンは
+				// 照会処理のコミット後に新規トランザクション(プライマリ)で登録(登録失敗時も照会処理はエラーとしない)
+				validatedVersionComponent.regist(validatedVersion);
+			}
+		}
+		return MonthInquiryData.from(incomeAndExpenditure);
+	}
+
 	/**
 	 *<pre>
 	 * 支出項目のリスト(ドメインモデル)を支出項目のリスト(レスポンス)に変換して返却
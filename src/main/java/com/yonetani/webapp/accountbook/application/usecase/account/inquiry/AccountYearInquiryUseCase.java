@@ -8,6 +8,7 @@
  * 日付       : version  コメントなど
  * 2023/10/09 : 1.00.00  新規作成
  * 2025/12/28 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  参照専用トランザクション(レプリカへの振り分け対象)を設定
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.account.inquiry;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearMeisaiInquiryList;
@@ -53,6 +55,7 @@ import lombok.extern.log4j.Log4j2;
 @Service
 @Log4j2
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AccountYearInquiryUseCase {
 	
 	// 収支テーブル:INCOME_AND_EXPENDITURE_TABLEリポジトリー：指定年度の収支(マージ)結果取得
@@ -6,6 +6,12 @@
  * 日付       : version  コメントなど
  * 2024/11/03 : 1.00.00  新規作成
  * 2025/12/28 : 1.01.00  リファクタリング対応（DDD適応) 
+ * 2026/10/17 : 1.02.00  各月の収支画面の表示データキャッシュ破棄対応
+ * 2026/10/17 : 1.02.00  支出金額テーブルをDB上で加減算するよう対応(支出金額テーブルの全件読込を廃止)
+ * 2026/10/17 : 1.02.00  買い物登録コードをコード採番テーブルから採番するよう対応
+ * 2026/10/17 : 1.02.00  必須支出項目の支出テーブル情報を一括検索したスナップショットから取得するよう対応
+ * 2026/10/17 : 1.02.00  店舗名選択ボックスの店舗情報を店舗情報キャッシュから取得するよう対応
+ * 2026/10/17 : 1.02.00  支出金額テーブルの登録・加算件数の検証コメントを修正
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.account.shoppingregist;
@@ -21,9 +27,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.yonetani.webapp.accountbook.application.usecase.account.component.ExpenditureAmountItemHolderComponent;
 import com.yonetani.webapp.accountbook.application.usecase.account.component.ShoppingRegistExpenditureItemComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.CodeSequenceComponent;
 import com.yonetani.webapp.accountbook.application.usecase.common.CodeTableItemComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ShopInquiryCacheComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountDelta;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemHolder;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
@@ -37,15 +48,15 @@ import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.Shopp
 import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.ShoppingFood;
 import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.ShoppingHouseEquipment;
 import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.ShoppingRegist;
+import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.ShoppingRegistExpenditureSnapshot;
 import com.yonetani.webapp.accountbook.domain.model.account.shoppingregist.ShoppingWork;
 import com.yonetani.webapp.accountbook.domain.model.common.CodeAndValuePair;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopKubunCode;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndShoppingRegistCode;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
-import com.yonetani.webapp.accountbook.domain.repository.account.shop.ShopTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.shoppingregist.ShoppingRegistTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.ExpenditureTotalAmount;
 import com.yonetani.webapp.accountbook.domain.type.account.shop.ShopKubunCode;
@@ -82,8 +93,8 @@ public class SimpleShoppingRegistUseCase {
 	
 	// コードテーブル
 	private final CodeTableItemComponent codeTableItem;
-	// 店舗情報取得リポジトリー
-	private final ShopTableRepository shopRepository;
+	// 店舗情報キャッシュ
+	private final ShopInquiryCacheComponent shopCache;
 	// 買い物登録情報リポジトリー
 	private final ShoppingRegistTableRepository shoppingRegistRepository;
 	// 簡易タイプ買い物リスト取得コンポーネント
@@ -98,6 +109,10 @@ public class SimpleShoppingRegistUseCase {
 	private final IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
 	// 買い物登録時の必須支出項目をまとめたコンポーネント
 	private final ShoppingRegistExpenditureItemComponent expenditureAndSisyutuKingakuComponent;
+	// 各月の収支画面の表示データキャッシュ
+	private final AccountMonthInquiryCacheComponent monthInquiryCache;
+	// コード採番コンポーネント
+	private final CodeSequenceComponent codeSequenceComponent;
 	
 	/**
 	 *<pre>
@@ -289,28 +304,32 @@ public class SimpleShoppingRegistUseCase {
 		// 簡易タイプ買い物リストの項目に対応する支出テーブル情報と支出金額テーブル情報を取得
 		// 必須データの存在チェックは買い物登録のトップメニューで確認済みなので、ここではもしデータがない場合はNULLポ発生か要素数アクセスエラーで対応する
 		// 支出テーブル情報には外食、仕事のデータ登録なしでOK。データがある場合でも値の更新は不要
+		// 対象の支出項目の支出テーブル情報は一括検索したスナップショットから取得する
+		ShoppingRegistExpenditureSnapshot expenditureSnapshot = expenditureAndSisyutuKingakuComponent.loadExpenditureSnapshot(userId, targetYearMonth);
 		// 飲食(無駄づかいなし)の支出テーブル情報を取得
-		ExpenditureItem beforeFoodItem = expenditureAndSisyutuKingakuComponent.getFoodExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeFoodItem = expenditureAndSisyutuKingakuComponent.getFoodExpenditureItem(expenditureSnapshot);
 		// 飲食(無駄遣いB)の支出テーブル情報を取得
-		ExpenditureItem beforeFoodBItem = expenditureAndSisyutuKingakuComponent.getFoodBExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeFoodBItem = expenditureAndSisyutuKingakuComponent.getFoodBExpenditureItem(expenditureSnapshot);
 		// 飲食(無駄遣いC)の支出テーブル情報を取得
-		ExpenditureItem beforeFoodCItem = expenditureAndSisyutuKingakuComponent.getFoodCExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeFoodCItem = expenditureAndSisyutuKingakuComponent.getFoodCExpenditureItem(expenditureSnapshot);
 		// 一人プチ贅沢・外食の支出テーブル情報を取得
-		ExpenditureItem beforeDineOutItem = expenditureAndSisyutuKingakuComponent.getDineOutExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeDineOutItem = expenditureAndSisyutuKingakuComponent.getDineOutExpenditureItem(expenditureSnapshot);
 		// 日用消耗品
-		ExpenditureItem beforeConsumerGoodsItem = expenditureAndSisyutuKingakuComponent.getConsumerGoodsExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeConsumerGoodsItem = expenditureAndSisyutuKingakuComponent.getConsumerGoodsExpenditureItem(expenditureSnapshot);
 		// 被服費
-		ExpenditureItem beforeClothesItem = expenditureAndSisyutuKingakuComponent.getClothesExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeClothesItem = expenditureAndSisyutuKingakuComponent.getClothesExpenditureItem(expenditureSnapshot);
 		// 仕事(流動経費)
-		ExpenditureItem beforeWorkItem = expenditureAndSisyutuKingakuComponent.getWorkExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeWorkItem = expenditureAndSisyutuKingakuComponent.getWorkExpenditureItem(expenditureSnapshot);
 		// 住居設備
-		ExpenditureItem beforeHouseEquipmentItem = expenditureAndSisyutuKingakuComponent.getHouseEquipmentExpenditureItem(userId, targetYearMonth);
+		ExpenditureItem beforeHouseEquipmentItem = expenditureAndSisyutuKingakuComponent.getHouseEquipmentExpenditureItem(expenditureSnapshot);
 				
 		// 検索条件ドメインを生成(ユーザID、対象年月)
 		SearchQueryUserIdAndYearMonth searchYearMonth = SearchQueryUserIdAndYearMonth.from(userId, targetYearMonth);
+		// 対象年月の各月の収支画面の表示データキャッシュを破棄(コミット後にも再破棄)
+		monthInquiryCache.evict(searchYearMonth);
 		
-		// 対象年月の支出金額テーブル情報を保持したホルダーを生成
-		ExpenditureAmountItemHolder expenditureAmountItemHolder = expenditureAmountItemHolderComponent.build(searchYearMonth);
+		// 支出金額テーブルへの反映内容(DB上で加減算する値)を保持するホルダーを生成
+		ExpenditureAmountItemHolder expenditureAmountItemHolder = expenditureAmountItemHolderComponent.build();
 		
 		// 収支テーブル情報を取得
 		IncomeAndExpenditure beforeSyuusiData = incomeAndExpenditureRepository.findByPrimaryKey(searchYearMonth);
@@ -323,9 +342,10 @@ public class SimpleShoppingRegistUseCase {
 		// 新規登録の場合
 		if(Objects.equals(inputForm.getAction(), MyHouseholdAccountBookContent.ACTION_TYPE_ADD)) {
 
-			// 新規採番する買い物登録コードの値を取得
-			int count = shoppingRegistRepository.countBy(searchYearMonth);
-			count++;
+			// 新規採番する買い物登録コードの値を取得(初回採番時は現在の買い物登録情報の登録件数を初期値とする)
+			int count = codeSequenceComponent.next(
+					CodeSequenceKey.from(userId, CodeSequenceKey.SHOPPING_REGIST_CODE, targetYearMonth),
+					() -> shoppingRegistRepository.countBy(searchYearMonth));
 			if(count > 999) {
 				// レスポンスを生成してエラーメッセージを追加
 				// レスポンスを生成してエラーメッセージを追加
@@ -668,24 +688,24 @@ public class SimpleShoppingRegistUseCase {
 			}
 		}
 		
-		// ホルダーから新規追加データの支出金額テーブル情報を取得し対象件数分データを追加
-		expenditureAmountItemHolder.getAddList().forEach(addData -> {
-			// 支出金額テーブルに登録
-			int addCount = sisyutuKingakuTableRepository.add(addData);
-			// 追加件数が1件以上の場合、業務エラー
-			if(addCount != 1) {
-				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの追加件数が不正でした。[件数=" + addCount + "][add data:" + addData + "]");
+		// ホルダーから新規追加・加算値の支出金額テーブル情報を取得し、支出金額テーブルに登録(登録済みの場合はDB上で加算)
+		List<ExpenditureAmountItem> upsertList = expenditureAmountItemHolder.getUpsertList();
+		int[] upsertCounts = sisyutuKingakuTableRepository.upsertAll(upsertList);
+		for(int i = 0; i < upsertList.size(); i++) {
+			// データごとに新規登録、または登録済みのデータへの加算のどちらか1件となるため、1件以外の場合は業務エラー
+			if(upsertCounts[i] != 1) {
+				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの追加件数が不正でした。[件数=" + upsertCounts[i] + "][add data:" + upsertList.get(i) + "]");
 			}
-		});
-		// ホルダーから更新データの支出金額テーブル情報を取得し対象件数分データを更新
-		expenditureAmountItemHolder.getUpdateList().forEach(updData -> {
-			// 支出金額テーブルを更新
-			int updCount = sisyutuKingakuTableRepository.update(updData);
-			// 更新件数が1件以上の場合、業務エラー
-			if(updCount != 1) {
-				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの更新件数が不正でした。[件数=" + updCount + "][add data:" + updData + "]");
+		}
+		// ホルダーから増減値を取得し、支出金額テーブルをDB上で加減算
+		List<ExpenditureAmountDelta> deltaList = expenditureAmountItemHolder.getDeltaList();
+		int[] deltaCounts = sisyutuKingakuTableRepository.updateDeltaAll(deltaList);
+		for(int i = 0; i < deltaList.size(); i++) {
+			// 対象データなし、または加減算後の値がマイナス値の場合は更新件数0件となり業務エラー
+			if(deltaCounts[i] != 1) {
+				throw new MyHouseholdAccountBookRuntimeException("支出金額テーブル:SISYUTU_KINGAKU_TABLEへの更新件数が不正でした(加減算対象の支出金額情報が存在しないか、加減算結果がマイナス値)。[件数=" + deltaCounts[i] + "][delta data:" + deltaList.get(i) + "]");
 			}
-		});
+		}
 		
 		// 収支テーブル更新ありの場合、更新データで収支テーブルを更新
 		if(updSyuusiData != null) {
@@ -762,7 +782,7 @@ public class SimpleShoppingRegistUseCase {
 			OptionItem.from(pair.getCode().getValue(), pair.getCodeValue().getValue())).collect(Collectors.toUnmodifiableList());
 		
 		// 選択した店舗区分に属する店舗情報を取得
-		ShopInquiryList shopSearchResult = shopRepository.findById(SearchQueryUserIdAndShopKubunCode.from(userId, ShopKubunCode.from(registInfoForm.getShopKubunCode())));
+		ShopInquiryList shopSearchResult = shopCache.getShopList(userId, ShopKubunCode.from(registInfoForm.getShopKubunCode()));
 		// 店舗情報ありの場合、店舗名選択ボックスの表示リストを作成
 		List<OptionItem> shopNameOptionItemList = null;
 		if(!shopSearchResult.isEmpty()) {
@@ -0,0 +1,114 @@
+/**
+ * 管理者画面メニュー DBアクセス統計のユースケースです。
+ * ・DBアクセス統計画面表示情報取得
+ * ・DBアクセス統計のクリア
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.adminmenu;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatistics;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsRecorder;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsRecorder.UseCaseSummary;
+import com.yonetani.webapp.accountbook.presentation.response.adminmenu.AdminMenuDbAccessStatisticsResponse;
+import com.yonetani.webapp.accountbook.presentation.response.adminmenu.AdminMenuDbAccessStatisticsResponse.RequestItem;
+import com.yonetani.webapp.accountbook.presentation.response.adminmenu.AdminMenuDbAccessStatisticsResponse.UseCaseItem;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 管理者画面メニュー DBアクセス統計のユースケースです。
+ * ・DBアクセス統計画面表示情報取得
+ * ・DBアクセス統計のクリア
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class AdminMenuDbAccessStatisticsUseCase {
+
+	// 受付日時の表示フォーマット
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss.SSS");
+
+	// DBアクセス統計の記録先
+	private final DbAccessStatisticsRecorder recorder;
+
+	/**
+	 *<pre>
+	 * DBアクセス統計画面の表示情報を取得します。
+	 *</pre>
+	 * @return DBアクセス統計画面の表示情報(レスポンス)
+	 *
+	 */
+	public AdminMenuDbAccessStatisticsResponse read() {
+		log.debug("read:");
+		int threshold = recorder.getSameStatementWarnThreshold();
+		AdminMenuDbAccessStatisticsResponse response = AdminMenuDbAccessStatisticsResponse.getInstance(threshold);
+		// リクエストごとのDBアクセス統計(新しい順)
+		for(DbAccessStatistics statistics : recorder.getRequestHistoryList()) {
+			response.getRequestItemList().add(RequestItem.from(
+					DATE_TIME_FORMATTER.format(statistics.getStartDateTime()),
+					statistics.getName(),
+					statistics.getStatementCount(),
+					statistics.getRowCount(),
+					String.format("%.2f", statistics.getDbMillis()),
+					String.format("%.2f", statistics.getElapsedMillis()),
+					toOverThresholdStatements(statistics.getStatementCountOver(threshold))));
+		}
+		// ユースケースのメソッドごとのDBアクセス統計
+		for(UseCaseSummary summary : recorder.getUseCaseSummaryList()) {
+			response.getUseCaseItemList().add(UseCaseItem.from(
+					summary.getName(),
+					summary.getCallCount(),
+					String.format("%.1f", summary.getAverageStatementCount()),
+					summary.getMaxStatementCount(),
+					String.format("%.1f", summary.getAverageRowCount()),
+					String.format("%.2f", summary.getAverageDbMillis()),
+					String.format("%.2f", summary.getAverageElapsedMillis())));
+		}
+		return response;
+	}
+
+	/**
+	 *<pre>
+	 * 保持しているDBアクセス統計をクリアします。
+	 *</pre>
+	 * @return DBアクセス統計画面の表示情報(レスポンス)
+	 *
+	 */
+	public AdminMenuDbAccessStatisticsResponse clear() {
+		log.debug("clear:");
+		recorder.clear();
+		AdminMenuDbAccessStatisticsResponse response = AdminMenuDbAccessStatisticsResponse.getInstance(
+				recorder.getSameStatementWarnThreshold());
+		response.addMessage("DBアクセス統計をクリアしました。");
+		response.setTransactionSuccessFull();
+		return response;
+	}
+
+	/**
+	 * 閾値を超えたステートメントを「マップドステートメントのID=実行回数」のカンマ区切りに変換します。
+	 */
+	private String toOverThresholdStatements(Map<String, Integer> overMap) {
+		return overMap.entrySet().stream()
+				.map(entry -> entry.getKey() + "=" + entry.getValue())
+				.collect(Collectors.joining(", "));
+	}
+}
@@ -0,0 +1,176 @@
+/**
+ * 管理者画面メニュー ユースケース処理時間のユースケースです。
+ * ・ユースケース処理時間画面表示情報取得
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.adminmenu;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.yonetani.webapp.accountbook.application.usecase.common.UseCaseMetricsAspect;
+import com.yonetani.webapp.accountbook.presentation.response.adminmenu.AdminMenuUseCaseMetricsResponse;
+import com.yonetani.webapp.accountbook.presentation.response.adminmenu.AdminMenuUseCaseMetricsResponse.UseCaseItem;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 管理者画面メニュー ユースケース処理時間のユースケースです。
+ * ・ユースケース処理時間画面表示情報取得
+ *
+ * UseCaseMetricsAspectがMicrometerに記録したユースケースのメソッドごとのタイマーを集計します。
+ * 呼び出し回数・エラー率はアプリケーション起動後の累計、パーセンタイル・最大は直近の集計期間の値です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class AdminMenuUseCaseMetricsUseCase {
+
+	// 集計値がない場合の表示値
+	private static final String NO_VALUE = "-";
+
+	// メトリクスの登録先
+	private final MeterRegistry meterRegistry;
+	// ユースケースの処理時間の計測アスペクト
+	private final UseCaseMetricsAspect useCaseMetricsAspect;
+
+	/**
+	 *<pre>
+	 * ユースケース処理時間画面の表示情報を取得します。
+	 * 明細は正常終了時の処理時間の95パーセンタイルが大きい順に設定します。
+	 *</pre>
+	 * @return ユースケース処理時間画面の表示情報(レスポンス)
+	 *
+	 */
+	public AdminMenuUseCaseMetricsResponse read() {
+		log.debug("read:");
+		AdminMenuUseCaseMetricsResponse response = AdminMenuUseCaseMetricsResponse.getInstance(
+				useCaseMetricsAspect.getPercentileExpiry().toMinutes());
+		// ユースケースのメソッド(クラス名.メソッド名)ごとに処理結果別のタイマーをまとめる
+		Map<String, List<Timer>> timerMap = meterRegistry.find(UseCaseMetricsAspect.METRIC_NAME).timers().stream()
+				.collect(Collectors.groupingBy(
+						timer -> timer.getId().getTag(UseCaseMetricsAspect.TAG_USE_CASE)
+							+ "." + timer.getId().getTag(UseCaseMetricsAspect.TAG_METHOD),
+						TreeMap::new,
+						Collectors.toList()));
+		timerMap.entrySet().stream()
+			.map(entry -> new UseCaseRow(entry.getKey(), entry.getValue()))
+			.sorted(Comparator.comparingDouble(UseCaseRow::sortKey).reversed())
+			.forEach(row -> response.getUseCaseItemList().add(row.toItem()));
+		return response;
+	}
+
+	/**
+	 * ユースケースのメソッドごとの処理結果別のタイマーを集計した明細です。
+	 */
+	private static class UseCaseRow {
+		// ユースケースのメソッド(クラス名.メソッド名)
+		private final String useCase;
+		// 呼び出し回数
+		private final long callCount;
+		// 業務エラーの回数
+		private final long businessErrorCount;
+		// 実行時エラーの回数
+		private final long runtimeErrorCount;
+		// 正常終了時のタイマーのスナップショット(正常終了がない場合はnull)
+		private final HistogramSnapshot successSnapshot;
+
+		/**
+		 * ユースケースのメソッドの処理結果別のタイマーを集計します。
+		 */
+		private UseCaseRow(String useCase, List<Timer> timerList) {
+			this.useCase = useCase;
+			this.callCount = timerList.stream().mapToLong(Timer::count).sum();
+			this.businessErrorCount = countOf(timerList, UseCaseMetricsAspect.OUTCOME_BUSINESS_ERROR);
+			this.runtimeErrorCount = countOf(timerList, UseCaseMetricsAspect.OUTCOME_RUNTIME_ERROR);
+			this.successSnapshot = timerList.stream()
+					.filter(timer -> UseCaseMetricsAspect.OUTCOME_SUCCESS.equals(
+							timer.getId().getTag(UseCaseMetricsAspect.TAG_OUTCOME)))
+					.findFirst().map(Timer::takeSnapshot).orElse(null);
+		}
+
+		/**
+		 * 指定した処理結果の回数を返します。
+		 */
+		private static long countOf(List<Timer> timerList, String outcome) {
+			return timerList.stream()
+					.filter(timer -> outcome.equals(timer.getId().getTag(UseCaseMetricsAspect.TAG_OUTCOME)))
+					.mapToLong(Timer::count).sum();
+		}
+
+		/**
+		 * 並び順のキー(正常終了時の処理時間の95パーセンタイル)を返します。
+		 */
+		private double sortKey() {
+			return percentileMillis(0.95);
+		}
+
+		/**
+		 * 正常終了時の処理時間の指定パーセンタイル(ミリ秒)を返します(集計値がない場合は-1)。
+		 */
+		private double percentileMillis(double percentile) {
+			if(successSnapshot == null) {
+				return -1;
+			}
+			for(ValueAtPercentile value : successSnapshot.percentileValues()) {
+				if(value.percentile() == percentile) {
+					return value.value(TimeUnit.MILLISECONDS);
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * 画面表示用の明細情報に変換します。
+		 */
+		private UseCaseItem toItem() {
+			return UseCaseItem.from(
+					useCase,
+					callCount,
+					formatRate(businessErrorCount),
+					formatRate(runtimeErrorCount),
+					formatMillis(percentileMillis(0.5)),
+					formatMillis(percentileMillis(0.95)),
+					formatMillis(percentileMillis(0.99)),
+					(successSnapshot == null) ? NO_VALUE : formatMillis(successSnapshot.max(TimeUnit.MILLISECONDS)),
+					runtimeErrorCount > 0);
+		}
+
+		/**
+		 * 呼び出し回数に対する割合(%)をフォーマットします。
+		 */
+		private String formatRate(long count) {
+			return (callCount == 0) ? NO_VALUE : String.format("%.1f", count * 100.0 / callCount);
+		}
+
+		/**
+		 * 処理時間(ミリ秒)をフォーマットします(集計値がない場合は「-」)。
+		 */
+		private static String formatMillis(double millis) {
+			return (millis < 0) ? NO_VALUE : String.format("%.2f", millis);
+		}
+	}
+}
@@ -9,6 +9,9 @@
  * 日付       : version  コメントなど
  * 2023/11/11 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  ユーザ情報更新時に家計簿利用ユーザ情報のバージョンを更新
+ * 2026/10/17 : 1.02.00  ユーザ追加時に店舗情報キャッシュを破棄
+ * 2026/10/17 : 1.02.00  支出項目追加時に支出項目ツリーを破棄
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.adminmenu;
@@ -19,6 +22,9 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserVersionComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ShopInquiryCacheComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookException;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
@@ -77,6 +83,13 @@ public class AdminMenuUserInfoUseCase {
 	private final SisyutuItemTableRepository sisyutuItemTableRepository;
 	// 店舗テーブルデータを登録するリポジトリー
 	private final ShopTableRepository shopTableRepository;
+	// 家計簿利用ユーザ情報のバージョン
+	private final AccountBookUserVersionComponent userVersion;
+	// 店舗情報キャッシュ
+	private final ShopInquiryCacheComponent shopCache;
+	// 支出項目情報取得コンポーネント(支出項目ツリーのキャッシュ)
+	private final ExpenditureItemInfoComponent expenditureItemInfoComponent;
+	
 	/**
 	 *<pre>
 	 * ユーザ情報管理画面の表示情報を取得します。
@@ -198,6 +211,8 @@ public class AdminMenuUserInfoUseCase {
 							throw new MyHouseholdAccountBookRuntimeException("支出項目テーブル:SISYUTU_ITEM_TABLEへの追加件数が不正でした。[add data:" + addData + "]");
 						}
 					});
+				// 新規ユーザの支出項目ツリーを破棄(次回参照時に再生成、コミット完了後にも再度破棄)
+				expenditureItemInfoComponent.evict(accountBookUser.getUserId());
 				
 				// 店舗テーブル(BASE)から新規ユーザの店舗テーブルを出力
 				// 店舗区分コード、店舗表示順は店舗コードと同じ値で出力する
@@ -217,6 +232,8 @@ public class AdminMenuUserInfoUseCase {
 							throw new MyHouseholdAccountBookRuntimeException("店舗テーブルへの追加件数が不正でした。[add data:" + addData + "]");
 						}
 					});
+				// 新規ユーザの店舗情報キャッシュを破棄(コミット完了後にも再度破棄)
+				shopCache.evict(accountBookUser.getUserId());
 				
 				// 完了メッセージ
 				response.addMessage("ユーザを追加しました。[ユーザID:" + userInfo.getUserId() + "][ユーザ名:" + userInfo.getUserName() + "]");
@@ -231,6 +248,8 @@ public class AdminMenuUserInfoUseCase {
 				if(updateCount != 1) {
 					throw new MyHouseholdAccountBookRuntimeException("家計簿利用ユーザテーブルへの追加件数が不正でした。[add data:" + accountBookUser + "]");
 				}
+				// 家計簿利用ユーザ情報のバージョンを更新(更新対象ユーザの各セッションのログインユーザ情報を再取得させる)
+				userVersion.incrementVersion(accountBookUser.getUserId());
 
 				// 完了メッセージ
 				response.addMessage("ユーザを更新しました。[ユーザID:" + userInfo.getUserId() + "][ユーザ名:" + userInfo.getUserName() + "]");
@@ -265,11 +284,13 @@ public class AdminMenuUserInfoUseCase {
 		AdminMenuUserInfoResponse response = AdminMenuUserInfoResponse.getInstance();
 		// 支出項目テーブル(BASE)から新規ユーザの支出項目テーブルを出力
 		SisyutuItemBaseList sisyutuItemBaseList = sisyutuItemBaseTableRepository.findAll();
+		// パッチ充て対象のユーザID
+		UserId userId = UserId.from("koukiyonetani");
 		
 		sisyutuItemBaseList.getValues().forEach(baseData -> {
 				// 登録する支出項目テーブル情報を生成(更新不可フラグはデフォルトで不可:falseを設定)
 				ExpenditureItemInfo addData = ExpenditureItemInfo.from(
-					"koukiyonetani",
+					userId.getValue(),
 					baseData.getExpenditureItemCode().getValue(),
 					baseData.getExpenditureItemName().getValue(), 
 					baseData.getExpenditureItemDetailContext().getValue(),
@@ -284,6 +305,8 @@ public class AdminMenuUserInfoUseCase {
 					throw new MyHouseholdAccountBookRuntimeException("支出項目テーブル:SISYUTU_ITEM_TABLEへの追加件数が不正でした。[add data:" + addData + "]");
 				}
 			});
+		// 支出項目が追加されるため、ユーザの支出項目ツリーを破棄(次回参照時に再生成、コミット完了後にも再度破棄)
+		expenditureItemInfoComponent.evict(userId);
 		// 完了メッセージ
 		response.addMessage("パッチ当て処理が完了しました。");
 		
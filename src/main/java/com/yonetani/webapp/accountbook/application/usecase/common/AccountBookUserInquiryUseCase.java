@@ -1,12 +1,14 @@
 /**
  * マイ家計簿 ユーザ情報を照会するユースケースです。
  * ・ユーザIDに対応する現在の対象年月の値を取得
+ * ・ログインユーザ情報(セッション)に保持した現在の対象年月の取得・再取得
  *
  *------------------------------------------------
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/10/14 : 1.00.00  新規作成
  * 2026/05/09 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  ログインユーザ情報(セッション)に保持した現在の対象年月、ユーザ名の参照・再取得を追加
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.common;
@@ -19,6 +21,7 @@ import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserI
 import com.yonetani.webapp.accountbook.domain.repository.common.AccountBookUserRepository;
 import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
 import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -27,6 +30,10 @@ import lombok.extern.log4j.Log4j2;
  *<pre>
  * マイ家計簿 ユーザ情報を照会するユースケースです。
  * ・ユーザIDに対応する現在の対象年月の値を取得
+ * ・ログインユーザ情報(セッション)に保持した現在の対象年月の取得・再取得
+ *
+ * ログインユーザ情報に保持した現在の対象年月、ユーザ名は、家計簿利用ユーザ情報のバージョン
+ * (AccountBookUserVersionComponent)が保持時点から変わっていない場合のみ使用します。
  *
  *</pre>
  *
@@ -41,6 +48,8 @@ public class AccountBookUserInquiryUseCase {
 
 	// 指定ユーザIDの現在の対象年月取得リポジトリー
 	private final AccountBookUserRepository userInfoSearchRepository;
+	// 家計簿利用ユーザ情報のバージョン
+	private final AccountBookUserVersionComponent userVersion;
 	
 	/**
 	 *<pre>
@@ -81,4 +90,73 @@ public class AccountBookUserInquiryUseCase {
 		}
 		return userInfo;
 	}
+	
+	/**
+	 *<pre>
+	 * ログインユーザの現在の対象年月の値を取得します。
+	 * ログインユーザ情報に保持した現在の対象年月が最新の場合はその値を返し、
+	 * 保持していない場合や家計簿利用ユーザ情報が更新されている場合は家計簿利用ユーザテーブルから取得します。
+	 *</pre>
+	 * @param user ログインユーザ情報
+	 * @return 現在の対象年・月の値(ドメインモデル)
+	 *
+	 */
+	public TargetYearMonth getTargetYearMonth(LoginUserInfo user) {
+		if(isCurrent(user)) {
+			return TargetYearMonth.from(user.getTargetYearMonth());
+		}
+		return getTargetYearMonth(UserId.from(user.getUserId()));
+	}
+	
+	/**
+	 *<pre>
+	 * ログインユーザ情報に保持した現在の対象年月、ユーザ名が最新かどうかを判定します。
+	 *</pre>
+	 * @param user ログインユーザ情報
+	 * @return 現在の対象年月を保持していて、保持時点から家計簿利用ユーザ情報が更新されていない場合true
+	 *
+	 */
+	public boolean isCurrent(LoginUserInfo user) {
+		return user.getTargetYearMonth() != null
+				&& user.getUserInfoVersion() == userVersion.getVersion(UserId.from(user.getUserId()));
+	}
+	
+	/**
+	 *<pre>
+	 * 家計簿利用ユーザテーブルから現在の対象年月、ユーザ名を取得し、ログインユーザ情報を生成します。
+	 *</pre>
+	 * @param userId ログインユーザID
+	 * @return 現在の対象年月、ユーザ名を保持したログインユーザ情報
+	 *
+	 */
+	public LoginUserInfo createLoginUserInfo(UserId userId) {
+		// 取得中の更新を検知できるよう、バージョンは家計簿利用ユーザ情報の取得前に取得
+		long version = userVersion.getVersion(userId);
+		AccountBookUser userInfo = getUserInfo(userId);
+		return LoginUserInfo.from(
+				// ログインユーザID
+				userInfo.getUserId().toString(),
+				// ログインユーザ名
+				userInfo.getUserName().toString(),
+				// 現在の対象年月
+				TargetYearMonth.from(userInfo.getNowTargetYear().getValue(), userInfo.getNowTargetMonth().getValue()).getValue(),
+				// 家計簿利用ユーザ情報のバージョン
+				version);
+	}
+	
+	/**
+	 *<pre>
+	 * ログインユーザ情報に保持した現在の対象年月、ユーザ名が最新でない場合に再取得します。
+	 *</pre>
+	 * @param user ログインユーザ情報
+	 * @return 最新の場合は引数のログインユーザ情報、最新でない場合は再取得したログインユーザ情報
+	 *
+	 */
+	public LoginUserInfo refreshLoginUserInfo(LoginUserInfo user) {
+		if(isCurrent(user)) {
+			return user;
+		}
+		log.debug("refreshLoginUserInfo: userId=" + user.getUserId());
+		return createLoginUserInfo(UserId.from(user.getUserId()));
+	}
 }
@@ -0,0 +1,93 @@
+/**
+ * 家計簿利用ユーザ情報(現在の対象年月、ユーザ名)の変更を検知するためのバージョンを管理するコンポーネントです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 家計簿利用ユーザ情報(現在の対象年月、ユーザ名)の変更を検知するためのバージョンを管理するコンポーネントです。
+ * ログインユーザ情報(セッション)に保持した現在の対象年月、ユーザ名は、保持時点のバージョンが
+ * 現在のバージョンと一致する場合のみ使用し、一致しない場合は家計簿利用ユーザテーブルから再取得します。
+ * 同じユーザの別セッションで変更した場合も、バージョンの比較のみで変更を検知できます。
+ *
+ * [注意事項]
+ * ・バージョンはアプリケーションのメモリ上で管理します(起動時刻を初期値とし、前回起動時のセッションのバージョンとは一致しません)。
+ * ・家計簿利用ユーザ情報を更新した場合は、必ず{@link #incrementVersion(UserId)}を呼び出してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+public class AccountBookUserVersionComponent {
+
+	// バージョンの初期値(起動時刻)
+	private final long initialVersion = System.currentTimeMillis();
+	// ユーザIDごとのバージョン(未更新のユーザは初期値)
+	private final Map<String, Long> versionMap = new ConcurrentHashMap<>();
+
+	/**
+	 *<pre>
+	 * 指定したユーザの家計簿利用ユーザ情報の現在のバージョンを取得します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @return 現在のバージョン
+	 *
+	 */
+	public long getVersion(UserId userId) {
+		return versionMap.getOrDefault(userId.getValue(), initialVersion);
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの家計簿利用ユーザ情報のバージョンを更新します。
+	 * トランザクション内で呼び出された場合、コミット完了後にも再度更新します
+	 * (コミット前に更新前の値を再取得したセッションにも変更を検知させるため)。
+	 *</pre>
+	 * @param userId 家計簿利用ユーザ情報を更新したユーザID
+	 *
+	 */
+	public void incrementVersion(UserId userId) {
+		log.debug("incrementVersion:userId=" + userId);
+		increment(userId);
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					increment(userId);
+				}
+			});
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザのバージョンを1加算します。
+	 *</pre>
+	 * @param userId ユーザID
+	 *
+	 */
+	private void increment(UserId userId) {
+		versionMap.compute(userId.getValue(), (key, version) -> ((version == null) ? initialVersion : version) + 1);
+	}
+}
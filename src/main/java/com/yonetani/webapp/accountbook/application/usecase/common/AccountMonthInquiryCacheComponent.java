@@ -0,0 +1,363 @@
+/**
+ * 各月の収支画面の表示データ(検証済みのドメインモデル)をユーザID、対象年月単位でキャッシュするコンポーネントです。
+ * 収支データを更新するユースケースから対象年月のキャッシュを破棄(コミット後にも再破棄)します。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  表示種別ごとの遅延取得対応(未取得の明細はnullで保持)・破棄と競合した登録の抑止
+ * 2026/10/17 : 1.02.00  登録の抑止判定をユーザ単位の破棄世代で行うように変更
+ * 2026/10/17 : 1.02.00  参照専用トランザクション内でもキャッシュを参照・登録するように変更
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureItemList;
+import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 各月の収支画面の表示データ(検証済みのドメインモデル)をユーザID、対象年月単位でキャッシュするコンポーネントです。
+ *
+ * [キャッシュの方針]
+ * ・キャッシュ件数は「accountbook.property.month-inquiry-cache-max-size」で指定した件数までとし、
+ *   上限を超えた場合は最も長く参照されていないデータから破棄します。
+ * ・更新トランザクション内での参照はコミット前のデータを含む可能性があるため、キャッシュの参照・登録は行いません。
+ *   参照専用トランザクション(各月の収支照会)内の参照はコミット済みのデータのため、キャッシュを参照・登録します。
+ * ・収支データを更新したユースケースは{@link #evict(SearchQueryUserIdAndYearMonth)}で対象年月のキャッシュを破棄します。
+ *   トランザクション内で呼び出された場合、コミット完了後にも再度破棄し、コミット前に他リクエストで
+ *   キャッシュされた更新前データが残らないようにします。
+ * ・データ取得開始以降に同一ユーザの破棄要求があった場合、取得したデータ(更新前データの可能性あり)は登録しません。
+ *   他ユーザの破棄要求では登録を抑止しないよう、破棄世代はユーザ単位で管理します。
+ * ・キャッシュサイズの見積もり用にヒット件数、ミス件数、破棄件数をカウントします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+public class AccountMonthInquiryCacheComponent {
+
+	/**
+	 *<pre>
+	 * 各月の収支画面の表示データ(キャッシュ対象のドメインモデル)です。
+	 * 整合性検証済みのデータのみ保持します。
+	 * 支出金額情報・支出情報は表示種別に応じて必要になった時点で取得するため、未取得の場合はnullとなります。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	@ToString
+	public static class MonthInquiryData {
+		// 収支集約(IncomeAndExpenditureTable)
+		private final IncomeAndExpenditure incomeAndExpenditure;
+		// 支出金額情報(SisyutuKingakuTable):未取得の場合null
+		private final AccountMonthInquiryExpenditureItemList expenditureItemList;
+		// 支出情報(ExpenditureTable):未取得の場合null
+		private final AccountMonthInquiryExpenditureList monthExpenditureList;
+
+		/**
+		 *<pre>
+		 * 整合性検証済みの収支集約から各月の収支画面の表示データ(明細未取得)を生成して返します。
+		 *</pre>
+		 * @param incomeAndExpenditure 収支集約
+		 * @return 各月の収支画面の表示データ
+		 *
+		 */
+		public static MonthInquiryData from(IncomeAndExpenditure incomeAndExpenditure) {
+			return new MonthInquiryData(incomeAndExpenditure, null, null);
+		}
+
+		/**
+		 *<pre>
+		 * 支出金額情報を設定した新しい表示データを返します。
+		 *</pre>
+		 * @param list 支出金額情報
+		 * @return 支出金額情報を設定した各月の収支画面の表示データ
+		 *
+		 */
+		public MonthInquiryData withExpenditureItemList(AccountMonthInquiryExpenditureItemList list) {
+			return new MonthInquiryData(incomeAndExpenditure, list, monthExpenditureList);
+		}
+
+		/**
+		 *<pre>
+		 * 支出情報を設定した新しい表示データを返します。
+		 *</pre>
+		 * @param list 支出情報
+		 * @return 支出情報を設定した各月の収支画面の表示データ
+		 *
+		 */
+		public MonthInquiryData withMonthExpenditureList(AccountMonthInquiryExpenditureList list) {
+			return new MonthInquiryData(incomeAndExpenditure, expenditureItemList, list);
+		}
+	}
+
+	/**
+	 *<pre>
+	 * キャッシュの利用状況(統計情報)です。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	@ToString
+	public static class CacheStatistics {
+		// 最大キャッシュ件数
+		private final int maxSize;
+		// 現在のキャッシュ件数
+		private final int size;
+		// ヒット件数
+		private final long hitCount;
+		// ミス件数
+		private final long missCount;
+		// 上限超過による破棄件数
+		private final long evictionCount;
+		// 更新による破棄件数
+		private final long invalidationCount;
+	}
+
+	// 最大キャッシュ件数
+	private final int maxSize;
+	// キャッシュ(アクセス順のLinkedHashMap：上限超過時は最も長く参照されていないデータを破棄)
+	private final Map<SearchQueryUserIdAndYearMonth, MonthInquiryData> cache;
+	// ヒット件数
+	private final AtomicLong hitCount = new AtomicLong();
+	// ミス件数
+	private final AtomicLong missCount = new AtomicLong();
+	// 上限超過による破棄件数
+	private final AtomicLong evictionCount = new AtomicLong();
+	// 更新による破棄件数
+	private final AtomicLong invalidationCount = new AtomicLong();
+	// 破棄世代(破棄要求ごとにカウントアップ)
+	private final AtomicLong invalidationGeneration = new AtomicLong();
+	// ユーザごとの最終破棄世代(破棄要求のあったユーザのみ保持：ユーザ数分の件数のため上限なし)
+	private final Map<UserId, Long> userInvalidationGenerations = new HashMap<>();
+
+	/**
+	 *<pre>
+	 * AccountMonthInquiryCacheComponentクラスコンストラクターです。
+	 * インジェクション(DI)対象のインスタンス登録時、FWによって呼び出し、インスタンスが管理されます。
+	 *
+	 *</pre>
+	 * @param maxSize 最大キャッシュ件数(0以下の場合はキャッシュしない)
+	 *
+	 */
+	public AccountMonthInquiryCacheComponent(
+			@Value("${accountbook.property.month-inquiry-cache-max-size:500}") int maxSize) {
+		this.maxSize = maxSize;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SearchQueryUserIdAndYearMonth, MonthInquiryData> eldest) {
+				if(size() > AccountMonthInquiryCacheComponent.this.maxSize) {
+					evictionCount.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザID、対象年月に対応する各月の収支画面の表示データをキャッシュから取得します。
+	 * 更新トランザクション内で呼び出された場合は常にnullを返します。
+	 *</pre>
+	 * @param key ユーザID、対象年月
+	 * @return 各月の収支画面の表示データ。キャッシュにない場合はnull
+	 *
+	 */
+	public MonthInquiryData get(SearchQueryUserIdAndYearMonth key) {
+		if(!isCacheable()) {
+			return null;
+		}
+		MonthInquiryData data;
+		synchronized(cache) {
+			data = cache.get(key);
+		}
+		if(data == null) {
+			missCount.incrementAndGet();
+		} else {
+			hitCount.incrementAndGet();
+		}
+		return data;
+	}
+
+	/**
+	 *<pre>
+	 * 現在の破棄世代を取得します。
+	 * DBから表示データを取得する前に取得し、{@link #put(SearchQueryUserIdAndYearMonth, MonthInquiryData, long)}に
+	 * 渡すことで、取得中に同一ユーザの破棄要求があった場合(更新前データの可能性がある場合)の登録を抑止します。
+	 *</pre>
+	 * @return 現在の破棄世代
+	 *
+	 */
+	public long getGeneration() {
+		return invalidationGeneration.get();
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザID、対象年月に対応する各月の収支画面の表示データをキャッシュに登録します。
+	 * 更新トランザクション内で呼び出された場合、または、データ取得開始以降に同一ユーザの破棄要求があった場合は登録しません。
+	 *</pre>
+	 * @param key ユーザID、対象年月
+	 * @param data 各月の収支画面の表示データ(整合性検証済みのデータ)
+	 * @param generation データ取得開始前に{@link #getGeneration()}で取得した破棄世代
+	 *
+	 */
+	public void put(SearchQueryUserIdAndYearMonth key, MonthInquiryData data, long generation) {
+		if(!isCacheable()) {
+			return;
+		}
+		synchronized(cache) {
+			if(userInvalidationGenerations.getOrDefault(key.getUserId(), 0L) <= generation) {
+				cache.put(key, data);
+			}
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザID、対象年月に対応する各月の収支画面の表示データをキャッシュから破棄します。
+	 * トランザクション内で呼び出された場合、コミット完了後にも再度破棄します。
+	 *</pre>
+	 * @param key ユーザID、対象年月
+	 *
+	 */
+	public void evict(SearchQueryUserIdAndYearMonth key) {
+		log.debug("evict:key=" + key);
+		removeEntry(key);
+		registerAfterCommit(() -> removeEntry(key));
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザIDの各月の収支画面の表示データを全てキャッシュから破棄します。
+	 * 支出項目名など、全ての対象年月の表示内容に影響する更新を行った場合に使用します。
+	 * トランザクション内で呼び出された場合、コミット完了後にも再度破棄します。
+	 *</pre>
+	 * @param userId ユーザID
+	 *
+	 */
+	public void evictAll(UserId userId) {
+		log.debug("evictAll:userId=" + userId);
+		removeUserEntries(userId);
+		registerAfterCommit(() -> removeUserEntries(userId));
+	}
+
+	/**
+	 *<pre>
+	 * キャッシュの利用状況(統計情報)を取得します。
+	 *</pre>
+	 * @return キャッシュの利用状況
+	 *
+	 */
+	public CacheStatistics getStatistics() {
+		int size;
+		synchronized(cache) {
+			size = cache.size();
+		}
+		return new CacheStatistics(maxSize, size, hitCount.get(), missCount.get(),
+				evictionCount.get(), invalidationCount.get());
+	}
+
+	/**
+	 *<pre>
+	 * キャッシュを参照・登録可能かどうかを判定します。
+	 *</pre>
+	 * @return 最大キャッシュ件数が1以上、かつ、トランザクション外または参照専用トランザクション内の場合true
+	 *
+	 */
+	private boolean isCacheable() {
+		return maxSize > 0 && (!TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+	}
+
+	/**
+	 *<pre>
+	 * 指定したキーのデータをキャッシュから削除します。
+	 *</pre>
+	 * @param key ユーザID、対象年月
+	 *
+	 */
+	private void removeEntry(SearchQueryUserIdAndYearMonth key) {
+		synchronized(cache) {
+			userInvalidationGenerations.put(key.getUserId(), invalidationGeneration.incrementAndGet());
+			if(cache.remove(key) != null) {
+				invalidationCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザIDのデータをキャッシュから全て削除します。
+	 *</pre>
+	 * @param userId ユーザID
+	 *
+	 */
+	private void removeUserEntries(UserId userId) {
+		synchronized(cache) {
+			userInvalidationGenerations.put(userId, invalidationGeneration.incrementAndGet());
+			cache.keySet().removeIf(key -> {
+				if(key.getUserId().equals(userId)) {
+					invalidationCount.incrementAndGet();
+					return true;
+				}
+				return false;
+			});
+		}
+	}
+
+	/**
+	 *<pre>
+	 * トランザクション内で呼び出された場合、コミット完了後に指定の処理を実行するよう登録します。
+	 *</pre>
+	 * @param action コミット完了後に実行する処理
+	 *
+	 */
+	private void registerAfterCommit(Runnable action) {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		}
+	}
+}
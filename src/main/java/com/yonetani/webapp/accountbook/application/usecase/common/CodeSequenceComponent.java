@@ -0,0 +1,109 @@
+/**
+ * 新規登録するデータのコードを採番するコンポーネントクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  同時に初回採番した場合の採番範囲の登録を一意制約違反を発生させない登録・加算に変更
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import java.util.function.IntSupplier;
+
+import org.springframework.stereotype.Component;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceBlock;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
+import com.yonetani.webapp.accountbook.domain.repository.common.CodeSequenceTableRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 新規登録するデータのコードを採番するコンポーネントクラスです。
+ * 採番範囲(ユーザID、コード種別、年月単位のコードは対象年月)ごとの発番済みの最終番号をコード採番テーブルで管理し、
+ * 最終番号をDB上で加算して番号を予約します。複数件を登録する場合は件数分をまとめて予約し(採番ブロック)、
+ * 予約した番号をDBにアクセスせずに払い出します。
+ *
+ * [トランザクション]
+ * 最終番号を加算した行は呼び出し元のトランザクション終了までロックされるため、同一採番範囲の採番は直列化され、
+ * 同時に登録した場合もコードが重複しません。ロールバック時は予約した番号も取り消されます。
+ * 必ず登録処理と同一のトランザクション内で呼び出してください。
+ *
+ * [初期値]
+ * 採番範囲が未登録(初回採番)の場合、呼び出し元から指定された初期値(従来の採番方法と同じく登録済みのデータ件数)を
+ * 発番済みの最終番号として採番範囲を登録します。
+ * 他のトランザクションが同時に初回採番した場合は、一意制約違反とせずに登録された採番範囲に加算します
+ * (一意制約違反はトランザクションを中断するDB製品があるため、登録と加算を1文で実行します)。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class CodeSequenceComponent {
+
+	// コード採番テーブル:CODE_SEQUENCE_TABLEリポジトリー
+	private final CodeSequenceTableRepository codeSequenceRepository;
+
+	/**
+	 *<pre>
+	 * 指定した採番範囲の番号を1件採番して返します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param initialNumberSupplier 初回採番時の発番済みの最終番号(登録済みのデータ件数)を返す処理
+	 * @return 採番した番号
+	 *
+	 */
+	public int next(CodeSequenceKey key, IntSupplier initialNumberSupplier) {
+		return reserve(key, 1, initialNumberSupplier).next();
+	}
+
+	/**
+	 *<pre>
+	 * 指定した採番範囲の番号を指定件数分まとめて予約し、予約した番号の採番ブロックを返します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param count 予約する件数
+	 * @param initialNumberSupplier 初回採番時の発番済みの最終番号(登録済みのデータ件数)を返す処理
+	 * @return 予約した番号の採番ブロック
+	 *
+	 */
+	public CodeSequenceBlock reserve(CodeSequenceKey key, int count, IntSupplier initialNumberSupplier) {
+		log.debug("reserve:key=" + key + ",count=" + count);
+		// ガード節(予約件数が0以下)
+		if(count <= 0) {
+			throw new MyHouseholdAccountBookRuntimeException("採番件数が不正です。管理者に問い合わせてください。[key=" + key + "][count=" + count + "]");
+		}
+		// 発番済みの最終番号に予約件数を加算
+		int updateCount = codeSequenceRepository.increment(key, count);
+		// 採番範囲が未登録の場合、初期値をもとに採番範囲を登録
+		if(updateCount == 0) {
+			int initialNumber = initialNumberSupplier.getAsInt();
+			int addCount = codeSequenceRepository.addOrIncrement(key, initialNumber, count);
+			if(addCount == 1) {
+				return CodeSequenceBlock.from(initialNumber + 1, initialNumber + count);
+			}
+			// 他のトランザクションが同時に初回採番した場合(登録された採番範囲に加算)は、加算後の最終番号から算出
+			if(addCount != 2) {
+				throw new MyHouseholdAccountBookRuntimeException("コード採番テーブル:CODE_SEQUENCE_TABLEへの追加件数が不正でした。[件数=" + addCount + "][key=" + key + "]");
+			}
+		} else if(updateCount != 1) {
+			throw new MyHouseholdAccountBookRuntimeException("コード採番テーブル:CODE_SEQUENCE_TABLEの更新件数が不正でした。[件数=" + updateCount + "][key=" + key + "]");
+		}
+		// 加算後の最終番号から予約した番号の範囲を算出
+		Integer lastIssuedNumber = codeSequenceRepository.findLastIssuedNumber(key);
+		if(lastIssuedNumber == null) {
+			throw new MyHouseholdAccountBookRuntimeException("コード採番テーブル:CODE_SEQUENCE_TABLEの採番範囲が存在しません。管理者に問い合わせてください。[key=" + key + "]");
+		}
+		return CodeSequenceBlock.from(lastIssuedNumber - count + 1, lastIssuedNumber);
+	}
+}
@@ -5,28 +5,61 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/01/20 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  コード区分ごとの不変リストの事前生成、コード定義ファイル変更時の再読み込み(検証済みのスナップショットに差し替え)対応
+ * 2026/10/17 : 1.02.00  起動時の読み込みは従来どおり重複を許容(後の定義を優先)し、検証は再読み込み時のみに変更
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.common;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.common.CodeAndValuePair;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeTableItem;
 import com.yonetani.webapp.accountbook.domain.model.common.CodeTableItemList;
 import com.yonetani.webapp.accountbook.domain.repository.common.CodeTableRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
 
 /**
  *<pre>
  * 指定したコードやコード分類に対応する値をコードテーブルから取得するためのコンポーネントです。
  *
+ * [コード定義のスナップショット]
+ * ・コード定義ファイルの読み込み時にコード区分ごとのコードと値のペア情報(不変リスト)を生成し、
+ * 　以降の参照ではリストを再生成せずに返します。
+ * ・コード定義ファイルの変更をWatchServiceで監視し、変更時に再読み込みします。
+ * 　再読み込みしたコード定義は検証後にスナップショットごと差し替えるため、参照側で新旧のコード定義が混在することはありません。
+ * ・再読み込みしたコード定義が不正な場合は差し替えず、現在のコード定義を継続して使用します。
+ *
+ * [検証内容(再読み込み時のみ)]
+ * ・コード定義が1件以上あること
+ * ・コード区分、コード区分内のコードが重複していないこと
+ * ・現在のコード定義のコード区分がすべて含まれていること
+ * 起動時の読み込みは検証を行わず、コード区分・コードが重複している場合は後の定義を優先します(警告ログを出力)。
+ *
+ * [メトリクス]
+ * ・accountbook.codetable.reload(タグ result=success/failure)：コード定義ファイルの再読み込み回数
+ *
  *</pre>
  *
  * @author ：Kouki Yonetani
@@ -35,60 +68,90 @@ import lombok.extern.log4j.Log4j2;
  */
 @Component
 @Log4j2
-public class CodeTableItemComponent {
-	// コードマップ
-	private final Map<String, Map<String, String>> codeMapTable;
-	
+public class CodeTableItemComponent implements DisposableBean {
+
+	// メトリクス名:コード定義ファイルの再読み込み回数
+	public static final String METRIC_NAME = "accountbook.codetable.reload";
+	// タグ名:再読み込み結果
+	public static final String TAG_RESULT = "result";
+	// 再読み込み結果:成功(スナップショットを差し替え)
+	public static final String RESULT_SUCCESS = "success";
+	// 再読み込み結果:失敗(現在のスナップショットを継続使用)
+	public static final String RESULT_FAILURE = "failure";
+	// ファイル変更の検知から再読み込みまでの待機時間(ミリ秒)。書き込み途中のファイルの読み込みを避けるため、連続した変更が落ち着くまで待機
+	private static final long RELOAD_DELAY_MILLIS = 200;
+
+	// コード定義テーブル参照リポジトリー
+	private final CodeTableRepository codeTableRepository;
+	// 現在のコード定義のスナップショット
+	private final AtomicReference<CodeTableSnapshot> snapshot;
+	// 再読み込み成功回数
+	private final Counter reloadSuccessCounter;
+	// 再読み込み失敗回数
+	private final Counter reloadFailureCounter;
+	// コード定義ファイルのパス
+	private final Path codeTableFile;
+	// コード定義ファイルの変更監視(監視しない場合はnull)
+	private final WatchService watchService;
+
 	/**
 	 *<pre>
 	 * CodeTableItemComponentクラスコンストラクターです。
 	 * インジェクション(DI)対象のインスタンス登録時、FWによって呼び出し、インスタンスが管理されます。
 	 * つまり、このインスタンスはシングルトンでなければならず、開発者がこのコンストラクタを呼び出す必要
 	 * はありません。
-	 * 
+	 *
+	 * コード定義ファイルを読み込み、ファイルの変更監視を開始します。
+	 * 起動時のコード定義ファイルは検証を行わず、コード区分・コードが重複している場合は後の定義を優先します。
+	 *
 	 *</pre>
-	 * @param codeTableRepository
+	 * @param codeTableRepository コード定義テーブル参照リポジトリー
+	 * @param meterRegistry メトリクスの登録先
+	 * @param codeTableFilePath コード定義ファイルのパス
+	 * @param watchEnabled コード定義ファイルの変更を監視する場合true
 	 *
 	 */
-	public CodeTableItemComponent(CodeTableRepository codeTableRepository) {
+	public CodeTableItemComponent(
+			CodeTableRepository codeTableRepository,
+			MeterRegistry meterRegistry,
+			@Value("${accountbook.property.codetable-file-path}") String codeTableFilePath,
+			@Value("${accountbook.property.codetable-watch-enabled:true}") boolean watchEnabled) {
 		log.debug("CodeTableItemComponent constractor start:");
-		
+		this.codeTableRepository = codeTableRepository;
+
 		// コード定義テーブル情報読み取り
 		CodeTableItemList result = codeTableRepository.findAll();
 		log.debug(result);
-		
-		// コードマップ作成
-		this.codeMapTable = new HashMap<String, Map<String, String>>();
-		result.getValues().forEach(codeTableItem -> {
-			Map<String, String> codeValuePairMap = new LinkedHashMap<>();
-			codeTableItem.getKeyValueList().forEach(keyValuePair -> codeValuePairMap.put(
-					keyValuePair.getCode().getValue(), keyValuePair.getCodeValue().getValue()));
-			codeMapTable.put(codeTableItem.getKubun().getValue(), codeValuePairMap);
-			
-		});
+		this.snapshot = new AtomicReference<>(CodeTableSnapshot.from(result, null));
+
+		this.reloadSuccessCounter = Counter.builder(METRIC_NAME)
+				.description("コード定義ファイルの再読み込み回数")
+				.tag(TAG_RESULT, RESULT_SUCCESS)
+				.register(meterRegistry);
+		this.reloadFailureCounter = Counter.builder(METRIC_NAME)
+				.description("コード定義ファイルの再読み込み回数")
+				.tag(TAG_RESULT, RESULT_FAILURE)
+				.register(meterRegistry);
+
+		// コード定義ファイルの変更監視を開始
+		this.codeTableFile = Path.of(codeTableFilePath).toAbsolutePath();
+		this.watchService = watchEnabled ? startWatch(codeTableFile) : null;
 		log.debug("CodeTableItemComponent constractor end:");
 	}
-	
+
 	/**
 	 *<pre>
 	 * 指定した区分に対応するコードテーブルのキーと値のペア情報を取得します。
+	 * 返却するリストは読み込み時に生成した不変リストです(変更不可)。
 	 *</pre>
 	 * @param kubun 取得対象のコード区分
 	 * @return 対応するコードテーブル情報、コード区分に対応する値がない場合はnull
 	 *
 	 */
 	public List<CodeAndValuePair> getCodeValues(String kubun) {
-		Map<String, String> resultMap = codeMapTable.get(kubun);
-		if(resultMap == null) {
-			return null;
-		} else {
-			List<CodeAndValuePair> keyValuePairList = new ArrayList<>();
-			resultMap.entrySet().forEach(entry -> 
-				keyValuePairList.add(CodeAndValuePair.from(entry.getKey(), entry.getValue())));
-			return keyValuePairList;
-		}
+		return snapshot.get().codeValuesMap.get(kubun);
 	}
-	
+
 	/**
 	 *<pre>
 	 * 指定した区分、キーに対応する値を取得します。
@@ -99,8 +162,198 @@ public class CodeTableItemComponent {
 	 *
 	 */
 	public String getCodeValue(String kubun, String key) {
-		Map<String, String> resultMap = codeMapTable.get(kubun);
+		Map<String, String> resultMap = snapshot.get().codeValueMap.get(kubun);
 		// コード区分に対応するマップがない(null)の場合はnullを返却、マップがある場合はそのマップからキーに対応する値を返却
 		return (resultMap == null) ? null : resultMap.get(key);
 	}
+
+	/**
+	 *<pre>
+	 * コード定義ファイルを再読み込みし、検証に成功した場合にスナップショットを差し替えます。
+	 * 読み込み・検証に失敗した場合は現在のスナップショットを継続して使用します。
+	 *</pre>
+	 * @return スナップショットを差し替えた場合true、再読み込みに失敗した場合false
+	 *
+	 */
+	public synchronized boolean reload() {
+		try {
+			CodeTableSnapshot newSnapshot = CodeTableSnapshot.from(codeTableRepository.findAll(), snapshot.get());
+			snapshot.set(newSnapshot);
+			reloadSuccessCounter.increment();
+			log.info("コード定義ファイルを再読み込みしました。[コード区分数=" + newSnapshot.codeValuesMap.size() + "]");
+			return true;
+		} catch(RuntimeException ex) {
+			reloadFailureCounter.increment();
+			log.error("コード定義ファイルの再読み込みに失敗しました。現在のコード定義を継続して使用します。[" + ex.getMessage() + "]");
+			return false;
+		}
+	}
+
+	/**
+	 *<pre>
+	 * コード定義ファイルの変更監視を終了します。
+	 *</pre>
+	 *
+	 */
+	@Override
+	public void destroy() {
+		if(watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException ex) {
+				log.warn("コード定義ファイルの変更監視の終了に失敗しました。[" + ex.getMessage() + "]");
+			}
+		}
+	}
+
+	/**
+	 *<pre>
+	 * コード定義ファイルの格納ディレクトリの変更監視を開始します。
+	 * 監視できない場合(ディレクトリが存在しないなど)は警告ログを出力し、再読み込みなしで動作します。
+	 *</pre>
+	 * @param file コード定義ファイルのパス
+	 * @return 変更監視のWatchService(監視できない場合はnull)
+	 *
+	 */
+	private WatchService startWatch(Path file) {
+		Path directory = file.getParent();
+		if(directory == null || !Files.isDirectory(directory)) {
+			log.warn("コード定義ファイルの格納ディレクトリが存在しないため、変更を監視しません。[" + file + "]");
+			return null;
+		}
+		try {
+			WatchService service = FileSystems.getDefault().newWatchService();
+			// エディタによる保存(一時ファイルからの置き換え)も検知するため、作成・変更の両方を監視
+			directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+			Thread watchThread = new Thread(() -> watch(service), "codetable-watcher");
+			watchThread.setDaemon(true);
+			watchThread.start();
+			log.info("コード定義ファイルの変更監視を開始しました。[" + file + "]");
+			return service;
+		} catch (IOException ex) {
+			log.warn("コード定義ファイルの変更監視を開始できません。[" + file + "][" + ex.getMessage() + "]");
+			return null;
+		}
+	}
+
+	/**
+	 *<pre>
+	 * コード定義ファイルの変更を待機し、変更時に再読み込みします(監視スレッドの処理)。
+	 * WatchServiceの終了(destroy)で処理を終了します。
+	 *</pre>
+	 * @param service 変更監視のWatchService
+	 *
+	 */
+	private void watch(WatchService service) {
+		try {
+			while(true) {
+				boolean changed = pollChanged(service.take());
+				if(changed) {
+					// 連続した変更が落ち着くまで待機し、待機中の変更イベントは読み捨て
+					Thread.sleep(RELOAD_DELAY_MILLIS);
+					for(WatchKey key = service.poll(); key != null; key = service.poll()) {
+						pollChanged(key);
+					}
+					reload();
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException ex) {
+			log.debug("コード定義ファイルの変更監視を終了しました。");
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 変更イベントを取り出し、コード定義ファイルの変更が含まれるかどうかを判定します。
+	 *</pre>
+	 * @param key 変更イベントのWatchKey
+	 * @return コード定義ファイルの変更(またはイベントの欠落)が含まれる場合true
+	 *
+	 */
+	private boolean pollChanged(WatchKey key) {
+		boolean changed = false;
+		for(WatchEvent<?> event : key.pollEvents()) {
+			if(event.kind() == StandardWatchEventKinds.OVERFLOW || codeTableFile.getFileName().equals(event.context())) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	/**
+	 *<pre>
+	 * 検証済みのコード定義のスナップショットです(不変)。
+	 *
+	 *</pre>
+	 */
+	private static final class CodeTableSnapshot {
+		// コード区分ごとのコードと値のペア情報のリスト
+		private final Map<String, List<CodeAndValuePair>> codeValuesMap;
+		// コード区分ごとのコードに対応する値のマップ
+		private final Map<String, Map<String, String>> codeValueMap;
+
+		/**
+		 * コード定義のスナップショットを生成します。
+		 */
+		private CodeTableSnapshot(Map<String, List<CodeAndValuePair>> codeValuesMap,
+				Map<String, Map<String, String>> codeValueMap) {
+			this.codeValuesMap = Collections.unmodifiableMap(codeValuesMap);
+			this.codeValueMap = Collections.unmodifiableMap(codeValueMap);
+		}
+
+		/**
+		 *<pre>
+		 * コード定義テーブル情報からコード定義のスナップショットを生成します。
+		 * 再読み込み時(現在のスナップショットあり)はコード定義を検証し、不正な場合はエラーとします。
+		 * 起動時(現在のスナップショットなし)は検証を行わず、コード区分・コードが重複している場合は
+		 * 後の定義を優先します(コードの並び順は最初に定義した位置)。
+		 *</pre>
+		 * @param codeTable コード定義テーブル情報
+		 * @param current 現在のスナップショット(起動時はnull)
+		 * @return コード定義のスナップショット
+		 * @throws MyHouseholdAccountBookRuntimeException 再読み込み時にコード定義が不正な場合
+		 *
+		 */
+		private static CodeTableSnapshot from(CodeTableItemList codeTable, CodeTableSnapshot current) {
+			boolean strict = current != null;
+			if(strict && codeTable.getValues().isEmpty()) {
+				throw new MyHouseholdAccountBookRuntimeException("コード定義ファイル設定値不正:コード定義が0件です。");
+			}
+			Map<String, List<CodeAndValuePair>> codeValuesMap = new LinkedHashMap<>();
+			Map<String, Map<String, String>> codeValueMap = new LinkedHashMap<>();
+			for(CodeTableItem codeTableItem : codeTable.getValues()) {
+				String kubun = codeTableItem.getKubun().getValue();
+				if(codeValuesMap.containsKey(kubun)) {
+					if(strict) {
+						throw new MyHouseholdAccountBookRuntimeException("コード定義ファイル設定値不正:コード区分が重複しています。[kubun=" + kubun + "]");
+					}
+					log.warn("コード定義ファイルのコード区分が重複しています。後の定義を使用します。[kubun=" + kubun + "]");
+				}
+				Map<String, String> codeValuePairMap = new LinkedHashMap<>();
+				codeTableItem.getKeyValueList().forEach(keyValuePair -> {
+					String code = keyValuePair.getCode().getValue();
+					if(codeValuePairMap.put(code, keyValuePair.getCodeValue().getValue()) != null) {
+						if(strict) {
+							throw new MyHouseholdAccountBookRuntimeException("コード定義ファイル設定値不正:コードが重複しています。[kubun=" + kubun + "][code=" + code + "]");
+						}
+						log.warn("コード定義ファイルのコードが重複しています。後の定義を使用します。[kubun=" + kubun + "][code=" + code + "]");
+					}
+				});
+				codeValuesMap.put(kubun, codeValuePairMap.entrySet().stream()
+						.map(entry -> CodeAndValuePair.from(entry.getKey(), entry.getValue())).toList());
+				codeValueMap.put(kubun, Collections.unmodifiableMap(codeValuePairMap));
+			}
+			if(strict) {
+				current.codeValuesMap.keySet().forEach(kubun -> {
+					if(!codeValuesMap.containsKey(kubun)) {
+						throw new MyHouseholdAccountBookRuntimeException("コード定義ファイル設定値不正:コード区分が削除されています。[kubun=" + kubun + "]");
+					}
+				});
+			}
+			return new CodeTableSnapshot(codeValuesMap, codeValueMap);
+		}
+	}
 }
@@ -6,21 +6,29 @@
  * 日付       : version  コメントなど
  * 2024/04/17 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  ユーザ単位の支出項目ツリー(キャッシュ)から支出項目情報を取得するよう対応
+ * 2026/10/17 : 1.02.00  参照専用トランザクション内でもキャッシュした支出項目ツリーを使用するように変更
+ * 2026/10/17 : 1.02.00  支出項目ツリーのキャッシュ件数に上限を設定、登録の抑止判定をユーザ単位の破棄世代で行うように変更
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.common;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoTree;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemSortOrderBetweenAB;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditureinfo.SisyutuItemTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
@@ -28,13 +36,21 @@ import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.Expen
 import com.yonetani.webapp.accountbook.domain.type.common.UserId;
 import com.yonetani.webapp.accountbook.presentation.response.itemmanage.AbstractExpenditureItemInfoManageResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
  *<pre>
  * 支出項目情報を取得するコンポーネントクラスです。
  *
+ * [支出項目ツリー]
+ * 支出項目コードに対応する支出項目情報・支出項目名(＞区切り)は、ユーザの支出項目情報全件から生成した
+ * 不変の支出項目ツリー({@link ExpenditureItemInfoTree})から取得します。
+ * 支出項目ツリーはユーザ単位でキャッシュし、支出項目情報の更新時は{@link #evict(UserId)}で破棄して
+ * 次回参照時に再生成します(参照中のツリーが部分的に更新されることはありません)。
+ * キャッシュ件数(ユーザ数)は「accountbook.property.expenditure-item-cache-max-size」で指定した件数までとし、
+ * 上限を超えた場合は最も長く参照されていないユーザの支出項目ツリーから破棄します。
+ * 取得開始以降に同一ユーザの破棄要求があった場合、取得した支出項目ツリー(更新前データの可能性あり)は登録しません。
+ *
  *</pre>
  *
  * @author ：Kouki Yonetani
@@ -43,11 +59,44 @@ import lombok.extern.log4j.Log4j2;
  */
 @Component
 @Log4j2
-@RequiredArgsConstructor
 public class ExpenditureItemInfoComponent {
 
 	// 支出項目テーブル:SISYUTU_ITEM_TABLE参照リポジトリー
 	private final SisyutuItemTableRepository sisyutuItemRepository;
+	// 最大キャッシュ件数(ユーザ数)
+	private final int maxSize;
+	// ユーザごとの支出項目ツリー(トランザクション外・参照専用トランザクション内で取得したもの)
+	// (アクセス順のLinkedHashMap：上限超過時は最も長く参照されていないデータを破棄)
+	private final Map<UserId, ExpenditureItemInfoTree> treeCache;
+	// 支出項目ツリーの破棄世代(破棄要求ごとにカウントアップ)
+	private final AtomicLong invalidationGeneration = new AtomicLong();
+	// ユーザごとの最終破棄世代(破棄要求のあったユーザのみ保持：ユーザ数分の件数のため上限なし)
+	private final Map<UserId, Long> userInvalidationGenerations = new HashMap<>();
+	// トランザクション単位の支出項目ツリーを保持するリソースのキー
+	private final Object transactionResourceKey = new Object();
+	
+	/**
+	 *<pre>
+	 * ExpenditureItemInfoComponentクラスコンストラクターです。
+	 * インジェクション(DI)対象のインスタンス登録時、FWによって呼び出し、インスタンスが管理されます。
+	 *
+	 *</pre>
+	 * @param sisyutuItemRepository 支出項目テーブル:SISYUTU_ITEM_TABLE参照リポジトリー
+	 * @param maxSize 最大キャッシュ件数(ユーザ数。0以下の場合はキャッシュしない)
+	 *
+	 */
+	public ExpenditureItemInfoComponent(SisyutuItemTableRepository sisyutuItemRepository,
+			@Value("${accountbook.property.expenditure-item-cache-max-size:100}") int maxSize) {
+		this.sisyutuItemRepository = sisyutuItemRepository;
+		this.maxSize = maxSize;
+		this.treeCache = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UserId, ExpenditureItemInfoTree> eldest) {
+				return size() > ExpenditureItemInfoComponent.this.maxSize;
+			}
+		};
+	}
 	
 	/**
 	 *<pre>
@@ -61,9 +110,8 @@ public class ExpenditureItemInfoComponent {
 	public ExpenditureItemInfo getExpenditureItemInfo(UserId userId, ExpenditureItemCode expenditureItemCode) {
 		log.debug("getExpenditureItemInfo:userid="+ userId + ",expenditureItemCode=" + expenditureItemCode);
 		
-		// 支出項目コードに対応する支出項目情報を取得
-		ExpenditureItemInfo expenditureItemInfo = sisyutuItemRepository.findByPrimaryKey(
-				SearchQueryUserIdAndExpenditureItemCode.from(userId, expenditureItemCode));
+		// 支出項目コードに対応する支出項目情報を支出項目ツリーから取得
+		ExpenditureItemInfo expenditureItemInfo = getExpenditureItemInfoTree(userId).get(expenditureItemCode);
 		if(expenditureItemInfo == null) {
 			// 選択した支出項目コードに対応する支出項目情報が存在しない場合エラーに遷移
 			throw new MyHouseholdAccountBookRuntimeException("対象の支出項目情報が存在しません。管理者に問い合わせてください。sisyutuItemCode:" + expenditureItemCode);
@@ -84,79 +132,92 @@ public class ExpenditureItemInfoComponent {
 	public boolean hasExpenditureItemInfo(UserId userId, ExpenditureItemCode expenditureItemCode) {
 		log.debug("hasExpenditureItemInfo:userid="+ userId + ",expenditureItemCode=" + expenditureItemCode);
 		
-		// 支出項目コードに対応する支出項目情報を取得
-		ExpenditureItemInfo expenditureItemInfo = sisyutuItemRepository.findByPrimaryKey(
-				SearchQueryUserIdAndExpenditureItemCode.from(userId, expenditureItemCode));
-		if(expenditureItemInfo == null) {
-			return false;
-			
-		} else {
-			return true;
-		}
+		return getExpenditureItemInfoTree(userId).contains(expenditureItemCode);
 	}
 	
 	/**
 	 *<pre>
 	 * 支出項目の名称を＞区切りで連結した値で返します。
+	 * 表示名は支出項目ツリーの生成時に算出済みの値を返します。
 	 *</pre>
 	 * @param userId ユーザID
 	 * @param sisyutuItemCode 取得対象の支出項目コード
-	 * @return 支出項目の名称を＞区切りで連結した値 名称取得に失敗した場合はnullを返却
+	 * @return 支出項目の名称を＞区切りで連結した値
 	 *
 	 */
 	public String getExpenditureItemName(UserId userId, ExpenditureItemCode expenditureItemCode) {
 		log.debug("getExpenditureItemName:userid="+ userId + ",expenditureItemCode=" + expenditureItemCode);
 		
-		// 指定した支出項目の存在チェック
-		ExpenditureItemInfo expenditureItemInfo = sisyutuItemRepository.findByPrimaryKey(
-				SearchQueryUserIdAndExpenditureItemCode.from(userId, expenditureItemCode));
-		if(expenditureItemInfo == null) {
-			throw new MyHouseholdAccountBookRuntimeException("支出項目情報が存在しません。管理者に問い合わせてください。expenditureItemCode:" + expenditureItemCode);
+		// 支出項目情報が存在しない場合、親子関係が不正な場合はエラー
+		return getExpenditureItemInfoTree(userId).getDisplayName(expenditureItemCode);
+	}
+	
+	/**
+	 *<pre>
+	 * 指定したユーザの支出項目ツリーを返します。
+	 * トランザクション外・参照専用トランザクション内の場合はユーザ単位でキャッシュした支出項目ツリーを返し、
+	 * キャッシュにない場合はDBから取得して登録します(最大キャッシュ件数が0以下の場合は登録しません)。
+	 * 更新トランザクション内の場合はコミット前のデータを含む可能性があるため、トランザクション単位で支出項目ツリーを保持します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @return ユーザの支出項目ツリー
+	 *
+	 */
+	public ExpenditureItemInfoTree getExpenditureItemInfoTree(UserId userId) {
+		if(TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return getTransactionScopedTree(userId);
 		}
-		
-		List<String> expenditureItemNameList = new ArrayList<String>();
-		// 自分自身の支出項目名を設定
-		expenditureItemNameList.add(expenditureItemInfo.getExpenditureItemName().getValue());
-		
-		// 親の支出項目コード
-		String parentExpenditureItemCode = expenditureItemInfo.getParentExpenditureItemCode().getValue();
-		// 親の支出項目レベル
-		int expenditureItemLevel = expenditureItemInfo.getExpenditureItemLevel().getValue();
-		
-		// 項目レベル1の支出項目を取得するまで支出項目情報を取得を繰り返す。
-		// また、DBデータ不正による無限ループになることを避けるため、データ格納件数が6件になった時点で
-		// 繰り返しを終了する
-		while(expenditureItemLevel > 1 && expenditureItemNameList.size() < 6) {
-			// 親支出項目コードに対応する支出項目情報を取得
-			ExpenditureItemInfo parentExpenditureItemInfo = sisyutuItemRepository.findByPrimaryKey(
-					SearchQueryUserIdAndExpenditureItemCode.from(userId, ExpenditureItemCode.from(parentExpenditureItemCode)));
-			if(parentExpenditureItemInfo == null) {
-				throw new MyHouseholdAccountBookRuntimeException("支出項目情報が属する親の支出項目情報が存在しません。管理者に問い合わせてください。expenditureItemCode:" 
-						+ expenditureItemCode + ", [sisyutuItemCodeの値からさかのぼって調査必要です]:[存在しない親コード=parentExpenditureItemCode:" + parentExpenditureItemCode + "]");
-			} else {
-				expenditureItemNameList.add(parentExpenditureItemInfo.getExpenditureItemName().getValue());
-			}
-			// 取得対象の親の支出項目コードを再設定
-			parentExpenditureItemCode = parentExpenditureItemInfo.getParentExpenditureItemCode().getValue();
-			// 親の支出項目レベルを設定
-			expenditureItemLevel = parentExpenditureItemInfo.getExpenditureItemLevel().getValue();
-			
+		if(maxSize <= 0) {
+			return loadTree(userId);
 		}
-		
-		// 項目名は逆順で取得されるため、順序を入れ替える
-		List<String> wkList = new ArrayList<String>();
-		for(int i = expenditureItemNameList.size() - 1; i >= 0; i--) {
-			wkList.add(expenditureItemNameList.get(i));
+		ExpenditureItemInfoTree tree;
+		// DBから取得する前の破棄世代
+		long generation;
+		synchronized(treeCache) {
+			tree = treeCache.get(userId);
+			generation = invalidationGeneration.get();
 		}
-		
-		// 予期しないエラー(いるかどうかは不明だけど、DBに不正データが格納される)
-		if(expenditureItemNameList.size() > 5) {
-			throw new MyHouseholdAccountBookRuntimeException("予期しないエラー(DBデータ不正による繰り返し不正。管理者に問い合わせてください。expenditureItemCode:" 
-					+ expenditureItemCode + ", parentExpenditureItemCode:" + parentExpenditureItemCode);
+		if(tree == null) {
+			tree = loadTree(userId);
+			synchronized(treeCache) {
+				// 取得中に同一ユーザの破棄要求があった場合(更新前データの可能性がある場合)は登録しない
+				if(userInvalidationGenerations.getOrDefault(userId, 0L) <= generation) {
+					treeCache.put(userId, tree);
+				}
+			}
+		}
+		return tree;
+	}
+	
+	/**
+	 *<pre>
+	 * 指定したユーザの支出項目ツリーを破棄します。次回参照時に最新の支出項目情報から再生成します。
+	 * 支出項目情報を追加・更新したユースケースから呼び出してください。
+	 * トランザクション内で呼び出された場合、コミット完了後にも再度破棄し、コミット前に他リクエストで
+	 * キャッシュされた更新前データが残らないようにします。
+	 *</pre>
+	 * @param userId ユーザID
+	 *
+	 */
+	public void evict(UserId userId) {
+		log.debug("evict:userid=" + userId);
+		removeTree(userId);
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			// トランザクション単位で保持している支出項目ツリーを破棄
+			@SuppressWarnings("unchecked")
+			Map<UserId, ExpenditureItemInfoTree> transactionTrees =
+					(Map<UserId, ExpenditureItemInfoTree>) TransactionSynchronizationManager.getResource(transactionResourceKey);
+			if(transactionTrees != null) {
+				transactionTrees.remove(userId);
+			}
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					removeTree(userId);
+				}
+			});
 		}
-		
-		// 親の支出項目名を＞区切りで設定
-		return String.join("＞", wkList);
 	}
 	
 	/**
@@ -232,4 +293,60 @@ public class ExpenditureItemInfoComponent {
 			).collect(Collectors.toUnmodifiableList()));
 		}
 	}
+	
+	/**
+	 *<pre>
+	 * トランザクション単位で保持している支出項目ツリーを返します。未取得の場合はDBから取得して保持します。
+	 * トランザクション完了時に保持している支出項目ツリーは破棄します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @return ユーザの支出項目ツリー
+	 *
+	 */
+	private ExpenditureItemInfoTree getTransactionScopedTree(UserId userId) {
+		if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return loadTree(userId);
+		}
+		@SuppressWarnings("unchecked")
+		Map<UserId, ExpenditureItemInfoTree> transactionTrees =
+				(Map<UserId, ExpenditureItemInfoTree>) TransactionSynchronizationManager.getResource(transactionResourceKey);
+		if(transactionTrees == null) {
+			transactionTrees = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(transactionResourceKey, transactionTrees);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(transactionResourceKey);
+				}
+			});
+		}
+		return transactionTrees.computeIfAbsent(userId, this::loadTree);
+	}
+	
+	/**
+	 *<pre>
+	 * 指定したユーザの支出項目情報全件をDBから取得し、支出項目ツリーを生成します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @return ユーザの支出項目ツリー
+	 *
+	 */
+	private ExpenditureItemInfoTree loadTree(UserId userId) {
+		log.debug("loadTree:userid=" + userId);
+		return ExpenditureItemInfoTree.from(sisyutuItemRepository.findByUserId(SearchQueryUserId.from(userId)));
+	}
+	
+	/**
+	 *<pre>
+	 * 指定したユーザの支出項目ツリーをキャッシュから削除します。
+	 *</pre>
+	 * @param userId ユーザID
+	 *
+	 */
+	private void removeTree(UserId userId) {
+		synchronized(treeCache) {
+			userInvalidationGenerations.put(userId, invalidationGeneration.incrementAndGet());
+			treeCache.remove(userId);
+		}
+	}
 }
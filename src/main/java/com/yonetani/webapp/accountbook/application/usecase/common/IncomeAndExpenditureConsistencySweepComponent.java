@@ -0,0 +1,145 @@
+/**
+ * 収支データの整合性検証をバックグラウンドで実行(スイープ)するコンポーネントです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.exception.DomainException;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.service.account.inquiry.IncomeAndExpenditureConsistencyService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 収支データの整合性検証をバックグラウンドで実行(スイープ)するコンポーネントです。
+ *
+ * [整合性検証モード]
+ * 「accountbook.property.consistency-validation-mode」で整合性検証の実行タイミングを指定します。
+ * ・inline    ：各月の収支画面の照会時に整合性を検証します(デフォルト)。
+ *                前回検証以降に収支データが変更されていない場合、検証は省略されます。
+ * ・background：照会時の整合性検証は行わず、定期実行(スイープ)で整合性未検証の収支データをまとめて検証します。
+ *                スイープ間隔は「accountbook.property.consistency-sweep-interval-millis」、
+ *                1回のスイープで検証する最大件数は「accountbook.property.consistency-sweep-batch-size」で指定します。
+ *                不整合を検出した場合はエラーログを出力し、次回以降のスイープでも再検証します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+public class IncomeAndExpenditureConsistencySweepComponent {
+
+	// 整合性検証モード:照会時に検証
+	public static final String MODE_INLINE = "inline";
+	// 整合性検証モード:バックグラウンドで検証
+	public static final String MODE_BACKGROUND = "background";
+
+	// 収支テーブルリポジトリ
+	private final IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
+	// 収支整合性検証ドメインサービス
+	private final IncomeAndExpenditureConsistencyService consistencyService;
+	// バックグラウンド検証モードかどうか
+	private final boolean backgroundMode;
+	// 1回のスイープで検証する最大件数
+	private final int batchSize;
+
+	/**
+	 *<pre>
+	 * IncomeAndExpenditureConsistencySweepComponentクラスコンストラクターです。
+	 * インジェクション(DI)対象のインスタンス登録時、FWによって呼び出し、インスタンスが管理されます。
+	 *
+	 *</pre>
+	 * @param incomeAndExpenditureRepository 収支テーブルリポジトリ
+	 * @param consistencyService 収支整合性検証ドメインサービス
+	 * @param mode 整合性検証モード(inline または background)
+	 * @param batchSize 1回のスイープで検証する最大件数
+	 *
+	 */
+	public IncomeAndExpenditureConsistencySweepComponent(
+			IncomeAndExpenditureTableRepository incomeAndExpenditureRepository,
+			IncomeAndExpenditureConsistencyService consistencyService,
+			@Value("${accountbook.property.consistency-validation-mode:inline}") String mode,
+			@Value("${accountbook.property.consistency-sweep-batch-size:100}") int batchSize) {
+		if(!MODE_INLINE.equals(mode) && !MODE_BACKGROUND.equals(mode)) {
+			throw new MyHouseholdAccountBookRuntimeException("整合性検証モードの設定値が不正です。管理者に問い合わせてください。[mode=" + mode + "]");
+		}
+		this.incomeAndExpenditureRepository = incomeAndExpenditureRepository;
+		this.consistencyService = consistencyService;
+		this.backgroundMode = MODE_BACKGROUND.equals(mode);
+		this.batchSize = batchSize;
+		log.info("整合性検証モード:" + mode);
+	}
+
+	/**
+	 *<pre>
+	 * 整合性検証をバックグラウンドで行うモードかどうかを判定します。
+	 * trueの場合、照会時の整合性検証(収入テーブル・支出テーブルの合計値との比較)は行いません。
+	 *</pre>
+	 * @return バックグラウンド検証モードの場合true
+	 *
+	 */
+	public boolean isBackgroundMode() {
+		return backgroundMode;
+	}
+
+	/**
+	 *<pre>
+	 * 定期実行のエントリーポイントです。バックグラウンド検証モードの場合のみスイープを実行します。
+	 *</pre>
+	 *
+	 */
+	@Scheduled(initialDelayString = "${accountbook.property.consistency-sweep-interval-millis:600000}",
+			fixedDelayString = "${accountbook.property.consistency-sweep-interval-millis:600000}")
+	public void scheduledSweep() {
+		if(backgroundMode) {
+			sweep();
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 整合性未検証の収支データを最大件数まで取得し、整合性を検証します。
+	 * 検証に成功した収支データには整合性検証済みバージョンが登録されます。
+	 * 不整合を検出した収支データはエラーログを出力し、処理を継続します。
+	 *</pre>
+	 * @return 整合性検証に成功した件数
+	 *
+	 */
+	public int sweep() {
+		List<IncomeAndExpenditureDataVersion> targetList = incomeAndExpenditureRepository.findUnvalidatedDataVersions(batchSize);
+		log.debug("sweep:target count=" + targetList.size());
+		int successCount = 0;
+		for(IncomeAndExpenditureDataVersion target : targetList) {
+			SearchQueryUserIdAndYearMonth searchCondition = SearchQueryUserIdAndYearMonth.from(
+					target.getUserId(), target.getTargetYearMonth());
+			try {
+				IncomeAndExpenditure aggregate = incomeAndExpenditureRepository.findByPrimaryKey(searchCondition);
+				consistencyService.validateAllIfChanged(aggregate, searchCondition);
+				successCount++;
+			} catch(DomainException ex) {
+				log.error("収支データの整合性エラーを検出しました。[userId=" + target.getUserId()
+					+ "][yearMonth=" + target.getTargetYearMonth() + "]" + ex.getMessage());
+			}
+		}
+		return successCount;
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * 照会処理(参照専用トランザクション)で整合性を検証した収支データの整合性検証済みバージョンを登録するコンポーネントです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
+import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 照会処理(参照専用トランザクション)で整合性を検証した収支データの整合性検証済みバージョンを登録するコンポーネントです。
+ *
+ * [登録の方針]
+ * ・参照専用トランザクション(レプリカに振り分けられる照会処理)では更新できないため、
+ *   照会処理のトランザクションのコミット後に新規トランザクション(プライマリ)で登録します。
+ * ・トランザクション外で呼び出された場合は、呼び出し時に新規トランザクションで登録します。
+ * ・更新トランザクション内で呼び出された場合は、現在のトランザクションで登録します。
+ * ・整合性検証済みバージョンの登録は検証省略のための付加情報のため、登録に失敗した場合は警告ログを出力し、
+ *   照会処理はエラーとしません。登録できなかった収支データは整合性未検証のまま残り、
+ *   次回の照会時、または、定期実行のスイープで再検証します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class IncomeAndExpenditureValidatedVersionComponent {
+
+	// 収支テーブルリポジトリ
+	private final IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
+	// トランザクションマネージャー(整合性検証済みバージョン登録の新規トランザクション用)
+	private final PlatformTransactionManager transactionManager;
+
+	/**
+	 *<pre>
+	 * 指定したデータバージョンを整合性検証済みバージョンとして登録します。
+	 * 参照専用トランザクション内の場合は現在のトランザクションのコミット後に登録し、
+	 * 現在のトランザクションがロールバックされた場合は登録しません。
+	 *</pre>
+	 * @param dataVersion 整合性の検証に成功した収支データのデータバージョン
+	 *
+	 */
+	public void regist(IncomeAndExpenditureDataVersion dataVersion) {
+		if(!TransactionSynchronizationManager.isActualTransactionActive()) {
+			execRegist(dataVersion, true);
+		} else if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			execRegist(dataVersion, false);
+		} else {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					execRegist(dataVersion, true);
+				}
+			});
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 整合性検証済みバージョンを登録します。
+	 * 登録に失敗した場合は警告ログを出力し、例外は呼び出し元に返しません。
+	 *</pre>
+	 * @param dataVersion 整合性の検証に成功した収支データのデータバージョン
+	 * @param newTransaction 新規トランザクションで登録する場合true、現在のトランザクションで登録する場合false
+	 *
+	 */
+	private void execRegist(IncomeAndExpenditureDataVersion dataVersion, boolean newTransaction) {
+		try {
+			// 収支テーブル:INCOME_AND_EXPENDITURE_TABLEの整合性検証済みバージョンを更新
+			// 検証中に収支データが更新された場合(データバージョン不一致)は0件
+			int count;
+			if(newTransaction) {
+				TransactionTemplate template = new TransactionTemplate(transactionManager);
+				template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+				count = template.execute(status -> incomeAndExpenditureRepository.updateValidatedVersion(dataVersion));
+			} else {
+				count = incomeAndExpenditureRepository.updateValidatedVersion(dataVersion);
+			}
+			log.debug("regist validated version:userId=" + dataVersion.getUserId()
+				+ ",yearMonth=" + dataVersion.getTargetYearMonth() + ",count=" + count);
+		} catch(RuntimeException ex) {
+			log.warn("整合性検証済みバージョンの登録に失敗しました。次回の照会時、または、スイープで再検証します。[userId="
+				+ dataVersion.getUserId() + "][yearMonth=" + dataVersion.getTargetYearMonth() + "]" + ex.getMessage());
+		}
+	}
+}
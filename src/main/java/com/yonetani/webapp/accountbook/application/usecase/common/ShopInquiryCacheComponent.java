@@ -0,0 +1,300 @@
+/**
+ * ユーザごとの店舗情報(店舗テーブル:SHOP_TABLE)をキャッシュするコンポーネントです。
+ * 店舗情報を更新するユースケースから対象ユーザのキャッシュを破棄(コミット後にも再破棄)します。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  参照専用トランザクション内でもキャッシュを使用するように変更
+ * 2026/10/17 : 1.02.00  登録の抑止判定をユーザ単位の破棄世代で行うように変更
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yonetani.webapp.accountbook.domain.model.account.shop.Shop;
+import com.yonetani.webapp.accountbook.domain.model.account.shop.ShopInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopKubunCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopKubunCodeList;
+import com.yonetani.webapp.accountbook.domain.repository.account.shop.ShopTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.account.shop.ShopCode;
+import com.yonetani.webapp.accountbook.domain.type.account.shop.ShopKubunCode;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * ユーザごとの店舗情報(店舗テーブル:SHOP_TABLE)をキャッシュするコンポーネントです。
+ * 店舗情報の参照は各検索条件(店舗コード、店舗区分コード、店舗区分コードのリスト)ごとにDBを参照せず、
+ * ユーザの全店舗情報(店舗表示順)を1回取得し、店舗コード・店舗区分コードの索引から返します。
+ *
+ * [キャッシュの方針]
+ * ・キャッシュ件数(ユーザ数)は「accountbook.property.shop-cache-max-size」で指定した件数までとし、
+ *   上限を超えた場合は最も長く参照されていないユーザのデータから破棄します。
+ * ・更新トランザクション内での参照はコミット前のデータを含む可能性があるため、キャッシュを使用せずに
+ *   検索条件に対応するDB参照を行います。参照専用トランザクション内の参照はキャッシュを使用します。
+ * ・店舗情報を更新したユースケースは{@link #evict(UserId)}で対象ユーザのキャッシュを破棄します。
+ *   トランザクション内で呼び出された場合、コミット完了後にも再度破棄し、コミット前に他リクエストで
+ *   キャッシュされた更新前データが残らないようにします。
+ * ・データ取得開始以降に同一ユーザの破棄要求があった場合、取得したデータ(更新前データの可能性あり)は登録しません。
+ *   他ユーザの破棄要求では登録を抑止しないよう、破棄世代はユーザ単位で管理します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+public class ShopInquiryCacheComponent {
+
+	// 店舗区分コードのリストで検索する場合の対象外の店舗表示順(900番以降)
+	private static final String SHOP_SORT_EXCLUDE_FROM = "900";
+
+	/**
+	 *<pre>
+	 * ユーザの店舗情報(キャッシュ対象)です。
+	 * 店舗表示順の店舗情報と、店舗コード・店舗区分コードの索引を不変データとして保持します。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	private static class UserShopData {
+		// 店舗情報(店舗表示順)
+		private final ShopInquiryList shopList;
+		// 店舗コードの索引
+		private final Map<ShopCode, Shop> shopCodeMap;
+		// 店舗区分コードの索引(店舗区分ごとの店舗情報(店舗表示順))
+		private final Map<ShopKubunCode, ShopInquiryList> shopKubunMap;
+
+		/**
+		 *<pre>
+		 * 店舗表示順の店舗情報から索引を生成し、ユーザの店舗情報を生成して返します。
+		 *</pre>
+		 * @param shopList 店舗情報(店舗表示順)
+		 * @return ユーザの店舗情報
+		 *
+		 */
+		static UserShopData from(ShopInquiryList shopList) {
+			List<Shop> values = List.copyOf(shopList.getValues());
+			return new UserShopData(
+					ShopInquiryList.from(values),
+					values.stream().collect(Collectors.toUnmodifiableMap(Shop::getShopCode, Function.identity())),
+					values.stream().collect(Collectors.collectingAndThen(
+							Collectors.groupingBy(Shop::getShopKubunCode,
+									Collectors.collectingAndThen(Collectors.toUnmodifiableList(), ShopInquiryList::from)),
+							Map::copyOf)));
+		}
+
+		/**
+		 *<pre>
+		 * 指定した店舗区分コードのリストに該当する店舗情報(店舗表示順が900番未満)を店舗表示順で返します。
+		 * 店舗区分コードのリストが空の場合は、全ての店舗区分が対象となります。
+		 *</pre>
+		 * @param shopKubunCodeList 店舗区分コードのリスト
+		 * @return 店舗情報(店舗表示順)
+		 *
+		 */
+		ShopInquiryList getShopList(List<ShopKubunCode> shopKubunCodeList) {
+			return ShopInquiryList.from(shopList.getValues().stream()
+					.filter(shop -> shopKubunCodeList.isEmpty() || shopKubunCodeList.contains(shop.getShopKubunCode()))
+					.filter(shop -> shop.getShopSort().getValue().compareTo(SHOP_SORT_EXCLUDE_FROM) < 0)
+					.collect(Collectors.toUnmodifiableList()));
+		}
+	}
+
+	// 店舗情報取得リポジトリー
+	private final ShopTableRepository shopRepository;
+	// 最大キャッシュ件数(ユーザ数)
+	private final int maxSize;
+	// キャッシュ(アクセス順のLinkedHashMap：上限超過時は最も長く参照されていないデータを破棄)
+	private final Map<UserId, UserShopData> cache;
+	// 破棄世代(破棄要求ごとにカウントアップ)
+	private final AtomicLong invalidationGeneration = new AtomicLong();
+	// ユーザごとの最終破棄世代(破棄要求のあったユーザのみ保持：ユーザ数分の件数のため上限なし)
+	private final Map<UserId, Long> userInvalidationGenerations = new HashMap<>();
+
+	/**
+	 *<pre>
+	 * ShopInquiryCacheComponentクラスコンストラクターです。
+	 * インジェクション(DI)対象のインスタンス登録時、FWによって呼び出し、インスタンスが管理されます。
+	 *
+	 *</pre>
+	 * @param shopRepository 店舗情報取得リポジトリー
+	 * @param maxSize 最大キャッシュ件数(ユーザ数。0以下の場合はキャッシュしない)
+	 *
+	 */
+	public ShopInquiryCacheComponent(ShopTableRepository shopRepository,
+			@Value("${accountbook.property.shop-cache-max-size:100}") int maxSize) {
+		this.shopRepository = shopRepository;
+		this.maxSize = maxSize;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UserId, UserShopData> eldest) {
+				return size() > ShopInquiryCacheComponent.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの全ての店舗情報を店舗表示順で取得します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @return 店舗情報のリスト
+	 *
+	 */
+	public ShopInquiryList getShopList(UserId userId) {
+		if(!isCacheable()) {
+			return shopRepository.findById(SearchQueryUserId.from(userId));
+		}
+		return getUserShopData(userId).shopList;
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの指定した店舗区分コードに対応する店舗情報を店舗表示順で取得します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param shopKubunCode 店舗区分コード
+	 * @return 店舗情報のリスト
+	 *
+	 */
+	public ShopInquiryList getShopList(UserId userId, ShopKubunCode shopKubunCode) {
+		if(!isCacheable()) {
+			return shopRepository.findById(SearchQueryUserIdAndShopKubunCode.from(userId, shopKubunCode));
+		}
+		return getUserShopData(userId).shopKubunMap.getOrDefault(shopKubunCode, ShopInquiryList.from(null));
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの指定した店舗区分コード(リスト値)に対応する店舗情報(店舗表示順が900番未満)を店舗表示順で取得します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param shopKubunCodeList 店舗区分コードのリスト(空の場合は全ての店舗区分が対象)
+	 * @return 店舗情報のリスト
+	 *
+	 */
+	public ShopInquiryList getShopList(UserId userId, List<ShopKubunCode> shopKubunCodeList) {
+		if(!isCacheable()) {
+			return shopRepository.findById(SearchQueryUserIdAndShopKubunCodeList.from(userId, shopKubunCodeList));
+		}
+		return getUserShopData(userId).getShopList(shopKubunCodeList);
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの指定した店舗コードに対応する店舗情報を取得します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param shopCode 店舗コード
+	 * @return 店舗情報。該当する店舗情報がない場合はnull
+	 *
+	 */
+	public Shop getShop(UserId userId, ShopCode shopCode) {
+		if(!isCacheable()) {
+			return shopRepository.findById(SearchQueryUserIdAndShopCode.from(userId, shopCode));
+		}
+		return getUserShopData(userId).shopCodeMap.get(shopCode);
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの店舗情報をキャッシュから破棄します。
+	 * トランザクション内で呼び出された場合、コミット完了後にも再度破棄します。
+	 *</pre>
+	 * @param userId 店舗情報を更新したユーザID
+	 *
+	 */
+	public void evict(UserId userId) {
+		log.debug("evict:userId=" + userId);
+		removeEntry(userId);
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					removeEntry(userId);
+				}
+			});
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザの店舗情報をキャッシュから取得します。
+	 * キャッシュにない場合は店舗テーブルから取得し、取得開始以降に同一ユーザの破棄要求がない場合のみキャッシュに登録します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @return ユーザの店舗情報
+	 *
+	 */
+	private UserShopData getUserShopData(UserId userId) {
+		UserShopData data;
+		long generation;
+		synchronized(cache) {
+			data = cache.get(userId);
+			generation = invalidationGeneration.get();
+		}
+		if(data != null) {
+			return data;
+		}
+		data = UserShopData.from(shopRepository.findById(SearchQueryUserId.from(userId)));
+		synchronized(cache) {
+			if(userInvalidationGenerations.getOrDefault(userId, 0L) <= generation) {
+				cache.put(userId, data);
+			}
+		}
+		return data;
+	}
+
+	/**
+	 *<pre>
+	 * キャッシュを参照・登録可能かどうかを判定します。
+	 *</pre>
+	 * @return 最大キャッシュ件数が1以上、かつ、トランザクション外または参照専用トランザクション内の場合true
+	 *
+	 */
+	private boolean isCacheable() {
+		return maxSize > 0 && (!TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+	}
+
+	/**
+	 *<pre>
+	 * 指定したユーザのデータをキャッシュから削除します。
+	 *</pre>
+	 * @param userId ユーザID
+	 *
+	 */
+	private void removeEntry(UserId userId) {
+		synchronized(cache) {
+			userInvalidationGenerations.put(userId, invalidationGeneration.incrementAndGet());
+			cache.remove(userId);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/**
+ * ユースケースのメソッド(read*・exec*)の処理時間をMicrometerのタイマーに記録するアスペクトです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yonetani.webapp.accountbook.presentation.response.fw.AbstractResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ *<pre>
+ * ユースケースのメソッド(read*・exec*)の処理時間をMicrometerのタイマーに記録するアスペクトです。
+ * application.usecaseパッケージ配下の@Serviceクラスのpublicなread*・exec*メソッドが対象です。
+ *
+ * [メトリクス]
+ * ・メトリクス名「accountbook.usecase」、以下のタグを設定します。
+ * 　usecase  ：ユースケースのクラス名
+ * 　method   ：メソッド名
+ * 　outcome  ：処理結果(success:正常終了、business_error:エラーメッセージ付きのレスポンスを返却、
+ * 　　　　　　 runtime_error:例外が発生しMyHouseholdAccountBookControllerAdviceでエラー画面に遷移)
+ * 　exception：発生した例外のクラス名(例外が発生していない場合はnone)
+ * ・パーセンタイル(50%・95%・99%)は直近accountbook.property.usecase-metrics-percentile-expiry-minutes分間の値です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+
+	// メトリクス名
+	public static final String METRIC_NAME = "accountbook.usecase";
+	// ユースケースのクラス名のタグ名
+	public static final String TAG_USE_CASE = "usecase";
+	// メソッド名のタグ名
+	public static final String TAG_METHOD = "method";
+	// 処理結果のタグ名
+	public static final String TAG_OUTCOME = "outcome";
+	// 発生した例外のクラス名のタグ名
+	public static final String TAG_EXCEPTION = "exception";
+	// 処理結果:正常終了
+	public static final String OUTCOME_SUCCESS = "success";
+	// 処理結果:業務エラー(エラーメッセージ付きのレスポンスを返却)
+	public static final String OUTCOME_BUSINESS_ERROR = "business_error";
+	// 処理結果:実行時エラー(例外が発生)
+	public static final String OUTCOME_RUNTIME_ERROR = "runtime_error";
+	// 例外が発生していない場合の例外のクラス名のタグの値
+	private static final String EXCEPTION_NONE = "none";
+	// 公開するパーセンタイル
+	private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+	// メトリクスの登録先
+	private final MeterRegistry meterRegistry;
+	// パーセンタイルの集計期間
+	private final Duration percentileExpiry;
+
+	/**
+	 *<pre>
+	 * コンストラクタです。
+	 *</pre>
+	 * @param meterRegistry メトリクスの登録先
+	 * @param percentileExpiryMinutes パーセンタイルの集計期間(分)
+	 *
+	 */
+	public UseCaseMetricsAspect(
+			MeterRegistry meterRegistry,
+			@Value("${accountbook.property.usecase-metrics-percentile-expiry-minutes:5}") long percentileExpiryMinutes) {
+		this.meterRegistry = meterRegistry;
+		this.percentileExpiry = Duration.ofMinutes(percentileExpiryMinutes);
+	}
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドを実行し、処理時間を処理結果ごとのタイマーに記録します。
+	 *</pre>
+	 * @param joinPoint ユースケースのメソッドの呼び出し情報
+	 * @return ユースケースのメソッドの戻り値
+	 * @throws Throwable ユースケースのメソッドで発生した例外
+	 *
+	 */
+	@Around("within(com.yonetani.webapp.accountbook.application.usecase..*)"
+			+ " && @within(org.springframework.stereotype.Service)"
+			+ " && (execution(public * read*(..)) || execution(public * exec*(..)))")
+	public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = System.nanoTime();
+		Object result = null;
+		Throwable error = null;
+		try {
+			result = joinPoint.proceed();
+			return result;
+		} catch(Throwable ex) {
+			error = ex;
+			throw ex;
+		} finally {
+			Timer.builder(METRIC_NAME)
+				.description("ユースケースのメソッドの処理時間")
+				.tag(TAG_USE_CASE, joinPoint.getSignature().getDeclaringType().getSimpleName())
+				.tag(TAG_METHOD, joinPoint.getSignature().getName())
+				.tag(TAG_OUTCOME, resolveOutcome(result, error))
+				.tag(TAG_EXCEPTION, (error == null) ? EXCEPTION_NONE : error.getClass().getSimpleName())
+				.publishPercentiles(PERCENTILES)
+				.distributionStatisticExpiry(percentileExpiry)
+				.register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 *<pre>
+	 * パーセンタイルの集計期間を返します。
+	 *</pre>
+	 * @return パーセンタイルの集計期間
+	 *
+	 */
+	public Duration getPercentileExpiry() {
+		return percentileExpiry;
+	}
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドの戻り値・発生した例外から処理結果を判定します。
+	 *</pre>
+	 * @param result ユースケースのメソッドの戻り値
+	 * @param error 発生した例外(発生していない場合はnull)
+	 * @return 処理結果(success・business_error・runtime_error)
+	 *
+	 */
+	static String resolveOutcome(Object result, Throwable error) {
+		if(error != null) {
+			return OUTCOME_RUNTIME_ERROR;
+		}
+		if(result instanceof AbstractResponse response && response.isErrorResponse()) {
+			return OUTCOME_BUSINESS_ERROR;
+		}
+		return OUTCOME_SUCCESS;
+	}
+}
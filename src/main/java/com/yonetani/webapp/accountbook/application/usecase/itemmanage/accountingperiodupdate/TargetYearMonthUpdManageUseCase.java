@@ -9,6 +9,7 @@
  * 日付       : version     コメントなど
  * 2025/01/13 : 1.00.00(A)  新規作成
  * 2026/05/09 : 1.01.00     リファクタリング追加対応(対象年月ドメインの集約)
+ * 2026/10/17 : 1.02.00  現在の対象年月をログインユーザ情報(セッション)から取得、更新時に家計簿利用ユーザ情報のバージョンを更新
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.accountingperiodupdate;
@@ -16,6 +17,7 @@ package com.yonetani.webapp.accountbook.application.usecase.itemmanage.accountin
 import org.springframework.stereotype.Service;
 
 import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserVersionComponent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
 import com.yonetani.webapp.accountbook.domain.model.common.AccountBookUser;
@@ -54,6 +56,8 @@ public class TargetYearMonthUpdManageUseCase {
 	private final AccountBookUserRepository userInfoSearchRepository;
 	// 収支テーブル:INCOME_AND_EXPENDITURE_TABLEリポジトリー
 	private final IncomeAndExpenditureTableRepository syuusiRepository;
+	// 家計簿利用ユーザ情報のバージョン
+	private final AccountBookUserVersionComponent userVersion;
 	
 	/**
 	 *<pre>
@@ -74,7 +78,7 @@ public class TargetYearMonthUpdManageUseCase {
 		UserId userId = UserId.from(user.getUserId());
 		
 		// ユーザIDに対応する現在の対象年月の値を取得
-		TargetYearMonth targetYearMonth = userInquiry.getTargetYearMonth(userId);
+		TargetYearMonth targetYearMonth = userInquiry.getTargetYearMonth(user);
 		// 検索条件(ユーザID、年月(YYYYMM))をドメインオブジェクトに変換
 		SearchQueryUserIdAndYearMonth inquiryModel = SearchQueryUserIdAndYearMonth.from(userId, targetYearMonth);
 		// ユーザID,現在の対象年月を条件に該当月の収支金額を取得
@@ -121,7 +125,7 @@ public class TargetYearMonthUpdManageUseCase {
 		// ユーザーIDのドメインタイプを生成
 		UserId userId = UserId.from(user.getUserId());
 		
-		// ユーザIDに対応する現在の対象年月の値を取得
+		// ユーザIDに対応する現在の対象年月の値を取得(更新処理のため、家計簿利用ユーザテーブルから取得)
 		TargetYearMonth targetYearMonth = userInquiry.getTargetYearMonth(userId);
 		// 検索条件(ユーザID、年月(YYYYMM))をドメインオブジェクトに変換
 		SearchQueryUserIdAndYearMonth inquiryModel = SearchQueryUserIdAndYearMonth.from(userId, targetYearMonth);
@@ -163,6 +167,8 @@ public class TargetYearMonthUpdManageUseCase {
 		if(updateCount != 1) {
 			throw new MyHouseholdAccountBookRuntimeException("家計簿利用ユーザ:ACCOUNT_BOOK_USERテーブルへの更新件数が不正でした。[件数=" + updateCount + "][update data:" + updUserInfo + "]");
 		}
+		// 家計簿利用ユーザ情報のバージョンを更新(各セッションのログインユーザ情報に保持した対象年月を再取得させる)
+		userVersion.incrementVersion(userId);
 		
 		// 完了メッセージ
 		response.addMessage("対象年月を更新しました。[" + updUserInfo.getNowTargetYear().getValue() + "年" + updUserInfo.getNowTargetMonth().getValue()+ "月]");
@@ -9,6 +9,7 @@
  * 日付       : version  コメントなど
  * 2024/08/16 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  イベントコードをコード採番テーブルから採番するよう対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.event;
@@ -20,12 +21,14 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.yonetani.webapp.accountbook.application.usecase.common.CodeSequenceComponent;
 import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.event.EventItem;
 import com.yonetani.webapp.accountbook.domain.model.account.event.EventItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndEventCode;
 import com.yonetani.webapp.accountbook.domain.repository.account.event.EventItemTableRepository;
@@ -64,6 +67,8 @@ public class EventInfoManageUseCase {
 	private final ExpenditureItemInfoComponent expenditureItemInfoComponent;
 	// イベント情報取得リポジトリー
 	private final EventItemTableRepository eventRepository;
+	// コード採番コンポーネント
+	private final CodeSequenceComponent codeSequenceComponent;
 	/**
 	 *<pre>
 	 * 指定したユーザIDに応じた情報管理(イベント)画面の表示情報を取得します。
@@ -196,9 +201,9 @@ public class EventInfoManageUseCase {
 		
 		// 新規登録の場合
 		if(Objects.equals(inputForm.getAction(), MyHouseholdAccountBookContent.ACTION_TYPE_ADD)) {
-			// 新規採番するイベントコードの値を取得
-			int count = eventRepository.countByUserId(SearchQueryUserId.from(userId));
-			count++;
+			// 新規採番するイベントコードの値を取得(初回採番時は現在のイベント情報の登録件数を初期値とする)
+			int count = codeSequenceComponent.next(CodeSequenceKey.from(userId, CodeSequenceKey.EVENT_CODE),
+					() -> eventRepository.countByUserId(SearchQueryUserId.from(userId)));
 			if(count > 9999) {
 				response.addErrorMessage("イベント情報は9999件以上登録できません。管理者に問い合わせてください。");
 				return response;
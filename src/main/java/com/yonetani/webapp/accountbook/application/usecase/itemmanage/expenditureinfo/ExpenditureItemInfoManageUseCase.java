@@ -12,6 +12,10 @@
  * 日付       : version  コメントなど
  * 2023/10/29 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  各月の収支画面の表示データキャッシュ破棄対応
+ * 2026/10/17 : 1.02.00  支出項目ツリー(キャッシュ)破棄対応
+ * 2026/10/17 : 1.02.00  支出項目コードをコード採番テーブルから採番するよう対応
+ * 2026/10/17 : 1.02.00  表示順変更時の子孫の支出項目の表示順を1回の更新で一括変更するよう対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.expenditureinfo;
@@ -19,16 +23,20 @@ package com.yonetani.webapp.accountbook.application.usecase.itemmanage.expenditu
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.CodeSequenceComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemSortOrderShift;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditureinfo.SisyutuItemTableRepository;
@@ -68,6 +76,12 @@ public class ExpenditureItemInfoManageUseCase {
 
 	// 支出項目テーブル:SISYUTU_ITEM_TABLE参照リポジトリー
 	private final SisyutuItemTableRepository sisyutuItemRepository;
+	// 各月の収支画面の表示データキャッシュ
+	private final AccountMonthInquiryCacheComponent monthInquiryCache;
+	// 支出項目情報取得コンポーネント(ユーザの支出項目ツリーを保持)
+	private final ExpenditureItemInfoComponent expenditureItemInfoComponent;
+	// コード採番コンポーネント
+	private final CodeSequenceComponent codeSequenceComponent;
 	
 	/**
 	 *<pre>
@@ -336,17 +350,12 @@ public class ExpenditureItemInfoManageUseCase {
 		// レスポンス
 		ExpenditureItemInfoManageUpdateResponse response = ExpenditureItemInfoManageUpdateResponse.getInstance();
 		
-		// 親の支出項目に属する支出項目一覧を取得
-		ExpenditureItemInfoInquiryList parentMemberList = sisyutuItemRepository.searchParentMemberSisyutuItemList(
-				SearchQueryUserIdAndExpenditureItemCode.from(userId, ExpenditureItemCode.from(inputForm.getParentSisyutuItemCode())));
-		
 		// 新規登録の場合
 		if(Objects.equals(inputForm.getAction(), MyHouseholdAccountBookContent.ACTION_TYPE_ADD)) {
 			/* 支出項目コードを自動採番して設定 */
-			// 現在登録されている支出項目数を取得
-			int count = sisyutuItemRepository.countByUserId(SearchQueryUserId.from(userId));
-			// 支出項目コード番号発番
-			count++;
+			// 支出項目コード番号発番(初回採番時は現在登録されている支出項目数を初期値とする)
+			int count = codeSequenceComponent.next(CodeSequenceKey.from(userId, CodeSequenceKey.EXPENDITURE_ITEM_CODE),
+					() -> sisyutuItemRepository.countByUserId(SearchQueryUserId.from(userId)));
 			// 登録済み支出項目数が2000件より多い場合、エラー
 			if(count > 2000) {
 				response.addErrorMessage("支出項目は2000件以上登録できません。管理者に問い合わせてください。");
@@ -366,25 +375,8 @@ public class ExpenditureItemInfoManageUseCase {
 				throw new MyHouseholdAccountBookRuntimeException("支出項目テーブル:SISYUTU_ITEM_TABLEへの追加件数が不正でした。[件数=" + addCount + "][add data:" + addData + "]");
 			}
 			
-			// 表示順変更対象のデータを生成
-			if(!parentMemberList.isEmpty()) {
-				// 対象のデータ抽出式(Predicateの合成述語を使えばもっときれいにかける。ここでは、割愛するか)
-				Predicate<ExpenditureItemInfo> func = domain -> {
-					// その他項目(99)は対象外
-					if(isCheckOtherItem(domain.getExpenditureItemSortOrder().getValue(), domain.getExpenditureItemLevel().getValue())) {
-						return false;
-					}
-					// 親に属する支出項目の表示順＞＝新規追加する項目の表示順の場合、表示順変更対象のデータに追加
-					if(domain.getExpenditureItemSortOrder().getValue().compareTo(inputForm.getSisyutuItemSort()) >= 0) {
-						return true;
-					}
-					// 上記以外はすべて対象外
-					return false;
-				};
-				// 表示順更新対象の支出項目情報をすべて更新
-				updateAllSisyutuItemSort(parentMemberList, func, +1);	
-				
-			}
+			// 新規追加した支出項目の表示順以降(その他項目(99)を除く)の兄弟の支出項目の表示順を子孫も含めて+1する
+			sisyutuItemRepository.updateExpenditureItemSortOrderShift(ExpenditureItemSortOrderShift.forAdd(addData));
 			
 			// 完了メッセージ
 			response.addMessage("新規支出項目を追加しました。[code:" + addData.getExpenditureItemCode() + "]" + addData.getExpenditureItemName());
@@ -394,6 +386,9 @@ public class ExpenditureItemInfoManageUseCase {
 			
 			// 更新する支出項目情報(ドメイン)を生成
 			ExpenditureItemInfo updateData = createSisyutuItem(user.getUserId(), inputForm);
+			// 更新前の支出項目情報(変更前の表示順)を取得
+			ExpenditureItemInfo beforeData = sisyutuItemRepository.findByPrimaryKey(
+					SearchQueryUserIdAndExpenditureItemCode.from(userId, updateData.getExpenditureItemCode()));
 			// データを登録
 			int updateCount = 0;
 			// 更新フラグの値により更新情報を変更
@@ -409,87 +404,12 @@ public class ExpenditureItemInfoManageUseCase {
 				throw new MyHouseholdAccountBookRuntimeException("支出項目テーブル:SISYUTU_ITEM_TABLEへの更新件数が不正でした。[件数=" + updateCount + "][update data:" + updateData + "]");
 			}
 			
-			// 表示順を更新可能、かつ、親に属する子のリストが存在する(更新の場合は必ず存在する)場合、必要があれば支出項目表示順の値を更新する
-			if(inputForm.isEnableUpdateFlg() && !parentMemberList.isEmpty()) {
-				// 前の支出項目表示順の値
-				String sortBeforeValue = inputForm.getSisyutuItemSort();
-				// 親に属する子のリスト設定数分繰り返す
-				for(ExpenditureItemInfo item : parentMemberList.getValues()) {
-					// DBの支出項目コードと入力フォームの支出項目コードが等しい場合、かつ、支出項目表示順の値の変更されている場合
-					if(item.getExpenditureItemCode().getValue().equals(inputForm.getSisyutuItemCode())) {
-						if(!item.getExpenditureItemSortOrder().getValue().equals(inputForm.getSisyutuItemSort())) {
-							// 前の支出項目表示順の値を設定
-							sortBeforeValue = item.getExpenditureItemSortOrder().getValue();
-							
-							/* 変更後の支出項目に属する子のソート順を変更する */
-							// 親の支出項目に属する支出項目一覧を取得
-							ExpenditureItemInfoInquiryList upateItemParentMemberList = sisyutuItemRepository.searchParentMemberSisyutuItemList(
-									SearchQueryUserIdAndExpenditureItemCode.from(updateData.getUserId(), updateData.getExpenditureItemCode()));
-							// 親の支出項目に属する支出項目情報から名称を取得し、名称一覧をレスポンスに設定
-							if(!upateItemParentMemberList.isEmpty()) {
-								
-								// 更新する支出項目の支出項目レベルの値
-								int sisyutuItemLevel = updateData.getExpenditureItemLevel().getValue();
-								// 支出項目表示順から指定の支出項目レベルの位置の値を取得した値
-								String sortItemValue = getSortValueFromLevel(updateData.getExpenditureItemSortOrder().getValue(), updateData.getExpenditureItemLevel().getValue());
-								
-								// 指定した支出項目レベルの位置の表示順の値を更新する支出項目情報の表示順の値と同じ値に更新して新たな支出項目更新データを生成
-								List<ExpenditureItemInfo> updateValueList = upateItemParentMemberList.getValues().stream().map(domain -> {
-									// 新規登録する支出項目の表示順の値を作成
-									String updSortVal = replaceSisyutuItemSort(domain.getExpenditureItemSortOrder().getValue(), sisyutuItemLevel, sortItemValue);
-									// 表示順を更新した支出項目情報を設定
-									return createSisyutuItemFromSisyutuItemSort(domain, updSortVal);
-								}).toList();
-								
-								// 表示順更新対象の支出項目情報を更新
-								updateValueList.forEach(parentUpdateItem -> updateSisyutuItemSort(
-									// 表示順更新対象の支出項目情報
-									parentUpdateItem,
-									// 表示順更新対象の支出項目レベル
-									sisyutuItemLevel,
-									// 支出項目表示順から指定の支出項目レベルの位置の値を取得した値
-									sortItemValue));
-							}
-						}
-						
-						break;
-					}
-				}
-				/* 表示順を変更している場合、親に属する支出項目の表示順の値を更新 */
-				// ラムダ式内で参照するため、変更前表示順の値を固定値とする
-				final String unmodifiableSortBeforeValue = sortBeforeValue;
-				// 変更前の値が小さい⇒変更後のほうが大きい場合
-				int sortCompareToValue = sortBeforeValue.compareTo(inputForm.getSisyutuItemSort());
-				if(sortCompareToValue < 0) {
-					
-					// 変更前の表示順の一つ後の項目から変更後の値の項目まで表示順を-1する
-					// 対象のデータ抽出式
-					Predicate<ExpenditureItemInfo> func = domain -> {
-						// 変更前の表示順の次の表示順の項目から変更後の表示順の項目までが表示順変更対象のデータ
-						if(domain.getExpenditureItemSortOrder().getValue().compareTo(unmodifiableSortBeforeValue) > 0
-								&& domain.getExpenditureItemSortOrder().getValue().compareTo(inputForm.getSisyutuItemSort()) <= 0) {
-							return true;
-						}
-						// 上記以外はすべて対象外
-						return false;
-					};
-					updateAllSisyutuItemSort(parentMemberList, func, -1);		
-						
-				// 変更前の値が大きい⇒変更後の値が小さい場合
-				} else if (sortCompareToValue > 0){
-					// 変更後の表示順の値の項目から変更前の表示順の一つ前の項目までソート順を+1する
-					// 対象のデータ抽出式
-					Predicate<ExpenditureItemInfo> func = domain -> {
-						// 変更後の表示順の値の項目から変更前の表示順の一つ前の項目までが表示順変更対象のデータ
-						if(domain.getExpenditureItemSortOrder().getValue().compareTo(inputForm.getSisyutuItemSort()) >= 0
-								&& domain.getExpenditureItemSortOrder().getValue().compareTo(unmodifiableSortBeforeValue) < 0) {
-							return true;
-						}
-						// 上記以外はすべて対象外
-						return false;
-					};
-					updateAllSisyutuItemSort(parentMemberList, func, +1);
-				}
+			// 表示順を更新可能、かつ、支出項目表示順の値が変更されている場合、子孫と兄弟の支出項目の表示順を更新する
+			if(inputForm.isEnableUpdateFlg()
+					&& !beforeData.getExpenditureItemSortOrder().equals(updateData.getExpenditureItemSortOrder())) {
+				// 変更後の支出項目に属する子孫の表示順を変更後の値に移動し、変更前～変更後の間の兄弟の支出項目の表示順を子孫も含めて1ずらす
+				sisyutuItemRepository.updateExpenditureItemSortOrderShift(
+						ExpenditureItemSortOrderShift.forMove(updateData, beforeData.getExpenditureItemSortOrder()));
 			}
 			
 			// 完了メッセージ
@@ -500,6 +420,11 @@ public class ExpenditureItemInfoManageUseCase {
 			throw new MyHouseholdAccountBookRuntimeException("未定義のアクションが設定されています。管理者に問い合わせてください。action=" + inputForm.getAction());
 		}
 		
+		// 支出項目名・表示順は全ての対象年月の表示内容に影響するため、ユーザの表示データキャッシュを全て破棄(コミット後にも再破棄)
+		monthInquiryCache.evictAll(userId);
+		// 支出項目の親子関係・名称が変更されるため、ユーザの支出項目ツリーを破棄(次回参照時に再生成、コミット後にも再破棄)
+		expenditureItemInfoComponent.evict(userId);
+		
 		// 処理結果OKを設定(getリダイレクトを行う)
 		response.setTransactionSuccessFull();
 		
@@ -748,35 +673,6 @@ public class ExpenditureItemInfoManageUseCase {
 				inputForm.isEnableUpdateFlg());
 	}
 	
-	/**
-	 *<pre>
-	 * 引数の支出項目情報(ドメイン)を引数の表示順の値で更新した新しい支出項目情報(ドメイン)を生成して返します。
-	 *</pre>
-	 * @param expenditureItemInfo 元の支出項目情報
-	 * @param sisyutuItemSort 新しい表示順の値
-	 * @return 支出項目情報(ドメイン)
-	 *
-	 */
-	private ExpenditureItemInfo createSisyutuItemFromSisyutuItemSort(ExpenditureItemInfo expenditureItemInfo, String sisyutuItemSort) {
-		return ExpenditureItemInfo.from(
-				// ユーザID
-				expenditureItemInfo.getUserId().getValue(),
-				// 支出項目コード
-				expenditureItemInfo.getExpenditureItemCode().getValue(),
-				// 支出項目名
-				expenditureItemInfo.getExpenditureItemName().getValue(),
-				// 支出項目詳細内容
-				expenditureItemInfo.getExpenditureItemDetailContext().getValue(),
-				// 親支出項目コード
-				expenditureItemInfo.getParentExpenditureItemCode().getValue(),
-				// 支出項目レベル(1～5)
-				expenditureItemInfo.getExpenditureItemLevel().toString(),
-				// 支出項目表示順
-				sisyutuItemSort,
-				// 更新可否フラグ
-				expenditureItemInfo.getEnableUpdateFlg().getValue());
-	}
-	
 	/**
 	 *<pre>
 	 * 支出項目表示順の値を支出項目レベルに該当する位置の文字列を指定の値で変換します。
@@ -880,93 +776,4 @@ public class ExpenditureItemInfoManageUseCase {
 			optionList.add(otherItem);
 		}
 	}
-	
-	/**
-	 *<pre>
-	 * 指定した支出項目情報の検索結果を指定の方法でデータ抽出を行い、指定した増減値で表示順を更新します。
-	 *</pre>
-	 * @param parentMemberList 表示順更新対象の支出項目情報の検索結果
-	 * @param predicate データ抽出式
-	 * @param addValue 表示順を更新時の増減値
-	 *
-	 */
-	private void updateAllSisyutuItemSort(ExpenditureItemInfoInquiryList parentMemberList, Predicate<ExpenditureItemInfo> predicate, int addValue) {
-		
-		// 検索結果のリストに対して以下処理を行う
-		List<ExpenditureItemInfo> updateSisyutuItem = parentMemberList.getValues().stream()
-			// 対象のデータ抽出
-			.filter(domain -> predicate.test(domain))
-			// 新しい表示順でデータを生成
-			.map(domain -> {
-				// 現在の表示順の値
-				String sisyutuItemSort = domain.getExpenditureItemSortOrder().getValue();
-				// 現在の支出項目レベルの値
-				int sisyutuItemLevel = domain.getExpenditureItemLevel().getValue();
-				// 現在の表示順の値を指定した増減値の値で更新して新しい表示順に設定
-				int newSortIntVal = Integer.parseInt(getSortValueFromLevel(sisyutuItemSort, sisyutuItemLevel)) + addValue;
-				// 新規登録する支出項目の表示順の値を作成
-				String updSortVal = replaceSisyutuItemSort(sisyutuItemSort, sisyutuItemLevel, String.format("%02d", newSortIntVal));
-				
-				// 表示順を更新した支出項目情報を設定
-				return createSisyutuItemFromSisyutuItemSort(domain, updSortVal);}
-			).toList();
-			
-		// 表示順更新対象の支出項目情報を更新
-		updateSisyutuItem.forEach(updItem -> updateSisyutuItemSort(
-			// 表示順更新対象の支出項目情報
-			updItem,
-			// 表示順更新対象の支出項目レベル
-			updItem.getExpenditureItemLevel().getValue(),
-			// 支出項目表示順から指定の支出項目レベルの位置の値を取得した値
-			getSortValueFromLevel(updItem.getExpenditureItemSortOrder().getValue(), updItem.getExpenditureItemLevel().getValue())));
-	}
-	
-	/**
-	 *<pre>
-	 * 表示順変更対象の支出項目を指定の表示順の値で更新します。
-	 * 表示順の値は対象位置(支出項目レベル)と、支出項目レベルに該当する表示順の値(2桁の0パディングした値)を指定してください。
-	 * 対象の出項目を親に持つ支出項目も再起呼び出しを行い更新します。
-	 *</pre>
-	 * @param updItem 表示順を更新する支出項目情報(ドメイン)
-	 * @param sisyutuItemLevel 支出項目レベル
-	 * @param value 支出項目レベルの位置の表示順の値
-	 *
-	 */
-	private void updateSisyutuItemSort(ExpenditureItemInfo updItem, int sisyutuItemLevel, String value) {
-		int updateCount = 0;
-		updateCount = sisyutuItemRepository.updateExpenditureItemSortOrder(updItem);
-		// 追加件数が1件以上の場合、業務エラー
-		if(updateCount != 1) {
-			throw new MyHouseholdAccountBookRuntimeException("支出項目テーブル:SISYUTU_ITEM_TABLEへの更新件数が不正でした。[件数=" + updateCount + "][update data:" + updItem + "]");
-		}
-		/* 支出項目レベルが5より小さい(親となっている支出項目の可能性がある場合、支出項目コードの値を親の支出項目コード
-		   として検索し、親に属する子の支出項目情報の表示順の値を再起して更新する */
-		// 支出項目レベルが5以下の場合、子の支出項目は存在しないので呼び出し元に戻る
-		if(updItem.getExpenditureItemLevel().getValue() >= 5) {
-			return;
-		}
-		
-		// 親の支出項目に属する支出項目一覧を取得
-		ExpenditureItemInfoInquiryList parentMemberList = sisyutuItemRepository.searchParentMemberSisyutuItemList(
-				SearchQueryUserIdAndExpenditureItemCode.from(updItem.getUserId(), updItem.getExpenditureItemCode()));
-		// 親の支出項目に属する支出項目情報から名称を取得し、名称一覧をレスポンスに設定
-		if(!parentMemberList.isEmpty()) {
-			// 指定した支出項目レベルの位置の表示順の値を更新して新たな支出項目更新データを生成
-			List<ExpenditureItemInfo> updateValueList = parentMemberList.getValues().stream().map(domain -> {
-				// 新規登録する支出項目の表示順の値を作成
-				String updSortVal = replaceSisyutuItemSort(domain.getExpenditureItemSortOrder().getValue(), sisyutuItemLevel, value);
-				// 表示順を更新した支出項目情報を設定
-				return createSisyutuItemFromSisyutuItemSort(domain, updSortVal);
-			}).toList();
-			
-			// 表示順更新対象の支出項目情報を更新
-			updateValueList.forEach(parentUpdateItem -> updateSisyutuItemSort(
-				// 表示順更新対象の支出項目情報
-				parentUpdateItem,
-				// 表示順更新対象の支出項目レベル
-				sisyutuItemLevel,
-				// 支出項目表示順から指定の支出項目レベルの位置の値を取得した値
-				value));
-		}
-	}
 }
@@ -17,6 +17,8 @@
  * 2026/05/01 : 1.01.02  固定費一括更新機能追加に伴う処理追加
  * 2026/05/07 : 1.01.03  固定費合計表示変更(奇数月/偶数月合計→3か月合計)
  * 2026/05/09 : 1.01.04  リファクタリング追加対応(対象年月ドメインの集約)
+ * 2026/10/17 : 1.02.00  参照専用トランザクション(レプリカへの振り分け対象)を設定
+ * 2026/10/17 : 1.02.00  現在の対象年月をログインユーザ情報(セッション)から取得するよう対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.fixedcost;
@@ -26,7 +28,9 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
 import com.yonetani.webapp.accountbook.application.usecase.common.CodeTableItemComponent;
 import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
@@ -38,7 +42,6 @@ import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserI
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndFixedCostCode;
 import com.yonetani.webapp.accountbook.domain.repository.account.fixedcost.FixedCostTableRepository;
-import com.yonetani.webapp.accountbook.domain.repository.common.AccountBookUserRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostCode;
 import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
@@ -80,6 +83,7 @@ import lombok.extern.log4j.Log4j2;
 @Service
 @Log4j2
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class FixedCostInquiryUseCase {
 	
 	// 支出項目情報取得コンポーネント
@@ -88,8 +92,8 @@ public class FixedCostInquiryUseCase {
 	private final CodeTableItemComponent codeTableItem;
 	// 固定費テーブル:FIXED_COST_TABLEリポジトリー
 	private final FixedCostTableRepository fixedCostRepository;
-	// 家計簿ユーザーリポジトリー
-	private final AccountBookUserRepository accountBookUserRepository;
+	// ユーザ情報照会ユースケース
+	private final AccountBookUserInquiryUseCase userInquiry;
 	
 	/**
 	 *<pre>
@@ -106,7 +110,7 @@ public class FixedCostInquiryUseCase {
 	public FixedCostInfoManageInitResponse readInitInfo(LoginUserInfo user) {
 		log.debug("readInitInfo:userid=" + user.getUserId());
 		// 情報管理(固定費)初期表示画面の表示情報を返却
-		return getInitResponse(UserId.from(user.getUserId()), false);
+		return getInitResponse(user, false);
 	}
 	
 	/**
@@ -177,7 +181,7 @@ public class FixedCostInquiryUseCase {
 						// 支払金額
 						searchResult.getFixedCostPaymentAmount().toFormatString()));
 		// 固定費一覧をレスポンスに設定
-		setFixedCostItemList(userId, response);
+		setFixedCostItemList(user, response);
 		
 		/* 選択固定費の支出項目コードで同一支出項目に属する固定費情報を取得 */
 		// 選択固定費の支出項目コードで同一支出項目に属する固定費の件数を取得
@@ -246,7 +250,7 @@ public class FixedCostInquiryUseCase {
 		ExpenditureItemCode expenditureItemCode = ExpenditureItemCode.from(sisyutuItemCodeStr);
 		
 		// 情報管理(固定費)初期表示画面の表示情報を取得
-		FixedCostInfoManageInitResponse response = getInitResponse(userId, true);
+		FixedCostInfoManageInitResponse response = getInitResponse(user, true);
 		
 		// 選択した支出項目コード情報を設定
 		response.setSisyutuItemCodeInfo(SisyutuItemCodeInfo.from(expenditureItemCode.getValue()));
@@ -443,18 +447,18 @@ public class FixedCostInquiryUseCase {
 	 *<pre>
 	 * 情報管理(固定費)初期表示画面の表示情報を取得します。
 	 *</pre>
-	 * @param userId 取得対象のユーザID
+	 * @param user ログインユーザ情報
 	 * @param registeredFlg 登録済み表示エリアを表示するかどうかのフラグ
 	 * @return 情報管理(固定費)初期表示画面の表示情報
 	 *
 	 */
-	private FixedCostInfoManageInitResponse getInitResponse(UserId userId, boolean registeredFlg) {
+	private FixedCostInfoManageInitResponse getInitResponse(LoginUserInfo user, boolean registeredFlg) {
 		// レスポンスを生成
 		FixedCostInfoManageInitResponse response = FixedCostInfoManageInitResponse.getInstance(registeredFlg);
 		// 支出項目一覧をレスポンスに設定
-		expenditureItemInfoComponent.setSisyutuItemResponseList(userId, response);
+		expenditureItemInfoComponent.setSisyutuItemResponseList(UserId.from(user.getUserId()), response);
 		// 固定費一覧をレスポンスに設定
-		setFixedCostItemList(userId, response);
+		setFixedCostItemList(user, response);
 		
 		return response;
 	}
@@ -463,20 +467,19 @@ public class FixedCostInquiryUseCase {
 	 *<pre>
 	 * 固定費一覧情報を取得し、引数で渡されたレスポンス(固定費一覧画面情報)に設定します。
 	 *</pre>
-	 * @param userId 取得対象のユーザID
+	 * @param user ログインユーザ情報
 	 * @param response 固定費一覧画面情報
 	 *
 	 */
-	private void setFixedCostItemList(UserId userId, AbstractFixedCostItemListResponse response) {
+	private void setFixedCostItemList(LoginUserInfo user, AbstractFixedCostItemListResponse response) {
 		// 固定費一覧を取得
-		FixedCostInquiryList searchResult = fixedCostRepository.findByUserId(SearchQueryUserId.from(userId));
+		FixedCostInquiryList searchResult = fixedCostRepository.findByUserId(SearchQueryUserId.from(UserId.from(user.getUserId())));
 		if(searchResult.isEmpty()) {
 			// 登録済み固定費情報が0件の場合、メッセージを設定
 			response.addMessage("登録済み固定費情報が0件です。");
 		} else {
 			// 現在の対象年月を取得し、対象月・+1か月・+2か月を算出
-			TargetYearMonth targetYearMonth = accountBookUserRepository.getTargetYearMonth(
-					SearchQueryUserId.from(userId));
+			TargetYearMonth targetYearMonth = userInquiry.getTargetYearMonth(user);
 			TargetYearMonth ym1 = targetYearMonth.plusMonths(1);
 			TargetYearMonth ym2 = targetYearMonth.plusMonths(2);
 			// 固定費一覧情報をレスポンスに設定
@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/05/27 : 1.01.00  新規作成
+ * 2026/10/17 : 1.02.00  現在の対象年月をログインユーザ情報(セッション)から取得するよう対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.fixedcost;
@@ -14,13 +15,13 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
 import com.yonetani.webapp.accountbook.application.usecase.common.CodeTableItemComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.domain.model.account.fixedcost.FixedCostInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.account.fixedcost.FixedCostInquiryList.FixedCostInquiryItem;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
 import com.yonetani.webapp.accountbook.domain.repository.account.fixedcost.FixedCostTableRepository;
-import com.yonetani.webapp.accountbook.domain.repository.common.AccountBookUserRepository;
 import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
 import com.yonetani.webapp.accountbook.domain.type.common.UserId;
 import com.yonetani.webapp.accountbook.presentation.response.itemmanage.fixedcost.AbstractFixedCostItemListResponse;
@@ -51,8 +52,8 @@ public class FixedCostMonthlyDetailUseCase {
 	private final CodeTableItemComponent codeTableItem;
 	// 固定費テーブル:FIXED_COST_TABLEリポジトリー
 	private final FixedCostTableRepository fixedCostRepository;
-	// 家計簿ユーザーリポジトリー
-	private final AccountBookUserRepository accountBookUserRepository;
+	// ユーザ情報照会ユースケース
+	private final AccountBookUserInquiryUseCase userInquiry;
 
 	/**
 	 *<pre>
@@ -75,8 +76,7 @@ public class FixedCostMonthlyDetailUseCase {
 		if (monthStr != null) {
 			monthValue = Integer.parseInt(monthStr);
 		} else {
-			TargetYearMonth targetYearMonth = accountBookUserRepository.getTargetYearMonth(
-					SearchQueryUserId.from(userId));
+			TargetYearMonth targetYearMonth = userInquiry.getTargetYearMonth(user);
 			monthValue = Integer.parseInt(targetYearMonth.getMonth());
 		}
 
@@ -3,18 +3,24 @@
  * ・情報管理(お店)画面の表示情報取得(初期表示)
  * ・情報管理(お店)画面の表示情報取得(対象選択時)
  * ・お店情報の追加・更新
+ * ・お店の表示順の一括変更(並び替え)
  *
  *------------------------------------------------
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/10/29 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  店舗情報の参照を店舗情報キャッシュ経由に変更、更新時にキャッシュを破棄
+ * 2026/10/17 : 1.02.00  既存データの表示順調整をJDBCバッチで一括更新、表示順の一括変更(並び替え)を追加
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -22,13 +28,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import com.yonetani.webapp.accountbook.application.usecase.common.CodeTableItemComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ShopInquiryCacheComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.shop.Shop;
 import com.yonetani.webapp.accountbook.domain.model.account.shop.ShopInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.common.CodeAndValuePair;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopSort;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopSortBetweenAB;
 import com.yonetani.webapp.accountbook.domain.repository.account.shop.ShopTableRepository;
@@ -49,6 +55,7 @@ import lombok.extern.log4j.Log4j2;
  * ・情報管理(お店)画面の表示情報取得(初期表示)
  * ・情報管理(お店)画面の表示情報取得(対象選択時)
  * ・お店情報の追加・更新
+ * ・お店の表示順の一括変更(並び替え)
  *
  *</pre>
  *
@@ -61,12 +68,18 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 public class ShopInfoManageUseCase {
 
+	// 表示順を変更できない店舗の表示順(900番以降)
+	private static final String SHOP_SORT_NON_EDIT_FROM = "900";
+	
 	// コードテーブル
 	private final CodeTableItemComponent codeTableItem;
 	
 	// 店舗情報取得リポジトリー
 	private final ShopTableRepository shopRepository;
 	
+	// 店舗情報キャッシュ
+	private final ShopInquiryCacheComponent shopCache;
+	
 	/**
 	 *<pre>
 	 * 指定したユーザIDに応じた情報管理(お店)画面の表示情報を取得します。
@@ -102,7 +115,7 @@ public class ShopInfoManageUseCase {
 		ShopCode shopCode = ShopCode.from(shopCodeStr);
 		
 		// 店舗IDに対応する店舗情報を取得
-		Shop shop = shopRepository.findById(SearchQueryUserIdAndShopCode.from(userId, shopCode));
+		Shop shop = shopCache.getShop(userId, shopCode);
 		if(shop == null) {
 			throw new MyHouseholdAccountBookRuntimeException("更新対象の店舗情報が存在しません。管理者に問い合わせてください。shopCode:" + shopCode);
 		}
@@ -294,15 +307,79 @@ public class ShopInfoManageUseCase {
 			
 		}
 		
-		// 既存データのソート順を調整
-		sortValueUpdateList.forEach(updateSortData -> {
-			// 表示順の値を更新
-			int updateSortDataCount = shopRepository.updateShopSort(updateSortData);
-			// 更新件数が1件以上の場合、業務エラー
-			if(updateSortDataCount != 1) {
-				throw new MyHouseholdAccountBookRuntimeException("店舗テーブルへの更新件数が不正でした。[件数=" + updateSortDataCount + "][update data:" + updateSortData + "]");
+		// 既存データのソート順を調整(JDBCバッチで一括更新)
+		updateShopSortAll(sortValueUpdateList);
+		
+		// 店舗情報キャッシュを破棄(コミット完了後にも再度破棄)
+		shopCache.evict(userId);
+		
+		// 処理結果OKを設定(getリダイレクトを行う)
+		response.setTransactionSuccessFull();
+		
+		return response;
+	}
+	
+	/**
+	 *<pre>
+	 * 画面で並び替えた店舗コードの順番(ドラッグ＆ドロップで並び替えた一覧の順番)で、表示順が900番未満の
+	 * 店舗の表示順を001から振り直します。表示順が変わる店舗のみ、JDBCバッチで一括更新します。
+	 * 
+	 * 店舗コードのリストは表示順が900番未満の全ての店舗を重複なく含む必要があります。
+	 * 他の画面で店舗が追加・更新された場合など、登録済みの店舗と一致しない場合はエラーメッセージを設定して
+	 * 最新の店舗一覧を表示します。
+	 *</pre>
+	 * @param user ログインユーザID
+	 * @param shopCodeList 並び替え後の順番の店舗コードのリスト
+	 * @return 情報管理(お店)画面の表示情報(レスポンス)
+	 *
+	 */
+	@Transactional
+	public ShopInfoManageResponse execSortAction(LoginUserInfo user, List<String> shopCodeList) {
+		log.debug("execSortAction:userid=" + user.getUserId() + ",shopCodeList=" + shopCodeList);
+		
+		// ドメインタイプ:ユーザID
+		UserId userId = UserId.from(user.getUserId());
+		
+		// 表示順変更対象(表示順が900番未満)の登録済み店舗情報を店舗コードをキーに取得
+		Map<String, Shop> shopMap = shopRepository.findById(SearchQueryUserId.from(userId)).getValues().stream()
+				.filter(shop -> shop.getShopSort().getValue().compareTo(SHOP_SORT_NON_EDIT_FROM) < 0)
+				.collect(Collectors.toMap(shop -> shop.getShopCode().getValue(), Function.identity()));
+		
+		// 店舗コードのリストが登録済みの店舗と一致しない場合、エラー
+		if(shopCodeList == null || shopCodeList.size() != shopMap.size()
+				|| !shopMap.keySet().equals(Set.copyOf(shopCodeList))) {
+			ShopInfoManageResponse response = readShopInfo(user);
+			response.addErrorMessage("店舗一覧が最新ではないため表示順を変更できませんでした。表示された店舗一覧で再度並び替えてください。");
+			return response;
+		}
+		
+		// 並び替え後の順番で表示順を振り直し、表示順が変わる店舗のみ更新対象とする
+		List<Shop> sortValueUpdateList = new ArrayList<>();
+		for(int i = 0; i < shopCodeList.size(); i++) {
+			Shop shop = shopMap.get(shopCodeList.get(i));
+			ShopSort newShopSort = ShopSort.from(i + 1);
+			if(!newShopSort.equals(shop.getShopSort())) {
+				sortValueUpdateList.add(Shop.from(
+						shop.getUserId().getValue(),
+						shop.getShopCode().getValue(),
+						shop.getShopKubunCode().getValue(),
+						shop.getShopName().getValue(),
+						newShopSort.getValue()));
 			}
-		});
+		}
+		
+		// レスポンス
+		ShopInfoManageResponse response = ShopInfoManageResponse.getInstance(new ShopInfoForm(), null);
+		if(sortValueUpdateList.isEmpty()) {
+			response.addMessage("店舗の表示順に変更はありませんでした。");
+		} else {
+			// 表示順の値を一括更新(JDBCバッチ)
+			updateShopSortAll(sortValueUpdateList);
+			// 店舗情報キャッシュを破棄(コミット完了後にも再度破棄)
+			shopCache.evict(userId);
+			// 完了メッセージ
+			response.addMessage("店舗の表示順を変更しました。[変更件数:" + sortValueUpdateList.size() + "]");
+		}
 		
 		// 処理結果OKを設定(getリダイレクトを行う)
 		response.setTransactionSuccessFull();
@@ -339,7 +416,7 @@ public class ShopInfoManageUseCase {
 					.collect(Collectors.toList()));
 		
 		// ログインユーザの店舗情報を取得
-		ShopInquiryList shopSearchResult = shopRepository.findById(SearchQueryUserId.from(userId));
+		ShopInquiryList shopSearchResult = shopCache.getShopList(userId);
 		if(shopSearchResult.isEmpty()) {
 			// 店舗情報が0件の場合、メッセージを設定
 			response.addMessage("店舗情報取得結果が0件です。");
@@ -356,6 +433,27 @@ public class ShopInfoManageUseCase {
 		return response;
 	}
 	
+	/**
+	 *<pre>
+	 * 表示順更新対象の店舗情報の表示順の値をJDBCバッチで一括更新します。
+	 * 更新件数が1件以外の店舗情報がある場合、業務エラーとなります。
+	 *</pre>
+	 * @param sortValueUpdateList 表示順更新対象の店舗情報のリスト
+	 *
+	 */
+	private void updateShopSortAll(List<Shop> sortValueUpdateList) {
+		if(sortValueUpdateList.isEmpty()) {
+			return;
+		}
+		int[] updateCounts = shopRepository.updateShopSortAll(sortValueUpdateList);
+		for(int i = 0; i < updateCounts.length; i++) {
+			// 更新件数が1件以外の場合、業務エラー
+			if(updateCounts[i] != 1) {
+				throw new MyHouseholdAccountBookRuntimeException("店舗テーブルへの更新件数が不正でした。[件数=" + updateCounts[i] + "][update data:" + sortValueUpdateList.get(i) + "]");
+			}
+		}
+	}
+	
 	/**
 	 *<pre>
 	 * 指定の店舗情報のうち、表示順の値を指定した増減分加算・減算した値で店舗情報を生成して返します。
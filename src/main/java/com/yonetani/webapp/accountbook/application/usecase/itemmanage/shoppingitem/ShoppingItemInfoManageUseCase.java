@@ -16,6 +16,9 @@
  * 日付       : version  コメントなど
  * 2023/10/29 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  商品コードをコード採番テーブルから採番するよう対応
+ * 2026/10/17 : 1.02.00  商品検索を参照専用トランザクション(レプリカへの振り分け対象)に設定
+ * 2026/10/17 : 1.02.00  基準店舗選択ボックスの店舗情報を店舗情報キャッシュから取得するよう対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.shoppingitem;
@@ -28,7 +31,9 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.yonetani.webapp.accountbook.application.usecase.common.CodeSequenceComponent;
 import com.yonetani.webapp.accountbook.application.usecase.common.CodeTableItemComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ShopInquiryCacheComponent;
 import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
@@ -36,13 +41,12 @@ import com.yonetani.webapp.accountbook.domain.model.account.shop.ShopInquiryList
 import com.yonetani.webapp.accountbook.domain.model.account.shoppingitem.ShoppingItem;
 import com.yonetani.webapp.accountbook.domain.model.account.shoppingitem.ShoppingItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.common.CodeAndValuePair;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryShoppingItemInfoSearchCondition;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemCode;
-import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopKubunCodeList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShoppingItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShoppingItemJanCode;
-import com.yonetani.webapp.accountbook.domain.repository.account.shop.ShopTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.shoppingitem.ShoppingItemTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemSortOrder;
@@ -98,8 +102,8 @@ public class ShoppingItemInfoManageUseCase {
 	// 支出項目情報取得コンポーネント
 	private final ExpenditureItemInfoComponent expenditureItemInfoComponent;
 	
-	// 店舗テーブル:SHOP_TABLEリポジトリー
-	private final ShopTableRepository shopRepository;
+	// 店舗情報キャッシュ
+	private final ShopInquiryCacheComponent shopCache;
 	
 	// 商品テーブル:SHOPPING_ITEM_TABLEリポジトリー
 	private final ShoppingItemTableRepository shoppingItemRepository;
@@ -107,6 +111,9 @@ public class ShoppingItemInfoManageUseCase {
 	// コードテーブル
 	private final CodeTableItemComponent codeTableItem;
 	
+	// コード採番コンポーネント
+	private final CodeSequenceComponent codeSequenceComponent;
+	
 	/**
 	 *<pre>
 	 * 指定したユーザIDに応じた情報管理(商品) 初期表示画面の表示情報を取得します。
@@ -144,6 +151,7 @@ public class ShoppingItemInfoManageUseCase {
 	 * @return 情報管理(商品)の商品検索画面情報
 	 *
 	 */
+	@Transactional(readOnly = true)
 	public ShoppingItemInfoManageSearchResponse execSearch(LoginUserInfo user, ShoppingItemInfoSearchForm inputForm) {
 		log.debug("execSearch:userid=" + user.getUserId() + ",inputForm=" + inputForm);
 		
@@ -453,9 +461,9 @@ public class ShoppingItemInfoManageUseCase {
 				return response;
 			}
 			
-			// 新規採番する商品コードの値を取得
-			int count = shoppingItemRepository.countById(SearchQueryUserId.from(userId));
-			count++;
+			// 新規採番する商品コードの値を取得(初回採番時は現在の商品情報の登録件数を初期値とする)
+			int count = codeSequenceComponent.next(CodeSequenceKey.from(userId, CodeSequenceKey.SHOPPING_ITEM_CODE),
+					() -> shoppingItemRepository.countById(SearchQueryUserId.from(userId)));
 			if(count > 99999) {
 				response.addErrorMessage("商品情報は99999件以上登録できません。管理者に問い合わせてください。");
 				return response;
@@ -576,11 +584,11 @@ public class ShoppingItemInfoManageUseCase {
 		List<String> standardShopsList = Arrays.asList(MyHouseholdAccountBookContent.STANDARD_SHOPSLIST_KUBUN_CODE);
 		
 		// 基準店舗選択ボックスの表示情報を取得
-		ShopInquiryList shopSearchResult = shopRepository.findById(SearchQueryUserIdAndShopKubunCodeList.from(
+		ShopInquiryList shopSearchResult = shopCache.getShopList(
 						// ユーザID
 						userId,
 						// 店舗区分コードのリスト
-						standardShopsList.stream().map(item -> ShopKubunCode.from(item)).collect(Collectors.toUnmodifiableList())));
+						standardShopsList.stream().map(item -> ShopKubunCode.from(item)).collect(Collectors.toUnmodifiableList()));
 		if(shopSearchResult.isEmpty()) {
 			// 店舗情報が0件の場合、メッセージを設定
 			response = ShoppingItemInfoManageUpdateResponse.getInstance(inputForm, null, capacityUnitList);
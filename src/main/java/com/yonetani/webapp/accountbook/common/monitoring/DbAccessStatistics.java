@@ -0,0 +1,128 @@
+/**
+ * 計測単位(HTTPリクエスト、ユースケースのメソッド)1回分のDBアクセス統計です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.common.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 計測単位(HTTPリクエスト、ユースケースのメソッド)1回分のDBアクセス統計です。
+ * 以下の値を保持します。
+ * ・MyBatisのステートメントの実行回数
+ * ・SELECTで取得した行数
+ * ・DBアクセス時間(MyBatisのステートメントの実行時間の合計)
+ * ・計測単位の処理時間
+ * ・マップドステートメント(マッパーのメソッド)ごとの実行回数
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class DbAccessStatistics {
+
+	// 計測単位の名前(HTTPメソッドとURI、またはユースケースのクラス名とメソッド名)
+	private final String name;
+	// 計測開始日時
+	private final LocalDateTime startDateTime;
+	// ステートメントの実行回数
+	private final int statementCount;
+	// SELECTで取得した行数
+	private final long rowCount;
+	// DBアクセス時間(ナノ秒)
+	private final long dbNanos;
+	// 計測単位の処理時間(ナノ秒)
+	private final long elapsedNanos;
+	// マップドステートメントのIDごとの実行回数(初回実行順)
+	private final Map<String, Integer> statementCountMap;
+
+	/**
+	 *<pre>
+	 * 引数の値からDBアクセス統計を生成して返します。
+	 *</pre>
+	 * @param name 計測単位の名前
+	 * @param startDateTime 計測開始日時
+	 * @param statementCount ステートメントの実行回数
+	 * @param rowCount SELECTで取得した行数
+	 * @param dbNanos DBアクセス時間(ナノ秒)
+	 * @param elapsedNanos 計測単位の処理時間(ナノ秒)
+	 * @param statementCountMap マップドステートメントのIDごとの実行回数
+	 * @return DBアクセス統計
+	 *
+	 */
+	public static DbAccessStatistics from(String name, LocalDateTime startDateTime, int statementCount, long rowCount,
+			long dbNanos, long elapsedNanos, Map<String, Integer> statementCountMap) {
+		return new DbAccessStatistics(name, startDateTime, statementCount, rowCount, dbNanos, elapsedNanos,
+				Collections.unmodifiableMap(new LinkedHashMap<>(statementCountMap)));
+	}
+
+	/**
+	 *<pre>
+	 * 実行回数が閾値を超えたマップドステートメントのIDと実行回数を返します。
+	 *</pre>
+	 * @param threshold 同一マップドステートメントの実行回数の閾値
+	 * @return 実行回数が閾値を超えたマップドステートメントのIDと実行回数(初回実行順)
+	 *
+	 */
+	public Map<String, Integer> getStatementCountOver(int threshold) {
+		Map<String, Integer> result = new LinkedHashMap<>();
+		statementCountMap.forEach((statementId, count) -> {
+			if(count > threshold) {
+				result.put(statementId, count);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 *<pre>
+	 * DBアクセス時間をミリ秒で返します。
+	 *</pre>
+	 * @return DBアクセス時間(ミリ秒)
+	 *
+	 */
+	public double getDbMillis() {
+		return dbNanos / 1_000_000d;
+	}
+
+	/**
+	 *<pre>
+	 * 計測単位の処理時間をミリ秒で返します。
+	 *</pre>
+	 * @return 計測単位の処理時間(ミリ秒)
+	 *
+	 */
+	public double getElapsedMillis() {
+		return elapsedNanos / 1_000_000d;
+	}
+
+	/**
+	 *<pre>
+	 * ログ出力用の文字列を返します。
+	 *</pre>
+	 * @return DBアクセス統計の文字列
+	 *
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s statements=%d, rows=%d, dbTime=%.2fms, elapsed=%.2fms",
+				name, statementCount, rowCount, getDbMillis(), getElapsedMillis());
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * 実行中スレッドのDBアクセス統計の計測状態を保持するクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.common.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+/**
+ *<pre>
+ * 実行中スレッドのDBアクセス統計の計測状態を保持するクラスです。
+ * 計測単位(HTTPリクエスト、ユースケースのメソッド)の開始時に{@link #begin(String)}、終了時に{@link #end()}を呼び出します。
+ * 計測単位は入れ子にでき(リクエストの中でユースケースのメソッドを計測するなど)、
+ * {@link #record(String, long, long)}で記録したステートメントの実行は計測中のすべての計測単位に加算します。
+ * 計測中の計測単位がない場合(バッチ処理、定期実行など)は記録しません。
+ *
+ * begin/endは同一スレッドで必ず対で呼び出してください(try-finallyで囲むこと)。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+public final class DbAccessStatisticsContext {
+
+	/**
+	 *<pre>
+	 * 計測中の計測単位1件分の集計値です。
+	 *</pre>
+	 */
+	private static class Frame {
+		// 計測単位の名前
+		private final String name;
+		// 計測開始日時
+		private final LocalDateTime startDateTime = LocalDateTime.now();
+		// 計測開始時刻(ナノ秒)
+		private final long startNanos = System.nanoTime();
+		// ステートメントの実行回数
+		private int statementCount;
+		// SELECTで取得した行数
+		private long rowCount;
+		// DBアクセス時間(ナノ秒)
+		private long dbNanos;
+		// マップドステートメントのIDごとの実行回数
+		private final Map<String, Integer> statementCountMap = new LinkedHashMap<>();
+
+		private Frame(String name) {
+			this.name = name;
+		}
+	}
+
+	// スレッドごとの計測中の計測単位(先頭が最も内側の計測単位)
+	private static final ThreadLocal<Deque<Frame>> FRAMES = new ThreadLocal<>();
+
+	/**
+	 * インスタンス生成不可
+	 */
+	private DbAccessStatisticsContext() {
+	}
+
+	/**
+	 *<pre>
+	 * 計測単位の計測を開始します。
+	 *</pre>
+	 * @param name 計測単位の名前
+	 *
+	 */
+	public static void begin(String name) {
+		Deque<Frame> frames = FRAMES.get();
+		if(frames == null) {
+			frames = new ArrayDeque<>();
+			FRAMES.set(frames);
+		}
+		frames.push(new Frame(name));
+	}
+
+	/**
+	 *<pre>
+	 * 最も内側の計測単位の計測を終了し、DBアクセス統計を返します。
+	 *</pre>
+	 * @return 計測を終了した計測単位のDBアクセス統計
+	 *
+	 */
+	public static DbAccessStatistics end() {
+		Deque<Frame> frames = FRAMES.get();
+		if(frames == null || frames.isEmpty()) {
+			throw new MyHouseholdAccountBookRuntimeException("DBアクセス統計の計測が開始されていません。");
+		}
+		Frame frame = frames.pop();
+		if(frames.isEmpty()) {
+			FRAMES.remove();
+		}
+		return DbAccessStatistics.from(frame.name, frame.startDateTime, frame.statementCount, frame.rowCount,
+				frame.dbNanos, System.nanoTime() - frame.startNanos, frame.statementCountMap);
+	}
+
+	/**
+	 *<pre>
+	 * 計測中かどうかを返します。
+	 *</pre>
+	 * @return 計測中の計測単位がある場合はtrue
+	 *
+	 */
+	public static boolean isActive() {
+		Deque<Frame> frames = FRAMES.get();
+		return frames != null && !frames.isEmpty();
+	}
+
+	/**
+	 *<pre>
+	 * ステートメント1回分の実行を計測中のすべての計測単位に加算します。
+	 *</pre>
+	 * @param statementId マップドステートメントのID
+	 * @param rowCount SELECTで取得した行数(更新系の場合は0)
+	 * @param dbNanos ステートメントの実行時間(ナノ秒)
+	 *
+	 */
+	public static void record(String statementId, long rowCount, long dbNanos) {
+		Deque<Frame> frames = FRAMES.get();
+		if(frames == null) {
+			return;
+		}
+		for(Frame frame : frames) {
+			frame.statementCount++;
+			frame.rowCount += rowCount;
+			frame.dbNanos += dbNanos;
+			frame.statementCountMap.merge(statementId, 1, Integer::sum);
+		}
+	}
+}
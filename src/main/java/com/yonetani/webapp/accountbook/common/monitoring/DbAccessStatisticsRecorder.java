@@ -0,0 +1,246 @@
+/**
+ * HTTPリクエスト、ユースケースのメソッド単位のDBアクセス統計をログ出力・保持するコンポーネントです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.common.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * HTTPリクエスト、ユースケースのメソッド単位のDBアクセス統計をログ出力・保持するコンポーネントです。
+ *
+ * [HTTPリクエスト]
+ * ・DBアクセス統計をデバッグログに出力します。
+ * ・同一マップドステートメントの実行回数が「accountbook.property.db-access-same-statement-warn-threshold」を超えた場合、
+ *   繰り返し検索(N+1)の可能性があるため警告ログを出力します。
+ * ・ステートメントを実行したリクエストは「accountbook.property.db-access-history-size」で指定した件数まで
+ *   新しい順に保持します(管理者メニューのDBアクセス統計画面で表示)。
+ * [ユースケースのメソッド]
+ * ・DBアクセス統計をデバッグログに出力し、メソッドごとに呼び出し回数、ステートメント数などを累計します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Log4j2
+public class DbAccessStatisticsRecorder {
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドごとのDBアクセス統計の累計値です。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	@ToString
+	public static class UseCaseSummary {
+		// ユースケースのクラス名とメソッド名
+		private final String name;
+		// 呼び出し回数
+		private final long callCount;
+		// ステートメントの実行回数の合計
+		private final long totalStatementCount;
+		// 1回あたりのステートメントの実行回数の最大
+		private final int maxStatementCount;
+		// SELECTで取得した行数の合計
+		private final long totalRowCount;
+		// DBアクセス時間の合計(ナノ秒)
+		private final long totalDbNanos;
+		// 処理時間の合計(ナノ秒)
+		private final long totalElapsedNanos;
+
+		/**
+		 *<pre>
+		 * 1回あたりのステートメントの実行回数の平均を返します。
+		 *</pre>
+		 * @return 1回あたりのステートメントの実行回数の平均
+		 *
+		 */
+		public double getAverageStatementCount() {
+			return callCount == 0 ? 0 : (double)totalStatementCount / callCount;
+		}
+
+		/**
+		 *<pre>
+		 * 1回あたりのSELECTで取得した行数の平均を返します。
+		 *</pre>
+		 * @return 1回あたりのSELECTで取得した行数の平均
+		 *
+		 */
+		public double getAverageRowCount() {
+			return callCount == 0 ? 0 : (double)totalRowCount / callCount;
+		}
+
+		/**
+		 *<pre>
+		 * 1回あたりのDBアクセス時間の平均をミリ秒で返します。
+		 *</pre>
+		 * @return 1回あたりのDBアクセス時間の平均(ミリ秒)
+		 *
+		 */
+		public double getAverageDbMillis() {
+			return callCount == 0 ? 0 : totalDbNanos / 1_000_000d / callCount;
+		}
+
+		/**
+		 *<pre>
+		 * 1回あたりの処理時間の平均をミリ秒で返します。
+		 *</pre>
+		 * @return 1回あたりの処理時間の平均(ミリ秒)
+		 *
+		 */
+		public double getAverageElapsedMillis() {
+			return callCount == 0 ? 0 : totalElapsedNanos / 1_000_000d / callCount;
+		}
+
+		/**
+		 * 累計値に1回分のDBアクセス統計を加算した新しい累計値を返します。
+		 */
+		private UseCaseSummary add(DbAccessStatistics statistics) {
+			return new UseCaseSummary(name, callCount + 1, totalStatementCount + statistics.getStatementCount(),
+					Math.max(maxStatementCount, statistics.getStatementCount()), totalRowCount + statistics.getRowCount(),
+					totalDbNanos + statistics.getDbNanos(), totalElapsedNanos + statistics.getElapsedNanos());
+		}
+	}
+
+	// 同一マップドステートメントの1リクエスト内の実行回数の閾値(超えた場合は警告ログを出力)
+	@Getter
+	private final int sameStatementWarnThreshold;
+	// 保持するリクエストのDBアクセス統計の最大件数
+	@Getter
+	private final int historySize;
+	// リクエストのDBアクセス統計(先頭が最新)
+	private final Deque<DbAccessStatistics> requestHistory = new ArrayDeque<>();
+	// ユースケースのメソッドごとの累計値
+	private final ConcurrentMap<String, UseCaseSummary> useCaseSummaryMap = new ConcurrentHashMap<>();
+
+	/**
+	 *<pre>
+	 * DbAccessStatisticsRecorderクラスコンストラクターです。
+	 * インジェクション(DI)対象のインスタンス登録時、FWによって呼び出し、インスタンスが管理されます。
+	 *
+	 *</pre>
+	 * @param sameStatementWarnThreshold 同一マップドステートメントの1リクエスト内の実行回数の閾値
+	 * @param historySize 保持するリクエストのDBアクセス統計の最大件数(0以下の場合は保持しない)
+	 *
+	 */
+	public DbAccessStatisticsRecorder(
+			@Value("${accountbook.property.db-access-same-statement-warn-threshold:10}") int sameStatementWarnThreshold,
+			@Value("${accountbook.property.db-access-history-size:100}") int historySize) {
+		this.sameStatementWarnThreshold = sameStatementWarnThreshold;
+		this.historySize = historySize;
+	}
+
+	/**
+	 *<pre>
+	 * HTTPリクエスト1件分のDBアクセス統計をログ出力し、保持します。
+	 * 同一マップドステートメントの実行回数が閾値を超えた場合は警告ログを出力します。
+	 * ステートメントを実行していないリクエスト(静的リソースなど)は保持しません。
+	 *</pre>
+	 * @param statistics HTTPリクエスト1件分のDBアクセス統計
+	 *
+	 */
+	public void recordRequest(DbAccessStatistics statistics) {
+		if(statistics.getStatementCount() == 0) {
+			return;
+		}
+		log.debug("db-access:request:" + statistics);
+		Map<String, Integer> overMap = statistics.getStatementCountOver(sameStatementWarnThreshold);
+		if(!overMap.isEmpty()) {
+			log.warn("db-access:同一ステートメントの実行回数が閾値(" + sameStatementWarnThreshold + ")を超えました。[request="
+					+ statistics.getName() + "][statements=" + overMap + "]");
+		}
+		if(historySize <= 0) {
+			return;
+		}
+		synchronized(requestHistory) {
+			requestHistory.addFirst(statistics);
+			while(requestHistory.size() > historySize) {
+				requestHistory.removeLast();
+			}
+		}
+	}
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッド1回分のDBアクセス統計をログ出力し、メソッドごとの累計値に加算します。
+	 *</pre>
+	 * @param statistics ユースケースのメソッド1回分のDBアクセス統計
+	 *
+	 */
+	public void recordUseCase(DbAccessStatistics statistics) {
+		log.debug("db-access:usecase:" + statistics);
+		useCaseSummaryMap.compute(statistics.getName(), (name, summary) ->
+			(summary == null ? new UseCaseSummary(name, 0, 0, 0, 0, 0, 0) : summary).add(statistics));
+	}
+
+	/**
+	 *<pre>
+	 * 保持しているリクエストのDBアクセス統計を新しい順に返します。
+	 *</pre>
+	 * @return リクエストのDBアクセス統計のリスト
+	 *
+	 */
+	public List<DbAccessStatistics> getRequestHistoryList() {
+		synchronized(requestHistory) {
+			return List.copyOf(requestHistory);
+		}
+	}
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドごとの累計値をステートメントの実行回数の合計が多い順に返します。
+	 *</pre>
+	 * @return ユースケースのメソッドごとの累計値のリスト
+	 *
+	 */
+	public List<UseCaseSummary> getUseCaseSummaryList() {
+		List<UseCaseSummary> result = new ArrayList<>(useCaseSummaryMap.values());
+		result.sort(Comparator.comparingLong(UseCaseSummary::getTotalStatementCount).reversed()
+				.thenComparing(UseCaseSummary::getName));
+		return result;
+	}
+
+	/**
+	 *<pre>
+	 * 保持しているDBアクセス統計をすべてクリアします。
+	 *</pre>
+	 *
+	 */
+	public void clear() {
+		synchronized(requestHistory) {
+			requestHistory.clear();
+		}
+		useCaseSummaryMap.clear();
+	}
+}
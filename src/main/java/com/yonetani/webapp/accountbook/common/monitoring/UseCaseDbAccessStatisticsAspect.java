@@ -0,0 +1,60 @@
+/**
+ * ユースケースのメソッド単位でDBアクセス統計を計測するアスペクトです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.common.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * ユースケースのメソッド単位でDBアクセス統計を計測するアスペクトです。
+ * application.usecaseパッケージ配下の@Serviceクラス(ユースケース)のpublicメソッドを対象とし、
+ * メソッドの呼び出しごとにステートメント数、取得行数、DBアクセス時間を計測して{@link DbAccessStatisticsRecorder}に記録します。
+ * 計測単位の名前は「クラス名.メソッド名」です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class UseCaseDbAccessStatisticsAspect {
+
+	// DBアクセス統計の記録先
+	private final DbAccessStatisticsRecorder recorder;
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドを実行し、DBアクセス統計を記録します。
+	 *</pre>
+	 * @param joinPoint ユースケースのメソッドの呼び出し情報
+	 * @return ユースケースのメソッドの戻り値
+	 * @throws Throwable ユースケースのメソッドで発生した例外
+	 *
+	 */
+	@Around("within(com.yonetani.webapp.accountbook.application.usecase..*)"
+			+ " && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+	public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+		DbAccessStatisticsContext.begin(joinPoint.getSignature().getDeclaringType().getSimpleName()
+				+ "." + joinPoint.getSignature().getName());
+		try {
+			return joinPoint.proceed();
+		} finally {
+			recorder.recordUseCase(DbAccessStatisticsContext.end());
+		}
+	}
+}
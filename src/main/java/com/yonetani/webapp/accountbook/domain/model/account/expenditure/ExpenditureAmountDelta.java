@@ -0,0 +1,172 @@
+/**
+ * 支出金額テーブル情報の増減値(DB上で加減算する値)を表すドメインモデルです
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  支出予定金額増減値を追加(新規追加・加算値を登録済みのデータに加算する場合に使用)
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.account.expenditure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.common.PaymentDate;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYear;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ *<pre>
+ * 支出金額テーブル情報の増減値(DB上で加減算する値)を表すドメインモデルです
+ * 登録済みの支出金額テーブル情報に対し、支出予定金額・支出金額・無駄遣い（軽度）支出金額・無駄遣い（重度）支出金額を
+ * 増減値分加減算します。増減値はマイナス値(減算)を含むため、金額項目のドメインタイプではなくBigDecimalで保持します。
+ *
+ * [支出予定金額増減値]
+ * 支出テーブル情報の新規追加分(新規追加・加算値)を登録済みのデータに加算する場合のみ値を持ちます。
+ * 支出テーブル情報の更新・削除分の増減値では支出予定金額は変更しない(増減値0)ため、値は0となります。
+ *
+ * [増減値がnullの場合]
+ * 無駄遣い（軽度）支出金額・無駄遣い（重度）支出金額の増減値がnullの場合、値は変更しません。
+ * 支出支払日がnull値の場合、値は変更しません(値ありの場合は登録済みの支払日と比較し、大きいほうの値で更新します)。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ExpenditureAmountDelta {
+
+	// ユーザID
+	private final UserId userId;
+	// 対象年
+	private final TargetYear targetYear;
+	// 対象月
+	private final TargetMonth targetMonth;
+	// 支出項目コード
+	private final ExpenditureItemCode expenditureItemCode;
+	// 支出予定金額増減値
+	private final BigDecimal expectedExpenditureAmountDelta;
+	// 支出金額増減値
+	private final BigDecimal expenditureAmountDelta;
+	// 無駄遣い（軽度）支出金額増減値(nullの場合は変更なし)
+	private final BigDecimal minorWasteExpenditureAmountDelta;
+	// 無駄遣い（重度）支出金額増減値(nullの場合は変更なし)
+	private final BigDecimal severeWasteExpenditureAmountDelta;
+	// 支出支払日(null値の場合は変更なし)
+	private final PaymentDate paymentDate;
+
+	/**
+	 *<pre>
+	 * 引数の値から支出金額テーブル情報の増減値を表すドメインモデルを生成して返します。
+	 * 支出テーブル情報の更新・削除分の増減値のため、支出予定金額増減値は0(変更なし)となります。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param targetYear 対象年
+	 * @param targetMonth 対象月
+	 * @param expenditureItemCode 支出項目コード
+	 * @param expenditureAmountDelta 支出金額増減値
+	 * @param minorWasteExpenditureAmountDelta 無駄遣い（軽度）支出金額増減値(nullの場合は変更なし)
+	 * @param severeWasteExpenditureAmountDelta 無駄遣い（重度）支出金額増減値(nullの場合は変更なし)
+	 * @param paymentDate 支出支払日(nullの場合は変更なし)
+	 * @return 支出金額テーブル情報の増減値を表すドメインモデル
+	 *
+	 */
+	public static ExpenditureAmountDelta from(
+			UserId userId,
+			TargetYear targetYear,
+			TargetMonth targetMonth,
+			ExpenditureItemCode expenditureItemCode,
+			BigDecimal expenditureAmountDelta,
+			BigDecimal minorWasteExpenditureAmountDelta,
+			BigDecimal severeWasteExpenditureAmountDelta,
+			LocalDate paymentDate) {
+		return new ExpenditureAmountDelta(
+				userId,
+				targetYear,
+				targetMonth,
+				expenditureItemCode,
+				BigDecimal.ZERO.setScale(2),
+				(expenditureAmountDelta == null) ? BigDecimal.ZERO.setScale(2) : expenditureAmountDelta,
+				minorWasteExpenditureAmountDelta,
+				severeWasteExpenditureAmountDelta,
+				PaymentDate.from(paymentDate));
+	}
+
+	/**
+	 *<pre>
+	 * 新規追加・加算値の支出金額テーブル情報を、登録済みのデータに加算する増減値に変換して返します。
+	 * 支出予定金額・支出金額・無駄遣い（軽度）支出金額・無駄遣い（重度）支出金額の値を加算値とし、
+	 * 支出支払日は登録済みの支払日と比較し、大きいほうの値で更新します。
+	 *</pre>
+	 * @param addItem 新規追加・加算値の支出金額テーブル情報
+	 * @return 支出金額テーブル情報の増減値を表すドメインモデル
+	 *
+	 */
+	public static ExpenditureAmountDelta from(ExpenditureAmountItem addItem) {
+		return new ExpenditureAmountDelta(
+				addItem.getUserId(),
+				addItem.getTargetYear(),
+				addItem.getTargetMonth(),
+				addItem.getExpenditureItemCode(),
+				addItem.getExpectedExpenditureAmount().getValue(),
+				addItem.getExpenditureAmount().getValue(),
+				addItem.getMinorWasteExpenditureAmount().getValue(),
+				addItem.getSevereWasteExpenditureAmount().getValue(),
+				addItem.getPaymentDate());
+	}
+
+	/**
+	 *<pre>
+	 * 同一支出項目の増減値を合算した増減値を返します。
+	 *</pre>
+	 * @param other 合算する増減値
+	 * @return 合算した増減値
+	 *
+	 */
+	public ExpenditureAmountDelta merge(ExpenditureAmountDelta other) {
+		return new ExpenditureAmountDelta(
+				userId,
+				targetYear,
+				targetMonth,
+				expenditureItemCode,
+				expectedExpenditureAmountDelta.add(other.expectedExpenditureAmountDelta),
+				expenditureAmountDelta.add(other.expenditureAmountDelta),
+				addNullable(minorWasteExpenditureAmountDelta, other.minorWasteExpenditureAmountDelta),
+				addNullable(severeWasteExpenditureAmountDelta, other.severeWasteExpenditureAmountDelta),
+				paymentDate.max(other.paymentDate));
+	}
+
+	/**
+	 *<pre>
+	 * null(変更なし)を考慮して増減値を合算します。
+	 *</pre>
+	 * @param value 増減値
+	 * @param other 合算する増減値
+	 * @return 合算した増減値(両方nullの場合はnull)
+	 *
+	 */
+	private static BigDecimal addNullable(BigDecimal value, BigDecimal other) {
+		if(value == null) {
+			return other;
+		}
+		if(other == null) {
+			return value;
+		}
+		return value.add(other);
+	}
+}
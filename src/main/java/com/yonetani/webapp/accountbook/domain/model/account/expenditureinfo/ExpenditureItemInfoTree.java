@@ -0,0 +1,210 @@
+/**
+ * ユーザの支出項目テーブル情報全件を親子関係(ツリー)で保持する不変のドメインモデルです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * ユーザの支出項目テーブル情報全件を親子関係(ツリー)で保持する不変のドメインモデルです。
+ * 支出項目コードに対応する支出項目情報、親から自分自身までの支出項目情報(祖先パス)、
+ * 支出項目名を＞区切りで連結した表示名、子の支出項目情報の一覧を生成時に算出し、支出項目コードで参照します。
+ *
+ * [親子関係が不正な場合]
+ * 親の支出項目情報が存在しない、または、支出項目レベルが5を超えてさかのぼる支出項目は、
+ * 祖先パス・表示名の参照時にエラーとなります(支出項目情報自体は参照可能です)。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExpenditureItemInfoTree {
+
+	// 支出項目の最大レベル
+	private static final int MAX_LEVEL = 5;
+	// 支出項目コードに対応する支出項目情報(支出項目表示順)
+	private final Map<String, ExpenditureItemInfo> itemMap;
+	// 支出項目コードに対応する祖先パス(親から自分自身までの支出項目情報)
+	private final Map<String, List<ExpenditureItemInfo>> ancestorPathMap;
+	// 支出項目コードに対応する表示名(支出項目名を＞区切りで連結した値)
+	private final Map<String, String> displayNameMap;
+	// 支出項目コードに対応する子の支出項目情報の一覧(支出項目表示順)
+	private final Map<String, List<ExpenditureItemInfo>> childrenMap;
+	// 親子関係が不正な支出項目コードに対応するエラーメッセージ
+	private final Map<String, String> pathErrorMap;
+
+	/**
+	 *<pre>
+	 * 引数のユーザの支出項目情報全件から支出項目ツリーを生成して返します。
+	 *</pre>
+	 * @param values ユーザの支出項目情報全件(支出項目表示順)
+	 * @return ユーザの支出項目ツリーを表すドメインモデル
+	 *
+	 */
+	public static ExpenditureItemInfoTree from(ExpenditureItemInfoInquiryList values) {
+		Map<String, ExpenditureItemInfo> itemMap = new LinkedHashMap<>();
+		values.getValues().forEach(item -> itemMap.put(item.getExpenditureItemCode().getValue(), item));
+
+		Map<String, List<ExpenditureItemInfo>> ancestorPathMap = new HashMap<>();
+		Map<String, String> displayNameMap = new HashMap<>();
+		Map<String, String> pathErrorMap = new HashMap<>();
+		Map<String, List<ExpenditureItemInfo>> childrenWork = new LinkedHashMap<>();
+		for(ExpenditureItemInfo item : itemMap.values()) {
+			String code = item.getExpenditureItemCode().getValue();
+			// 子の支出項目情報の一覧(レベル1の支出項目は親コードに自分自身が設定されているため除外)
+			if(item.getExpenditureItemLevel().getValue() > 1) {
+				childrenWork.computeIfAbsent(item.getParentExpenditureItemCode().getValue(), key -> new ArrayList<>()).add(item);
+			}
+			// 祖先パス・表示名
+			List<ExpenditureItemInfo> path = new ArrayList<>();
+			path.add(item);
+			ExpenditureItemInfo current = item;
+			String errorMessage = null;
+			// 項目レベル1の支出項目までさかのぼる。DBデータ不正による無限ループを避けるため最大レベルを超えた時点で終了する
+			while(current.getExpenditureItemLevel().getValue() > 1 && path.size() <= MAX_LEVEL) {
+				String parentCode = current.getParentExpenditureItemCode().getValue();
+				current = itemMap.get(parentCode);
+				if(current == null) {
+					errorMessage = "支出項目情報が属する親の支出項目情報が存在しません。管理者に問い合わせてください。expenditureItemCode:"
+							+ code + ", [sisyutuItemCodeの値からさかのぼって調査必要です]:[存在しない親コード=parentExpenditureItemCode:" + parentCode + "]";
+					break;
+				}
+				path.add(current);
+			}
+			if(errorMessage == null && path.size() > MAX_LEVEL) {
+				errorMessage = "予期しないエラー(DBデータ不正による繰り返し不正。管理者に問い合わせてください。expenditureItemCode:"
+						+ code + ", parentExpenditureItemCode:" + current.getParentExpenditureItemCode().getValue();
+			}
+			if(errorMessage != null) {
+				pathErrorMap.put(code, errorMessage);
+				continue;
+			}
+			// 自分自身から親の順で取得されるため、順序を入れ替える
+			Collections.reverse(path);
+			ancestorPathMap.put(code, Collections.unmodifiableList(path));
+			displayNameMap.put(code, String.join("＞", path.stream().map(info -> info.getExpenditureItemName().getValue()).toList()));
+		}
+		Map<String, List<ExpenditureItemInfo>> childrenMap = new HashMap<>();
+		childrenWork.forEach((key, list) -> childrenMap.put(key, Collections.unmodifiableList(list)));
+
+		return new ExpenditureItemInfoTree(
+				Collections.unmodifiableMap(itemMap),
+				Collections.unmodifiableMap(ancestorPathMap),
+				Collections.unmodifiableMap(displayNameMap),
+				Collections.unmodifiableMap(childrenMap),
+				Collections.unmodifiableMap(pathErrorMap));
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードに対応する支出項目情報を返します。
+	 *</pre>
+	 * @param code 支出項目コード
+	 * @return 支出項目情報。存在しない場合はnull
+	 *
+	 */
+	public ExpenditureItemInfo get(ExpenditureItemCode code) {
+		return itemMap.get(code.getValue());
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードの支出項目情報が存在するかどうかを判定します。
+	 *</pre>
+	 * @param code 支出項目コード
+	 * @return 存在する場合true
+	 *
+	 */
+	public boolean contains(ExpenditureItemCode code) {
+		return itemMap.containsKey(code.getValue());
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードの祖先パス(レベル1の支出項目から自分自身までの支出項目情報)を返します。
+	 *</pre>
+	 * @param code 支出項目コード
+	 * @return 祖先パス(変更不可)
+	 * @throws MyHouseholdAccountBookRuntimeException 支出項目情報が存在しない、または、親子関係が不正な場合
+	 *
+	 */
+	public List<ExpenditureItemInfo> getAncestorPath(ExpenditureItemCode code) {
+		validatePath(code);
+		return ancestorPathMap.get(code.getValue());
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードの支出項目名を＞区切りで連結した表示名を返します。
+	 *</pre>
+	 * @param code 支出項目コード
+	 * @return 支出項目名を＞区切りで連結した値
+	 * @throws MyHouseholdAccountBookRuntimeException 支出項目情報が存在しない、または、親子関係が不正な場合
+	 *
+	 */
+	public String getDisplayName(ExpenditureItemCode code) {
+		validatePath(code);
+		return displayNameMap.get(code.getValue());
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードを親に持つ子の支出項目情報の一覧を支出項目表示順で返します。
+	 *</pre>
+	 * @param code 親の支出項目コード
+	 * @return 子の支出項目情報の一覧(変更不可)。子がない場合は空のリスト
+	 *
+	 */
+	public List<ExpenditureItemInfo> getChildren(ExpenditureItemCode code) {
+		return childrenMap.getOrDefault(code.getValue(), Collections.emptyList());
+	}
+
+	/**
+	 *<pre>
+	 * 支出項目情報の件数を返します。
+	 *</pre>
+	 * @return 支出項目情報の件数
+	 *
+	 */
+	public int size() {
+		return itemMap.size();
+	}
+
+	/**
+	 *<pre>
+	 * 祖先パス・表示名を参照可能な支出項目コードかどうかをチェックします。
+	 *</pre>
+	 * @param code 支出項目コード
+	 *
+	 */
+	private void validatePath(ExpenditureItemCode code) {
+		if(!itemMap.containsKey(code.getValue())) {
+			throw new MyHouseholdAccountBookRuntimeException("支出項目情報が存在しません。管理者に問い合わせてください。expenditureItemCode:" + code);
+		}
+		String errorMessage = pathErrorMap.get(code.getValue());
+		if(errorMessage != null) {
+			throw new MyHouseholdAccountBookRuntimeException(errorMessage);
+		}
+	}
+}
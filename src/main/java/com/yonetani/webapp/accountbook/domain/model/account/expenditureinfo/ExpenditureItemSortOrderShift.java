@@ -0,0 +1,163 @@
+/**
+ * 支出項目表示順の一括変更内容(親の支出項目配下の指定レベルの表示順の移動・ずらし)を表すドメインモデルです
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemLevel;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemSortOrder;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ *<pre>
+ * 支出項目表示順の一括変更内容(親の支出項目配下の指定レベルの表示順の移動・ずらし)を表すドメインモデルです
+ *
+ * 支出項目表示順は支出項目レベルごとに2桁ずつ(レベル1:1～2桁目 ～ レベル5:9～10桁目)の値を持ち、
+ * 子の支出項目の表示順は親の支出項目の表示順のレベル位置までの値を先頭に持ちます。
+ * このため、親の支出項目の表示順の先頭部分(親のレベル位置まで)が一致し、変更対象レベル以上の支出項目が
+ * 親の支出項目配下の全ての支出項目(子孫)となり、変更対象レベル位置の値を書き換えることで子孫も含めて表示順を変更できます。
+ *
+ * [変更内容]
+ * ・移動：変更対象レベル位置の値が移動元の値の支出項目を、移動先の値に変更します(更新済みの支出項目の子孫が対象)
+ * ・ずらし：変更対象レベル位置の値がずらし範囲(From～To)の支出項目を、増減値分ずらします
+ * ・除外支出項目コードの支出項目(新規追加・更新済みの支出項目)は変更しません
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ExpenditureItemSortOrderShift {
+
+	// その他項目(99)の一つ前の表示順の値(新規追加時のずらし範囲の上限)
+	private static final String SHIFT_MAX_VALUE = "98";
+
+	// ユーザID
+	private final UserId userId;
+	// 変更対象の支出項目レベル
+	private final ExpenditureItemLevel expenditureItemLevel;
+	// 親の支出項目の表示順の先頭部分(変更対象レベルの一つ前のレベル位置まで)
+	private final String parentSortOrderPrefix;
+	// 除外支出項目コード
+	private final ExpenditureItemCode excludeExpenditureItemCode;
+	// 移動元の値(nullの場合は移動なし)
+	private final String moveFromValue;
+	// 移動先の値(nullの場合は移動なし)
+	private final String moveToValue;
+	// ずらし範囲From
+	private final String shiftFromValue;
+	// ずらし範囲To
+	private final String shiftToValue;
+	// 増減値(+1 or -1)
+	private final int shiftValue;
+
+	/**
+	 *<pre>
+	 * 新規追加した支出項目の表示順以降(その他項目(99)を除く)の兄弟の支出項目を子孫も含めて+1する
+	 * 支出項目表示順の一括変更内容を生成して返します。
+	 *</pre>
+	 * @param addItem 新規追加した支出項目情報
+	 * @return 支出項目表示順の一括変更内容
+	 *
+	 */
+	public static ExpenditureItemSortOrderShift forAdd(ExpenditureItemInfo addItem) {
+		ExpenditureItemLevel level = addItem.getExpenditureItemLevel();
+		String sortOrder = addItem.getExpenditureItemSortOrder().getValue();
+		return new ExpenditureItemSortOrderShift(
+				addItem.getUserId(),
+				level,
+				getParentSortOrderPrefix(sortOrder, level),
+				addItem.getExpenditureItemCode(),
+				null,
+				null,
+				getLevelValue(sortOrder, level),
+				SHIFT_MAX_VALUE,
+				+1);
+	}
+
+	/**
+	 *<pre>
+	 * 表示順を変更した支出項目の子孫を変更後の表示順に移動し、変更前～変更後の間の兄弟の支出項目を
+	 * 子孫も含めて1ずらす支出項目表示順の一括変更内容を生成して返します。
+	 * 表示順を変更した支出項目自身は更新済みのため変更対象外となります。
+	 *
+	 * ・変更前＜変更後の場合：変更前の次の表示順～変更後の表示順の支出項目を-1
+	 * ・変更前＞変更後の場合：変更後の表示順～変更前の一つ前の表示順の支出項目を+1
+	 *</pre>
+	 * @param updateItem 表示順を変更した支出項目情報(変更後の表示順)
+	 * @param beforeSortOrder 変更前の支出項目表示順
+	 * @return 支出項目表示順の一括変更内容
+	 *
+	 */
+	public static ExpenditureItemSortOrderShift forMove(ExpenditureItemInfo updateItem, ExpenditureItemSortOrder beforeSortOrder) {
+		ExpenditureItemLevel level = updateItem.getExpenditureItemLevel();
+		String afterSortOrder = updateItem.getExpenditureItemSortOrder().getValue();
+		String prefix = getParentSortOrderPrefix(afterSortOrder, level);
+		// 親の支出項目が変わる変更は対象外
+		if(!beforeSortOrder.getValue().startsWith(prefix)) {
+			throw new MyHouseholdAccountBookRuntimeException("支出項目表示順の変更前後で親の支出項目の表示順が一致しません。[before="
+					+ beforeSortOrder + "][after=" + afterSortOrder + "]");
+		}
+		String beforeValue = getLevelValue(beforeSortOrder.getValue(), level);
+		String afterValue = getLevelValue(afterSortOrder, level);
+		int before = Integer.parseInt(beforeValue);
+		int after = Integer.parseInt(afterValue);
+		return new ExpenditureItemSortOrderShift(
+				updateItem.getUserId(),
+				level,
+				prefix,
+				updateItem.getExpenditureItemCode(),
+				beforeValue,
+				afterValue,
+				// 変更前＜変更後の場合は変更前の次の表示順から、変更前＞変更後の場合は変更後の表示順から
+				(before < after) ? String.format("%02d", before + 1) : afterValue,
+				// 変更前＜変更後の場合は変更後の表示順まで、変更前＞変更後の場合は変更前の一つ前の表示順まで
+				(before < after) ? afterValue : String.format("%02d", before - 1),
+				(before < after) ? -1 : +1);
+	}
+
+	/**
+	 *<pre>
+	 * 支出項目表示順から親の支出項目の表示順の先頭部分(指定レベルの一つ前のレベル位置まで)を返します。
+	 *</pre>
+	 * @param sortOrder 支出項目表示順
+	 * @param level 支出項目レベル
+	 * @return 親の支出項目の表示順の先頭部分(レベル1の場合は空文字列)
+	 *
+	 */
+	private static String getParentSortOrderPrefix(String sortOrder, ExpenditureItemLevel level) {
+		return sortOrder.substring(0, level.getValue() * 2 - 2);
+	}
+
+	/**
+	 *<pre>
+	 * 支出項目表示順から指定レベル位置の値(2桁)を返します。
+	 *</pre>
+	 * @param sortOrder 支出項目表示順
+	 * @param level 支出項目レベル
+	 * @return 指定レベル位置の値
+	 *
+	 */
+	private static String getLevelValue(String sortOrder, ExpenditureItemLevel level) {
+		int end = level.getValue() * 2;
+		return sortOrder.substring(end - 2, end);
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * 収支テーブル情報のデータバージョン(整合性検証状態)を表すドメインモデルです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure;
+
+import java.util.Objects;
+
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ *<pre>
+ * 収支テーブル情報のデータバージョン(整合性検証状態)を表すドメインモデルです。
+ *
+ * [データバージョンの扱い]
+ * ・データバージョンは収支テーブルを更新するごとにカウントアップされます。
+ * ・収入テーブル・支出テーブルとの整合性検証に成功した時点のデータバージョンを整合性検証済みバージョンとして保持します。
+ * ・データバージョンと整合性検証済みバージョンが一致する場合、前回検証時から収支データが変更されていないため、
+ *   収入テーブル・支出テーブルの合計値の再計算(再検証)は不要と判断します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class IncomeAndExpenditureDataVersion {
+
+	// ユーザID
+	private final UserId userId;
+	// 対象年月
+	private final TargetYearMonth targetYearMonth;
+	// データバージョン
+	private final long dataVersion;
+	// 整合性検証済みバージョン(未検証の場合null)
+	private final Long validatedVersion;
+
+	/**
+	 *<pre>
+	 * 引数の値から収支テーブル情報のデータバージョンを生成して返します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param targetYear 対象年
+	 * @param targetMonth 対象月
+	 * @param dataVersion データバージョン
+	 * @param validatedVersion 整合性検証済みバージョン(未検証の場合null)
+	 * @return 収支テーブル情報のデータバージョン
+	 *
+	 */
+	public static IncomeAndExpenditureDataVersion from(
+			String userId,
+			String targetYear,
+			String targetMonth,
+			long dataVersion,
+			Long validatedVersion) {
+		return new IncomeAndExpenditureDataVersion(
+				UserId.from(userId),
+				TargetYearMonth.from(targetYear, targetMonth),
+				dataVersion,
+				validatedVersion);
+	}
+
+	/**
+	 *<pre>
+	 * 前回の整合性検証以降、収支データが変更されていないかどうかを判定します。
+	 *</pre>
+	 * @return データバージョンと整合性検証済みバージョンが一致する場合true
+	 *
+	 */
+	public boolean isValidated() {
+		return Objects.equals(validatedVersion, dataVersion);
+	}
+}
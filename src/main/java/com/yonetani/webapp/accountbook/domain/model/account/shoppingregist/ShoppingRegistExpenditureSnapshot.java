@@ -0,0 +1,115 @@
+/**
+ * 買い物登録の対象となる支出項目の支出テーブル情報と支出金額テーブル情報をまとめて保持するスナップショットです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.account.shoppingregist;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItemInquiryList;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditure.ExpenditureCategory;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 買い物登録の対象となる支出項目の支出テーブル情報と支出金額テーブル情報をまとめて保持するスナップショットです。
+ * 支出テーブル、支出金額テーブルそれぞれを支出項目コードのリストで一括検索した結果から生成し、
+ * 支出項目コード(＋支出区分)ごとの情報を追加のDBアクセスなしで参照できます。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShoppingRegistExpenditureSnapshot {
+	// ユーザID
+	@Getter
+	private final UserId userId;
+	// 対象年月
+	@Getter
+	private final TargetYearMonth targetYearMonth;
+	// 支出項目コードごとの支出情報のリスト
+	private final Map<ExpenditureItemCode, List<ExpenditureItem>> expenditureItemMap;
+	// 支出項目コードごとの支出金額情報
+	private final Map<ExpenditureItemCode, ExpenditureAmountItem> expenditureAmountItemMap;
+
+	/**
+	 *<pre>
+	 * 支出情報のリストと支出金額情報のリストからスナップショットを生成します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param targetYearMonth 対象年月
+	 * @param expenditureList 支出情報のリスト
+	 * @param expenditureAmountList 支出金額情報のリスト
+	 * @return 買い物登録の対象となる支出項目のスナップショット
+	 *
+	 */
+	public static ShoppingRegistExpenditureSnapshot from(UserId userId, TargetYearMonth targetYearMonth,
+			ExpenditureItemInquiryList expenditureList, ExpenditureAmountItemInquiryList expenditureAmountList) {
+		return new ShoppingRegistExpenditureSnapshot(
+				userId,
+				targetYearMonth,
+				expenditureList.getValues().stream().collect(Collectors.groupingBy(ExpenditureItem::getExpenditureItemCode)),
+				expenditureAmountList.getValues().stream().collect(Collectors.toMap(ExpenditureAmountItem::getExpenditureItemCode, Function.identity())));
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードに対応する支出情報のリストを取得します。
+	 *</pre>
+	 * @param itemCode 支出項目コード
+	 * @return 支出情報のリスト
+	 *
+	 */
+	public ExpenditureItemInquiryList getExpenditureItemList(ExpenditureItemCode itemCode) {
+		return ExpenditureItemInquiryList.from(expenditureItemMap.getOrDefault(itemCode, Collections.emptyList()));
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コード、支出区分に対応する支出情報のリストを取得します。
+	 *</pre>
+	 * @param itemCode 支出項目コード
+	 * @param category 支出区分
+	 * @return 支出情報のリスト
+	 *
+	 */
+	public ExpenditureItemInquiryList getExpenditureItemList(ExpenditureItemCode itemCode, ExpenditureCategory category) {
+		return ExpenditureItemInquiryList.from(expenditureItemMap.getOrDefault(itemCode, Collections.emptyList()).stream()
+				.filter(item -> Objects.equals(item.getExpenditureCategory(), category))
+				.collect(Collectors.toUnmodifiableList()));
+	}
+
+	/**
+	 *<pre>
+	 * 指定した支出項目コードに対応する支出金額情報を取得します。
+	 *</pre>
+	 * @param itemCode 支出項目コード
+	 * @return 支出金額情報。該当データなしの場合はnull
+	 *
+	 */
+	public ExpenditureAmountItem getExpenditureAmountItem(ExpenditureItemCode itemCode) {
+		return expenditureAmountItemMap.get(itemCode);
+	}
+}
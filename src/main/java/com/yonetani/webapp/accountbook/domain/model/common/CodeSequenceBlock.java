@@ -0,0 +1,99 @@
+/**
+ * コード採番テーブルから予約した連続する番号の範囲(採番ブロック)を表すドメインモデルです
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.common;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+import lombok.ToString;
+
+/**
+ *<pre>
+ * コード採番テーブルから予約した連続する番号の範囲(採番ブロック)を表すドメインモデルです
+ * 予約済みの番号をDBにアクセスせずに先頭から順に払い出します。
+ * 予約した番号はDB上で発番済みのため、払い出しはスレッド間で共有せず、予約したトランザクション内で使用してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ToString
+public class CodeSequenceBlock {
+	// 予約範囲の先頭番号
+	private final int firstNumber;
+	// 予約範囲の最終番号
+	private final int lastNumber;
+	// 次に払い出す番号
+	private int nextNumber;
+
+	/**
+	 *<pre>
+	 * コンストラクタです。
+	 *</pre>
+	 * @param firstNumber 予約範囲の先頭番号
+	 * @param lastNumber 予約範囲の最終番号
+	 *
+	 */
+	private CodeSequenceBlock(int firstNumber, int lastNumber) {
+		this.firstNumber = firstNumber;
+		this.lastNumber = lastNumber;
+		this.nextNumber = firstNumber;
+	}
+
+	/**
+	 *<pre>
+	 * 予約した番号の範囲から採番ブロックを生成して返します。
+	 *
+	 * [ガード節]
+	 * ・先頭番号が0以下
+	 * ・最終番号が先頭番号より小さい
+	 *</pre>
+	 * @param firstNumber 予約範囲の先頭番号
+	 * @param lastNumber 予約範囲の最終番号
+	 * @return 採番ブロック
+	 *
+	 */
+	public static CodeSequenceBlock from(int firstNumber, int lastNumber) {
+		// ガード節(先頭番号が0以下、最終番号が先頭番号より小さい)
+		if(firstNumber <= 0 || lastNumber < firstNumber) {
+			throw new MyHouseholdAccountBookRuntimeException("採番ブロックの範囲が不正です。管理者に問い合わせてください。[firstNumber="
+					+ firstNumber + "][lastNumber=" + lastNumber + "]");
+		}
+		return new CodeSequenceBlock(firstNumber, lastNumber);
+	}
+
+	/**
+	 *<pre>
+	 * 予約済みの番号を先頭から順に払い出します。
+	 *</pre>
+	 * @return 払い出した番号
+	 * @throws MyHouseholdAccountBookRuntimeException 予約済みの番号をすべて払い出し済みの場合
+	 *
+	 */
+	public int next() {
+		if(nextNumber > lastNumber) {
+			throw new MyHouseholdAccountBookRuntimeException("採番ブロックの番号をすべて払い出し済みです。管理者に問い合わせてください。[firstNumber="
+					+ firstNumber + "][lastNumber=" + lastNumber + "]");
+		}
+		return nextNumber++;
+	}
+
+	/**
+	 *<pre>
+	 * 未払い出しの番号の件数を返します。
+	 *</pre>
+	 * @return 未払い出しの番号の件数
+	 *
+	 */
+	public int remaining() {
+		return lastNumber - nextNumber + 1;
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * コード採番テーブルの採番キー(ユーザID、採番範囲)を表すドメインモデルです
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.common;
+
+import org.springframework.util.StringUtils;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * コード採番テーブルの採番キー(ユーザID、採番範囲)を表すドメインモデルです
+ * 採番範囲は採番対象のコード種別です。年月単位で採番するコード(収入コード、支出コード、買い物登録コード)は
+ * 「コード種別:対象年月」の形式となります。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+public class CodeSequenceKey {
+	// コード種別:収入コード(年月単位)
+	public static final String INCOME_CODE = "INCOME";
+	// コード種別:支出コード(年月単位)
+	public static final String EXPENDITURE_CODE = "EXPENDITURE";
+	// コード種別:買い物登録コード(年月単位)
+	public static final String SHOPPING_REGIST_CODE = "SHOPPING_REGIST";
+	// コード種別:商品コード
+	public static final String SHOPPING_ITEM_CODE = "SHOPPING_ITEM";
+	// コード種別:イベントコード
+	public static final String EVENT_CODE = "EVENT";
+	// コード種別:支出項目コード
+	public static final String EXPENDITURE_ITEM_CODE = "EXPENDITURE_ITEM";
+
+	// ユーザID
+	private final UserId userId;
+	// 採番範囲
+	private final String sequenceScope;
+
+	/**
+	 *<pre>
+	 * ユーザ単位で採番するコードの採番キーを生成して返します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param codeType コード種別
+	 * @return 採番キー
+	 *
+	 */
+	public static CodeSequenceKey from(UserId userId, String codeType) {
+		// ガード節(コード種別が空文字列)
+		if(!StringUtils.hasLength(codeType)) {
+			throw new MyHouseholdAccountBookRuntimeException("採番キーのコード種別が設定されていません。管理者に問い合わせてください。");
+		}
+		return new CodeSequenceKey(userId, codeType);
+	}
+
+	/**
+	 *<pre>
+	 * ユーザ・年月単位で採番するコードの採番キーを生成して返します。
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param codeType コード種別
+	 * @param targetYearMonth 対象年月
+	 * @return 採番キー
+	 *
+	 */
+	public static CodeSequenceKey from(UserId userId, String codeType, TargetYearMonth targetYearMonth) {
+		return from(userId, codeType + ":" + targetYearMonth.getValue());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "[userId=" + userId + "][sequenceScope=" + sequenceScope + "]";
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * 以下の照会条件の値を表すドメインモデルです。
+ * ・ユーザID
+ * ・年月度(YYYYMM)
+ * ・支出項目コードのリスト
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.searchquery;
+
+import java.util.List;
+
+import org.springframework.util.CollectionUtils;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ *<pre>
+ * 以下の照会条件の値を表すドメインモデルです。
+ * ・ユーザID
+ * ・年月度(YYYYMM)
+ * ・支出項目コードのリスト
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList {
+	// ユーザID
+	private final UserId userId;
+	// 年月(YYYYMM)
+	private final TargetYearMonth yearMonth;
+	// 支出項目コードのリスト
+	private final List<ExpenditureItemCode> expenditureItemCodeList;
+	
+	/**
+	 *<pre>
+	 * 以下の照会条件の値を表すドメインモデルを生成します。
+	 * ・ユーザID
+	 * ・年月度(YYYYMM)
+	 * ・支出項目コードのリスト
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param yearMonth 年月(YYYYMM)
+	 * @param expenditureItemCodeList 支出項目コードのリスト(IN条件に指定する値)
+	 * @return 検索条件(ユーザID, 年月度(YYYYMM), 支出項目コードのリスト)
+	 *
+	 */
+	public static SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList from(
+			UserId userId, TargetYearMonth yearMonth, List<ExpenditureItemCode> expenditureItemCodeList) {
+		if(CollectionUtils.isEmpty(expenditureItemCodeList)) {
+			// 支出項目コードのリストは必須
+			throw new MyHouseholdAccountBookRuntimeException("支出項目コードのリストが未設定です");
+		}
+		return new SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList(userId, yearMonth, List.copyOf(expenditureItemCodeList));
+	}
+}
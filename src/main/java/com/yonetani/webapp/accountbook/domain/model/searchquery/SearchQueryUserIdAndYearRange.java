@@ -0,0 +1,88 @@
+/**
+ * 以下の照会条件の値を表すドメインモデルです。
+ * ・ユーザID
+ * ・開始年度(YYYY)
+ * ・終了年度(YYYY)
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.searchquery;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYear;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ *<pre>
+ * 以下の照会条件の値を表すドメインモデルです。
+ * ・ユーザID
+ * ・開始年度(YYYY)
+ * ・終了年度(YYYY)
+ * 
+ * 複数年度の年間収支をまとめて照会する場合に使用します。
+ * 
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class SearchQueryUserIdAndYearRange {
+	// ユーザID
+	private final UserId userId;
+	// 開始年度(YYYY)
+	private final TargetYear fromYear;
+	// 終了年度(YYYY)
+	private final TargetYear toYear;
+	
+	/**
+	 *<pre>
+	 * 以下の照会条件の値を表すドメインモデルを生成します。
+	 * ・ユーザID
+	 * ・開始年度(YYYY)
+	 * ・終了年度(YYYY)
+	 * 
+	 * [ガード節]
+	 * ・開始年度が終了年度より後の年度
+	 *</pre>
+	 * @param userId ユーザID
+	 * @param fromYear 開始年度(YYYY)
+	 * @param toYear 終了年度(YYYY)
+	 * @return 検索条件(ユーザID, 開始年度(YYYY), 終了年度(YYYY))
+	 *
+	 */
+	public static SearchQueryUserIdAndYearRange from(UserId userId, TargetYear fromYear, TargetYear toYear) {
+		// ガード節(開始年度が終了年度より後の年度)
+		if(fromYear.getValue().compareTo(toYear.getValue()) > 0) {
+			throw new MyHouseholdAccountBookRuntimeException("照会対象の年度範囲が不正です。管理者に問い合わせてください。[fromYear="
+					+ fromYear + "][toYear=" + toYear + "]");
+		}
+		return new SearchQueryUserIdAndYearRange(userId, fromYear, toYear);
+	}
+	
+	/**
+	 *<pre>
+	 * 指定した1年度のみを照会対象とする検索条件を生成します。
+	 *</pre>
+	 * @param search 検索条件(ユーザID, 年度(YYYY))
+	 * @return 検索条件(ユーザID, 開始年度(YYYY), 終了年度(YYYY))
+	 *
+	 */
+	public static SearchQueryUserIdAndYearRange from(SearchQueryUserIdAndYear search) {
+		return new SearchQueryUserIdAndYearRange(search.getUserId(), search.getYear(), search.getYear());
+	}
+}
@@ -6,16 +6,26 @@
  * 日付       : version  コメントなど
  * 2024/09/07 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)を追加
+ * 2026/10/17 : 1.02.00  JDBCバッチによる一括登録・更新(addAll/updateAll/deleteAll)を追加
+ * 2026/10/17 : 1.02.00  支出コードのリストによる一括検索(findByPrimaryKeyList)を追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索(findByExpenditureItemCodeList)を追加
  *
  */
 package com.yonetani.webapp.accountbook.domain.repository.account.expenditure;
 
+import java.util.List;
+import java.util.Map;
+
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCodeList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditure.ExpenditureCode;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.ExpenditureTotalAmount;
 
 /**
@@ -63,6 +73,39 @@ public interface ExpenditureTableRepository {
 	 */
 	int delete(ExpenditureItem data);
 	
+	/**
+	 *<pre>
+	 * 支出テーブル情報(リスト)をまとめて新規登録します。
+	 * 1件ずつ発行する場合と異なり、JDBCバッチでまとめてDBに送信します。
+	 *</pre>
+	 * @param dataList 新規追加データのリスト
+	 * @return 新規追加データごとの登録件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] addAll(List<ExpenditureItem> dataList);
+	
+	/**
+	 *<pre>
+	 * 支出テーブル情報(リスト)をまとめて更新します。
+	 * 1件ずつ発行する場合と異なり、JDBCバッチでまとめてDBに送信します。
+	 *</pre>
+	 * @param dataList 更新データのリスト
+	 * @return 更新データごとの更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] updateAll(List<ExpenditureItem> dataList);
+	
+	/**
+	 *<pre>
+	 * 支出テーブル情報(リスト)をまとめて論理削除します。
+	 * 1件ずつ発行する場合と異なり、JDBCバッチでまとめてDBに送信します。
+	 *</pre>
+	 * @param dataList 削除データのリスト
+	 * @return 削除データごとの更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] deleteAll(List<ExpenditureItem> dataList);
+	
 	/**
 	 *<pre>
 	 * 支出テーブル：EXPENDITURE_TABLEの主キー（ユーザID, 年月,支出コード）で支出テーブルを検索し、結果を取得します。
@@ -73,6 +116,18 @@ public interface ExpenditureTableRepository {
 	 */
 	ExpenditureItem findByPrimaryKey(SearchQueryUserIdAndYearMonthAndExpenditureCode searchQuery);
 	
+	/**
+	 *<pre>
+	 * ユーザID、年月と支出コードのリストで支出テーブルを一括検索し、支出コードをキーとしたマップで結果を取得します。
+	 * 複数の支出コードに対する主キー検索(findByPrimaryKey)を1回の問い合わせで行います。
+	 * 該当データのない支出コードはマップに含まれません。
+	 *</pre>
+	 * @param searchQuery 検索条件(ユーザID, 年月, 支出コードのリスト)
+	 * @return 支出コードをキーとした支出情報のマップ
+	 *
+	 */
+	Map<ExpenditureCode, ExpenditureItem> findByPrimaryKeyList(SearchQueryUserIdAndYearMonthAndExpenditureCodeList searchQuery);
+	
 	/**
 	 *<pre>
 	 * 検索条件に一致する支出情報のリストを取得します。
@@ -103,6 +158,16 @@ public interface ExpenditureTableRepository {
 	 */
 	ExpenditureItemInquiryList findByExpenditureItemCodeAndCategory(SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory searchQuery);
 	
+	/**
+	 *<pre>
+	 * 複数の支出項目コードに一致する支出情報のリストを1回の問い合わせで取得します。
+	 *</pre>
+	 * @param searchQuery 検索条件(ユーザID, 対象年月(yyyyMM), 支出項目コードのリスト)
+	 * @return 支出情報のリスト
+	 *
+	 */
+	ExpenditureItemInquiryList findByExpenditureItemCodeList(SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList searchQuery);
+	
 	/**
 	 *<pre>
 	 * 新規の支出コード発番用にユーザID、対象年月に対応する支出情報が何件あるかを取得します。
@@ -122,4 +187,15 @@ public interface ExpenditureTableRepository {
 	 *
 	 */
 	ExpenditureTotalAmount getExpenditureTotalAmount(SearchQueryUserIdAndYearMonth searchQuery);
+	
+	/**
+	 *<pre>
+	 * ユーザID、対象年月に対応する支出情報が存在するかどうかを判定します。
+	 * 件数や明細を取得せず、存在有無のみを確認する軽量な問い合わせです。
+	 *</pre>
+	 * @param searchQuery 検索条件(ユーザID, 対象年月(yyyyMM))
+	 * @return 支出情報が存在する場合true
+	 *
+	 */
+	boolean existsBy(SearchQueryUserIdAndYearMonth searchQuery);
 }
@@ -8,10 +8,19 @@
  * 日付       : version  コメントなど
  * 2024/10/06 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  年間収支(明細)の年度範囲一括取得を追加
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)を追加
+ * 2026/10/17 : 1.02.00  DB上での加減算による一括登録・更新(upsertAll/updateDeltaAll)を追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索(findByExpenditureItemCodeList)を追加
+ * 2026/10/17 : 1.02.00  一括登録・加算(upsertAll)の同時初回登録時の動作を追記
  *
  */
 package com.yonetani.webapp.accountbook.domain.repository.account.expenditure;
 
+import java.util.List;
+import java.util.Map;
+
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountDelta;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureItemList;
@@ -19,6 +28,9 @@ import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearM
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYear;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearRange;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYear;
 
 /**
  *<pre>
@@ -54,6 +66,31 @@ public interface SisyutuKingakuTableRepository {
 	 */
 	int update(ExpenditureAmountItem data);
 	
+	/**
+	 *<pre>
+	 * 支出金額テーブル情報(リスト)をまとめて新規登録します。対象データが登録済みの場合は登録済みの値に加算します。
+	 * 加算はDB上で行うため、登録済みの値を事前に読み込む必要はありません。
+	 * 加算する項目は支出予定金額・支出金額・支出金額B・支出金額Cで、支出支払日は大きいほうの値で更新します。
+	 * 同一データを他のトランザクションが同時に新規登録した場合も、登録されたデータに加算します。
+	 *</pre>
+	 * @param dataList 新規追加データ(加算値)のリスト
+	 * @return データごとの登録・更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] upsertAll(List<ExpenditureAmountItem> dataList);
+	
+	/**
+	 *<pre>
+	 * 支出金額テーブル情報に増減値(リスト)をまとめて加減算します。
+	 * 加減算はDB上で行うため、登録済みの値を事前に読み込む必要はありません。
+	 * 対象データが存在しない場合、加減算後の値がマイナス値となる場合は更新しません(更新件数0件)。
+	 *</pre>
+	 * @param deltaList 増減値のリスト
+	 * @return 増減値ごとの更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] updateDeltaAll(List<ExpenditureAmountDelta> deltaList);
+	
 	/**
 	 *<pre>
 	 * 支出金額テーブル：SISYUTU_KINGAKU_TABLEの主キー（ユーザID、支出項目コード）で支出金額テーブルを検索し、結果を取得します。
@@ -74,6 +111,16 @@ public interface SisyutuKingakuTableRepository {
 	 */
 	ExpenditureAmountItemInquiryList findBy(SearchQueryUserIdAndYearMonth search);
 	
+	/**
+	 *<pre>
+	 * 複数の支出項目コードに一致する支出金額テーブル情報のリストを1回の問い合わせで取得します。
+	 *</pre>
+	 * @param search 検索条件(ユーザID, 年月, 支出項目コードのリスト)
+	 * @return 支出金額情報のリスト
+	 *
+	 */
+	ExpenditureAmountItemInquiryList findByExpenditureItemCodeList(SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList search);
+	
 	/**
 	 *<pre>
 	 * 指定月に対応する支出金額情報を取得します。
@@ -93,4 +140,26 @@ public interface SisyutuKingakuTableRepository {
 	 *
 	 */
 	AccountYearMeisaiInquiryList select(SearchQueryUserIdAndYear searchQuery);
+	
+	/**
+	 *<pre>
+	 * 指定した年度範囲(開始年度～終了年度)に対応する収支(明細)のリストを年度毎に取得します。
+	 * 複数年度分の収支(明細)を1回の検索で取得します。
+	 *</pre>
+	 * @param searchQuery 検索条件(ユーザID, 開始年度, 終了年度)
+	 * @return 年度をキーとした収支(明細)のリスト結果(年度の昇順)。収支(明細)がない年度は含まれません
+	 *
+	 */
+	Map<TargetYear, AccountYearMeisaiInquiryList> select(SearchQueryUserIdAndYearRange searchQuery);
+	
+	/**
+	 *<pre>
+	 * ユーザID、対象年月に対応する支出金額情報が存在するかどうかを判定します。
+	 * 件数や明細を取得せず、存在有無のみを確認する軽量な問い合わせです。
+	 *</pre>
+	 * @param searchQuery 検索条件(ユーザID, 対象年月(yyyyMM))
+	 * @return 支出金額情報が存在する場合true
+	 *
+	 */
+	boolean existsBy(SearchQueryUserIdAndYearMonth searchQuery);
 }
@@ -7,12 +7,15 @@
  * 日付       : version  コメントなど
  * 2024/01/10 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  親の支出項目配下の支出項目表示順の一括変更を追加
+ * 2026/10/17 : 1.02.00  未使用となった支出項目表示順の更新(updateExpenditureItemSortOrder)を削除
  *
  */
 package com.yonetani.webapp.accountbook.domain.repository.account.expenditureinfo;
 
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemSortOrderShift;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemSortOrderBetweenAB;
@@ -62,13 +65,14 @@ public interface SisyutuItemTableRepository {
 	
 	/**
 	 *<pre>
-	 * 支出項目テーブル情報のうち、支出項目表示順の値を更新します。
+	 * 親の支出項目配下(子孫を含む)の支出項目表示順を指定の一括変更内容(移動・ずらし)で1回の更新で変更します。
+	 * 子孫の支出項目を1件ずつ検索・更新する必要はありません。
 	 *</pre>
-	 * @param data 更新データ
-	 * @return 更新件数
+	 * @param shift 支出項目表示順の一括変更内容
+	 * @return 更新件数(子孫を含む)
 	 *
 	 */
-	int updateExpenditureItemSortOrder(ExpenditureItemInfo data);
+	int updateExpenditureItemSortOrderShift(ExpenditureItemSortOrderShift shift);
 	
 	/**
 	 *<pre>
@@ -6,10 +6,13 @@
  * 日付       : version  コメントなど
  * 2024/09/07 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  JDBCバッチによる一括登録・更新(addAll/updateAll/deleteAll)を追加
  *
  */
 package com.yonetani.webapp.accountbook.domain.repository.account.income;
 
+import java.util.List;
+
 import com.yonetani.webapp.accountbook.domain.model.account.income.IncomeItem;
 import com.yonetani.webapp.accountbook.domain.model.account.income.IncomeItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
@@ -60,6 +63,39 @@ public interface IncomeTableRepository {
 	 */
 	int delete(IncomeItem data);
 	
+	/**
+	 *<pre>
+	 * 収入テーブル情報(リスト)をまとめて新規登録します。
+	 * 1件ずつ発行する場合と異なり、JDBCバッチでまとめてDBに送信します。
+	 *</pre>
+	 * @param dataList 新規追加データのリスト
+	 * @return 新規追加データごとの登録件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] addAll(List<IncomeItem> dataList);
+	
+	/**
+	 *<pre>
+	 * 収入テーブル情報(リスト)をまとめて更新します。
+	 * 1件ずつ発行する場合と異なり、JDBCバッチでまとめてDBに送信します。
+	 *</pre>
+	 * @param dataList 更新データのリスト
+	 * @return 更新データごとの更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] updateAll(List<IncomeItem> dataList);
+	
+	/**
+	 *<pre>
+	 * 収入テーブル情報(リスト)をまとめて論理削除します。
+	 * 1件ずつ発行する場合と異なり、JDBCバッチでまとめてDBに送信します。
+	 *</pre>
+	 * @param dataList 削除データのリスト
+	 * @return 削除データごとの更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] deleteAll(List<IncomeItem> dataList);
+	
 	/**
 	 *<pre>
 	 * ユーザID、対象年月に対応する収入情報を取得します。
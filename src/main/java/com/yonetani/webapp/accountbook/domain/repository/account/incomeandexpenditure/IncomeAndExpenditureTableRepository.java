@@ -7,11 +7,16 @@
  * 日付       : version  コメントなど
  * 2023/10/12 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  データバージョン(整合性検証済みバージョン)の参照・更新を追加
+ * 2026/10/17 : 1.02.00  参照専用トランザクションからの整合性検証済みバージョン登録の説明を追加
  *
  */
 package com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure;
 
+import java.util.List;
+
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYear;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
@@ -68,5 +73,38 @@ public interface IncomeAndExpenditureTableRepository {
 	 *
 	 */
 	IncomeAndExpenditure findByPrimaryKey(SearchQueryUserIdAndYearMonth searchQuery);
+	
+	/**
+	 *<pre>
+	 * 指定年月度に対応する収支テーブル情報のデータバージョン(整合性検証状態)を取得します。
+	 *</pre>
+	 * @param searchQuery 検索条件(ユーザID, 年月度)
+	 * @return 収支テーブル情報のデータバージョン(データなしの場合はnull)
+	 *
+	 */
+	IncomeAndExpenditureDataVersion findDataVersion(SearchQueryUserIdAndYearMonth searchQuery);
+	
+	/**
+	 *<pre>
+	 * 整合性未検証(データバージョンと整合性検証済みバージョンが不一致)の収支テーブル情報のデータバージョンを
+	 * 指定件数まで取得します。
+	 *</pre>
+	 * @param limit 最大取得件数
+	 * @return 整合性未検証の収支テーブル情報のデータバージョンのリスト
+	 *
+	 */
+	List<IncomeAndExpenditureDataVersion> findUnvalidatedDataVersions(int limit);
+	
+	/**
+	 *<pre>
+	 * 指定したデータバージョンを整合性検証済みバージョンとして登録します。
+	 * 検証開始時点からデータバージョンが変わっている場合は更新しません(0件を返します)。
+	 * 参照専用トランザクションから呼び出された場合、登録はコミット後に行います(0件を返します)。
+	 *</pre>
+	 * @param dataVersion 整合性検証を行った時点の収支テーブル情報のデータバージョン
+	 * @return 更新されたデータの件数
+	 *
+	 */
+	int updateValidatedVersion(IncomeAndExpenditureDataVersion dataVersion);
 
 }
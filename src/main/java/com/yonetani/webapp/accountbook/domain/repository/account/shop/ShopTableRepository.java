@@ -6,10 +6,13 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/01/10 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  JDBCバッチによる店舗表示順の一括更新(updateShopSortAll)を追加
  *
  */
 package com.yonetani.webapp.accountbook.domain.repository.account.shop;
 
+import java.util.List;
+
 import com.yonetani.webapp.accountbook.domain.model.account.shop.Shop;
 import com.yonetani.webapp.accountbook.domain.model.account.shop.ShopInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
@@ -61,6 +64,16 @@ public interface ShopTableRepository {
 	 */
 	int updateShopSort(Shop data);
 	
+	/**
+	 *<pre>
+	 * 店舗テーブル情報(リスト)のうち、店舗表示順の値をまとめて更新します(JDBCバッチ)。
+	 *</pre>
+	 * @param dataList 更新データのリスト
+	 * @return データごとの更新件数(引数のリストと同じ順番)
+	 *
+	 */
+	int[] updateShopSortAll(List<Shop> dataList);
+	
 	/**
 	 *<pre>
 	 * ユーザIDに対応する店舗情報を取得します。
@@ -0,0 +1,71 @@
+/**
+ * コード採番テーブル:CODE_SEQUENCE_TABLEの照会・更新を行うリポジトリーです。
+ * 以下のIFを提供します。
+ * ・指定した採番範囲の発番済みの最終番号を加算
+ * ・指定した採番範囲の発番済みの最終番号を取得
+ * ・採番範囲を新規登録(登録済みの場合は発番済みの最終番号を加算)
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  採番範囲の新規登録を登録済みの場合に加算する登録・加算(addOrIncrement)に変更
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.repository.common;
+
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
+
+/**
+ *<pre>
+ * コード採番テーブル:CODE_SEQUENCE_TABLEの照会・更新を行うリポジトリーです。
+ * 以下のIFを提供します。
+ * ・指定した採番範囲の発番済みの最終番号を加算
+ * ・指定した採番範囲の発番済みの最終番号を取得
+ * ・採番範囲を新規登録(登録済みの場合は発番済みの最終番号を加算)
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+public interface CodeSequenceTableRepository {
+
+	/**
+	 *<pre>
+	 * 指定した採番範囲の発番済みの最終番号に採番数を加算します。
+	 * 加算した行はトランザクション終了までロックされるため、同一採番範囲の採番は直列化されます。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param count 採番数
+	 * @return 更新されたデータの件数(採番範囲が未登録の場合は0件)
+	 *
+	 */
+	int increment(CodeSequenceKey key, int count);
+
+	/**
+	 *<pre>
+	 * 指定した採番範囲の発番済みの最終番号を取得します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @return 発番済みの最終番号(採番範囲が未登録の場合はnull)
+	 *
+	 */
+	Integer findLastIssuedNumber(CodeSequenceKey key);
+
+	/**
+	 *<pre>
+	 * 採番範囲を初期値に採番数を加算した発番済みの最終番号で新規登録します。
+	 * 他のトランザクションが同時に登録し採番範囲が登録済みの場合は、一意制約違反とせずに
+	 * 登録済みの発番済みの最終番号に採番数を加算します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param initialNumber 初回採番時の発番済みの最終番号(初期値)
+	 * @param count 採番数
+	 * @return 新規登録した場合は1、登録済みの採番範囲に加算した場合は2
+	 *
+	 */
+	int addOrIncrement(CodeSequenceKey key, int initialNumber, int count);
+
+}
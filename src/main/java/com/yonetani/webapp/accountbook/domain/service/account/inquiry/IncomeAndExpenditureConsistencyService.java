@@ -6,6 +6,9 @@
  * 日付       : version  コメントなど
  * 2025/12/05 : 1.00.00  新規作成
  * 2026/06/13 : 1.02.00  validateDataExistence拡張(AccountMonthInquiryExpenditureList引数追加)
+ * 2026/10/17 : 1.02.00  データバージョンによる再検証要否判定(validateAllIfChanged)を追加
+ * 2026/10/17 : 1.02.00  存在確認によるデータ存在の整合性検証(validateDataExistence)を追加
+ * 2026/10/17 : 1.02.00  整合性検証済みバージョンを登録しない検証(validateAllIfChangedWithoutRegist)を追加
  *
  */
 package com.yonetani.webapp.accountbook.domain.service.account.inquiry;
@@ -16,11 +19,14 @@ import com.yonetani.webapp.accountbook.domain.exception.DataInconsistencyExcepti
 import com.yonetani.webapp.accountbook.domain.exception.ExpenditureAmountInconsistencyException;
 import com.yonetani.webapp.accountbook.domain.exception.IncomeAmountInconsistencyException;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureItemList;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.income.IncomeTableRepository;
+import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.ExpenditureTotalAmount;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.TotalAvailableFunds;
 import com.yonetani.webapp.accountbook.domain.type.common.ExpenditureAmount;
@@ -50,6 +56,11 @@ import lombok.RequiredArgsConstructor;
  * ・収入金額の整合性チェック
  * ・支出金額の整合性チェック
  *
+ * [データバージョンによる再検証の省略]
+ * ・収支テーブルは更新ごとにデータバージョンがカウントアップされます。
+ * ・validateAllIfChangedでは、前回検証成功時のデータバージョン(整合性検証済みバージョン)から
+ *   変わっていない場合、収入テーブル・支出テーブルの合計値の再計算を省略します。
+ *
  *</pre>
  *
  * @author ：Kouki Yonetani
@@ -64,6 +75,10 @@ public class IncomeAndExpenditureConsistencyService {
 	private final IncomeTableRepository incomeRepository;
 	// 支出テーブルリポジトリ
 	private final ExpenditureTableRepository expenditureRepository;
+	// 収支テーブルリポジトリ
+	private final IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
+	// 支出金額テーブルリポジトリ
+	private final SisyutuKingakuTableRepository sisyutuKingakuRepository;
 
 	/**
 	 *<pre>
@@ -227,6 +242,62 @@ public class IncomeAndExpenditureConsistencyService {
 		}
 	}
 
+	/**
+	 *<pre>
+	 * データ存在の整合性を、支出金額情報・支出情報の明細を取得せずに存在確認のみで検証します。
+	 *
+	 * [ビジネスルール]
+	 * ・収支データが存在しない場合、支出金額データも存在してはならない
+	 * ・収支データが存在しない場合、支出データも存在してはならない
+	 *
+	 * [検証内容]
+	 * 収支集約が空（データなし）の場合のみ、支出金額テーブル・支出テーブルに対象月のデータが存在するかを
+	 * 存在確認の問い合わせで判定し、存在する場合はデータ不整合エラーとする。
+	 * 収支集約が空でない場合は問い合わせを行わない。
+	 *
+	 * [例外]
+	 * ・DataInconsistencyException：データ存在の整合性エラー
+	 *
+	 * [使用例]
+	 * <code>
+	 * IncomeAndExpenditure aggregate = ...;
+	 * SearchQueryUserIdAndYearMonth searchCondition = ...;
+	 * consistencyService.validateDataExistence(aggregate, searchCondition);
+	 * </code>
+	 *</pre>
+	 * @param aggregate 検証対象の収支集約
+	 * @param searchCondition 検索条件（ユーザID、対象年月）
+	 * @throws DataInconsistencyException データ存在の整合性エラー
+	 *
+	 */
+	public void validateDataExistence(
+			IncomeAndExpenditure aggregate,
+			SearchQueryUserIdAndYearMonth searchCondition) {
+
+		// 収支データが存在する場合は検証不要
+		if (!aggregate.isEmpty()) {
+			return;
+		}
+		// 収支データが存在しない場合で、支出金額データが存在する場合はエラー
+		if (sisyutuKingakuRepository.existsBy(searchCondition)) {
+			throw new DataInconsistencyException(
+				String.format(
+					"該当月の収支データが未登録の状態で支出金額情報が登録済みの状態です。管理者に問い合わせてください。[yearMonth=%s]",
+					searchCondition.getYearMonth()
+				)
+			);
+		}
+		// 収支データが存在しない場合で、支出データが存在する場合はエラー
+		if (expenditureRepository.existsBy(searchCondition)) {
+			throw new DataInconsistencyException(
+				String.format(
+					"該当月の収支データが未登録の状態で支出情報が登録済みの状態です。管理者に問い合わせてください。[yearMonth=%s]",
+					searchCondition.getYearMonth()
+				)
+			);
+		}
+	}
+
 	/**
 	 *<pre>
 	 * すべての整合性を一括検証します。
@@ -262,4 +333,93 @@ public class IncomeAndExpenditureConsistencyService {
 		// 支出金額の整合性検証
 		validateExpenditureConsistency(aggregate, searchCondition);
 	}
+
+	/**
+	 *<pre>
+	 * 前回の整合性検証以降に収支データが変更されている場合のみ、すべての整合性を一括検証します。
+	 *
+	 * [検証内容]
+	 * 1. 収支テーブルのデータバージョンを取得
+	 * 2. データバージョンと整合性検証済みバージョンが一致する場合は検証を省略
+	 * 3. 一致しない場合は{@link #validateAll(IncomeAndExpenditure, SearchQueryUserIdAndYearMonth)}で検証し、
+	 *    検証成功時に取得したデータバージョンを整合性検証済みバージョンとして登録
+	 *    (検証中に収支データが更新された場合、データバージョンが変わるため登録されません)
+	 *
+	 * [例外]
+	 * ・IncomeAmountInconsistencyException：収入金額の整合性エラー
+	 * ・ExpenditureAmountInconsistencyException：支出金額の整合性エラー
+	 *
+	 * [使用例]
+	 * <code>
+	 * IncomeAndExpenditure aggregate = ...;
+	 * SearchQueryUserIdAndYearMonth searchCondition = ...;
+	 * consistencyService.validateAllIfChanged(aggregate, searchCondition);
+	 * </code>
+	 *</pre>
+	 * @param aggregate 検証対象の収支集約
+	 * @param searchCondition 検索条件（ユーザID、対象年月）
+	 * @return 整合性検証を実施した場合true、検証を省略した場合false
+	 * @throws IncomeAmountInconsistencyException 収入金額の整合性エラー
+	 * @throws ExpenditureAmountInconsistencyException 支出金額の整合性エラー
+	 *
+	 */
+	public boolean validateAllIfChanged(
+			IncomeAndExpenditure aggregate,
+			SearchQueryUserIdAndYearMonth searchCondition) {
+
+		// 収支テーブルのデータバージョンを取得(合計値の取得より前に取得し、検証中の更新を検出可能にする)
+		IncomeAndExpenditureDataVersion dataVersion = incomeAndExpenditureRepository.findDataVersion(searchCondition);
+
+		// 前回検証時から収支データの変更がない場合、検証を省略
+		if (dataVersion != null && dataVersion.isValidated()) {
+			return false;
+		}
+
+		// すべての整合性を一括検証
+		validateAll(aggregate, searchCondition);
+
+		// 検証成功時のデータバージョンを整合性検証済みバージョンとして登録
+		if (dataVersion != null) {
+			incomeAndExpenditureRepository.updateValidatedVersion(dataVersion);
+		}
+		return true;
+	}
+
+	/**
+	 *<pre>
+	 * 前回の整合性検証以降に収支データが変更されている場合のみ、すべての整合性を一括検証し、
+	 * 整合性検証済みバージョンとして登録するデータバージョンを返します。
+	 * {@link #validateAllIfChanged(IncomeAndExpenditure, SearchQueryUserIdAndYearMonth)}と異なり、
+	 * 整合性検証済みバージョンの登録は行いません(参照専用トランザクションからの呼び出し用)。
+	 * 登録は呼び出し元で{@link IncomeAndExpenditureTableRepository#updateValidatedVersion(IncomeAndExpenditureDataVersion)}
+	 * を使用して行ってください。
+	 *
+	 * [例外]
+	 * ・IncomeAmountInconsistencyException：収入金額の整合性エラー
+	 * ・ExpenditureAmountInconsistencyException：支出金額の整合性エラー
+	 *
+	 *</pre>
+	 * @param aggregate 検証対象の収支集約
+	 * @param searchCondition 検索条件（ユーザID、対象年月）
+	 * @return 整合性検証済みバージョンとして登録するデータバージョン。検証を省略した場合、収支データがない場合はnull
+	 * @throws IncomeAmountInconsistencyException 収入金額の整合性エラー
+	 * @throws ExpenditureAmountInconsistencyException 支出金額の整合性エラー
+	 *
+	 */
+	public IncomeAndExpenditureDataVersion validateAllIfChangedWithoutRegist(
+			IncomeAndExpenditure aggregate,
+			SearchQueryUserIdAndYearMonth searchCondition) {
+
+		// 収支テーブルのデータバージョンを取得(合計値の取得より前に取得し、検証中の更新を検出可能にする)
+		IncomeAndExpenditureDataVersion dataVersion = incomeAndExpenditureRepository.findDataVersion(searchCondition);
+
+		// 前回検証時から収支データの変更がない場合、検証を省略
+		if (dataVersion != null && dataVersion.isValidated()) {
+			return null;
+		}
+
+		// すべての整合性を一括検証
+		validateAll(aggregate, searchCondition);
+		return dataVersion;
+	}
 }
@@ -6,6 +6,7 @@
  * 日付       : version  コメントなど
  * 2026/04/05 : 1.00.00  新規作成
  * 2026/05/23 : 1.01.01  年間固定費合計画面新規追加対応
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.fixedcost;
@@ -40,6 +41,17 @@ public class FixedCostPaymentTotalAmount extends Money {
 	private FixedCostPaymentTotalAmount(BigDecimal value) {
 		super(value);
 	}
+
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 支払金額合計（銭単位）
+	 *
+	 */
+	private FixedCostPaymentTotalAmount(long minorUnits) {
+		super(minorUnits);
+	}
 	
 	/**
 	 *<pre>
@@ -81,7 +93,7 @@ public class FixedCostPaymentTotalAmount extends Money {
 	 *
 	 */
 	public FixedCostPaymentTotalAmount add(FixedCostPaymentAmount addValue) {
-		return new FixedCostPaymentTotalAmount(super.add(addValue));
+		return new FixedCostPaymentTotalAmount(addMinorUnits(addValue));
 	}
 
 	/**
@@ -93,6 +105,6 @@ public class FixedCostPaymentTotalAmount extends Money {
 	 *
 	 */
 	public FixedCostPaymentTotalAmount add(FixedCostPaymentTotalAmount addValue) {
-		return new FixedCostPaymentTotalAmount(super.add(addValue));
+		return new FixedCostPaymentTotalAmount(addMinorUnits(addValue));
 	}
 }
@@ -6,6 +6,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/01/02 : 1.00.00  新規作成(リファクタリング対応)
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure;
@@ -46,6 +47,17 @@ public class BalanceTotalAmount extends Money {
 	private BalanceTotalAmount(BigDecimal value) {
 		super(value);
 	}
+
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 収支金額合計（銭単位）
+	 *
+	 */
+	private BalanceTotalAmount(long minorUnits) {
+		super(minorUnits);
+	}
 	
 	/**
 	 *<pre>
@@ -77,7 +89,7 @@ public class BalanceTotalAmount extends Money {
 	 *
 	 */
 	public BalanceTotalAmount add(BalanceAmount addValue) {
-		return BalanceTotalAmount.from(super.add(addValue));
+		return new BalanceTotalAmount(addMinorUnits(addValue));
 	}
 	
 	/**
@@ -7,6 +7,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/12/28 : 1.00.00  リファクタリング対応(DDD適応)により新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure;
@@ -41,6 +42,17 @@ public class ExpectedExpenditureAmount extends Money {
 	private ExpectedExpenditureAmount(BigDecimal value) {
 		super(value);
 	}
+
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 支出予定金額（銭単位）
+	 *
+	 */
+	private ExpectedExpenditureAmount(long minorUnits) {
+		super(minorUnits);
+	}
 	
 	/**
 	 *<pre>
@@ -80,6 +92,6 @@ public class ExpectedExpenditureAmount extends Money {
 	 *
 	 */
 	public ExpectedExpenditureAmount add(ExpectedExpenditureAmount addValue) {
-		return ExpectedExpenditureAmount.from(super.add(addValue));
+		return new ExpectedExpenditureAmount(addMinorUnits(addValue));
 	}
 }
@@ -6,6 +6,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/12/28 : 1.00.00  リファクタリング対応(DDD適応)により新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure;
@@ -40,6 +41,17 @@ public class ExpectedExpenditureTotalAmount extends Money {
 	private ExpectedExpenditureTotalAmount(BigDecimal value) {
 		super(value);
 	}
+
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 支出予定金額合計（銭単位）
+	 *
+	 */
+	private ExpectedExpenditureTotalAmount(long minorUnits) {
+		super(minorUnits);
+	}
 	
 	/**
 	 *<pre>
@@ -81,6 +93,6 @@ public class ExpectedExpenditureTotalAmount extends Money {
 	 *
 	 */
 	public ExpectedExpenditureTotalAmount add(ExpectedExpenditureAmount addValue) {
-		return new ExpectedExpenditureTotalAmount(super.add(addValue));
+		return new ExpectedExpenditureTotalAmount(addMinorUnits(addValue));
 	}
 }
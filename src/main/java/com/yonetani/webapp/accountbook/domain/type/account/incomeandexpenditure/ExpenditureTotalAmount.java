@@ -6,6 +6,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/12/28 : 1.00.00  リファクタリング対応(DDD適応)により新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure;
@@ -45,6 +46,17 @@ public class ExpenditureTotalAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 支出金額合計（銭単位）
+	 *
+	 */
+	private ExpenditureTotalAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「支出金額合計」項目の値を表すドメインタイプを生成します。
@@ -105,6 +117,6 @@ public class ExpenditureTotalAmount extends Money {
 	 *
 	 */
 	public ExpenditureTotalAmount add(ExpenditureAmount addValue) {
-		return ExpenditureTotalAmount.from(super.add(addValue));
+		return new ExpenditureTotalAmount(addMinorUnits(addValue));
 	}
 }
@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/01/02 : 1.00.00  新規作成(リファクタリング対応)
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure;
@@ -42,6 +43,17 @@ public class RegularIncomeTotalAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 通常収入金額合計（銭単位）
+	 *
+	 */
+	private RegularIncomeTotalAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「通常収入金額合計」項目の値を表すドメインタイプを生成します。
@@ -79,6 +91,6 @@ public class RegularIncomeTotalAmount extends Money {
 	 *
 	 */
 	public RegularIncomeTotalAmount add(RegularIncomeAmount addValue) {
-		return RegularIncomeTotalAmount.from(super.add(addValue));
+		return new RegularIncomeTotalAmount(addMinorUnits(addValue));
 	}
 }
@@ -11,6 +11,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/01/06 : 1.00.00  リファクタリング対応(DDD適応)により新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure;
@@ -59,6 +60,17 @@ public class TotalAvailableFunds extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 利用可能資金合計（銭単位）
+	 *
+	 */
+	private TotalAvailableFunds(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「利用可能資金合計」の値を表すドメインタイプを生成します。
@@ -130,6 +142,6 @@ public class TotalAvailableFunds extends Money {
 	 *
 	 */
 	public TotalAvailableFunds add(RegularIncomeAmount addValue) {
-		return TotalAvailableFunds.from(super.add(addValue));
+		return new TotalAvailableFunds(addMinorUnits(addValue));
 	}
 }
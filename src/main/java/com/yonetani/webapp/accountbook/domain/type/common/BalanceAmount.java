@@ -7,6 +7,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/11/18 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
@@ -50,6 +51,17 @@ public class BalanceAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 収支金額（銭単位）
+	 *
+	 */
+	private BalanceAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「収支金額」項目の値を表すドメインタイプを生成します。
@@ -92,10 +104,10 @@ public class BalanceAmount extends Money {
 	 */
 	public static BalanceAmount calculate(TotalAvailableFunds availableFunds, ExpenditureAmount expenditureAmount) {
 		// 収支金額 = 利用可能資金合計 - 支出金額
-		BigDecimal balance = availableFunds.getValue().subtract(expenditureAmount.getValue());
+		long balance = Math.subtractExact(availableFunds.getMinorUnits(), expenditureAmount.getMinorUnits());
 
 		// 収支金額ドメインタイプを生成して返却
-		return BalanceAmount.from(balance);
+		return new BalanceAmount(balance);
 	}
 	
 	/**
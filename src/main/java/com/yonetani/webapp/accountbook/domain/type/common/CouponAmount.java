@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/11/23 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
@@ -48,6 +49,17 @@ public class CouponAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits クーポン金額（銭単位）
+	 *
+	 */
+	private CouponAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「クーポン金額」項目の値を表すドメインタイプを生成します。
@@ -97,6 +109,6 @@ public class CouponAmount extends Money {
 	 *
 	 */
 	public CouponAmount add(CouponAmount addValue) {
-		return CouponAmount.from(super.add(addValue));
+		return new CouponAmount(addMinorUnits(addValue));
 	}
 }
@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/11/18 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
@@ -46,6 +47,17 @@ public class ExpenditureAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 支出金額（銭単位）
+	 *
+	 */
+	private ExpenditureAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「支出金額」項目の値を表すドメインタイプを生成します。
@@ -83,7 +95,7 @@ public class ExpenditureAmount extends Money {
 	 *
 	 */
 	public ExpenditureAmount add(ExpenditureAmount addValue) {
-		return ExpenditureAmount.from(super.add(addValue));
+		return new ExpenditureAmount(addMinorUnits(addValue));
 	}
 
 	/**
@@ -98,15 +110,15 @@ public class ExpenditureAmount extends Money {
 	 */
 	public ExpenditureAmount subtract(ExpenditureAmount subtractValue) {
 		// 基底クラスの減算処理を実行
-		BigDecimal result = super.subtract(subtractValue);
+		long result = subtractMinorUnits(subtractValue);
 
 		// 減算結果がマイナスになる場合はエラー
-		if(result.compareTo(BigDecimal.ZERO) < 0) {
+		if(result < 0) {
 			throw new MyHouseholdAccountBookRuntimeException(
 				"支出金額の減算結果がマイナスになります。管理者に問い合わせてください。");
 		}
 
-		return ExpenditureAmount.from(result);
+		return new ExpenditureAmount(result);
 	}
 
 	/**
@@ -134,15 +146,15 @@ public class ExpenditureAmount extends Money {
 		}
 
 		// 支払金額にクーポン金額を適用（支出金額 - クーポン金額）
-		BigDecimal result = this.getValue().subtract(coupon.getValue());
+		long result = subtractMinorUnits(coupon);
 
 		// ガード節（クーポン適用後の金額がマイナスは不正）
-		if(result.compareTo(BigDecimal.ZERO) < 0) {
+		if(result < 0) {
 			throw new MyHouseholdAccountBookRuntimeException(
 				String.format("クーポン適用後の支払金額がマイナスになります。[支出金額=%s, クーポン金額=%s]",
 					this.toFormatString(), coupon.toFormatString()));
 		}
 
-		return ExpenditureAmount.from(result);
+		return new ExpenditureAmount(result);
 	}
 }
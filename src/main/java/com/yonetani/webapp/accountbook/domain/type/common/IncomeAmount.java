@@ -16,6 +16,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/01/05 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
@@ -61,6 +62,17 @@ public class IncomeAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 収入金額（銭単位）
+	 *
+	 */
+	private IncomeAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「収入金額」項目の値を表すドメインタイプを生成します。
@@ -96,7 +108,7 @@ public class IncomeAmount extends Money {
 	 *
 	 */
 	public IncomeAmount add(IncomeAmount addValue) {
-		return IncomeAmount.from(super.add(addValue));
+		return new IncomeAmount(addMinorUnits(addValue));
 	}
 
 	/**
@@ -109,11 +121,11 @@ public class IncomeAmount extends Money {
 	 *
 	 */
 	public IncomeAmount subtract(IncomeAmount subtractValue) {
-		BigDecimal result = super.subtract(subtractValue);
+		long result = subtractMinorUnits(subtractValue);
 		// 減算結果がマイナスの場合は例外
-		if(result.compareTo(BigDecimal.ZERO) < 0) {
+		if(result < 0) {
 			throw new MyHouseholdAccountBookRuntimeException("収入金額の減算結果がマイナスになります。管理者に問い合わせてください。");
 		}
-		return IncomeAmount.from(result);
+		return new IncomeAmount(result);
 	}
 }
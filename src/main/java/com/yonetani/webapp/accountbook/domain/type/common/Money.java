@@ -7,19 +7,18 @@
  * 日付       : version  コメントなど
  * 2025/11/18 : 1.00.00  新規作成
  * 2026/05/23 : 1.01.01  年間固定費合計画面新規追加対応でtoZeroDashString()メソッド追加
+ * 2026/10/17 : 1.02.00  画面表示用のフォーマットをKingakuFormatUtilsで行うよう変更
+ * 2026/10/17 : 1.02.00  金額の値を銭単位のlong値で保持するよう変更
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.utils.KingakuFormatUtils;
 
-import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  *<pre>
@@ -35,22 +34,95 @@ import lombok.RequiredArgsConstructor;
  * ・自己検証：不正な値は生成時に検証
  * ・型安全性：サブクラスで具体的な金額の型を表現
  *
+ * [内部表現]
+ * 金額の値は銭単位(円の値×100)のlong値で保持し、加算・減算・比較はlong値のまま行います。
+ * BigDecimal(スケール2)への変換はDBへの永続化・画面表示などの境界(getValue())でのみ行います。
+ * サブクラスの演算は、銭単位の値を返すaddMinorUnits/subtractMinorUnitsと銭単位の値を受け取るコンストラクタを
+ * 使用することで、途中のBigDecimalを生成せずに結果のインスタンスを生成できます。
+ *
  *</pre>
  *
  * @author ：Kouki Yonetani
  * @since 家計簿アプリ(1.00)
  *
  */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-@Getter
 @EqualsAndHashCode
 public abstract class Money {
 
 	/** 値が0の金額の値 */
 	protected static final BigDecimal MONEY_ZERO = BigDecimal.ZERO.setScale(2);
+	// 金額の値のスケール(小数点以下2桁)
+	private static final int SCALE = 2;
+	// 1円あたりの銭単位の値
+	private static final long MINOR_UNITS_PER_YEN = 100L;
 	
-	// 金額の値（スケール2固定: 小数点以下2桁）
-	private final BigDecimal value;
+	// 金額の値（銭単位: 円の値×100）
+	private final long minorUnits;
+
+	/**
+	 *<pre>
+	 * 金額の値(スケール2)からインスタンスを生成します。
+	 *</pre>
+	 * @param value 金額の値
+	 *
+	 */
+	protected Money(BigDecimal value) {
+		this(toMinorUnits(value));
+	}
+
+	/**
+	 *<pre>
+	 * 銭単位の金額の値からインスタンスを生成します。
+	 *</pre>
+	 * @param minorUnits 金額の値（銭単位）
+	 *
+	 */
+	protected Money(long minorUnits) {
+		this.minorUnits = minorUnits;
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値をスケール2のBigDecimalで取得します。
+	 *</pre>
+	 * @return 金額の値（スケール2固定: 小数点以下2桁）
+	 *
+	 */
+	public BigDecimal getValue() {
+		return BigDecimal.valueOf(minorUnits, SCALE);
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値を銭単位で取得します。
+	 *</pre>
+	 * @return 金額の値（銭単位）
+	 *
+	 */
+	protected final long getMinorUnits() {
+		return minorUnits;
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値(スケール2)を銭単位の値に変換します。
+	 *</pre>
+	 * @param value 金額の値
+	 * @return 金額の値（銭単位）
+	 * @throws MyHouseholdAccountBookRuntimeException 値がnull、または銭単位のlong値で表せない場合
+	 *
+	 */
+	protected static long toMinorUnits(BigDecimal value) {
+		if(value == null) {
+			throw new MyHouseholdAccountBookRuntimeException("金額の値がnullです。管理者に問い合わせてください。");
+		}
+		try {
+			return value.movePointRight(SCALE).longValueExact();
+		} catch(ArithmeticException ex) {
+			throw new MyHouseholdAccountBookRuntimeException(
+				"金額の値が不正です。管理者に問い合わせてください。[value=" + value.toPlainString() + "]", ex);
+		}
+	}
 
 	/**
 	 *<pre>
@@ -92,11 +164,23 @@ public abstract class Money {
 	 *
 	 */
 	protected BigDecimal add(Money other) {
+		return BigDecimal.valueOf(addMinorUnits(other), SCALE);
+	}
+
+	/**
+	 *<pre>
+	 * 金額の加算を行い、加算結果を銭単位の値で返却します。
+	 *</pre>
+	 * @param other 加算する金額
+	 * @return 加算結果の値（銭単位）
+	 *
+	 */
+	protected long addMinorUnits(Money other) {
 		if(other == null) {
 			throw new MyHouseholdAccountBookRuntimeException(
 				"加算対象の金額がnullです。管理者に問い合わせてください。");
 		}
-		return this.value.add(other.value);
+		return Math.addExact(this.minorUnits, other.minorUnits);
 	}
 
 	/**
@@ -109,11 +193,23 @@ public abstract class Money {
 	 *
 	 */
 	protected BigDecimal subtract(Money other) {
+		return BigDecimal.valueOf(subtractMinorUnits(other), SCALE);
+	}
+
+	/**
+	 *<pre>
+	 * 金額の減算を行い、減算結果を銭単位の値で返却します。
+	 *</pre>
+	 * @param other 減算する金額
+	 * @return 減算結果の値（銭単位）
+	 *
+	 */
+	protected long subtractMinorUnits(Money other) {
 		if(other == null) {
 			throw new MyHouseholdAccountBookRuntimeException(
 				"減算対象の金額がnullです。管理者に問い合わせてください。");
 		}
-		return this.value.subtract(other.value);
+		return Math.subtractExact(this.minorUnits, other.minorUnits);
 	}
 
 	/**
@@ -129,7 +225,7 @@ public abstract class Money {
 			throw new MyHouseholdAccountBookRuntimeException(
 				"比較対象の金額がnullです。管理者に問い合わせてください。");
 		}
-		return this.value.compareTo(other.value);
+		return Long.compare(this.minorUnits, other.minorUnits);
 	}
 
 	/**
@@ -140,7 +236,7 @@ public abstract class Money {
 	 *
 	 */
 	public boolean isZero() {
-		return this.value.compareTo(BigDecimal.ZERO) == 0;
+		return this.minorUnits == 0;
 	}
 
 	/**
@@ -151,7 +247,7 @@ public abstract class Money {
 	 *
 	 */
 	public boolean isPositive() {
-		return this.value.compareTo(BigDecimal.ZERO) > 0;
+		return this.minorUnits > 0;
 	}
 
 	/**
@@ -162,7 +258,7 @@ public abstract class Money {
 	 *
 	 */
 	public boolean isNegative() {
-		return this.value.compareTo(BigDecimal.ZERO) < 0;
+		return this.minorUnits < 0;
 	}
 
 	/**
@@ -179,11 +275,11 @@ public abstract class Money {
 	 */
 	public Integer toIntegerValue() {
 		
-		// スケールを0に設定、小数点以下は切り捨て（HALF_DOWN）で丸める(0.5以上は切り上げ、0.5未満は切り捨て)
-		BigDecimal convertValue = this.value.setScale(0, RoundingMode.HALF_DOWN);
+		// スケールを0に設定、小数点以下はHALF_DOWNで丸める(0.5より大きい場合は切り上げ、0.5以下は切り捨て)
+		long yen = roundToYen(false);
 		
 		// 整数値に変換して返却
-		return Integer.valueOf(convertValue.intValueExact());
+		return Integer.valueOf(Math.toIntExact(yen));
 	}
 	
 	/**
@@ -207,10 +303,8 @@ public abstract class Money {
 	 *
 	 */
 	public String toFormatString() {
-		// スケール0で四捨五入
-		long roundedValue = this.value.setScale(0, RoundingMode.HALF_UP).longValue();
-		// カンマ区切り+円表記
-		return String.format("%,d円", roundedValue);
+		// スケール0で四捨五入し、カンマ区切り+円表記
+		return KingakuFormatUtils.formatYen(roundToYen(true));
 	}
 
 	/**
@@ -225,12 +319,31 @@ public abstract class Money {
 		return isZero() ? "ー" : toFormatString();
 	}
 
+	/**
+	 *<pre>
+	 * 金額の値をスケール0で丸めた円単位の値を返却します。
+	 *</pre>
+	 * @param halfUp trueの場合は四捨五入(HALF_UP)、falseの場合は五捨六入(HALF_DOWN)
+	 * @return 円単位の値
+	 *
+	 */
+	private long roundToYen(boolean halfUp) {
+		long yen = minorUnits / MINOR_UNITS_PER_YEN;
+		long remainder = Math.abs(minorUnits % MINOR_UNITS_PER_YEN);
+		long half = MINOR_UNITS_PER_YEN / 2;
+		if(remainder > half || (halfUp && remainder == half)) {
+			// 0から遠い方向に丸める
+			yen += (minorUnits < 0) ? -1 : 1;
+		}
+		return yen;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public String toString() {
 		// 値の文字列表現を返却（デバッグ用）
-		return value.toString();
+		return getValue().toString();
 	}
 }
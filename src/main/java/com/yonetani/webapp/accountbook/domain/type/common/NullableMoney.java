@@ -7,6 +7,7 @@
  * 日付       : version  コメントなど
  * 2025/12/22 : 1.00.00  新規作成
  * 2026/05/23 : 1.01.01  年間固定費合計画面新規追加対応でtoZeroDashString()メソッド追加
+ * 2026/10/17 : 1.02.00  画面表示用のフォーマットをKingakuFormatUtilsで行うよう変更
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
@@ -15,6 +16,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.utils.KingakuFormatUtils;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -324,10 +326,8 @@ public abstract class NullableMoney {
 		if(value == null) {
 			return "";
 		}
-		// スケール0で四捨五入
-		long roundedValue = value.setScale(0, RoundingMode.HALF_UP).longValue();
-		// カンマ区切り+円表記
-		return String.format("%,d円", roundedValue);
+		// スケール0で四捨五入し、カンマ区切り+円表記
+		return KingakuFormatUtils.formatYen(KingakuFormatUtils.round(value));
 	}
 
 	/**
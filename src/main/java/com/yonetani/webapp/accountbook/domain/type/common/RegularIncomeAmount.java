@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2025/11/18 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  銭単位のlong値で演算するよう変更(演算途中のBigDecimalを生成しない)
  *
  */
 package com.yonetani.webapp.accountbook.domain.type.common;
@@ -56,6 +57,17 @@ public class RegularIncomeAmount extends Money {
 		super(value);
 	}
 
+	/**
+	 *<pre>
+	 * コンストラクタ（演算結果から生成する場合に使用）
+	 *</pre>
+	 * @param minorUnits 通常収入金額（銭単位）
+	 *
+	 */
+	private RegularIncomeAmount(long minorUnits) {
+		super(minorUnits);
+	}
+
 	/**
 	 *<pre>
 	 * 「通常収入金額」項目の値を表すドメインタイプを生成します。
@@ -122,7 +134,7 @@ public class RegularIncomeAmount extends Money {
 	 *
 	 */
 	public RegularIncomeAmount add(RegularIncomeAmount addValue) {
-		return RegularIncomeAmount.from(super.add(addValue));
+		return new RegularIncomeAmount(addMinorUnits(addValue));
 	}
 
 	/**
@@ -137,14 +149,14 @@ public class RegularIncomeAmount extends Money {
 	 */
 	public RegularIncomeAmount subtract(RegularIncomeAmount subtractValue) {
 		// 基底クラスの減算処理を実行
-		BigDecimal result = super.subtract(subtractValue);
+		long result = subtractMinorUnits(subtractValue);
 
 		// 減算結果がマイナスになる場合はエラー
-		if(result.compareTo(BigDecimal.ZERO) < 0) {
+		if(result < 0) {
 			throw new MyHouseholdAccountBookRuntimeException(
 				"通常収入金額の減算結果がマイナスになります。管理者に問い合わせてください。");
 		}
 
-		return RegularIncomeAmount.from(result);
+		return new RegularIncomeAmount(result);
 	}
 }
@@ -5,13 +5,13 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/10/22 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  金額のカンマ編集を同期化なしのKingakuFormatUtilsで行うよう変更
  *
  */
 package com.yonetani.webapp.accountbook.domain.utils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -32,14 +32,10 @@ public class DomainCommonUtils {
 	/** BigDecimalの値(100) スケール2 */
 	public static final BigDecimal ONE_HUNDRED_BIGDECIMAL = new BigDecimal("100").setScale(2);
 	
-	// 金額のカンマ区切りフォーマッター
-	private static final DecimalFormat kingakuDecimalFormat = new DecimalFormat("#,###");
 	// 日付フォーマット(YYYY/MM/DD)
 	private static final DateTimeFormatter yyyySPMMSPddformat = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 	// 日付フォーマット(YYYY年MM月DD日)
 	private static final DateTimeFormatter yyyyNenMMGatuddNitiformat = DateTimeFormatter.ofPattern("yyyy年MM月dd日");
-	// 円
-	private static final String YEN = "円";
 	
 	/**
 	 *<pre>
@@ -50,9 +46,9 @@ public class DomainCommonUtils {
 	 * @return フォーマット編集した金額の値
 	 *
 	 */
-	public static synchronized String formatKingaku(BigDecimal value) {
+	public static String formatKingaku(BigDecimal value) {
 		// 値がnullの場合空文字列を返却、null以外の場合はスケール0で四捨五入+カンマ編集した文字列を返却
-		return (value == null) ? "" : kingakuDecimalFormat.format(value.setScale(0, RoundingMode.HALF_UP));
+		return (value == null) ? "" : KingakuFormatUtils.format(KingakuFormatUtils.round(value));
 	}
 	
 	/**
@@ -64,9 +60,9 @@ public class DomainCommonUtils {
 	 * @return フォーマット編集した金額の値(円を付与)、nullの場合は空文字列
 	 *
 	 */
-	public static synchronized String formatKingakuAndYen(BigDecimal value) {
+	public static String formatKingakuAndYen(BigDecimal value) {
 		// 値がnullの場合空文字列を返却、null以外の場合はスケール0で四捨五入+カンマ編集し、最後に円を付与した文字列を返却
-		return (value == null) ? "" : kingakuDecimalFormat.format(value.setScale(0, RoundingMode.HALF_UP)) + YEN;
+		return (value == null) ? "" : KingakuFormatUtils.formatYen(KingakuFormatUtils.round(value));
 	}
 	
 	/**
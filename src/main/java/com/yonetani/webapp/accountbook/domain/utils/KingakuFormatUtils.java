@@ -0,0 +1,124 @@
+/**
+ * 金額の値を画面表示用のカンマ区切り文字列に編集するユーティリティクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ *<pre>
+ * 金額の値を画面表示用のカンマ区切り文字列に編集するユーティリティクラスです。
+ *
+ * 一覧画面の各セルごとに呼び出されるため、共有のフォーマッター(DecimalFormat)や書式解析(String.format)を使用せず、
+ * long値の各桁を出力先の文字配列に直接書き込んで編集します。共有する状態を持たないため同期化は不要で、
+ * 複数スレッドから同時に呼び出すことができます。1回の編集で生成するオブジェクトは、
+ * 編集結果の長さちょうどの文字配列と返却する文字列のみです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+public class KingakuFormatUtils {
+
+	// 円
+	private static final char YEN = '円';
+	// 桁区切り文字
+	private static final char SEPARATOR = ',';
+	// 桁区切りの桁数
+	private static final int GROUPING_SIZE = 3;
+
+	/**
+	 *<pre>
+	 * インスタンス化不可
+	 *</pre>
+	 */
+	private KingakuFormatUtils() {
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値をカンマ編集した文字列を返却します。
+	 *</pre>
+	 * @param value フォーマット編集する金額の値
+	 * @return フォーマット編集した金額の値(例: "10,000")
+	 *
+	 */
+	public static String format(long value) {
+		return format(value, false);
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値をカンマ編集した文字列を返却します。値の最後には円を付与します。
+	 *</pre>
+	 * @param value フォーマット編集する金額の値
+	 * @return フォーマット編集した金額の値(例: "10,000円")
+	 *
+	 */
+	public static String formatYen(long value) {
+		return format(value, true);
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値をスケール0で四捨五入したlong値を返却します。
+	 *</pre>
+	 * @param value 金額の値
+	 * @return スケール0で四捨五入した金額の値
+	 *
+	 */
+	public static long round(BigDecimal value) {
+		// スケール0の場合は四捨五入不要
+		if(value.scale() == 0) {
+			return value.longValue();
+		}
+		return value.setScale(0, RoundingMode.HALF_UP).longValue();
+	}
+
+	/**
+	 *<pre>
+	 * 金額の値をカンマ編集した文字列を返却します。
+	 * 値は負の値のまま各桁を取り出すことで、Long.MIN_VALUEも桁あふれなしで編集します。
+	 *</pre>
+	 * @param value フォーマット編集する金額の値
+	 * @param withYen 最後に円を付与する場合はtrue
+	 * @return フォーマット編集した金額の値
+	 *
+	 */
+	private static String format(long value, boolean withYen) {
+		boolean negative = value < 0;
+		// 負の値で桁を取り出す
+		long work = negative ? value : -value;
+		// 桁数を算出
+		int digits = 1;
+		for(long rest = work / 10; rest != 0; rest /= 10) {
+			digits++;
+		}
+		// 編集結果の長さ(符号 + 数字 + 桁区切り + 円)ちょうどの文字配列を生成し、末尾から書き込む
+		int position = (negative ? 1 : 0) + digits + (digits - 1) / GROUPING_SIZE + (withYen ? 1 : 0);
+		char[] buffer = new char[position];
+		if(withYen) {
+			buffer[--position] = YEN;
+		}
+		for(int i = 0; i < digits; i++) {
+			if(i > 0 && i % GROUPING_SIZE == 0) {
+				buffer[--position] = SEPARATOR;
+			}
+			buffer[--position] = (char)('0' - (work % 10));
+			work /= 10;
+		}
+		if(negative) {
+			buffer[--position] = '-';
+		}
+		return new String(buffer);
+	}
+}
@@ -6,12 +6,18 @@
  * 日付       : version  コメントなど
  * 2024/09/08 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)を追加
+ * 2026/10/17 : 1.02.00  JDBCバッチによる一括登録・更新(addAll/updateAll/deleteAll)を追加
+ * 2026/10/17 : 1.02.00  支出コードのリストによる一括検索(findByPrimaryKeyList)を追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索(findByExpenditureItemCodeList)を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.expenditure;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
@@ -20,13 +26,19 @@ import com.yonetani.webapp.accountbook.domain.model.account.expenditure.Expendit
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCodeList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeAndExpenditureCategory;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditure.ExpenditureCode;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.ExpenditureTotalAmount;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditure.ExpenditureReadWriteDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeAndSisyutuKubunSearchQueryDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.expenditure.ExpenditureTableMapper;
@@ -49,6 +61,8 @@ public class ExpenditureTableDataSource implements ExpenditureTableRepository {
 	
 	// マッパー
 	private final ExpenditureTableMapper mapper;
+	// バッチ実行コンポーネント
+	private final MyBatisBatchExecutor batchExecutor;
 	
 	/**
 	 * {@inheritDoc}
@@ -77,6 +91,33 @@ public class ExpenditureTableDataSource implements ExpenditureTableRepository {
 		return mapper.delete(ExpenditureReadWriteDto.from(data));
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] addAll(List<ExpenditureItem> dataList) {
+		// 支出テーブル:EXPENDITURE_TABLEに一括登録(JDBCバッチ)
+		return batchExecutor.execute(ExpenditureTableMapper.class, dataList, ExpenditureReadWriteDto::from, ExpenditureTableMapper::insert);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] updateAll(List<ExpenditureItem> dataList) {
+		// 支出テーブル:EXPENDITURE_TABLEを一括更新(JDBCバッチ)
+		return batchExecutor.execute(ExpenditureTableMapper.class, dataList, ExpenditureReadWriteDto::from, ExpenditureTableMapper::update);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] deleteAll(List<ExpenditureItem> dataList) {
+		// 支出テーブル:EXPENDITURE_TABLEの対象データを一括で論理削除(JDBCバッチ)
+		return batchExecutor.execute(ExpenditureTableMapper.class, dataList, ExpenditureReadWriteDto::from, ExpenditureTableMapper::delete);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -94,6 +135,25 @@ public class ExpenditureTableDataSource implements ExpenditureTableRepository {
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<ExpenditureCode, ExpenditureItem> findByPrimaryKeyList(SearchQueryUserIdAndYearMonthAndExpenditureCodeList searchQuery) {
+		// 検索結果を取得
+		List<ExpenditureReadWriteDto> searchResult = mapper.findByUniqueKeyList(
+				UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto.from(searchQuery));
+		// 検索結果をドメインに変換し、支出コードをキーとしたマップで返却(検索結果なしの場合は空のマップ)
+		Map<ExpenditureCode, ExpenditureItem> resultMap = new HashMap<>();
+		if(searchResult != null) {
+			searchResult.forEach(dto -> {
+				ExpenditureItem item = createExpenditureItem(dto);
+				resultMap.put(item.getExpenditureCode(), item);
+			});
+		}
+		return resultMap;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -128,6 +188,23 @@ public class ExpenditureTableDataSource implements ExpenditureTableRepository {
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ExpenditureItemInquiryList findByExpenditureItemCodeList(SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList searchQuery) {
+		// 検索結果を取得
+		List<ExpenditureReadWriteDto> searchResult = mapper.findByIdAndSisyutuItemCodeList(UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto.from(searchQuery));
+		if(searchResult == null) {
+			// 検索結果なしの場合、0件データを返却
+			return ExpenditureItemInquiryList.from(null);
+		} else {
+			// 検索結果ありの場合、ドメインに変換して返却
+			return ExpenditureItemInquiryList.from(searchResult.stream().map(dto -> createExpenditureItem(dto))
+					.collect(Collectors.toUnmodifiableList()));
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -170,6 +247,15 @@ public class ExpenditureTableDataSource implements ExpenditureTableRepository {
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean existsBy(SearchQueryUserIdAndYearMonth searchQuery) {
+		// ユーザID、対象年月に対応する支出情報の存在有無を返します。
+		return mapper.existsById(UserIdAndYearMonthSearchQueryDto.from(searchQuery)) > 0;
+	}
+	
 	/**
 	 *<pre>
 	 * 引数で指定した支出テーブル:EXPENDITURE_TABLE読込・出力情報から支出テーブル情報ドメインモデルを生成して返します。
@@ -6,6 +6,8 @@
  * 日付       : version  コメントなど
  * 2024/01/10 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  親の支出項目配下の支出項目表示順の一括変更を追加
+ * 2026/10/17 : 1.02.00  未使用となった支出項目表示順の更新(updateExpenditureItemSortOrder)を削除
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.expenditureinfo;
@@ -17,11 +19,13 @@ import org.springframework.stereotype.Repository;
 
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemSortOrderShift;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemCode;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndExpenditureItemSortOrderBetweenAB;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditureinfo.SisyutuItemTableRepository;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditureinfo.SisyutuItemReadWriteDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditureinfo.SisyutuItemSortShiftWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndSisyutuItemCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndSisyutuItemSortBetweenABSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdSearchQueryDto;
@@ -77,9 +81,9 @@ public class SisyutuItemTableDataSource implements SisyutuItemTableRepository {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int updateExpenditureItemSortOrder(ExpenditureItemInfo data) {
-		// 支出項目テーブル:SISYUTU_ITEM_TABLEの支出項目表示順項目の値を更新します。
-		return mapper.updateSisyutuItemSort(SisyutuItemReadWriteDto.from(data));
+	public int updateExpenditureItemSortOrderShift(ExpenditureItemSortOrderShift shift) {
+		// 支出項目テーブル:SISYUTU_ITEM_TABLEの親の支出項目配下(子孫を含む)の支出項目表示順を一括変更します。
+		return mapper.updateSisyutuItemSortShift(SisyutuItemSortShiftWriteDto.from(shift));
 	}
 	
 	/**
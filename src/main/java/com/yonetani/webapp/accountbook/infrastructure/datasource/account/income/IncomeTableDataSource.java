@@ -6,6 +6,7 @@
  * 日付       : version  コメントなど
  * 2024/09/08 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  JDBCバッチによる一括登録・更新(addAll/updateAll/deleteAll)を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.income;
@@ -20,6 +21,7 @@ import com.yonetani.webapp.accountbook.domain.model.account.income.IncomeItemInq
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.repository.account.income.IncomeTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.TotalAvailableFunds;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.income.IncomeReadWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.income.IncomeTableMapper;
@@ -42,6 +44,8 @@ public class IncomeTableDataSource implements IncomeTableRepository {
 	
 	// マッパー
 	private final IncomeTableMapper mapper;
+	// バッチ実行コンポーネント
+	private final MyBatisBatchExecutor batchExecutor;
 	
 	/**
 	 * {@inheritDoc}
@@ -70,6 +74,33 @@ public class IncomeTableDataSource implements IncomeTableRepository {
 		return mapper.delete(IncomeReadWriteDto.from(data));
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] addAll(List<IncomeItem> dataList) {
+		// 収入テーブル:INCOME_TABLEに一括登録(JDBCバッチ)
+		return batchExecutor.execute(IncomeTableMapper.class, dataList, IncomeReadWriteDto::from, IncomeTableMapper::insert);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] updateAll(List<IncomeItem> dataList) {
+		// 収入テーブル:INCOME_TABLEを一括更新(JDBCバッチ)
+		return batchExecutor.execute(IncomeTableMapper.class, dataList, IncomeReadWriteDto::from, IncomeTableMapper::update);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] deleteAll(List<IncomeItem> dataList) {
+		// 収入テーブル:INCOME_TABLEの対象データを一括で論理削除(JDBCバッチ)
+		return batchExecutor.execute(IncomeTableMapper.class, dataList, IncomeReadWriteDto::from, IncomeTableMapper::delete);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -7,6 +7,7 @@
  * 2023/10/12 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
  * 2026/04/16 : 1.02.00  IncomeAndExpenditureItem統合に伴う修正
+ * 2026/10/17 : 1.02.00  データバージョン(整合性検証済みバージョン)の参照・更新を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.incomeandexpenditure;
@@ -17,10 +18,12 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYear;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.infrastructure.dto.account.incomeandexpenditure.IncomeAndExpenditureDataVersionReadWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.incomeandexpenditure.IncomeAndExpenditureReadWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearSearchQueryDto;
@@ -95,6 +98,60 @@ public class IncomeAndExpenditureTableDataSource implements IncomeAndExpenditure
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IncomeAndExpenditureDataVersion findDataVersion(SearchQueryUserIdAndYearMonth searchQuery) {
+		// 検索結果を取得
+		IncomeAndExpenditureDataVersionReadWriteDto result = mapper.selectDataVersion(
+				UserIdAndYearMonthSearchQueryDto.from(searchQuery));
+		// 検索結果をドメインモデルに変換して返却(データなしの場合はnull)
+		return (result == null) ? null : createDataVersion(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<IncomeAndExpenditureDataVersion> findUnvalidatedDataVersions(int limit) {
+		// 検索結果をドメインモデルに変換して返却
+		return mapper.selectUnvalidatedDataVersion(limit).stream()
+				.map(dto -> createDataVersion(dto))
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int updateValidatedVersion(IncomeAndExpenditureDataVersion dataVersion) {
+		// 収支テーブル:INCOME_AND_EXPENDITURE_TABLEの整合性検証済みバージョンを更新
+		return mapper.updateValidatedVersion(IncomeAndExpenditureDataVersionReadWriteDto.from(dataVersion));
+	}
+
+	/**
+	 *<pre>
+	 * データバージョンDTOから収支テーブル情報のデータバージョンを生成して返します。
+	 *</pre>
+	 * @param dto データバージョンDTO
+	 * @return 収支テーブル情報のデータバージョン
+	 *
+	 */
+	private IncomeAndExpenditureDataVersion createDataVersion(IncomeAndExpenditureDataVersionReadWriteDto dto) {
+		return IncomeAndExpenditureDataVersion.from(
+				// ユーザID
+				dto.getUserId(),
+				// 対象年
+				dto.getTargetYear(),
+				// 対象月
+				dto.getTargetMonth(),
+				// データバージョン
+				dto.getDataVersion(),
+				// 整合性検証済みバージョン
+				dto.getValidatedVersion());
+	}
+
 	/**
 	 *<pre>
 	 * 収支テーブルDTOから収支集約を生成して返します。
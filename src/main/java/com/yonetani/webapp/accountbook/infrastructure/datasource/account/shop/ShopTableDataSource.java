@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/01/10 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  JDBCバッチによる店舗表示順の一括更新(updateShopSortAll)を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.shop;
@@ -23,6 +24,7 @@ import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserI
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopSort;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopSortBetweenAB;
 import com.yonetani.webapp.accountbook.domain.repository.account.shop.ShopTableRepository;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.shop.ShopReadWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndShopCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndShopKubunCodeListSearchQueryDto;
@@ -50,6 +52,8 @@ public class ShopTableDataSource implements ShopTableRepository {
 
 	// マッパー
 	private final ShopTableMapper mapper;
+	// JDBCバッチ実行コンポーネント
+	private final MyBatisBatchExecutor batchExecutor;
 	
 	/**
 	 * {@inheritDoc}
@@ -79,6 +83,15 @@ public class ShopTableDataSource implements ShopTableRepository {
 		return mapper.updateShopSort(createShopReadWriteDto(data));
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] updateShopSortAll(List<Shop> dataList) {
+		// 店舗テーブル:SHOP_TABLEの表示順の値を一括更新(JDBCバッチ)
+		return batchExecutor.execute(ShopTableMapper.class, dataList, this::createShopReadWriteDto, ShopTableMapper::updateShopSort);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -8,16 +8,26 @@
  * 日付       : version  コメントなど
  * 2023/09/30 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
+ * 2026/10/17 : 1.02.00  年間収支(明細)を月毎の検索から年度範囲の一括検索に変更
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)を追加
+ * 2026/10/17 : 1.02.00  DB上での加減算による一括登録・更新(upsertAll/updateDeltaAll)を追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索(findByExpenditureItemCodeList)を追加
+ * 2026/10/17 : 1.02.00  一括登録・加算(upsertAll)で支出予定金額も加算するよう修正
+ * 2026/10/17 : 1.02.00  一括登録・加算(upsertAll)の同時初回登録による一意制約違反時は登録されたデータに加算
+ * 2026/10/17 : 1.02.00  一括登録・加算(upsertAll)の未登録データの登録を一意制約違反を発生させない登録・加算(ON DUPLICATE KEY UPDATE)に変更
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.sisyutukingaku;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountDelta;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureItemList;
@@ -26,15 +36,19 @@ import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearM
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYear;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearRange;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
-import com.yonetani.webapp.accountbook.infrastructure.dto.account.incomeandexpenditure.IncomeAndExpenditureReadWriteDto;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYear;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.inquiry.AccountYearMeisaiInquiryReadDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku.SisyutuKingakuAndSisyutuItemReadDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku.SisyutuKingakuDeltaWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku.SisyutuKingakuReadWriteDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
-import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearSearchQueryDto;
-import com.yonetani.webapp.accountbook.infrastructure.mapper.account.incomeandexpenditure.IncomeAndExpenditureTableMapper;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearRangeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.sisyutukingaku.SisyutuKingakuTableMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -55,10 +69,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SisyutuKingakuTableDataSource implements SisyutuKingakuTableRepository {
 
-	// マッパー
-	private final IncomeAndExpenditureTableMapper incomeAndExpenditureMapper;
 	// マッパー
 	private final SisyutuKingakuTableMapper sisyutuKingakuTableMapper;
+	// バッチ実行コンポーネント
+	private final MyBatisBatchExecutor batchExecutor;
 	
 	/**
 	 * {@inheritDoc}
@@ -77,6 +91,38 @@ public class SisyutuKingakuTableDataSource implements SisyutuKingakuTableReposit
 		// 支出金額テーブル：SISYUTU_KINGAKU_TABLEの情報を指定の支出金額テーブル情報で更新します。
 		return sisyutuKingakuTableMapper.update(SisyutuKingakuReadWriteDto.from(data));
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] upsertAll(List<ExpenditureAmountItem> dataList) {
+		// 登録済みのデータに加算値(支出予定金額を含む)を一括加算(JDBCバッチ)
+		int[] updateCounts = batchExecutor.execute(SisyutuKingakuTableMapper.class, dataList,
+				data -> SisyutuKingakuDeltaWriteDto.from(ExpenditureAmountDelta.from(data)),
+				SisyutuKingakuTableMapper::updateDelta);
+		// 加算の更新件数が0件(未登録)のデータを1件ずつ登録
+		// 加算から登録までの間に他のトランザクションが同一データを登録した場合は、登録されたデータに加算する
+		// (一意制約違反はトランザクションを中断するDB製品があるため、ON DUPLICATE KEY UPDATEで登録と加算を1文で実行する。
+		//  未登録のデータは各月の支出項目の初回登録時のみ)
+		for(int i = 0; i < updateCounts.length; i++) {
+			if(updateCounts[i] == 0) {
+				// 加算時の件数はMySQLの仕様により2件となるため、登録・加算ともに1件として返却
+				updateCounts[i] = Math.min(sisyutuKingakuTableMapper.insertOrAddDelta(
+						SisyutuKingakuReadWriteDto.from(dataList.get(i))), 1);
+			}
+		}
+		return updateCounts;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] updateDeltaAll(List<ExpenditureAmountDelta> deltaList) {
+		// 支出金額テーブル:SISYUTU_KINGAKU_TABLEに増減値を一括加減算(JDBCバッチ)
+		return batchExecutor.execute(SisyutuKingakuTableMapper.class, deltaList, SisyutuKingakuDeltaWriteDto::from, SisyutuKingakuTableMapper::updateDelta);
+	}
 
 	/**
 	 * {@inheritDoc}
@@ -112,6 +158,23 @@ public class SisyutuKingakuTableDataSource implements SisyutuKingakuTableReposit
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ExpenditureAmountItemInquiryList findByExpenditureItemCodeList(SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList search) {
+		// 検索結果を取得
+		List<SisyutuKingakuReadWriteDto> searchResult = sisyutuKingakuTableMapper.findByIdAndSisyutuItemCodeList(UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto.from(search));
+		if(searchResult == null) {
+			// 検索結果なしの場合、0件データを返却
+			return ExpenditureAmountItemInquiryList.from(null);
+		} else {
+			// 検索結果ありの場合、ドメインに変換して返却
+			return ExpenditureAmountItemInquiryList.from(searchResult.stream().map(dto -> createExpenditureAmountItem(dto))
+					.collect(Collectors.toUnmodifiableList()));
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -127,40 +190,63 @@ public class SisyutuKingakuTableDataSource implements SisyutuKingakuTableReposit
 	 */
 	@Override
 	public AccountYearMeisaiInquiryList select(SearchQueryUserIdAndYear searchQuery) {
-		/* 対象の収支情報の年月の値を取得 */
-		// 対象の年月の収支情報を取得
-		List<IncomeAndExpenditureReadWriteDto> targetYearMonthList = incomeAndExpenditureMapper.selectUserIdAndYear(
-				UserIdAndYearSearchQueryDto.from(searchQuery));
-		// 検索結果を取得
-		List<AccountYearMeisaiInquiryReadDto> result = new ArrayList<>(targetYearMonthList.size());
-		for(IncomeAndExpenditureReadWriteDto targetYearMonth : targetYearMonthList) {
-			AccountYearMeisaiInquiryReadDto resultDto = sisyutuKingakuTableMapper.selectYearSisyutuKingakuList(
-					UserIdAndYearMonthSearchQueryDto.fromString(
-						searchQuery.getUserId().getValue(),
-						searchQuery.getYear().getValue(),
-						targetYearMonth.getTargetMonth()));
-			// 対象月の支出金額情報なし(仕様的にパターンがあるため考慮必要)の場合、該当月の結果を無視する
-			if(resultDto.getSisyutuKingaku() != null) {
-				result.add(resultDto);
-			}
-		}
-		// 検索結果をドメインモデルに変換して返却
-		return AccountYearMeisaiInquiryList.from(result.stream().map(
-				dto -> MeisaiInquiryListItem.from(
-							dto.getMonth(),
-							dto.getIncomeKingaku(),
-							dto.getWithdrewKingaku(),
-							dto.getJigyouKeihiKingaku(),
-							dto.getKoteiHikazeiKingaku(),
-							dto.getKoteiKazeiKingaku(),
-							dto.getIruiJyuukyoSetubiKingaku(),
-							dto.getInsyokuNitiyouhinKingaku(),
-							dto.getSyumiGotakuKingaku(),
-							dto.getSisyutuKingakuB(),
-							dto.getSisyutuKingakuC(),
-							dto.getSisyutuKingaku(),
-							dto.getSyuusiKingaku()
-						)).collect(Collectors.toUnmodifiableList()));
+		// 開始年度=終了年度の年度範囲で検索し、対象年度の結果を返却(対象年度の結果なしの場合は0件データを返却)
+		AccountYearMeisaiInquiryList result = select(SearchQueryUserIdAndYearRange.from(searchQuery)).get(searchQuery.getYear());
+		return (result == null) ? AccountYearMeisaiInquiryList.from(null) : result;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<TargetYear, AccountYearMeisaiInquiryList> select(SearchQueryUserIdAndYearRange searchQuery) {
+		// 指定年度範囲の年間収支(明細)を対象年月毎に一括で取得(対象年月の支出金額情報なしの月はSQLで除外済み)
+		List<AccountYearMeisaiInquiryReadDto> searchResult = sisyutuKingakuTableMapper.selectYearRangeSisyutuKingakuList(
+				UserIdAndYearRangeSearchQueryDto.from(searchQuery));
+		
+		// 検索結果を対象年度毎に振り分け(検索結果は対象年、対象月の昇順)
+		Map<String, List<MeisaiInquiryListItem>> yearItemMap = new LinkedHashMap<>();
+		searchResult.forEach(dto -> yearItemMap.computeIfAbsent(dto.getYear(), key -> new ArrayList<>())
+				.add(createMeisaiInquiryListItem(dto)));
+		
+		// 対象年度毎の検索結果をドメインモデルに変換して返却
+		Map<TargetYear, AccountYearMeisaiInquiryList> result = new LinkedHashMap<>();
+		yearItemMap.forEach((year, itemList) -> result.put(TargetYear.from(year), AccountYearMeisaiInquiryList.from(itemList)));
+		return result;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean existsBy(SearchQueryUserIdAndYearMonth searchQuery) {
+		// ユーザID、対象年月に対応する支出金額情報の存在有無を返します。
+		return sisyutuKingakuTableMapper.existsById(UserIdAndYearMonthSearchQueryDto.from(searchQuery)) > 0;
+	}
+
+	/**
+	 *<pre>
+	 * 年間収支(明細)情報の検索結果から年間収支(明細)情報のドメインモデルを生成して返します。
+	 *</pre>
+	 * @param dto 年間収支(明細)情報の検索結果(DTO)
+	 * @return 年間収支(明細)情報のドメインモデル
+	 *
+	 */
+	private MeisaiInquiryListItem createMeisaiInquiryListItem(AccountYearMeisaiInquiryReadDto dto) {
+		return MeisaiInquiryListItem.from(
+				dto.getMonth(),
+				dto.getIncomeKingaku(),
+				dto.getWithdrewKingaku(),
+				dto.getJigyouKeihiKingaku(),
+				dto.getKoteiHikazeiKingaku(),
+				dto.getKoteiKazeiKingaku(),
+				dto.getIruiJyuukyoSetubiKingaku(),
+				dto.getInsyokuNitiyouhinKingaku(),
+				dto.getSyumiGotakuKingaku(),
+				dto.getSisyutuKingakuB(),
+				dto.getSisyutuKingakuC(),
+				dto.getSisyutuKingaku(),
+				dto.getSyuusiKingaku());
 	}
 	
 	/**
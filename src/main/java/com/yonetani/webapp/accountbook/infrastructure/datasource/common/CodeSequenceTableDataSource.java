@@ -0,0 +1,66 @@
+/**
+ * コード採番テーブル:CODE_SEQUENCE_TABLEの照会・更新を行うリポジトリーを実装したデータソースです
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  採番範囲の新規登録を登録・加算(addOrIncrement)に変更
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import org.springframework.stereotype.Repository;
+
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
+import com.yonetani.webapp.accountbook.domain.repository.common.CodeSequenceTableRepository;
+import com.yonetani.webapp.accountbook.infrastructure.dto.common.CodeSequenceDto;
+import com.yonetani.webapp.accountbook.infrastructure.mapper.common.CodeSequenceTableMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * コード採番テーブル:CODE_SEQUENCE_TABLEの照会・更新を行うリポジトリーを実装したデータソースです
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Repository
+@RequiredArgsConstructor
+public class CodeSequenceTableDataSource implements CodeSequenceTableRepository {
+
+	// マッパー
+	private final CodeSequenceTableMapper mapper;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int increment(CodeSequenceKey key, int count) {
+		// コード採番テーブル:CODE_SEQUENCE_TABLEの発番済みの最終番号に採番数を加算
+		return mapper.increment(CodeSequenceDto.from(key, count));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer findLastIssuedNumber(CodeSequenceKey key) {
+		// コード採番テーブル:CODE_SEQUENCE_TABLEから発番済みの最終番号を取得
+		return mapper.selectLastIssuedNumber(CodeSequenceDto.from(key, 0));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int addOrIncrement(CodeSequenceKey key, int initialNumber, int count) {
+		// コード採番テーブル:CODE_SEQUENCE_TABLEにデータを追加(登録済みの場合は採番数を加算)
+		// 件数は新規登録の場合1件、加算の場合2件(ON DUPLICATE KEY UPDATEの仕様)
+		return mapper.insertOrIncrement(CodeSequenceDto.from(key, initialNumber, count));
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * MyBatisのステートメントの実行回数、取得行数、実行時間をDBアクセス統計に記録するインターセプターです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import java.util.List;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsContext;
+
+/**
+ *<pre>
+ * MyBatisのステートメントの実行回数、取得行数、実行時間をDBアクセス統計に記録するインターセプターです。
+ * Executorのquery/update(INSERT・UPDATE・DELETE)の呼び出しを1ステートメントとして、
+ * マップドステートメントのID(マッパーのクラス名.メソッド名)ごとに{@link DbAccessStatisticsContext}へ記録します。
+ * MyBatisの自動構成がInterceptorのBeanをSqlSessionFactoryに登録します。
+ *
+ * [注意事項]
+ * ・取得行数はSELECTの結果リストの件数です(更新系は0件として記録)。
+ * ・BATCHエグゼキューターの更新は1件ごとに1ステートメントとして数えますが、実際の送信(flushStatements)の時間は含みません。
+ * ・Spring SecurityのユーザIDの検索などMyBatis以外のJDBCアクセスは対象外です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Intercepts({
+	@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+	@Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+	@Signature(type = Executor.class, method = "query",
+			args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class DbAccessStatisticsInterceptor implements Interceptor {
+
+	/**
+	 *<pre>
+	 * 元の処理を実行し、ステートメントの実行回数、取得行数、実行時間を記録します。
+	 * 計測中でない場合は元の処理のみ実行します。
+	 *</pre>
+	 * @param invocation 呼び出し情報
+	 * @return 元の処理の戻り値
+	 * @throws Throwable 元の処理で発生した例外
+	 *
+	 */
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		if(!DbAccessStatisticsContext.isActive()) {
+			return invocation.proceed();
+		}
+		MappedStatement mappedStatement = (MappedStatement)invocation.getArgs()[0];
+		long start = System.nanoTime();
+		Object result = null;
+		try {
+			result = invocation.proceed();
+			return result;
+		} finally {
+			long rowCount = (result instanceof List<?> list) ? list.size() : 0;
+			DbAccessStatisticsContext.record(mappedStatement.getId(), rowCount, System.nanoTime() - start);
+		}
+	}
+}
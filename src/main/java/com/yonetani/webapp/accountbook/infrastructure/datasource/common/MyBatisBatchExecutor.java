@@ -0,0 +1,142 @@
+/**
+ * MyBatisのBATCHエグゼキューターで複数件の登録・更新をまとめて実行するコンポーネントです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  件数不明(Statement.SUCCESS_NO_INFO)の結果に対応
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * MyBatisのBATCHエグゼキューターで複数件の登録・更新をまとめて実行するコンポーネントです。
+ * 指定したマッパーの更新系メソッドを対象データの件数分呼び出し、JDBCバッチとして一括送信します。
+ *
+ * [トランザクション]
+ * BATCHエグゼキューターのセッションは実行中のトランザクションと同一のコネクションを使用します。
+ * コミット・ロールバックは呼び出し元のトランザクションに従います。
+ * Spring管理のセッション(SIMPLEエグゼキューター)はトランザクション中にエグゼキューターを変更できないため、
+ * バッチ実行時のみ別セッションを生成し、実行後にSpring管理のセッションのキャッシュをクリアします。
+ *
+ * [更新件数]
+ * 対象データごとの更新件数を対象データと同じ順番で返却します。呼び出し元で1件ずつ更新件数を検証してください。
+ * JDBCドライバによっては成功時も件数不明(Statement.SUCCESS_NO_INFO)を返す場合があります
+ * (MySQLのrewriteBatchedStatements指定時の登録など)。失敗したステートメントは例外となるため、以下のように扱います。
+ * ・登録(INSERT)：1件登録のステートメントのみのため、更新件数1件として返却します。
+ * ・更新・削除(UPDATE・DELETE)：0件の結果(対象データなし・条件不一致)を呼び出し元で判定するため、
+ *   件数不明の場合は予期しないエラーとします。更新・削除は正確な件数を返すJDBCドライバ・設定で使用してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class MyBatisBatchExecutor {
+
+	// SqlSessionFactory
+	private final SqlSessionFactory sqlSessionFactory;
+	// Spring管理のSqlSession
+	private final SqlSessionTemplate sqlSessionTemplate;
+
+	/**
+	 *<pre>
+	 * 対象データの件数分、マッパーの更新系メソッドをJDBCバッチで実行し、対象データごとの更新件数を返します。
+	 *</pre>
+	 * @param <M> マッパーの型
+	 * @param <T> 対象データ(ドメインモデル)の型
+	 * @param <D> マッパーに渡すDTOの型
+	 * @param mapperType マッパーのクラス
+	 * @param dataList 対象データのリスト
+	 * @param converter 対象データからDTOへの変換処理
+	 * @param statement 実行するマッパーのメソッド
+	 * @return 対象データごとの更新件数(対象データのリストと同じ順番)
+	 *
+	 */
+	public <M, T, D> int[] execute(Class<M> mapperType, List<T> dataList,
+			Function<T, D> converter, BiConsumer<M, D> statement) {
+		if(dataList == null || dataList.isEmpty()) {
+			return new int[0];
+		}
+		int[] updateCounts = new int[dataList.size()];
+		int index = 0;
+		try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+			M mapper = batchSession.getMapper(mapperType);
+			for(T data : dataList) {
+				statement.accept(mapper, converter.apply(data));
+			}
+			// バッチを送信し、対象データごとの更新件数を取得
+			for(BatchResult result : batchSession.flushStatements()) {
+				SqlCommandType commandType = result.getMappedStatement().getSqlCommandType();
+				for(int count : result.getUpdateCounts()) {
+					if(index < updateCounts.length) {
+						updateCounts[index] = resolveUpdateCount(count, commandType, result);
+					}
+					index++;
+				}
+			}
+		} catch (PersistenceException ex) {
+			// Spring管理のマッパーと同じくDataAccessExceptionに変換
+			if(ex.getCause() instanceof RuntimeException cause) {
+				DataAccessException translated = sqlSessionTemplate.getPersistenceExceptionTranslator().translateExceptionIfPossible(cause);
+				if(translated != null) {
+					throw translated;
+				}
+			}
+			throw ex;
+		} finally {
+			// バッチで更新したデータを参照できるよう、Spring管理のセッションのキャッシュをクリア
+			sqlSessionTemplate.clearCache();
+		}
+		if(index != updateCounts.length) {
+			throw new MyHouseholdAccountBookRuntimeException("バッチ実行結果の件数が不正でした。[対象件数=" + updateCounts.length + "][結果件数=" + index + "]");
+		}
+		return updateCounts;
+	}
+
+	/**
+	 *<pre>
+	 * JDBCバッチの実行結果の件数を対象データごとの更新件数に変換します。
+	 * 件数不明(Statement.SUCCESS_NO_INFO)の場合、登録は1件、更新・削除は予期しないエラーとします。
+	 *</pre>
+	 * @param count JDBCバッチの実行結果の件数
+	 * @param commandType 実行したステートメントの種別
+	 * @param result JDBCバッチの実行結果
+	 * @return 更新件数
+	 *
+	 */
+	private int resolveUpdateCount(int count, SqlCommandType commandType, BatchResult result) {
+		if(count != Statement.SUCCESS_NO_INFO) {
+			return count;
+		}
+		if(commandType == SqlCommandType.INSERT) {
+			return 1;
+		}
+		throw new MyHouseholdAccountBookRuntimeException("JDBCドライバから更新件数が返されませんでした。更新件数を返すJDBCドライバの設定で実行してください。[statement="
+				+ result.getMappedStatement().getId() + "]");
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * 参照専用トランザクションをレプリカ、それ以外をプライマリに振り分けるデータソースです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  更新コミット時刻をログインユーザ単位で管理、コミット後処理の登録をトランザクションごとに1回に変更
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 参照専用トランザクションをレプリカ、それ以外をプライマリに振り分けるデータソースです。
+ *
+ * [振り分け]
+ * ・@Transactional(readOnly = true)のトランザクション：レプリカ
+ * ・上記以外(更新トランザクション、トランザクション外のアクセス)：プライマリ
+ *
+ * [レプリケーション遅延への対応]
+ * ・更新トランザクションのコミットから許容遅延時間が経過するまでは、参照専用トランザクションもプライマリに振り分けます。
+ * 　(更新直後の画面表示で、レプリカに未反映の更新前のデータを表示しないため)
+ * ・更新のコミット時刻はログインユーザ単位で管理し、更新したユーザの参照のみをプライマリに振り分けます。
+ * 　(他のユーザの参照は、同時期に更新したユーザがいてもレプリカに振り分けます)
+ * ・ログインユーザのいない処理(起動時処理、定期実行など)の更新は全ユーザの参照をプライマリに振り分けます。
+ *
+ * [注意事項]
+ * ・接続の取得時点でトランザクションの参照専用フラグが設定されている必要があるため、
+ * 　LazyConnectionDataSourceProxyでラップして使用してください。
+ * ・更新トランザクションは参照のみの場合もコミット時に更新ありとして扱います。
+ * ・ログインユーザは接続取得時のスレッドの認証情報(SecurityContextHolder)から判定します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Log4j2
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	/**
+	 *<pre>
+	 * 振り分け先のデータソースの種別です。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	public enum DataSourceType {
+		// プライマリ(参照・更新)
+		PRIMARY,
+		// レプリカ(参照専用)
+		REPLICA
+	}
+
+	// レプリケーションの許容遅延時間(ナノ秒)
+	private final long lagToleranceNanos;
+	// ログインユーザのいない処理の更新コミット時刻のキー
+	private static final String NO_USER_KEY = "";
+	// ログインユーザID(ログインユーザのいない処理は空文字)ごとの最後に更新トランザクションをコミットした時刻(System.nanoTime())
+	private final Map<String, Long> lastWriteCommitNanos = new ConcurrentHashMap<>();
+	// コミット後処理の登録済みを示すトランザクション単位のリソースのキー
+	private final Object transactionResourceKey = new Object();
+
+	/**
+	 *<pre>
+	 * プライマリ・レプリカのデータソースと許容遅延時間から振り分けデータソースを生成します。
+	 *</pre>
+	 * @param primary プライマリのデータソース
+	 * @param replica レプリカのデータソース
+	 * @param lagToleranceMillis レプリケーションの許容遅延時間(ミリ秒)
+	 *
+	 */
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, long lagToleranceMillis) {
+		this.lagToleranceNanos = TimeUnit.MILLISECONDS.toNanos(lagToleranceMillis);
+		setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	/**
+	 *<pre>
+	 * 現在のトランザクションから振り分け先のデータソースの種別を判定します。
+	 * 更新トランザクションの場合、コミット後にログインユーザの更新時刻を記録します。
+	 *</pre>
+	 * @return 振り分け先のデータソースの種別
+	 *
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if(TransactionSynchronizationManager.isActualTransactionActive()
+					&& TransactionSynchronizationManager.isSynchronizationActive()
+					&& !TransactionSynchronizationManager.hasResource(transactionResourceKey)) {
+				// コミット後処理はトランザクションごとに1回のみ登録
+				String userKey = getCurrentUserKey();
+				TransactionSynchronizationManager.bindResource(transactionResourceKey, userKey);
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						markWriteCommitted(userKey);
+					}
+					@Override
+					public void afterCompletion(int status) {
+						TransactionSynchronizationManager.unbindResourceIfPossible(transactionResourceKey);
+					}
+				});
+			}
+			return DataSourceType.PRIMARY;
+		}
+		if(isWithinLagTolerance()) {
+			log.debug("routing:replication lag tolerance, read-only transaction routed to primary");
+			return DataSourceType.PRIMARY;
+		}
+		return DataSourceType.REPLICA;
+	}
+
+	/**
+	 *<pre>
+	 * 指定したログインユーザの更新トランザクションのコミット時刻を記録します。
+	 * 許容遅延時間を経過したコミット時刻は削除します。
+	 *</pre>
+	 * @param userKey ログインユーザID(ログインユーザのいない処理は空文字)
+	 *
+	 */
+	void markWriteCommitted(String userKey) {
+		long now = System.nanoTime();
+		lastWriteCommitNanos.values().removeIf(commitNanos -> now - commitNanos >= lagToleranceNanos);
+		lastWriteCommitNanos.put(userKey, now);
+	}
+
+	/**
+	 *<pre>
+	 * 現在のログインユーザ、または、ログインユーザのいない処理の最後の更新トランザクションのコミットから
+	 * 許容遅延時間内かどうかを判定します。
+	 *</pre>
+	 * @return 許容遅延時間内(参照専用トランザクションをプライマリに振り分ける)場合true
+	 *
+	 */
+	public boolean isWithinLagTolerance() {
+		long now = System.nanoTime();
+		String userKey = getCurrentUserKey();
+		return isWithinLagTolerance(NO_USER_KEY, now)
+				|| (!NO_USER_KEY.equals(userKey) && isWithinLagTolerance(userKey, now));
+	}
+
+	/**
+	 *<pre>
+	 * 指定したキーの最後の更新トランザクションのコミットから許容遅延時間内かどうかを判定します。
+	 *</pre>
+	 * @param userKey ログインユーザID(ログインユーザのいない処理は空文字)
+	 * @param now 現在時刻(System.nanoTime())
+	 * @return 許容遅延時間内の場合true
+	 *
+	 */
+	private boolean isWithinLagTolerance(String userKey, long now) {
+		Long commitNanos = lastWriteCommitNanos.get(userKey);
+		return commitNanos != null && now - commitNanos < lagToleranceNanos;
+	}
+
+	/**
+	 *<pre>
+	 * 現在のスレッドの認証情報からログインユーザIDを取得します。
+	 *</pre>
+	 * @return ログインユーザID。ログインユーザのいない処理の場合は空文字
+	 *
+	 */
+	private String getCurrentUserKey() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if(authentication == null || !authentication.isAuthenticated()
+				|| authentication instanceof AnonymousAuthenticationToken) {
+			return NO_USER_KEY;
+		}
+		return authentication.getName();
+	}
+}
@@ -0,0 +1,220 @@
+/**
+ * MyBatisのステートメントの実行時間をマップドステートメントごとのヒストグラム(Micrometer)に記録し、
+ * 閾値を超えたステートメントをスロークエリとしてログ出力するインターセプターです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  スロークエリの警告ログからバインドパラメータを除外(設定時のみデバッグログにマスクして出力)
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * MyBatisのステートメントの実行時間をマップドステートメントごとのヒストグラム(Micrometer)に記録し、
+ * 閾値を超えたステートメントをスロークエリとしてログ出力するインターセプターです。
+ *
+ * [メトリクス]
+ * ・メトリクス名「accountbook.sql.statement」、タグ「statement」にマップドステートメントのID(マッパーのクラス名.メソッド名)、
+ * 　タグ「type」にSQLの種別(SELECT・INSERT・UPDATE・DELETE)を設定します。
+ * ・パーセンタイル(50%・95%・99%)と、集約用のヒストグラムのバケット(対応するメトリクスレジストリのみ)を公開します。
+ * ・Actuatorのmetricsエンドポイント(/actuator/metrics/accountbook.sql.statement?tag=statement:xxx)で参照できます。
+ *
+ * [スロークエリのログ]
+ * ・実行時間がaccountbook.property.sql-slow-query-threshold-millisを超えたステートメントを警告ログに出力します。
+ * ・警告ログにはマップドステートメントのID、実行時間、バインド後のSQL(mybatis-thymeleafの動的SQLはテンプレート評価後のSQL)を出力し、
+ * 　バインドパラメータの値(ユーザのデータ)は出力しません。
+ * ・accountbook.property.sql-slow-query-log-parameters=trueの場合のみ、バインドパラメータの値をデバッグログに出力します。
+ * 　プロパティ名がaccountbook.property.sql-slow-query-masked-parameter-patternに一致するパラメータの値はマスクします。
+ * ・閾値が0以下の場合はスロークエリのログを出力しません。
+ *
+ * [注意事項]
+ * ・DBアクセス統計(DbAccessStatisticsInterceptor)と異なり、計測中かどうかによらずすべてのステートメントを記録します。
+ * ・BATCHエグゼキューターの更新は1件ごとの登録時間で、実際の送信(flushStatements)の時間は含みません。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Intercepts({
+	@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+	@Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+	@Signature(type = Executor.class, method = "query",
+			args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+@Log4j2
+public class SqlStatementMetricsInterceptor implements Interceptor {
+
+	// メトリクス名
+	public static final String METRIC_NAME = "accountbook.sql.statement";
+	// マップドステートメントのIDのタグ名
+	public static final String TAG_STATEMENT = "statement";
+	// SQLの種別のタグ名
+	public static final String TAG_TYPE = "type";
+	// 公開するパーセンタイル
+	private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+	// マスクしたバインドパラメータの値
+	static final String MASKED_VALUE = "****";
+
+	// メトリクスの登録先
+	private final MeterRegistry meterRegistry;
+	// スロークエリとしてログ出力する実行時間の閾値(ナノ秒、0以下の場合はログ出力しない)
+	private final long slowQueryThresholdNanos;
+	// スロークエリのバインドパラメータをデバッグログに出力するかどうか
+	private final boolean logParameters;
+	// 値をマスクするバインドパラメータのプロパティ名のパターン
+	private final Pattern maskedParameterPattern;
+	// マップドステートメントのIDごとのタイマー
+	private final Map<String, Timer> timerMap = new ConcurrentHashMap<>();
+
+	/**
+	 *<pre>
+	 * コンストラクタです。
+	 *</pre>
+	 * @param meterRegistry メトリクスの登録先
+	 * @param slowQueryThresholdMillis スロークエリとしてログ出力する実行時間の閾値(ミリ秒、0以下の場合はログ出力しない)
+	 * @param logParameters スロークエリのバインドパラメータをデバッグログに出力するかどうか
+	 * @param maskedParameterPattern 値をマスクするバインドパラメータのプロパティ名のパターン(正規表現)
+	 *
+	 */
+	public SqlStatementMetricsInterceptor(
+			MeterRegistry meterRegistry,
+			@Value("${accountbook.property.sql-slow-query-threshold-millis:1000}") long slowQueryThresholdMillis,
+			@Value("${accountbook.property.sql-slow-query-log-parameters:false}") boolean logParameters,
+			@Value("${accountbook.property.sql-slow-query-masked-parameter-pattern:(?i).*(password|passwd|pwd|secret|token).*}") String maskedParameterPattern) {
+		this.meterRegistry = meterRegistry;
+		this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+		this.logParameters = logParameters;
+		this.maskedParameterPattern = Pattern.compile(maskedParameterPattern);
+	}
+
+	/**
+	 *<pre>
+	 * 元の処理を実行し、ステートメントの実行時間をヒストグラムに記録します。
+	 * 実行時間が閾値を超えた場合、SQLを警告ログに出力します。
+	 *</pre>
+	 * @param invocation 呼び出し情報
+	 * @return 元の処理の戻り値
+	 * @throws Throwable 元の処理で発生した例外
+	 *
+	 */
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		MappedStatement mappedStatement = (MappedStatement)invocation.getArgs()[0];
+		long start = System.nanoTime();
+		try {
+			return invocation.proceed();
+		} finally {
+			long elapsedNanos = System.nanoTime() - start;
+			getTimer(mappedStatement).record(elapsedNanos, TimeUnit.NANOSECONDS);
+			if(slowQueryThresholdNanos > 0 && elapsedNanos > slowQueryThresholdNanos) {
+				logSlowQuery(invocation, mappedStatement, elapsedNanos);
+			}
+		}
+	}
+
+	/**
+	 * マップドステートメントに対応するタイマーを返します(未登録の場合は登録)。
+	 */
+	private Timer getTimer(MappedStatement mappedStatement) {
+		return timerMap.computeIfAbsent(mappedStatement.getId(), id -> Timer.builder(METRIC_NAME)
+				.description("MyBatisのマップドステートメントの実行時間")
+				.tag(TAG_STATEMENT, id)
+				.tag(TAG_TYPE, mappedStatement.getSqlCommandType().name())
+				.publishPercentiles(PERCENTILES)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+	}
+
+	/**
+	 * スロークエリのSQLを警告ログに、バインドパラメータ(出力する設定の場合のみ)をデバッグログに出力します。
+	 */
+	private void logSlowQuery(Invocation invocation, MappedStatement mappedStatement, long elapsedNanos) {
+		Object[] args = invocation.getArgs();
+		Object parameterObject = args[1];
+		// 6引数のqueryはバインド済みのSQLを引数で受け取るので、そのまま使用(動的SQLの再評価を行わない)
+		BoundSql boundSql = (args.length == 6) ? (BoundSql)args[5] : mappedStatement.getBoundSql(parameterObject);
+		log.warn(String.format("slow-query:%s elapsed=%.2fms, sql=[%s]",
+				mappedStatement.getId(),
+				elapsedNanos / 1_000_000.0,
+				boundSql.getSql().replaceAll("\\s+", " ").trim()));
+		if(logParameters && log.isDebugEnabled()) {
+			log.debug("slow-query:" + mappedStatement.getId() + " parameters=["
+				+ toParameterString(mappedStatement.getConfiguration(), boundSql, parameterObject) + "]");
+		}
+	}
+
+	/**
+	 *<pre>
+	 * バインドパラメータを「プロパティ名=値」のカンマ区切りに変換します。
+	 * 値の取得はMyBatisのDefaultParameterHandlerと同じ順序(追加パラメータ→単一値→プロパティ)で行います。
+	 * プロパティ名がマスク対象のパターンに一致するパラメータは、値を取得せずにマスクします。
+	 *</pre>
+	 * @param configuration MyBatisの設定
+	 * @param boundSql バインド後のSQL
+	 * @param parameterObject パラメータ
+	 * @return バインドパラメータ(プロパティ名=値のカンマ区切り)
+	 *
+	 */
+	String toParameterString(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+		MetaObject metaObject = null;
+		StringBuilder parameters = new StringBuilder();
+		for(ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+			if(parameterMapping.getMode() == ParameterMode.OUT) {
+				continue;
+			}
+			String property = parameterMapping.getProperty();
+			Object value;
+			if(maskedParameterPattern.matcher(property).matches()) {
+				value = MASKED_VALUE;
+			} else if(boundSql.hasAdditionalParameter(property)) {
+				value = boundSql.getAdditionalParameter(property);
+			} else if(parameterObject == null) {
+				value = null;
+			} else if(configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+				value = parameterObject;
+			} else {
+				if(metaObject == null) {
+					metaObject = configuration.newMetaObject(parameterObject);
+				}
+				value = metaObject.hasGetter(property) ? metaObject.getValue(property) : null;
+			}
+			if(parameters.length() > 0) {
+				parameters.append(", ");
+			}
+			parameters.append(property).append("=").append(value);
+		}
+		return parameters.toString();
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * プライマリ・レプリカのデータソースと、参照専用トランザクションをレプリカに振り分けるデータソースの設定クラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ *<pre>
+ * プライマリ・レプリカのデータソースと、参照専用トランザクションをレプリカに振り分けるデータソースの設定クラスです。
+ * accountbook.datasource.replica.enabled=trueの場合のみ有効です(無効の場合はspring.datasourceの単一のデータソース)。
+ *
+ * [設定値]
+ * ・プライマリ：spring.datasource(接続プールはspring.datasource.hikari)
+ * ・レプリカ　：accountbook.datasource.replica(HikariCPのプロパティ名で接続先・接続プールを指定)
+ * ・レプリケーションの許容遅延時間(ミリ秒)：accountbook.datasource.replica.lag-tolerance-millis
+ *
+ * [データソース]
+ * ・dataSource(@Primary)：振り分けデータソースを接続の遅延取得でラップしたデータソース(MyBatis、Spring Securityなどが使用)
+ * ・primaryDataSource、replicaDataSource：振り分け先のデータソース(直接使用しないでください)
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accountbook.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+	/**
+	 *<pre>
+	 * プライマリのデータソースを生成します。
+	 *</pre>
+	 * @param properties spring.datasourceの設定値
+	 * @return プライマリのデータソース
+	 *
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 *<pre>
+	 * レプリカのデータソースを生成します。
+	 * 接続先・接続プールの設定値はHikariCPのプロパティ名(jdbc-url、username、pool-nameなど)で指定します。
+	 *</pre>
+	 * @return レプリカのデータソース
+	 *
+	 */
+	@Bean
+	@ConfigurationProperties("accountbook.datasource.replica")
+	HikariDataSource replicaDataSource() {
+		return new HikariDataSource();
+	}
+
+	/**
+	 *<pre>
+	 * 参照専用トランザクションをレプリカ、それ以外をプライマリに振り分けるデータソースを生成します。
+	 *</pre>
+	 * @param primary プライマリのデータソース
+	 * @param replica レプリカのデータソース
+	 * @param lagToleranceMillis レプリケーションの許容遅延時間(ミリ秒)
+	 * @return 振り分けデータソース
+	 *
+	 */
+	@Bean
+	ReadWriteRoutingDataSource routingDataSource(
+			@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica,
+			@Value("${accountbook.datasource.replica.lag-tolerance-millis:3000}") long lagToleranceMillis) {
+		return new ReadWriteRoutingDataSource(primary, replica, lagToleranceMillis);
+	}
+
+	/**
+	 *<pre>
+	 * アプリケーションで使用するデータソースを生成します。
+	 * トランザクションの参照専用フラグが設定された後(最初のSQL実行時)に振り分け先の接続を取得するため、
+	 * 振り分けデータソースを接続の遅延取得でラップします。
+	 *</pre>
+	 * @param routingDataSource 振り分けデータソース
+	 * @return アプリケーションで使用するデータソース
+	 *
+	 */
+	@Bean
+	@Primary
+	DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * 支出項目テーブル:SISYUTU_ITEM_TABLEの支出項目表示順一括変更(移動・ずらし)出力情報です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditureinfo;
+
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemSortOrderShift;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 支出項目テーブル:SISYUTU_ITEM_TABLEの支出項目表示順一括変更(移動・ずらし)出力情報です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class SisyutuItemSortShiftWriteDto {
+	// ユーザID
+	private final String userId;
+	// 変更対象の支出項目レベル
+	private final String sisyutuItemLevel;
+	// 親の支出項目表示順の先頭部分
+	private final String parentSisyutuItemSortPrefix;
+	// 変更対象レベル位置の開始位置(1始まり)
+	private final int sortStartPosition;
+	// 除外支出項目コード
+	private final String excludeSisyutuItemCode;
+	// 移動元の値(nullの場合は移動なし)
+	private final String moveFromValue;
+	// 移動先の値(nullの場合は移動なし)
+	private final String moveToValue;
+	// ずらし範囲From
+	private final String shiftFromValue;
+	// ずらし範囲To
+	private final String shiftToValue;
+	// 増減値
+	private final int shiftValue;
+
+	/**
+	 *<pre>
+	 * 支出項目表示順の一括変更内容ドメインモデルをもとにSisyutuItemSortShiftWriteDtoを生成して返します。
+	 *</pre>
+	 * @param domain 支出項目表示順の一括変更内容ドメインモデル
+	 * @return 支出項目テーブル:SISYUTU_ITEM_TABLEの支出項目表示順一括変更出力情報
+	 *
+	 */
+	public static SisyutuItemSortShiftWriteDto from(ExpenditureItemSortOrderShift domain) {
+		return new SisyutuItemSortShiftWriteDto(
+				// ユーザID
+				domain.getUserId().getValue(),
+				// 変更対象の支出項目レベル
+				domain.getExpenditureItemLevel().toString(),
+				// 親の支出項目表示順の先頭部分
+				domain.getParentSortOrderPrefix(),
+				// 変更対象レベル位置の開始位置
+				domain.getExpenditureItemLevel().getValue() * 2 - 1,
+				// 除外支出項目コード
+				domain.getExcludeExpenditureItemCode().getValue(),
+				// 移動元の値
+				domain.getMoveFromValue(),
+				// 移動先の値
+				domain.getMoveToValue(),
+				// ずらし範囲From
+				domain.getShiftFromValue(),
+				// ずらし範囲To
+				domain.getShiftToValue(),
+				// 増減値
+				domain.getShiftValue());
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ * 収支テーブル:INCOME_AND_EXPENDITURE_TABLEテーブルのデータバージョン項目のDTOです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.dto.account.incomeandexpenditure;
+
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 収支テーブル:INCOME_AND_EXPENDITURE_TABLEテーブルのデータバージョン項目のDTOです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class IncomeAndExpenditureDataVersionReadWriteDto {
+	// ユーザID
+	private final String userId;
+	// 対象年
+	private final String targetYear;
+	// 対象月
+	private final String targetMonth;
+	// データバージョン
+	private final Long dataVersion;
+	// 整合性検証済みバージョン
+	private final Long validatedVersion;
+
+	/**
+	 *<pre>
+	 * 収支テーブル情報のデータバージョンドメインモデルをもとにIncomeAndExpenditureDataVersionReadWriteDtoを生成して返します。
+	 *</pre>
+	 * @param domain 収支テーブル情報のデータバージョンドメインモデル
+	 * @return 収支テーブル:INCOME_AND_EXPENDITURE_TABLEデータバージョン読込・出力情報
+	 *
+	 */
+	public static IncomeAndExpenditureDataVersionReadWriteDto from(IncomeAndExpenditureDataVersion domain) {
+		return new IncomeAndExpenditureDataVersionReadWriteDto(
+				// ユーザID
+				domain.getUserId().getValue(),
+				// 対象年
+				domain.getTargetYearMonth().getYear(),
+				// 対象月
+				domain.getTargetYearMonth().getMonth(),
+				// データバージョン
+				domain.getDataVersion(),
+				// 整合性検証済みバージョン
+				domain.getValidatedVersion());
+	}
+}
@@ -8,6 +8,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/10/17 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  年度範囲一括取得対応(対象年を追加)
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.dto.account.inquiry;
@@ -23,7 +24,7 @@ import lombok.RequiredArgsConstructor;
  * 年間収支(明細)情報のDB取得項目を格納するDTOです。
  * 収支テーブルと支出金額テーブルの検索結果になります。
  * 支出金額テーブルは指定の支出項目コード(支出項目テーブルのレベルが1に設定されている項目コード)の値が
- * 1レコードとして格納されます。
+ * 対象年月毎に1レコードとして格納されます。
  *
  *</pre>
  *
@@ -34,6 +35,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public class AccountYearMeisaiInquiryReadDto {
+	// 対象年
+	private final String year;
 	// 対象月
 	private final String month;
 	// 収入金額
@@ -0,0 +1,83 @@
+/**
+ * 支出金額テーブル：SISYUTU_KINGAKU_TABLEの増減値(加減算)出力情報です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  支出予定金額増減値を追加
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountDelta;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 支出金額テーブル：SISYUTU_KINGAKU_TABLEの増減値(加減算)出力情報です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class SisyutuKingakuDeltaWriteDto {
+	// ユーザID
+	private final String userId;
+	// 対象年
+	private final String targetYear;
+	// 対象月
+	private final String targetMonth;
+	// 支出項目コード
+	private final String sisyutuItemCode;
+	// 支出予定金額増減値
+	private final BigDecimal sisyutuYoteiKingakuDelta;
+	// 支出金額増減値
+	private final BigDecimal sisyutuKingakuDelta;
+	// 支出金額B増減値(nullの場合は変更なし)
+	private final BigDecimal sisyutuKingakuBDelta;
+	// 支出金額C増減値(nullの場合は変更なし)
+	private final BigDecimal sisyutuKingakuCDelta;
+	// 支出支払日(nullの場合は変更なし)
+	private final LocalDate sisyutuSiharaiDate;
+	
+	/**
+	 *<pre>
+	 * 支出金額テーブル情報の増減値ドメインモデルをもとにSisyutuKingakuDeltaWriteDtoを生成して返します。
+	 *</pre>
+	 * @param domain 支出金額テーブル情報の増減値ドメインモデル
+	 * @return 支出金額テーブル：SISYUTU_KINGAKU_TABLEの増減値(加減算)出力情報
+	 *
+	 */
+	public static SisyutuKingakuDeltaWriteDto from(ExpenditureAmountDelta domain) {
+		return new SisyutuKingakuDeltaWriteDto(
+				// ユーザID
+				domain.getUserId().getValue(),
+				// 対象年
+				domain.getTargetYear().getValue(),
+				// 対象月
+				domain.getTargetMonth().getValue(),
+				// 支出項目コード
+				domain.getExpenditureItemCode().getValue(),
+				// 支出予定金額増減値
+				domain.getExpectedExpenditureAmountDelta(),
+				// 支出金額増減値
+				domain.getExpenditureAmountDelta(),
+				// 無駄遣い（軽度）支出金額増減値
+				domain.getMinorWasteExpenditureAmountDelta(),
+				// 無駄遣い（重度）支出金額増減値
+				domain.getSevereWasteExpenditureAmountDelta(),
+				// 支出支払日
+				domain.getPaymentDate().getValue());
+	}
+}
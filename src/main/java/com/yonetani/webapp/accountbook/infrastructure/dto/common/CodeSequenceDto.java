@@ -0,0 +1,67 @@
+/**
+ * コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  初期値(登録・加算時の初回採番時の発番済みの最終番号)を追加
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.dto.common;
+
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class CodeSequenceDto {
+	// ユーザID
+	private final String userId;
+	// 採番範囲
+	private final String sequenceScope;
+	// 番号(加算時、登録・加算時は採番数)
+	private final int number;
+	// 初期値(登録・加算時の初回採番時の発番済みの最終番号)
+	private final int initialNumber;
+
+	/**
+	 *<pre>
+	 * 採番キーと番号の値をもとにCodeSequenceDtoを生成して返します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param number 番号(加算時は採番数、検索時は0)
+	 * @return コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報
+	 *
+	 */
+	public static CodeSequenceDto from(CodeSequenceKey key, int number) {
+		return new CodeSequenceDto(key.getUserId().getValue(), key.getSequenceScope(), number, 0);
+	}
+	
+	/**
+	 *<pre>
+	 * 採番キーと初期値、採番数の値をもとに登録・加算用のCodeSequenceDtoを生成して返します。
+	 *</pre>
+	 * @param key 採番キー
+	 * @param initialNumber 初期値(初回採番時の発番済みの最終番号)
+	 * @param count 採番数
+	 * @return コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報
+	 *
+	 */
+	public static CodeSequenceDto from(CodeSequenceKey key, int initialNumber, int count) {
+		return new CodeSequenceDto(key.getUserId().getValue(), key.getSequenceScope(), count, initialNumber);
+	}
+}
@@ -0,0 +1,70 @@
+/**
+ * テーブルの検索条件が以下の場合に使用するTDOです。
+ * ・ユーザID
+ * ・対象年
+ * ・対象月
+ * ・支出コードのリスト
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.dto.searchquery;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCodeList;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * テーブルの検索条件が以下の場合に使用するTDOです。
+ * ・ユーザID
+ * ・対象年
+ * ・対象月
+ * ・支出コードのリスト
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto {
+	// ユーザID
+	private final String userId;
+	// 対象年
+	private final String targetYear;
+	// 対象月
+	private final String targetMonth;
+	// 支出コードのリスト
+	private final List<String> sisyutuCodeList;
+	
+	/**
+	 *<pre>
+	 * 検索条件のドメイン情報をもとにUserIdAndYearMonthAndSisyutuCodeListSearchQueryDtoを生成して返します。
+	 *</pre>
+	 * @param search 検索条件(ユーザID、対象年月、支出コードのリスト)
+	 * @return テーブルの検索条件：ユーザID、対象年、対象月、支出コードのリスト
+	 *
+	 */
+	public static UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto from(SearchQueryUserIdAndYearMonthAndExpenditureCodeList search) {
+		return new UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto(
+				// 検索条件:ユーザID
+				search.getUserId().toString(),
+				// 検索条件:対象年
+				search.getYearMonth().getYear(),
+				// 検索条件:対象月
+				search.getYearMonth().getMonth(),
+				// 検索条件:支出コードのリスト
+				search.getExpenditureCodeList().stream().map(code -> code.getValue()).collect(Collectors.toUnmodifiableList()));
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * テーブルの検索条件が以下の場合に使用するTDOです。
+ * ・ユーザID
+ * ・開始年
+ * ・終了年
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.dto.searchquery;
+
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearRange;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * テーブルの検索条件が以下の場合に使用するTDOです。
+ * ・ユーザID
+ * ・開始年
+ * ・終了年
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class UserIdAndYearRangeSearchQueryDto {
+	// ユーザID
+	private final String userId;
+	// 開始年
+	private final String fromYear;
+	// 終了年
+	private final String toYear;
+	
+	/**
+	 *<pre>
+	 * 検索条件のドメイン情報をもとにUserIdAndYearRangeSearchQueryDtoを生成して返します。
+	 *</pre>
+	 * @param search 検索条件(ユーザID、開始年、終了年)
+	 * @return テーブルの検索条件：ユーザID、開始年、終了年
+	 *
+	 */
+	public static UserIdAndYearRangeSearchQueryDto from(SearchQueryUserIdAndYearRange search) {
+		return new UserIdAndYearRangeSearchQueryDto(
+				// 検索条件:ユーザID
+				search.getUserId().getValue(),
+				// 検索条件:開始年
+				search.getFromYear().getValue(),
+				// 検索条件:終了年
+				search.getToYear().getValue());
+	}
+}
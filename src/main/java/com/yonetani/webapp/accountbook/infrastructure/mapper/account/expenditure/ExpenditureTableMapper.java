@@ -5,6 +5,9 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/09/08 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)を追加
+ * 2026/10/17 : 1.02.00  支出コードのリストによる一括検索(findByPrimaryKeyList)を追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索(findByExpenditureItemCodeList)を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.mapper.account.expenditure;
@@ -19,8 +22,10 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditure.ExpenditureReadWriteDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeAndSisyutuKubunSearchQueryDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
 
@@ -92,6 +97,17 @@ public interface ExpenditureTableMapper {
 	@Select("sql/account/expenditure/ExpenditureTableSelectSql02.sql")
 	public ExpenditureReadWriteDto findByUniqueKey(@Param("dto") UserIdAndYearMonthAndSisyutuCodeSearchQueryDto search);
 	
+	/**
+	 *<pre>
+	 * ユーザID、対象年、対象月と支出コードのリスト(IN条件)を条件に支出テーブルを参照します。
+	 *</pre>
+	 * @param search 検索条件:ユーザID、対象年、対象月、支出コードのリスト
+	 * @return 支出テーブル検索結果のリスト
+	 *
+	 */
+	@Select("sql/account/expenditure/ExpenditureTableSelectSql05.sql")
+	public List<ExpenditureReadWriteDto> findByUniqueKeyList(@Param("dto") UserIdAndYearMonthAndSisyutuCodeListSearchQueryDto search);
+	
 	/**
 	 *<pre>
 	 * 指定のユーザID、対象年月、支出項目コードを条件に支出テーブル:EXPENDITURE_TABLEを参照します。
@@ -114,6 +130,17 @@ public interface ExpenditureTableMapper {
 	@Select("sql/account/expenditure/ExpenditureTableSelectSql04.sql")
 	public List<ExpenditureReadWriteDto> findByIdAndSisyutuItemCodeAndSisyutuKubun(@Param("dto")UserIdAndYearMonthAndSisyutuItemCodeAndSisyutuKubunSearchQueryDto search);
 	
+	/**
+	 *<pre>
+	 * 指定のユーザID、対象年月、支出項目コードのリストを条件に支出テーブル:EXPENDITURE_TABLEを参照します。
+	 *</pre>
+	 * @param search 検索条件:ユーザID、対象年月、支出項目コードのリスト
+	 * @return 支出テーブル:EXPENDITURE_TABLE参照結果のリスト
+	 *
+	 */
+	@Select("sql/account/expenditure/ExpenditureTableSelectSql06.sql")
+	public List<ExpenditureReadWriteDto> findByIdAndSisyutuItemCodeList(@Param("dto") UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto search);
+	
 	/**
 	 *<pre>
 	 * 指定のユーザID、対象年月に対応する支出情報が何件あるかを取得します。
@@ -136,4 +163,15 @@ public interface ExpenditureTableMapper {
 	@Select("sql/account/expenditure/ExpenditureTableSumSql01.sql")
 	public BigDecimal sumExpenditureKingaku(@Param("dto") UserIdAndYearMonthSearchQueryDto search);
 	
+	/**
+	 *<pre>
+	 * 指定のユーザID、対象年月に対応する支出情報が存在するかどうかを取得します。
+	 *</pre>
+	 * @param search 検索条件:ユーザID、対象年月
+	 * @return 存在する場合1、存在しない場合0
+	 *
+	 */
+	@Select("sql/account/expenditure/ExpenditureTableExistsSql01.sql")
+	public int existsById(@Param("dto") UserIdAndYearMonthSearchQueryDto search);
+	
 }
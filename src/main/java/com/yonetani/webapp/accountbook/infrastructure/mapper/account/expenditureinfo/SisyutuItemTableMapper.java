@@ -5,6 +5,8 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/01/13 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  親の支出項目配下の支出項目表示順の一括変更を追加
+ * 2026/10/17 : 1.02.00  未使用となった支出項目表示順の更新(updateSisyutuItemSort)を削除
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.mapper.account.expenditureinfo;
@@ -18,6 +20,7 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditureinfo.SisyutuItemReadWriteDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.account.expenditureinfo.SisyutuItemSortShiftWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndSisyutuItemCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndSisyutuItemSortBetweenABSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdSearchQueryDto;
@@ -70,14 +73,14 @@ public interface SisyutuItemTableMapper {
 	
 	/**
 	 *<pre>
-	 * 支出項目テーブル:SISYUTU_ITEM_TABLEの支出項目表示順項目の値を更新します。
+	 * 支出項目テーブル:SISYUTU_ITEM_TABLEの親の支出項目配下(子孫を含む)の支出項目表示順を一括変更(移動・ずらし)します。
 	 *</pre>
-	 * @param writeDto 支出項目テーブル:SISYUTU_ITEM_TABLE出力情報
+	 * @param writeDto 支出項目テーブル:SISYUTU_ITEM_TABLEの支出項目表示順一括変更出力情報
 	 * @return 支出項目テーブルを更新した件数
 	 *
 	 */
-	@Update("sql/account/expenditureinfo/SisyutuItemTableUpdateSql03.sql")
-	public int updateSisyutuItemSort(@Param("dto") SisyutuItemReadWriteDto writeDto);
+	@Update("sql/account/expenditureinfo/SisyutuItemTableUpdateSql04.sql")
+	public int updateSisyutuItemSortShift(@Param("dto") SisyutuItemSortShiftWriteDto writeDto);
 	
 	/**
 	 *<pre>
@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/10/12 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  データバージョン(整合性検証済みバージョン)の参照・更新を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.mapper.account.incomeandexpenditure;
@@ -17,6 +18,7 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
+import com.yonetani.webapp.accountbook.infrastructure.dto.account.incomeandexpenditure.IncomeAndExpenditureDataVersionReadWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.incomeandexpenditure.IncomeAndExpenditureReadWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearSearchQueryDto;
@@ -77,4 +79,37 @@ public interface IncomeAndExpenditureTableMapper {
 	 */
 	@Select("sql/account/incomeandexpenditure/IncomeAndExpenditureTableSelectSql02.sql")
 	public IncomeAndExpenditureReadWriteDto selectUserIdAndYearMonth(@Param("dto") UserIdAndYearMonthSearchQueryDto dto);
+	
+	/**
+	 *<pre>
+	 * ユーザID,対象年,対象月を条件に収支テーブルのデータバージョン、整合性検証済みバージョンを検索して返します。
+	 *</pre>
+	 * @param dto 検索条件:ユーザID,対象年,対象月
+	 * @return 収支テーブル:INCOME_AND_EXPENDITURE_TABLEデータバージョン読込情報
+	 *
+	 */
+	@Select("sql/account/incomeandexpenditure/IncomeAndExpenditureTableSelectSql03.sql")
+	public IncomeAndExpenditureDataVersionReadWriteDto selectDataVersion(@Param("dto") UserIdAndYearMonthSearchQueryDto dto);
+	
+	/**
+	 *<pre>
+	 * 整合性未検証の収支テーブル情報のデータバージョンを指定件数まで検索して返します。
+	 *</pre>
+	 * @param limit 最大取得件数
+	 * @return 収支テーブル:INCOME_AND_EXPENDITURE_TABLEデータバージョン読込情報のリスト
+	 *
+	 */
+	@Select("sql/account/incomeandexpenditure/IncomeAndExpenditureTableSelectSql04.sql")
+	public List<IncomeAndExpenditureDataVersionReadWriteDto> selectUnvalidatedDataVersion(@Param("limit") int limit);
+	
+	/**
+	 *<pre>
+	 * 収支テーブル：INCOME_AND_EXPENDITURE_TABLEの整合性検証済みバージョンを更新します。
+	 *</pre>
+	 * @param writeDto 収支テーブル:INCOME_AND_EXPENDITURE_TABLEデータバージョン出力情報
+	 * @return 収支テーブルを更新した件数
+	 *
+	 */
+	@Update("sql/account/incomeandexpenditure/IncomeAndExpenditureTableUpdateSql02.sql")
+	public int updateValidatedVersion(@Param("dto") IncomeAndExpenditureDataVersionReadWriteDto writeDto);
 }
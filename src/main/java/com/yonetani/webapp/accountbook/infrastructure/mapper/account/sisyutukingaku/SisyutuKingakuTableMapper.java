@@ -7,6 +7,11 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/09/30 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  年間収支(明細)を年度範囲で一括取得するよう変更
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)を追加
+ * 2026/10/17 : 1.02.00  DB上での加減算(増減値更新)を追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索(findByExpenditureItemCodeList)を追加
+ * 2026/10/17 : 1.02.00  登録済みの場合は加算する新規登録(insertOrAddDelta)を追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.mapper.account.sisyutukingaku;
@@ -21,9 +26,12 @@ import org.apache.ibatis.annotations.Update;
 
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.inquiry.AccountYearMeisaiInquiryReadDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku.SisyutuKingakuAndSisyutuItemReadDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku.SisyutuKingakuDeltaWriteDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.account.sisyutukingaku.SisyutuKingakuReadWriteDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthAndSisyutuItemCodeSearchQueryDto;
 import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearMonthSearchQueryDto;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.UserIdAndYearRangeSearchQueryDto;
 
 /**
  *<pre>
@@ -51,6 +59,18 @@ public interface SisyutuKingakuTableMapper {
 	@Insert("sql/account/sisyutukingaku/SisyutuKingakuTableInsertSql01.sql")
 	public int insert(@Param("dto") SisyutuKingakuReadWriteDto writeDto);
 	
+	/**
+	 *<pre>
+	 * 支出金額テーブル：SISYUTU_KINGAKU_TABLEにデータを追加します。
+	 * 登録済みの場合は、登録済みのデータに支出予定金額・支出金額・支出金額B・支出金額Cを加算します(ON DUPLICATE KEY UPDATE)。
+	 *</pre>
+	 * @param writeDto 支出金額テーブル:SISYUTU_KINGAKU_TABLE出力情報(加算値)
+	 * @return 支出金額テーブルに追加されたデータ件数(1件)、または、加算したデータの件数(MySQLの場合は2件)
+	 *
+	 */
+	@Insert("sql/account/sisyutukingaku/SisyutuKingakuTableInsertSql02.sql")
+	public int insertOrAddDelta(@Param("dto") SisyutuKingakuReadWriteDto writeDto);
+	
 	/**
 	 *<pre>
 	 * 支出金額テーブル：SISYUTU_KINGAKU_TABLEの情報を指定の支出金額情報で更新します。
@@ -62,6 +82,18 @@ public interface SisyutuKingakuTableMapper {
 	@Update("sql/account/sisyutukingaku/SisyutuKingakuTableUpdateSql01.sql")
 	public int update(@Param("dto") SisyutuKingakuReadWriteDto writeDto);
 	
+	/**
+	 *<pre>
+	 * 支出金額テーブル：SISYUTU_KINGAKU_TABLEの支出金額・支出金額B・支出金額Cに指定の増減値を加減算します(DB上で加減算)。
+	 * 加減算後の値がマイナス値となる場合は更新しません。
+	 *</pre>
+	 * @param writeDto 支出金額テーブル:SISYUTU_KINGAKU_TABLEの増減値出力情報
+	 * @return 支出金額テーブルを更新した件数
+	 *
+	 */
+	@Update("sql/account/sisyutukingaku/SisyutuKingakuTableUpdateSql02.sql")
+	public int updateDelta(@Param("dto") SisyutuKingakuDeltaWriteDto writeDto);
+	
 	/**
 	 *<pre>
 	 * ユニークキー(ユーザID、対象年、対象月、支出項目ID)を条件に支出金額テーブルを検索します。
@@ -84,6 +116,17 @@ public interface SisyutuKingakuTableMapper {
 	@Select("sql/account/sisyutukingaku/SisyutuKingakuTableSelectSql02.sql")
 	public List<SisyutuKingakuReadWriteDto> findById(@Param("dto") UserIdAndYearMonthSearchQueryDto dto);
 	
+	/**
+	 *<pre>
+	 * ユーザID、対象年、対象月、支出項目コードのリストを条件に支出金額テーブルを検索します。
+	 *</pre>
+	 * @param dto 検索条件:ユーザID、対象年、対象月、支出項目コードのリスト
+	 * @return 支出金額テーブル検索結果のリスト
+	 *
+	 */
+	@Select("sql/account/sisyutukingaku/SisyutuKingakuTableSelectSql03.sql")
+	public List<SisyutuKingakuReadWriteDto> findByIdAndSisyutuItemCodeList(@Param("dto") UserIdAndYearMonthAndSisyutuItemCodeListSearchQueryDto dto);
+	
 	/**
 	 *<pre>
 	 * 支出金額テーブルと支出アイテムテーブルから該当月の支出項目一覧情報を検索します。
@@ -98,13 +141,25 @@ public interface SisyutuKingakuTableMapper {
 	
 	/**
 	 *<pre>
-	 * 収支テーブルと支出金額テーブルから該当年の支出項目レベル１毎の支出一覧情報を検索します。
+	 * 収支テーブルと支出金額テーブルから指定年度範囲の支出項目レベル１毎の支出一覧情報を検索します。
+	 * 対象年月毎にグルーピングした結果を1回のクエリで取得します。
 	 *</pre>
-	 * @param dto 検索条件:ユーザID、対象年、対象月
-	 * @return 支出項目レベル１毎の支出一覧情報検索結果
+	 * @param dto 検索条件:ユーザID、開始年、終了年
+	 * @return 支出項目レベル１毎の支出一覧情報検索結果のリスト(対象年、対象月の昇順)
+	 *
+	 */
+	@Select("sql/account/sisyutukingaku/SisyutuKingakuYearInquirySelectSql02.sql")
+	public List<AccountYearMeisaiInquiryReadDto> selectYearRangeSisyutuKingakuList(@Param("dto") UserIdAndYearRangeSearchQueryDto dto);
+	
+	/**
+	 *<pre>
+	 * 指定のユーザID、対象年月に対応する支出金額情報が存在するかどうかを取得します。
+	 *</pre>
+	 * @param search 検索条件:ユーザID、対象年月
+	 * @return 存在する場合1、存在しない場合0
 	 *
 	 */
-	@Select("sql/account/sisyutukingaku/SisyutuKingakuYearInquirySelectSql01.sql")
-	public AccountYearMeisaiInquiryReadDto selectYearSisyutuKingakuList(@Param("dto") UserIdAndYearMonthSearchQueryDto dto);
+	@Select("sql/account/sisyutukingaku/SisyutuKingakuTableExistsSql01.sql")
+	public int existsById(@Param("dto") UserIdAndYearMonthSearchQueryDto search);
 	
 }
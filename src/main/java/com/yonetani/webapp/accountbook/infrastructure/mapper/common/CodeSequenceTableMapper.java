@@ -0,0 +1,67 @@
+/**
+ * コード採番テーブル:CODE_SEQUENCE_TABLEの照会・更新を行うマッパーです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  データ追加を登録済みの場合に加算する登録・加算(insertOrIncrement)に変更
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.mapper.common;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import com.yonetani.webapp.accountbook.infrastructure.dto.common.CodeSequenceDto;
+
+/**
+ *<pre>
+ * コード採番テーブル:CODE_SEQUENCE_TABLEの照会・更新を行うマッパーです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Mapper
+public interface CodeSequenceTableMapper {
+
+	/**
+	 *<pre>
+	 * コード採番テーブル:CODE_SEQUENCE_TABLEの発番済みの最終番号に採番数を加算します。
+	 *</pre>
+	 * @param dto コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報(番号=採番数)
+	 * @return コード採番テーブルのデータ更新件数
+	 *
+	 */
+	@Update("sql/common/CodeSequenceTableUpdateSql01.sql")
+	public int increment(@Param("dto") CodeSequenceDto dto);
+
+	/**
+	 *<pre>
+	 * コード採番テーブル:CODE_SEQUENCE_TABLEから指定した採番範囲の発番済みの最終番号を取得します。
+	 *</pre>
+	 * @param dto コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報(ユーザID、採番範囲)
+	 * @return 発番済みの最終番号
+	 *
+	 */
+	@Select("sql/common/CodeSequenceTableSelectSql01.sql")
+	public Integer selectLastIssuedNumber(@Param("dto") CodeSequenceDto dto);
+
+	/**
+	 *<pre>
+	 * コード採番テーブル:CODE_SEQUENCE_TABLEに初期値に採番数を加算した発番済みの最終番号でデータを追加します。
+	 * 登録済みの場合は、発番済みの最終番号に採番数を加算します(ON DUPLICATE KEY UPDATE)。
+	 *</pre>
+	 * @param dto コード採番テーブル:CODE_SEQUENCE_TABLE入出力情報(番号=採番数、初期値=初回採番時の発番済みの最終番号)
+	 * @return 新規登録の場合は1件、加算の場合は2件(ON DUPLICATE KEY UPDATEの仕様)
+	 *
+	 */
+	@Insert("sql/common/CodeSequenceTableInsertSql01.sql")
+	public int insertOrIncrement(@Param("dto") CodeSequenceDto dto);
+}
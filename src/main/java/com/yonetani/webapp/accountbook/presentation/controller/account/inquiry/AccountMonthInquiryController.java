@@ -10,6 +10,7 @@
  * 2023/08/26 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
  * 2026/06/13 : 1.02.00  支出別一覧追加対応(viewType対応・表示切替・訂正エンドポイント追加)
+ * 2026/10/17 : 1.02.00  支出一覧エリア取得エンドポイント追加(表示切替時の部分再表示)
  *
  */
 package com.yonetani.webapp.accountbook.presentation.controller.account.inquiry;
@@ -197,6 +198,33 @@ public class AccountMonthInquiryController {
 		return response.buildWithData();
 	}
 	
+	/**
+	 *<pre>
+	 * 支出一覧の表示切替時の支出一覧エリア取得のGET要求時マッピングです。
+	 * 画面全体を再表示せず、支出一覧エリアのみを返却します(JavaScriptから呼び出し)。
+	 * 参照のみの要求のため、GETで受け付けます。
+	 *
+	 * 【前提条件】表示切替は収支データが存在する月のみ（ボタンは syuusiDataFlg=true の場合のみ表示）
+	 *</pre>
+	 * @param targetYearMonth 表示対象の年月
+	 * @param viewType 切り替え先の表示種別（"item"=支出項目別、"expenditure"=支出別）
+	 * @return マイ家計簿(各月の収支)画面の支出一覧エリア
+	 *
+	 */
+	@GetMapping("/expenditurearea/")
+	public ModelAndView getExpenditureArea(
+			@RequestParam("targetYearMonth") String targetYearMonth,
+			@RequestParam("viewType") String viewType) {
+		log.debug("getExpenditureArea:targetYearMonth=" + targetYearMonth + ",viewType=" + viewType);
+
+		// 画面表示情報読込（表示切替は同月内の操作のため returnYearMonth=targetYearMonth）
+		AccountMonthInquiryResponse response = this.usecase.read(
+				loginUserSession.getLoginUserInfo(), targetYearMonth, targetYearMonth, viewType);
+		// レスポンスにログインユーザ名を設定
+		response.setLoginUserName(loginUserSession.getLoginUserInfo().getUserName());
+		return response.buildExpenditureFragment();
+	}
+
 	/**
 	 *<pre>
 	 * 買い物登録ボタン押下時のPOST要求時マッピングです。買い物登録画面にリダイレクトします。
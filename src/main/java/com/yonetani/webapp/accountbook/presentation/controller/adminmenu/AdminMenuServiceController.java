@@ -4,11 +4,14 @@
  * ・マイ家計簿ユーザ登録画面表示
  * ・マイ家計簿ユーザ登録処理
  * ・【保守用】ベース情報管理
+ * ・【保守用】DBアクセス統計
+ * ・【保守用】ユースケース処理時間
  *
  *------------------------------------------------
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/06/11 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  DBアクセス統計画面、ユースケース処理時間画面を追加
  *
  */
 package com.yonetani.webapp.accountbook.presentation.controller.adminmenu;
@@ -27,6 +30,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.yonetani.webapp.accountbook.application.usecase.adminmenu.AdminMenuBaseInfoDetailUseCase;
 import com.yonetani.webapp.accountbook.application.usecase.adminmenu.AdminMenuBaseInfoUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.adminmenu.AdminMenuDbAccessStatisticsUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.adminmenu.AdminMenuUseCaseMetricsUseCase;
 import com.yonetani.webapp.accountbook.application.usecase.adminmenu.AdminMenuUserInfoUseCase;
 import com.yonetani.webapp.accountbook.presentation.request.adminmenu.AdminMenuUploadBaseInfoFileForm;
 import com.yonetani.webapp.accountbook.presentation.request.adminmenu.AdminMenuUserInfoForm;
@@ -45,6 +50,7 @@ import lombok.extern.log4j.Log4j2;
  * ・マイ家計簿ユーザ登録画面表示
  * ・マイ家計簿ユーザ登録処理
  * ・【保守用】ベース情報管理
+ * ・【保守用】DBアクセス統計
  * 
  *</pre>
  *
@@ -64,6 +70,10 @@ public class AdminMenuServiceController {
 	private final AdminMenuBaseInfoUseCase baseInfoUseCase;
 	// admin usecase(ベース情報詳細表示)
 	private final AdminMenuBaseInfoDetailUseCase baseInfoDetailUseCase;
+	// admin usecase(DBアクセス統計)
+	private final AdminMenuDbAccessStatisticsUseCase dbAccessStatisticsUseCase;
+	// admin usecase(ユースケース処理時間)
+	private final AdminMenuUseCaseMetricsUseCase useCaseMetricsUseCase;
 	// ログインユーザセッションBean
 	private final LoginUserSession loginUserSession;
 	
@@ -261,4 +271,74 @@ public class AdminMenuServiceController {
 					loginUserSession.getLoginUserInfo(), "予期しないエラーが発生しました。管理者に問い合わせてください。[key=target]");
 		}
 	}
+	
+	/**
+	 *<pre>
+	 * 管理者画面メニュー DBアクセス統計表示のマッピングです
+	 *</pre>
+	 * @return DBアクセス統計画面
+	 *
+	 */
+	@GetMapping("/dbaccessstatistics/")
+	public ModelAndView getDbAccessStatistics() {
+		log.debug("getDbAccessStatistics:");
+		// 画面表示データ読込
+		return this.dbAccessStatisticsUseCase.read()
+				// レスポンスにログインユーザ名を設定
+				.setLoginUserName(loginUserSession.getLoginUserInfo().getUserName())
+				// レスポンスからModelAndViewを生成
+				.build();
+	}
+	
+	/**
+	 *<pre>
+	 * 管理者画面メニュー DBアクセス統計クリアのマッピングです
+	 *</pre>
+	 * @param redirectAttributes リダイレクト先引き継ぎ領域
+	 * @return DBアクセス統計画面
+	 *
+	 */
+	@PostMapping("/cleardbaccessstatistics/")
+	public ModelAndView postClearDbAccessStatistics(RedirectAttributes redirectAttributes) {
+		log.debug("postClearDbAccessStatistics:");
+		// 保持しているDBアクセス統計をクリア
+		return this.dbAccessStatisticsUseCase.clear().buildRedirect(redirectAttributes);
+	}
+	
+	/**
+	 *<pre>
+	 * 管理者画面メニュー DBアクセス統計クリア完了後のリダイレクト(Get要求時)のマッピングです。
+	 *</pre>
+	 * @param redirectMessages リダイレクト元から引き継いだメッセージ
+	 * @return DBアクセス統計画面
+	 *
+	 */
+	@GetMapping("/completeClearDbAccessStatistics/")
+	public ModelAndView completeClearDbAccessStatistics(@ModelAttribute CompleteRedirectMessages redirectMessages) {
+		log.debug("completeClearDbAccessStatistics: input=" + redirectMessages);
+		// 画面表示データ読込
+		return this.dbAccessStatisticsUseCase.read()
+				// レスポンスにログインユーザ名を設定
+				.setLoginUserName(loginUserSession.getLoginUserInfo().getUserName())
+				// レスポンスからModelAndViewを生成
+				.buildComplete(redirectMessages);
+	}
+	
+	/**
+	 *<pre>
+	 * 管理者画面メニュー ユースケース処理時間画面表示のGET要求時マッピングです。
+	 *</pre>
+	 * @return ユースケース処理時間画面
+	 *
+	 */
+	@GetMapping("/usecasemetrics/")
+	public ModelAndView getUseCaseMetrics() {
+		log.debug("getUseCaseMetrics:");
+		// 画面表示データ読込
+		return this.useCaseMetricsUseCase.read()
+				// レスポンスにログインユーザ名を設定
+				.setLoginUserName(loginUserSession.getLoginUserInfo().getUserName())
+				// レスポンスからModelAndViewを生成
+				.build();
+	}
 }
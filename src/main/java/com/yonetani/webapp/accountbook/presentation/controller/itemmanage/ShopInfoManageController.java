@@ -4,15 +4,19 @@
  * ・情報管理(お店)表示：トップメニューからの遷移(初期表示)、お店情報登録・更新成功時→リダイレクト(GET)
  * ・指定(リストから対象のお店を選択)のお店情報を表示(GET)
  * ・お店情報登録・更新(POST)
+ * ・お店の表示順の一括変更(ドラッグ＆ドロップで並び替えた一覧の順番:POST)
  *
  *------------------------------------------------
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/10/29 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  お店の表示順の一括変更(並び替え)を追加
  *
  */
 package com.yonetani.webapp.accountbook.presentation.controller.itemmanage;
 
+import java.util.List;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
@@ -39,6 +43,7 @@ import lombok.extern.log4j.Log4j2;
  * ・情報管理(お店)表示：トップメニューからの遷移(初期表示)、お店情報登録・更新成功時→リダイレクト(GET)
  * ・指定(リストから対象のお店を選択)のお店情報を表示(GET)
  * ・お店情報登録・更新(POST)
+ * ・お店の表示順の一括変更(ドラッグ＆ドロップで並び替えた一覧の順番:POST)
  * 
  *</pre>
  *
@@ -127,6 +132,28 @@ public class ShopInfoManageController {
 		
 	}
 	
+	/**
+	 *<pre>
+	 * お店の表示順の一括変更(並び替え)のPOST要求時マッピングです。
+	 * 一覧をドラッグ＆ドロップで並び替えた順番の店舗コードのリストを受け取り、表示順を一括で変更します。
+	 *</pre>
+	 * @param shopCodeList 並び替え後の順番の店舗コードのリスト
+	 * @param redirectAttributes リダイレクト先引き継ぎ領域
+	 * @return 情報管理(お店)画面
+	 *
+	 */
+	@PostMapping("/updatesort/")
+	public ModelAndView postUpdateSort(@RequestParam(name = "shopCode", required = false) List<String> shopCodeList,
+			RedirectAttributes redirectAttributes) {
+		log.debug("postUpdateSort: shopCodeList=" + shopCodeList);
+		// 表示順の一括変更を実行
+		return this.usecase.execSortAction(loginUserSession.getLoginUserInfo(), shopCodeList)
+				// レスポンスにログインユーザ名を設定
+				.setLoginUserName(loginUserSession.getLoginUserInfo().getUserName())
+				// 正常時は完了画面にリダイレクト、エラー時は最新の店舗一覧を表示
+				.buildRedirect(redirectAttributes);
+	}
+	
 	/**
 	 *<pre>
 	 * お店情報登録・更新完了後のリダイレクト(Get要求時)のマッピングです。
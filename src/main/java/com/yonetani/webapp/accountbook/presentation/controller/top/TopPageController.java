@@ -7,6 +7,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/06/04 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  ログインユーザ情報に現在の対象年月を保持(最新の場合は再取得しない)
  *
  */
 package com.yonetani.webapp.accountbook.presentation.controller.top;
@@ -18,7 +19,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 
 import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
-import com.yonetani.webapp.accountbook.domain.model.common.AccountBookUser;
 import com.yonetani.webapp.accountbook.domain.type.common.UserId;
 import com.yonetani.webapp.accountbook.presentation.response.top.TopPageResponse;
 import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
@@ -64,20 +64,19 @@ public class TopPageController {
 		// ログインユーザIDをホルダーから取得
 		String loginUserId = SecurityContextHolder.getContext().getAuthentication().getName();
 		
-		// ログインユーザのユーザ情報を取得
-		AccountBookUser loginUserInfo = userInquiry.getUserInfo(UserId.from(loginUserId));
+		// ログインユーザのユーザ情報を取得(セッションに保持したユーザ情報が最新の場合はそのまま使用)
+		LoginUserInfo current = loginUserSession.getLoginUserInfo();
+		LoginUserInfo loginUserInfo = (current != null && loginUserId.equals(current.getUserId()))
+				? userInquiry.refreshLoginUserInfo(current)
+				: userInquiry.createLoginUserInfo(UserId.from(loginUserId));
 		
 		// ユーザ情報をセッションに設定
-		loginUserSession.setLoginUserInfo(LoginUserInfo.from(
-				// ログインユーザID
-				loginUserInfo.getUserId().toString(),
-				// ログインユーザ名
-				loginUserInfo.getUserName().toString()));
+		loginUserSession.setLoginUserInfo(loginUserInfo);
 		log.info("session:" + loginUserSession);
 		
 		// レスポンスを生成
 		TopPageResponse response = new TopPageResponse();
 		// ログインユーザ名を画面情報に設定しModelAndViewを返却
-		return response.setLoginUserName(loginUserInfo.getUserName().toString()).build();
+		return response.setLoginUserName(loginUserInfo.getUserName()).build();
 	}
 }
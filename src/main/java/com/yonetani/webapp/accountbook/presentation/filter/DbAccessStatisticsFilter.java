@@ -0,0 +1,70 @@
+/**
+ * HTTPリクエスト単位でDBアクセス統計を計測するサーブレットフィルターです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.presentation.filter;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsContext;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsRecorder;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * HTTPリクエスト単位でDBアクセス統計を計測するサーブレットフィルターです。
+ * リクエストごとにステートメント数、取得行数、DBアクセス時間を計測して{@link DbAccessStatisticsRecorder}に記録します。
+ * ログイン処理などSpring Securityのフィルター内の処理も計測対象とするため、最優先で実行します。
+ * 計測単位の名前は「HTTPメソッド URI」です(クエリ文字列は含みません)。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DbAccessStatisticsFilter extends OncePerRequestFilter {
+
+	// DBアクセス統計の記録先
+	private final DbAccessStatisticsRecorder recorder;
+
+	/**
+	 *<pre>
+	 * 後続のフィルター、リクエストの処理を実行し、DBアクセス統計を記録します。
+	 *</pre>
+	 * @param request HTTPリクエスト
+	 * @param response HTTPレスポンス
+	 * @param filterChain フィルターチェーン
+	 * @throws ServletException 後続の処理でサーブレット例外が発生した場合
+	 * @throws IOException 後続の処理で入出力例外が発生した場合
+	 *
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		DbAccessStatisticsContext.begin(request.getMethod() + " " + request.getRequestURI());
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			recorder.recordRequest(DbAccessStatisticsContext.end());
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * ログインユーザ情報(セッション)に保持した現在の対象年月、ユーザ名を最新化するサーブレットフィルターです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.presentation.filter;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserSession;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * ログインユーザ情報(セッション)に保持した現在の対象年月、ユーザ名を最新化するサーブレットフィルターです。
+ * 同じユーザの別セッションなどで家計簿利用ユーザ情報が更新された場合(バージョンが一致しない場合)のみ、
+ * 家計簿利用ユーザテーブルから再取得してセッションのログインユーザ情報を差し替えます。
+ * バージョンが一致する場合はDBアクセスしません。
+ *
+ * セッションスコープBeanを参照するため、RequestContextFilterより後(デフォルトの順序)で実行します。
+ * セッションが存在しないリクエストではセッションを生成しません。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserSessionRefreshFilter extends OncePerRequestFilter {
+
+	// ユーザ情報照会ユースケース
+	private final AccountBookUserInquiryUseCase userInquiry;
+	// ログインユーザセッションBean
+	private final LoginUserSession loginUserSession;
+
+	/**
+	 *<pre>
+	 * セッションのログインユーザ情報が最新でない場合は再取得し、後続のフィルター、リクエストの処理を実行します。
+	 *</pre>
+	 * @param request HTTPリクエスト
+	 * @param response HTTPレスポンス
+	 * @param filterChain フィルターチェーン
+	 * @throws ServletException 後続の処理でサーブレット例外が発生した場合
+	 * @throws IOException 後続の処理で入出力例外が発生した場合
+	 *
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if(request.getSession(false) != null) {
+			LoginUserInfo user = loginUserSession.getLoginUserInfo();
+			// 現在の対象年月を保持しているログインユーザ情報のみ最新化
+			if(user != null && user.getTargetYearMonth() != null && !userInquiry.isCurrent(user)) {
+				loginUserSession.setLoginUserInfo(userInquiry.refreshLoginUserInfo(user));
+			}
+		}
+		filterChain.doFilter(request, response);
+	}
+}
@@ -7,6 +7,7 @@
  * 2023/09/23 : 1.00.00  新規作成
  * 2026/03/20 : 1.01.00  リファクタリング対応(DDD適応)
  * 2026/06/13 : 1.02.00  支出別一覧追加対応(viewType・ExpenditureRow・expenditureList追加)
+ * 2026/10/17 : 1.02.00  支出一覧エリアのみの再表示対応(buildExpenditureFragment追加)
  *
  */
 package com.yonetani.webapp.accountbook.presentation.response.account.inquiry;
@@ -285,6 +286,29 @@ public class AccountMonthInquiryResponse extends AbstractResponse {
 		return modelAndView;
 	}
 
+	/**
+	 *<pre>
+	 * 支出一覧の表示切替時の画面返却データ（AccountMonth画面の支出一覧エリアのみ）を生成して返します。
+	 *</pre>
+	 * @return マイ家計簿(各月の収支)画面の支出一覧エリアのModelAndView
+	 *
+	 */
+	public ModelAndView buildExpenditureFragment() {
+		// マイ家計簿(各月の収支)画面の支出一覧エリアのModelとViewを生成
+		ModelAndView modelAndView = createModelAndView("account/inquiry/AccountMonth :: expenditureArea");
+		// 対象年、対象月、前月、次月の値を設定
+		modelAndView.addObject("targetYearMonthInfo", targetYearMonthInfo);
+		// 月毎の支出項目明細リストを追加
+		modelAndView.addObject("expenditureItemList", expenditureItemList);
+		// 表示種別
+		modelAndView.addObject("viewType", viewType);
+		// 月毎の支出情報(支出別一覧)明細リスト
+		modelAndView.addObject("expenditureList", expenditureList);
+		// 支出合計金額
+		modelAndView.addObject("expenditureTotalAmount", expenditureTotalAmount);
+		return modelAndView;
+	}
+
 	/**
 	 *<pre>
 	 * 収支データなしの場合の画面返却データ（AccountMonthRegistCheck画面）を生成して返します。
@@ -0,0 +1,177 @@
+/**
+ * 管理者画面メニュー DBアクセス統計画面表示情報です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.presentation.response.adminmenu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.yonetani.webapp.accountbook.presentation.response.fw.AbstractResponse;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 管理者画面メニュー DBアクセス統計画面表示情報です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminMenuDbAccessStatisticsResponse extends AbstractResponse {
+
+	/**
+	 *<pre>
+	 * リクエストごとのDBアクセス統計の明細情報です。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	public static class RequestItem {
+		// 受付日時(フォーマット済み)
+		private final String startDateTime;
+		// リクエスト(HTTPメソッド URI)
+		private final String request;
+		// ステートメント数
+		private final int statementCount;
+		// 取得行数
+		private final long rowCount;
+		// DBアクセス時間(ミリ秒、フォーマット済み)
+		private final String dbMillis;
+		// 処理時間(ミリ秒、フォーマット済み)
+		private final String elapsedMillis;
+		// 閾値を超えたステートメント(マップドステートメントのID=実行回数)、ない場合は空文字列
+		private final String overThresholdStatements;
+
+		/**
+		 *<pre>
+		 * 引数の値からリクエストごとのDBアクセス統計の明細情報を生成して返します。
+		 *</pre>
+		 * @param startDateTime 受付日時(フォーマット済み)
+		 * @param request リクエスト(HTTPメソッド URI)
+		 * @param statementCount ステートメント数
+		 * @param rowCount 取得行数
+		 * @param dbMillis DBアクセス時間(ミリ秒、フォーマット済み)
+		 * @param elapsedMillis 処理時間(ミリ秒、フォーマット済み)
+		 * @param overThresholdStatements 閾値を超えたステートメント
+		 * @return リクエストごとのDBアクセス統計の明細情報
+		 *
+		 */
+		public static RequestItem from(String startDateTime, String request, int statementCount, long rowCount,
+				String dbMillis, String elapsedMillis, String overThresholdStatements) {
+			return new RequestItem(startDateTime, request, statementCount, rowCount, dbMillis, elapsedMillis,
+					overThresholdStatements);
+		}
+	}
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドごとのDBアクセス統計の明細情報です。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	public static class UseCaseItem {
+		// ユースケースのメソッド(クラス名.メソッド名)
+		private final String useCase;
+		// 呼び出し回数
+		private final long callCount;
+		// 1回あたりのステートメント数の平均(フォーマット済み)
+		private final String averageStatementCount;
+		// 1回あたりのステートメント数の最大
+		private final int maxStatementCount;
+		// 1回あたりの取得行数の平均(フォーマット済み)
+		private final String averageRowCount;
+		// 1回あたりのDBアクセス時間の平均(ミリ秒、フォーマット済み)
+		private final String averageDbMillis;
+		// 1回あたりの処理時間の平均(ミリ秒、フォーマット済み)
+		private final String averageElapsedMillis;
+
+		/**
+		 *<pre>
+		 * 引数の値からユースケースのメソッドごとのDBアクセス統計の明細情報を生成して返します。
+		 *</pre>
+		 * @param useCase ユースケースのメソッド(クラス名.メソッド名)
+		 * @param callCount 呼び出し回数
+		 * @param averageStatementCount 1回あたりのステートメント数の平均(フォーマット済み)
+		 * @param maxStatementCount 1回あたりのステートメント数の最大
+		 * @param averageRowCount 1回あたりの取得行数の平均(フォーマット済み)
+		 * @param averageDbMillis 1回あたりのDBアクセス時間の平均(ミリ秒、フォーマット済み)
+		 * @param averageElapsedMillis 1回あたりの処理時間の平均(ミリ秒、フォーマット済み)
+		 * @return ユースケースのメソッドごとのDBアクセス統計の明細情報
+		 *
+		 */
+		public static UseCaseItem from(String useCase, long callCount, String averageStatementCount,
+				int maxStatementCount, String averageRowCount, String averageDbMillis, String averageElapsedMillis) {
+			return new UseCaseItem(useCase, callCount, averageStatementCount, maxStatementCount, averageRowCount,
+					averageDbMillis, averageElapsedMillis);
+		}
+	}
+
+	// 同一ステートメントの1リクエスト内の実行回数の閾値
+	private final int sameStatementWarnThreshold;
+	// リクエストごとのDBアクセス統計(新しい順)
+	@Getter
+	private final List<RequestItem> requestItemList = new ArrayList<>();
+	// ユースケースのメソッドごとのDBアクセス統計
+	@Getter
+	private final List<UseCaseItem> useCaseItemList = new ArrayList<>();
+
+	/**
+	 *<pre>
+	 * デフォルト値からレスポンス情報を生成して返します。
+	 *</pre>
+	 * @param sameStatementWarnThreshold 同一ステートメントの1リクエスト内の実行回数の閾値
+	 * @return 管理者画面メニュー DBアクセス統計画面表示情報
+	 *
+	 */
+	public static AdminMenuDbAccessStatisticsResponse getInstance(int sameStatementWarnThreshold) {
+		return new AdminMenuDbAccessStatisticsResponse(sameStatementWarnThreshold);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ModelAndView build() {
+		// 画面表示のModelとViewを生成
+		ModelAndView modelAndView = createModelAndView("adminmenu/dbaccessstatistics");
+		modelAndView.addObject("sameStatementWarnThreshold", sameStatementWarnThreshold);
+		modelAndView.addObject("requestItemList", requestItemList);
+		modelAndView.addObject("useCaseItemList", useCaseItemList);
+		return modelAndView;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String buildRedirectUrl(RedirectAttributes redirectAttributes) {
+		// DBアクセス統計クリア後、リダイレクトするURL
+		return "redirect:/myhacbook/admin/completeClearDbAccessStatistics/";
+	}
+}
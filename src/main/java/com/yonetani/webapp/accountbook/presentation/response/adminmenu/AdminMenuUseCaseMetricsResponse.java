@@ -0,0 +1,121 @@
+/**
+ * 管理者画面メニュー ユースケース処理時間画面表示情報です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.presentation.response.adminmenu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.servlet.ModelAndView;
+
+import com.yonetani.webapp.accountbook.presentation.response.fw.AbstractResponse;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 管理者画面メニュー ユースケース処理時間画面表示情報です。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminMenuUseCaseMetricsResponse extends AbstractResponse {
+
+	/**
+	 *<pre>
+	 * ユースケースのメソッドごとの処理時間の明細情報です。
+	 *
+	 *</pre>
+	 *
+	 * @author ：Kouki Yonetani
+	 * @since 家計簿アプリ(1.02)
+	 *
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	public static class UseCaseItem {
+		// ユースケースのメソッド(クラス名.メソッド名)
+		private final String useCase;
+		// 呼び出し回数
+		private final long callCount;
+		// 業務エラー率(%、フォーマット済み)
+		private final String businessErrorRate;
+		// 実行時エラー率(%、フォーマット済み)
+		private final String runtimeErrorRate;
+		// 正常終了時の処理時間の50パーセンタイル(ミリ秒、フォーマット済み)
+		private final String p50Millis;
+		// 正常終了時の処理時間の95パーセンタイル(ミリ秒、フォーマット済み)
+		private final String p95Millis;
+		// 正常終了時の処理時間の99パーセンタイル(ミリ秒、フォーマット済み)
+		private final String p99Millis;
+		// 正常終了時の処理時間の最大(ミリ秒、フォーマット済み)
+		private final String maxMillis;
+		// 実行時エラーがあるかどうか
+		private final boolean runtimeError;
+
+		/**
+		 *<pre>
+		 * 引数の値からユースケースのメソッドごとの処理時間の明細情報を生成して返します。
+		 *</pre>
+		 * @param useCase ユースケースのメソッド(クラス名.メソッド名)
+		 * @param callCount 呼び出し回数
+		 * @param businessErrorRate 業務エラー率(%、フォーマット済み)
+		 * @param runtimeErrorRate 実行時エラー率(%、フォーマット済み)
+		 * @param p50Millis 正常終了時の処理時間の50パーセンタイル(ミリ秒、フォーマット済み)
+		 * @param p95Millis 正常終了時の処理時間の95パーセンタイル(ミリ秒、フォーマット済み)
+		 * @param p99Millis 正常終了時の処理時間の99パーセンタイル(ミリ秒、フォーマット済み)
+		 * @param maxMillis 正常終了時の処理時間の最大(ミリ秒、フォーマット済み)
+		 * @param runtimeError 実行時エラーがあるかどうか
+		 * @return ユースケースのメソッドごとの処理時間の明細情報
+		 *
+		 */
+		public static UseCaseItem from(String useCase, long callCount, String businessErrorRate,
+				String runtimeErrorRate, String p50Millis, String p95Millis, String p99Millis, String maxMillis,
+				boolean runtimeError) {
+			return new UseCaseItem(useCase, callCount, businessErrorRate, runtimeErrorRate, p50Millis, p95Millis,
+					p99Millis, maxMillis, runtimeError);
+		}
+	}
+
+	// パーセンタイルの集計期間(分)
+	private final long percentileExpiryMinutes;
+	// ユースケースのメソッドごとの処理時間
+	@Getter
+	private final List<UseCaseItem> useCaseItemList = new ArrayList<>();
+
+	/**
+	 *<pre>
+	 * デフォルト値からレスポンス情報を生成して返します。
+	 *</pre>
+	 * @param percentileExpiryMinutes パーセンタイルの集計期間(分)
+	 * @return 管理者画面メニュー ユースケース処理時間画面表示情報
+	 *
+	 */
+	public static AdminMenuUseCaseMetricsResponse getInstance(long percentileExpiryMinutes) {
+		return new AdminMenuUseCaseMetricsResponse(percentileExpiryMinutes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ModelAndView build() {
+		// 画面表示のModelとViewを生成
+		ModelAndView modelAndView = createModelAndView("adminmenu/usecasemetrics");
+		modelAndView.addObject("percentileExpiryMinutes", percentileExpiryMinutes);
+		modelAndView.addObject("useCaseItemList", useCaseItemList);
+		return modelAndView;
+	}
+}
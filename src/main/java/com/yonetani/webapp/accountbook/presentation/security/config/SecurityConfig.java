@@ -5,10 +5,12 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2023/06/03 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  Actuatorのエンドポイントへのアクセス権限を追加
  *
  */
 package com.yonetani.webapp.accountbook.presentation.security.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,6 +59,8 @@ public class SecurityConfig {
 			.requestMatchers("/").permitAll()
 			// h2コンソールへのアクセス権限(ただ、permitAll()に変更してもDBコネクト後に403になっちゃいます。。なぜ。。)
 			.requestMatchers("/h2-console/**").hasRole("ADMIN")
+			// Actuatorのエンドポイント(SQLステートメントの実行時間のメトリクスなど)へのアクセス権限
+			.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
 			// 管理者ページへのアクセス権限
 			.requestMatchers("/myhacbook/admin/**").hasRole("ADMIN")
 			// 家計簿ページのアクセス権限
@@ -5,6 +5,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2024/05/05 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  現在の対象年月、家計簿利用ユーザ情報のバージョンを追加
  *
  */
 package com.yonetani.webapp.accountbook.presentation.session;
@@ -21,6 +22,9 @@ import lombok.ToString;
  *<pre>
  * セッションに設定するログインユーザ情報です。
  *
+ * 現在の対象年月は取得時点の家計簿利用ユーザ情報のバージョンとあわせて保持し、
+ * バージョンが現在のバージョンと一致する場合のみ使用します(AccountBookUserInquiryUseCase参照)。
+ *
  *</pre>
  *
  * @author ：Kouki Yonetani
@@ -38,10 +42,15 @@ public class LoginUserInfo implements Serializable {
 	private final String userId;
 	// ログインユーザ名
 	private final String userName;
+	// 現在の対象年月(YYYYMM):未取得の場合はnull
+	private final String targetYearMonth;
+	// 現在の対象年月、ユーザ名を取得した時点の家計簿利用ユーザ情報のバージョン
+	private final long userInfoVersion;
 	
 	/**
 	 *<pre>
 	 * 引数の値からログインユーザ情報を生成して返します。
+	 * 現在の対象年月は未取得(null)となります。
 	 *</pre>
 	 * @param userId ログインユーザID
 	 * @param userName ログインユーザ名
@@ -49,6 +58,21 @@ public class LoginUserInfo implements Serializable {
 	 *
 	 */
 	public static LoginUserInfo from(String userId, String userName) {
-		return new LoginUserInfo(userId, userName);
+		return new LoginUserInfo(userId, userName, null, 0);
+	}
+	
+	/**
+	 *<pre>
+	 * 引数の値から現在の対象年月を保持したログインユーザ情報を生成して返します。
+	 *</pre>
+	 * @param userId ログインユーザID
+	 * @param userName ログインユーザ名
+	 * @param targetYearMonth 現在の対象年月(YYYYMM)
+	 * @param userInfoVersion 現在の対象年月、ユーザ名を取得した時点の家計簿利用ユーザ情報のバージョン
+	 * @return ログインユーザ情報
+	 *
+	 */
+	public static LoginUserInfo from(String userId, String userName, String targetYearMonth, long userInfoVersion) {
+		return new LoginUserInfo(userId, userName, targetYearMonth, userInfoVersion);
 	}
 }
@@ -0,0 +1,5 @@
+-- 指定のユーザID、対象年月に対応する支出情報が存在するかどうかを取得します(存在する場合1、存在しない場合0)。
+SELECT CASE WHEN EXISTS (
+    SELECT 1 FROM EXPENDITURE_TABLE WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 1 /*[/]*/ AND TARGET_YEAR = /*[# mb:p="dto.targetYear"]*/ 2 /*[/]*/ AND TARGET_MONTH = /*[# mb:p="dto.targetMonth"]*/ 3 /*[/]*/
+      AND DELETE_FLG = FALSE
+  ) THEN 1 ELSE 0 END
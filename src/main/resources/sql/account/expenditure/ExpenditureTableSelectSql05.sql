@@ -0,0 +1,3 @@
+-- ユーザID、対象年、対象月と支出コードのリスト(in条件に指定する支出コード)を条件に支出テーブルを参照します。
+SELECT * FROM EXPENDITURE_TABLE WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 1 /*[/]*/ AND TARGET_YEAR = /*[# mb:p="dto.targetYear"]*/ 2 /*[/]*/ AND TARGET_MONTH = /*[# mb:p="dto.targetMonth"]*/ 3 /*[/]*/
+      AND EXPENDITURE_CODE IN (/*[# mb:p="dto.sisyutuCodeList"]*/ 4 /*[/]*/)
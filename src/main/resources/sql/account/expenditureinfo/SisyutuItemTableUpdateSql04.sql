@@ -0,0 +1,17 @@
+-- 支出項目テーブル:SISYUTU_ITEM_TABLEの親の支出項目配下(子孫を含む)の支出項目表示順を1回の更新で一括変更します。
+-- (親の支出項目表示順の先頭部分が一致し、変更対象レベル以上の支出項目の変更対象レベル位置の値を書き換え)
+-- 変更対象レベル位置の値が移動元の値の場合は移動先の値に、ずらし範囲内の場合は増減値分加減算した値(2桁0パディング)に更新します。
+-- 変更後の値は全て更新前の値から求めるため、兄弟の支出項目の表示順が一時的に重複しても結果に影響しません。
+UPDATE SISYUTU_ITEM_TABLE SET SISYUTU_ITEM_SORT = CONCAT(
+    /*[# mb:p="dto.parentSisyutuItemSortPrefix"]*/ 1 /*[/]*/,
+    CASE WHEN SUBSTRING(SISYUTU_ITEM_SORT, /*[# mb:p="dto.sortStartPosition"]*/ 2 /*[/]*/, 2) = CAST(/*[# mb:p="dto.moveFromValue"]*/ 3 /*[/]*/ AS CHAR(2))
+        THEN CAST(/*[# mb:p="dto.moveToValue"]*/ 4 /*[/]*/ AS CHAR(2))
+        ELSE RIGHT(CONCAT('0', CAST(SUBSTRING(SISYUTU_ITEM_SORT, /*[# mb:p="dto.sortStartPosition"]*/ 2 /*[/]*/, 2) AS DECIMAL(2)) + /*[# mb:p="dto.shiftValue"]*/ 5 /*[/]*/), 2) END,
+    SUBSTRING(SISYUTU_ITEM_SORT, /*[# mb:p="dto.sortStartPosition"]*/ 2 /*[/]*/ + 2))
+  WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 6 /*[/]*/
+      AND SISYUTU_ITEM_LEVEL >= /*[# mb:p="dto.sisyutuItemLevel"]*/ 7 /*[/]*/
+      AND SISYUTU_ITEM_SORT LIKE CONCAT(/*[# mb:p="dto.parentSisyutuItemSortPrefix"]*/ 1 /*[/]*/, '%')
+      AND SISYUTU_ITEM_CODE <> /*[# mb:p="dto.excludeSisyutuItemCode"]*/ 8 /*[/]*/
+      AND (SUBSTRING(SISYUTU_ITEM_SORT, /*[# mb:p="dto.sortStartPosition"]*/ 2 /*[/]*/, 2) = CAST(/*[# mb:p="dto.moveFromValue"]*/ 3 /*[/]*/ AS CHAR(2))
+          OR SUBSTRING(SISYUTU_ITEM_SORT, /*[# mb:p="dto.sortStartPosition"]*/ 2 /*[/]*/, 2)
+              BETWEEN /*[# mb:p="dto.shiftFromValue"]*/ 9 /*[/]*/ AND /*[# mb:p="dto.shiftToValue"]*/ 10 /*[/]*/)
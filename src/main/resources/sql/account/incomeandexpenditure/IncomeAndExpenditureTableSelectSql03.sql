@@ -0,0 +1,4 @@
+-- ユーザID,対象年,対象月を条件に収支テーブルのデータバージョン、整合性検証済みバージョンを検索して返します。
+SELECT USER_ID, TARGET_YEAR, TARGET_MONTH, DATA_VERSION, VALIDATED_VERSION
+FROM INCOME_AND_EXPENDITURE_TABLE
+WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 1 /*[/]*/ AND TARGET_YEAR = /*[# mb:p="dto.targetYear"]*/ 2 /*[/]*/ AND TARGET_MONTH = /*[# mb:p="dto.targetMonth"]*/ 3 /*[/]*/
@@ -0,0 +1,6 @@
+-- 整合性未検証(データバージョンと整合性検証済みバージョンが不一致)の収支テーブル情報のデータバージョンを指定件数まで検索して返します。
+SELECT USER_ID, TARGET_YEAR, TARGET_MONTH, DATA_VERSION, VALIDATED_VERSION
+FROM INCOME_AND_EXPENDITURE_TABLE
+WHERE VALIDATED_VERSION IS NULL OR VALIDATED_VERSION <> DATA_VERSION
+ORDER BY USER_ID, TARGET_YEAR, TARGET_MONTH
+LIMIT /*[# mb:p="limit"]*/ 1 /*[/]*/
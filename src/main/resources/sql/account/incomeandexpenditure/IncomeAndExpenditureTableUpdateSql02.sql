@@ -0,0 +1,5 @@
+-- 収支テーブル：INCOME_AND_EXPENDITURE_TABLEの整合性検証済みバージョンを更新します。
+-- 検証開始時点からデータバージョンが変わっている(検証中に更新された)場合は更新しません。
+UPDATE INCOME_AND_EXPENDITURE_TABLE SET VALIDATED_VERSION = /*[# mb:p="dto.dataVersion"]*/ 1 /*[/]*/
+  WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 2 /*[/]*/ AND TARGET_YEAR = /*[# mb:p="dto.targetYear"]*/ 3 /*[/]*/ AND TARGET_MONTH = /*[# mb:p="dto.targetMonth"]*/ 4 /*[/]*/
+    AND DATA_VERSION = /*[# mb:p="dto.dataVersion"]*/ 5 /*[/]*/
@@ -0,0 +1,18 @@
+-- 支出金額テーブル：SISYUTU_KINGAKU_TABLEにデータを追加します。
+-- 登録済み(他のトランザクションが同時に登録)の場合は、登録済みのデータに支出予定金額・支出金額・支出金額B・支出金額Cを加算します。
+-- (加算値がnullの項目は変更なし、支出支払日は指定ありの場合のみ登録済みの値と比較し大きいほうの値で更新)
+INSERT INTO SISYUTU_KINGAKU_TABLE (USER_ID, TARGET_YEAR, TARGET_MONTH, SISYUTU_ITEM_CODE, PARENT_SISYUTU_ITEM_CODE, SISYUTU_YOTEI_KINGAKU, SISYUTU_KINGAKU, SISYUTU_KINGAKU_B, SISYUTU_KINGAKU_C, SISYUTU_SIHARAI_DATE)
+  VALUES (/*[# mb:p="dto.userId"]*/ 1 /*[/]*/, /*[# mb:p="dto.targetYear"]*/ 2 /*[/]*/, /*[# mb:p="dto.targetMonth"]*/ 3 /*[/]*/, /*[# mb:p="dto.sisyutuItemCode"]*/ 4 /*[/]*/, 
+          /*[# mb:p="dto.parentSisyutuItemCode"]*/ 5 /*[/]*/, /*[# mb:p="dto.sisyutuYoteiKingaku"]*/ 6 /*[/]*/, /*[# mb:p="dto.sisyutuKingaku"]*/ 7 /*[/]*/, /*[# mb:p="dto.sisyutuKingakuB"]*/ 8 /*[/]*/,
+          /*[# mb:p="dto.sisyutuKingakuC"]*/ 9 /*[/]*/, /*[# mb:p="dto.sisyutuSiharaiDate"]*/ 10 /*[/]*/)
+  ON DUPLICATE KEY UPDATE
+    SISYUTU_YOTEI_KINGAKU = SISYUTU_YOTEI_KINGAKU + /*[# mb:p="dto.sisyutuYoteiKingaku"]*/ 6 /*[/]*/,
+    SISYUTU_KINGAKU = SISYUTU_KINGAKU + /*[# mb:p="dto.sisyutuKingaku"]*/ 7 /*[/]*/,
+    SISYUTU_KINGAKU_B = CASE WHEN CAST(/*[# mb:p="dto.sisyutuKingakuB"]*/ 8 /*[/]*/ AS DECIMAL(12, 2)) IS NULL THEN SISYUTU_KINGAKU_B
+        ELSE COALESCE(SISYUTU_KINGAKU_B, 0) + CAST(/*[# mb:p="dto.sisyutuKingakuB"]*/ 8 /*[/]*/ AS DECIMAL(12, 2)) END,
+    SISYUTU_KINGAKU_C = CASE WHEN CAST(/*[# mb:p="dto.sisyutuKingakuC"]*/ 9 /*[/]*/ AS DECIMAL(12, 2)) IS NULL THEN SISYUTU_KINGAKU_C
+        ELSE COALESCE(SISYUTU_KINGAKU_C, 0) + CAST(/*[# mb:p="dto.sisyutuKingakuC"]*/ 9 /*[/]*/ AS DECIMAL(12, 2)) END,
+    SISYUTU_SIHARAI_DATE = CASE WHEN CAST(/*[# mb:p="dto.sisyutuSiharaiDate"]*/ 10 /*[/]*/ AS DATE) IS NULL THEN SISYUTU_SIHARAI_DATE
+        WHEN SISYUTU_SIHARAI_DATE IS NULL OR SISYUTU_SIHARAI_DATE < CAST(/*[# mb:p="dto.sisyutuSiharaiDate"]*/ 10 /*[/]*/ AS DATE)
+            THEN CAST(/*[# mb:p="dto.sisyutuSiharaiDate"]*/ 10 /*[/]*/ AS DATE)
+        ELSE SISYUTU_SIHARAI_DATE END
@@ -0,0 +1,21 @@
+-- 支出金額テーブル：SISYUTU_KINGAKU_TABLEの支出予定金額・支出金額・支出金額B・支出金額Cに指定の増減値を加減算します。
+-- (増減値がnullの項目は変更なし、支出支払日は指定ありの場合のみ登録済みの値と比較し大きいほうの値で更新)
+-- 加減算後の値がマイナス値となる場合は更新しません(更新件数0件)。
+UPDATE SISYUTU_KINGAKU_TABLE SET
+    SISYUTU_YOTEI_KINGAKU = SISYUTU_YOTEI_KINGAKU + /*[# mb:p="dto.sisyutuYoteiKingakuDelta"]*/ 9 /*[/]*/,
+    SISYUTU_KINGAKU = SISYUTU_KINGAKU + /*[# mb:p="dto.sisyutuKingakuDelta"]*/ 1 /*[/]*/,
+    SISYUTU_KINGAKU_B = CASE WHEN CAST(/*[# mb:p="dto.sisyutuKingakuBDelta"]*/ 2 /*[/]*/ AS DECIMAL(12, 2)) IS NULL THEN SISYUTU_KINGAKU_B
+        ELSE COALESCE(SISYUTU_KINGAKU_B, 0) + CAST(/*[# mb:p="dto.sisyutuKingakuBDelta"]*/ 2 /*[/]*/ AS DECIMAL(12, 2)) END,
+    SISYUTU_KINGAKU_C = CASE WHEN CAST(/*[# mb:p="dto.sisyutuKingakuCDelta"]*/ 3 /*[/]*/ AS DECIMAL(12, 2)) IS NULL THEN SISYUTU_KINGAKU_C
+        ELSE COALESCE(SISYUTU_KINGAKU_C, 0) + CAST(/*[# mb:p="dto.sisyutuKingakuCDelta"]*/ 3 /*[/]*/ AS DECIMAL(12, 2)) END,
+    SISYUTU_SIHARAI_DATE = CASE WHEN CAST(/*[# mb:p="dto.sisyutuSiharaiDate"]*/ 4 /*[/]*/ AS DATE) IS NULL THEN SISYUTU_SIHARAI_DATE
+        WHEN SISYUTU_SIHARAI_DATE IS NULL OR SISYUTU_SIHARAI_DATE < CAST(/*[# mb:p="dto.sisyutuSiharaiDate"]*/ 4 /*[/]*/ AS DATE)
+            THEN CAST(/*[# mb:p="dto.sisyutuSiharaiDate"]*/ 4 /*[/]*/ AS DATE)
+        ELSE SISYUTU_SIHARAI_DATE END
+  WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 5 /*[/]*/ AND TARGET_YEAR = /*[# mb:p="dto.targetYear"]*/ 6 /*[/]*/ AND TARGET_MONTH = /*[# mb:p="dto.targetMonth"]*/ 7 /*[/]*/
+      AND SISYUTU_ITEM_CODE = /*[# mb:p="dto.sisyutuItemCode"]*/ 8 /*[/]*/
+      AND SISYUTU_KINGAKU + /*[# mb:p="dto.sisyutuKingakuDelta"]*/ 1 /*[/]*/ >= 0
+      AND (CAST(/*[# mb:p="dto.sisyutuKingakuBDelta"]*/ 2 /*[/]*/ AS DECIMAL(12, 2)) IS NULL
+          OR COALESCE(SISYUTU_KINGAKU_B, 0) + CAST(/*[# mb:p="dto.sisyutuKingakuBDelta"]*/ 2 /*[/]*/ AS DECIMAL(12, 2)) >= 0)
+      AND (CAST(/*[# mb:p="dto.sisyutuKingakuCDelta"]*/ 3 /*[/]*/ AS DECIMAL(12, 2)) IS NULL
+          OR COALESCE(SISYUTU_KINGAKU_C, 0) + CAST(/*[# mb:p="dto.sisyutuKingakuCDelta"]*/ 3 /*[/]*/ AS DECIMAL(12, 2)) >= 0)
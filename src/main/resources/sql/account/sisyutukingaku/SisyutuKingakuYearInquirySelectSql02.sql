@@ -1,6 +1,8 @@
--- ユーザID,対象年度を条件に収支テーブルと支出金額テーブルを検索して返します。
--- 支出金額テーブルは指定の支出項目コード(支出項目テーブルのレベルが1に設定されている項目コード)の値を1レコードにして返します。
+-- ユーザID,対象年度(開始年～終了年)を条件に収支テーブルと支出金額テーブルを検索して返します。
+-- 支出金額テーブルは指定の支出項目コード(支出項目テーブルのレベルが1に設定されている項目コード)の値を対象年月毎に1レコードにして返します。
+-- 対象年月の支出金額情報がない場合(仕様的にパターンがあるため考慮必要)、該当年月のレコードは返しません。
 SELECT
+ A.TARGET_YEAR,
  A.TARGET_MONTH,
  A.INCOME_KINGAKU,
  A.WITHDREW_KINGAKU,
@@ -14,9 +16,11 @@ SELECT
  SUM(CASE WHEN B.SISYUTU_ITEM_CODE='0055' THEN B.SISYUTU_KINGAKU ELSE 0 END) AS SYUMI_GOTAKU_KINGAKU,
  SUM(B.SISYUTU_KINGAKU_B) AS SISYUTU_KINGAKU_B,
  SUM(B.SISYUTU_KINGAKU_C) AS SISYUTU_KINGAKU_C
-FROM INCOME_AND_EXPENDITURE_TABLE AS A, SISYUTU_KINGAKU_TABLE AS B
-WHERE A.USER_ID = /*[# mb:p="dto.userId"]*/ 1 /*[/]*/ AND A.TARGET_YEAR = /*[# mb:p="dto.targetYear"]*/ 2 /*[/]*/ AND A.TARGET_MONTH = /*[# mb:p="dto.targetMonth"]*/ 3 /*[/]*/ 
- AND A.USER_ID = B.USER_ID AND A.TARGET_YEAR = B.TARGET_YEAR AND A.TARGET_MONTH = B.TARGET_MONTH AND A.TARGET_MONTH = B.TARGET_MONTH
+FROM INCOME_AND_EXPENDITURE_TABLE AS A
+ INNER JOIN SISYUTU_KINGAKU_TABLE AS B
+  ON A.USER_ID = B.USER_ID AND A.TARGET_YEAR = B.TARGET_YEAR AND A.TARGET_MONTH = B.TARGET_MONTH
+WHERE A.USER_ID = /*[# mb:p="dto.userId"]*/ 1 /*[/]*/
+ AND A.TARGET_YEAR BETWEEN /*[# mb:p="dto.fromYear"]*/ 2 /*[/]*/ AND /*[# mb:p="dto.toYear"]*/ 3 /*[/]*/
  AND B.SISYUTU_ITEM_CODE IN ('0001', '0013', '0023', '0045', '0049', '0055')
-ORDER BY A.TARGET_MONTH
-
+GROUP BY A.TARGET_YEAR, A.TARGET_MONTH, A.INCOME_KINGAKU, A.WITHDREW_KINGAKU, A.EXPENDITURE_KINGAKU, A.INCOME_AND_EXPENDITURE_KINGAKU
+ORDER BY A.TARGET_YEAR, A.TARGET_MONTH
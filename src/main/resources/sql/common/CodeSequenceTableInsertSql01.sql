@@ -0,0 +1,6 @@
+-- コード採番テーブル：CODE_SEQUENCE_TABLEに初期値に採番数を加算した発番済みの最終番号でデータを追加します。
+-- 登録済み(他のトランザクションが同時に登録)の場合は、発番済みの最終番号に採番数を加算します。
+INSERT INTO CODE_SEQUENCE_TABLE (USER_ID, SEQUENCE_SCOPE, LAST_ISSUED_NUMBER)
+  VALUES (/*[# mb:p="dto.userId"]*/ 1 /*[/]*/, /*[# mb:p="dto.sequenceScope"]*/ 2 /*[/]*/,
+          /*[# mb:p="dto.initialNumber"]*/ 3 /*[/]*/ + /*[# mb:p="dto.number"]*/ 4 /*[/]*/)
+  ON DUPLICATE KEY UPDATE LAST_ISSUED_NUMBER = LAST_ISSUED_NUMBER + /*[# mb:p="dto.number"]*/ 4 /*[/]*/
@@ -0,0 +1,3 @@
+-- コード採番テーブル：CODE_SEQUENCE_TABLEから指定した採番範囲の発番済みの最終番号を取得します。
+SELECT LAST_ISSUED_NUMBER FROM CODE_SEQUENCE_TABLE
+  WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 1 /*[/]*/ AND SEQUENCE_SCOPE = /*[# mb:p="dto.sequenceScope"]*/ 2 /*[/]*/
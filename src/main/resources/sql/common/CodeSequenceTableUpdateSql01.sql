@@ -0,0 +1,3 @@
+-- コード採番テーブル：CODE_SEQUENCE_TABLEの発番済みの最終番号に指定の採番数を加算します(採番範囲の行ロックはトランザクション終了まで保持)。
+UPDATE CODE_SEQUENCE_TABLE SET LAST_ISSUED_NUMBER = LAST_ISSUED_NUMBER + /*[# mb:p="dto.number"]*/ 1 /*[/]*/
+  WHERE USER_ID = /*[# mb:p="dto.userId"]*/ 2 /*[/]*/ AND SEQUENCE_SCOPE = /*[# mb:p="dto.sequenceScope"]*/ 3 /*[/]*/
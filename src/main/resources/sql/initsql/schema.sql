@@ -205,6 +205,10 @@ CREATE TABLE IF NOT EXISTS INCOME_AND_EXPENDITURE_TABLE (
 	EXPENDITURE_KINGAKU  DECIMAL(12, 2) NOT NULL,
 	-- 収支金額
 	INCOME_AND_EXPENDITURE_KINGAKU DECIMAL(12, 2) NOT NULL,
+	-- データバージョン(収支テーブル更新ごとにカウントアップ)
+	DATA_VERSION    BIGINT NOT NULL DEFAULT 0,
+	-- 整合性検証済みバージョン(収入・支出テーブルとの整合性検証に成功した時点のデータバージョン。未検証の場合null)
+	VALIDATED_VERSION BIGINT,
 	
 	-- ユニーク制約(各項目がNot Nullになっているのでプライマリキーと同じ Nullを許可したい場合のみ、ユニーク制約を使うのがいい)
 	-- UNIQUE (USER_ID, TARGET_YEAR, TARGET_MONTH)
@@ -214,6 +218,9 @@ CREATE TABLE IF NOT EXISTS INCOME_AND_EXPENDITURE_TABLE (
 
 -- ■　積立金取崩金額項目を収入金額項目の後に追加
 -- ALTER TABLE INCOME_AND_EXPENDITURE_TABLE ADD WITHDREW_KINGAKU DECIMAL(12, 2) AFTER INCOME_KINGAKU;
+-- ■　データバージョン、整合性検証済みバージョン項目を追加
+-- ALTER TABLE INCOME_AND_EXPENDITURE_TABLE ADD DATA_VERSION BIGINT NOT NULL DEFAULT 0;
+-- ALTER TABLE INCOME_AND_EXPENDITURE_TABLE ADD VALIDATED_VERSION BIGINT;
 
 -- 収支テーブルインデックス
 -- 件数は1ユーザ年12件にしかならないので、このテーブルではインデックス不要(フルスキャンOK)
@@ -387,3 +394,22 @@ CREATE TABLE IF NOT EXISTS SHOPPING_REGIST_TABLE (
 	
 );
 
+
+-- ------------------------------------------------------------------------------------------
+-- コード採番関連
+-- ------------------------------------------------------------------------------------------
+-- コード採番テーブル：CODE_SEQUENCE_TABLE
+-- DROP TABLE IF EXISTS CODE_SEQUENCE_TABLE;
+CREATE TABLE IF NOT EXISTS CODE_SEQUENCE_TABLE (
+	-- ユーザID
+	USER_ID VARCHAR(50),
+	-- 採番範囲(採番対象のコード種別、年月単位で採番する場合は「コード種別:対象年月」)
+	SEQUENCE_SCOPE VARCHAR(32),
+	-- 発番済みの最終番号
+	LAST_ISSUED_NUMBER INT NOT NULL,
+	
+	-- 複合プライマリキー
+	PRIMARY KEY(USER_ID, SEQUENCE_SCOPE)
+	
+);
+
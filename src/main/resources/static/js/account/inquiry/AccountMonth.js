@@ -0,0 +1,75 @@
+/**
+ * マイ家計簿 各月の収支画面で使用するJavaScriptです。
+ * 支出一覧の表示切替ボタン押下時、画面全体を再表示せずに支出一覧エリアのみを取得して差し替えます。
+ * 取得に失敗した場合、支出一覧エリア以外(エラー画面等)を取得した場合は通常のフォーム送信(画面全体の再表示)を行います。
+ * セッション切れ等でリダイレクトされた場合(ログイン画面等)は、リダイレクト先に画面遷移します。
+ *   
+ */
+// ドキュメントロード時に表示切替ボタンのイベントリスナーを登録します。
+document.addEventListener('DOMContentLoaded', function() {
+	registViewTypeSwitch();
+}, false);
+
+// 支出一覧エリアの表示切替ボタンにイベントリスナーを登録します。
+function registViewTypeSwitch() {
+	let area = document.getElementById('expenditureArea');
+	if(area == null) {
+		return;
+	}
+	let form = area.querySelector('form[name="viewTypeForm"]');
+	let btn = area.querySelector('button[name="viewTypeSwitch"]');
+	if(form == null || btn == null) {
+		return;
+	}
+	btn.addEventListener('click', function(event) {
+		event.preventDefault();
+		if(this.disabled) {
+			return;
+		}
+		this.disabled = true;
+		let targetYearMonth = form.elements['targetYearMonth'].value;
+		let viewType = form.elements['viewType'].value;
+		let url = area.dataset.fragmentUrl
+			+ '?targetYearMonth=' + encodeURIComponent(targetYearMonth)
+			+ '&viewType=' + encodeURIComponent(viewType);
+		fetch(url, {credentials: 'same-origin'})
+			.then(function(response) {
+				if(response.redirected) {
+					// セッション切れ等でリダイレクトされた場合は、リダイレクト先(ログイン画面等)に画面遷移
+					window.location.href = response.url;
+					return null;
+				}
+				if(!response.ok) {
+					throw new Error(response.status);
+				}
+				return response.text();
+			})
+			.then(function(html) {
+				if(html == null) {
+					return;
+				}
+				let template = document.createElement('template');
+				template.innerHTML = html.trim();
+				let newArea = template.content.firstElementChild;
+				if(newArea == null || newArea.id !== 'expenditureArea') {
+					// 支出一覧エリア以外(エラー画面等)を取得した場合は画面全体を再表示
+					throw new Error('unexpected content');
+				}
+				area.replaceWith(newArea);
+				// 前月・次月遷移時に表示種別を引き継ぐため、対象年月変更フォームの表示種別を更新
+				let changeForm = document.forms['ChangeAccountMonth'];
+				if(changeForm != null && changeForm.elements['viewType'] != null) {
+					changeForm.elements['viewType'].value = viewType;
+				}
+				registViewTypeSwitch();
+			})
+			.catch(function() {
+				// 取得に失敗した場合は画面全体を再表示
+				let hidden = document.createElement('input');
+				hidden.type = 'hidden';
+				hidden.name = 'viewTypeSwitch';
+				form.appendChild(hidden);
+				form.submit();
+			});
+	}, false);
+}
@@ -0,0 +1,85 @@
+/**
+ * マイ家計簿 情報管理(お店)で使用するJavaScriptです。
+ * 店舗一覧の行をドラッグ＆ドロップで並び替え、並び替えた順番の店舗コードをまとめて送信します。
+ *   
+ */
+// ドキュメントロード時に店舗一覧の並び替え、登録ボタンのイベントリスナーを登録します。
+// 対象外の画面の場合(値がnullの場合)は読み飛ばします。
+document.addEventListener('DOMContentLoaded', function() {
+	
+	let sortList = document.getElementById('shop-sort-list');
+	let btnItem = document.getElementById('shop-sort-update-btn');
+	if(sortList == null || btnItem == null) {
+		return;
+	}
+	// ドラッグ中の行
+	let dragItem = null;
+	
+	// 並び替え後の順番で表示順の表示を振り直します。
+	let renumber = function() {
+		let values = sortList.querySelectorAll('.shop-sort-value');
+		for(let i = 0; i < values.length; i++) {
+			values[i].textContent = String(i + 1).padStart(3, '0');
+		}
+	};
+	
+	// ドラッグ開始時：ドラッグ中の行を保持
+	sortList.addEventListener('dragstart', function(event) {
+		dragItem = event.target.closest('.shop-sort-item');
+		if(dragItem != null) {
+			event.dataTransfer.effectAllowed = 'move';
+			event.dataTransfer.setData('text/plain', dragItem.dataset.shopCode);
+			dragItem.classList.add('active');
+		}
+	}, false);
+	
+	// ドラッグ中：ドラッグ先の行の前または後ろにドラッグ中の行を移動
+	sortList.addEventListener('dragover', function(event) {
+		let overItem = event.target.closest('.shop-sort-item');
+		if(dragItem == null || overItem == null) {
+			return;
+		}
+		event.preventDefault();
+		if(overItem === dragItem) {
+			return;
+		}
+		let rect = overItem.getBoundingClientRect();
+		if(event.clientY < rect.top + rect.height / 2) {
+			sortList.insertBefore(dragItem, overItem);
+		} else {
+			sortList.insertBefore(dragItem, overItem.nextSibling);
+		}
+	}, false);
+	
+	// ドロップ時：ブラウザのデフォルト動作(リンク遷移)を抑止
+	sortList.addEventListener('drop', function(event) {
+		event.preventDefault();
+	}, false);
+	
+	// ドラッグ終了時：表示順の表示を振り直し、登録ボタンを有効化
+	sortList.addEventListener('dragend', function() {
+		if(dragItem != null) {
+			dragItem.classList.remove('active');
+			dragItem = null;
+			renumber();
+			btnItem.disabled = false;
+		}
+	}, false);
+	
+	// 登録ボタン押下時：並び替えた順番の店舗コードをフォームに設定して送信
+	btnItem.addEventListener('click', function() {
+		if(!this.disabled) {
+			this.disabled = true;
+			let form = document.forms['ShopSortUpdate'];
+			let items = sortList.querySelectorAll('.shop-sort-item');
+			for(let i = 0; i < items.length; i++) {
+				let input = document.createElement('input');
+				input.type = 'hidden';
+				input.name = 'shopCode';
+				input.value = items[i].dataset.shopCode;
+				form.appendChild(input);
+			}
+			form.submit();
+		}
+	}, false);
+}, false);
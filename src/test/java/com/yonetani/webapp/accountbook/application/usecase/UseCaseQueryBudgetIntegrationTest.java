@@ -0,0 +1,304 @@
+/**
+ * 各ユースケースのSQLステートメント数・取得行数の上限(クエリ予算)を検証する結合テストクラスです。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・合成データ(SyntheticDataGenerator)で月ごとの支出件数が異なる2ユーザ(少量:20件、大量:100件)を登録
+ * ・各ユースケースを2ユーザで実行し、DBアクセス統計(DbAccessStatisticsContext)でステートメント数・取得行数を計測
+ * ・大量データのユーザで、ステートメント数・取得行数が予算(上限)以下であることを検証
+ * ・大量データのユーザのステートメント数が少量データのユーザ以下である(明細ごとの繰り返し検索がない)ことを検証
+ * 　(登録済みデータの有無で追加/更新のステートメントが入れ替わるため、実行回数の内訳は比較しない)
+ * ・テスト終了時にロールバック(合成データ・登録データは残らない)
+ *
+ * [予算の見直し]
+ * ・処理の追加などでステートメント数が増える場合は、増加理由を確認したうえで予算を更新してください。
+ * ・予算超過時のエラーメッセージにマップドステートメントごとの実行回数を出力します。
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.application.usecase.account.incomeandexpenditure.ExpenditureItemSelectUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.account.incomeandexpenditure.IncomeAndExpenditureInitUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.account.incomeandexpenditure.IncomeAndExpenditureRegistConfirmUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.account.inquiry.AccountMonthInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.account.inquiry.AccountYearInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.account.shoppingregist.ShoppingRegistTopMenuUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.account.shoppingregist.SimpleShoppingRegistUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.event.EventInfoManageUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.expenditureinfo.ExpenditureItemInfoManageUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.fixedcost.FixedCostAnnualSummaryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.fixedcost.FixedCostInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.fixedcost.FixedCostMonthlyDetailUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop.ShopInfoManageUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.shoppingitem.ShoppingItemInfoManageUseCase;
+import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatistics;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsContext;
+import com.yonetani.webapp.accountbook.presentation.request.account.regist.SimpleShoppingRegistInfoForm;
+import com.yonetani.webapp.accountbook.presentation.request.itemmanage.ShoppingItemInfoSearchForm;
+import com.yonetani.webapp.accountbook.presentation.response.account.regist.IncomeAndExpenditureRegistResponse;
+import com.yonetani.webapp.accountbook.presentation.response.fw.AbstractResponse;
+import com.yonetani.webapp.accountbook.presentation.session.ExpenditureRegistItem;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+import com.yonetani.webapp.accountbook.testdata.SyntheticDataGenerator;
+import com.yonetani.webapp.accountbook.testdata.SyntheticDataSettings;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 各ユースケースのSQLステートメント数・取得行数の上限(クエリ予算)を検証する結合テストクラスです。
+ * 明細ごとの繰り返し検索(N+1)が再び混入した場合にテストが失敗するよう、ユースケースごとに
+ * ステートメント数・取得行数の上限を定義します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = "/sql/initsql/schema_test.sql", config = @SqlConfig(encoding = "UTF-8"))
+@Log4j2
+@DisplayName("ユースケースのクエリ予算(ステートメント数・取得行数の上限)のテスト")
+class UseCaseQueryBudgetIntegrationTest {
+
+	// 合成データの対象年
+	private static final int TARGET_YEAR = 2024;
+	// 検証対象の年月
+	private static final String TARGET_YEAR_MONTH = "202403";
+	// 少量データの月ごとの支出件数
+	private static final int SMALL_EXPENDITURE_COUNT = 20;
+	// 大量データの月ごとの支出件数
+	private static final int LARGE_EXPENDITURE_COUNT = 100;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private AccountMonthInquiryUseCase accountMonthInquiryUseCase;
+	@Autowired
+	private AccountYearInquiryUseCase accountYearInquiryUseCase;
+	@Autowired
+	private IncomeAndExpenditureInitUseCase incomeAndExpenditureInitUseCase;
+	@Autowired
+	private IncomeAndExpenditureRegistConfirmUseCase incomeAndExpenditureRegistConfirmUseCase;
+	@Autowired
+	private ExpenditureItemSelectUseCase expenditureItemSelectUseCase;
+	@Autowired
+	private ShoppingRegistTopMenuUseCase shoppingRegistTopMenuUseCase;
+	@Autowired
+	private SimpleShoppingRegistUseCase simpleShoppingRegistUseCase;
+	@Autowired
+	private FixedCostInquiryUseCase fixedCostInquiryUseCase;
+	@Autowired
+	private FixedCostAnnualSummaryUseCase fixedCostAnnualSummaryUseCase;
+	@Autowired
+	private FixedCostMonthlyDetailUseCase fixedCostMonthlyDetailUseCase;
+	@Autowired
+	private ShoppingItemInfoManageUseCase shoppingItemInfoManageUseCase;
+	@Autowired
+	private ExpenditureItemInfoManageUseCase expenditureItemInfoManageUseCase;
+	@Autowired
+	private ShopInfoManageUseCase shopInfoManageUseCase;
+	@Autowired
+	private EventInfoManageUseCase eventInfoManageUseCase;
+
+	// 少量データのユーザ
+	private LoginUserInfo smallUser;
+	// 大量データのユーザ
+	private LoginUserInfo largeUser;
+
+	@BeforeEach
+	void setup() {
+		SyntheticDataSettings small = SyntheticDataSettings.from("budget-s-", 1, TARGET_YEAR, 1,
+				SMALL_EXPENDITURE_COUNT, 20261017L);
+		SyntheticDataSettings large = SyntheticDataSettings.from("budget-l-", 1, TARGET_YEAR, 1,
+				LARGE_EXPENDITURE_COUNT, 20261017L);
+		SyntheticDataGenerator generator = SyntheticDataGenerator.from(jdbcTemplate);
+		generator.generate(small);
+		generator.generate(large);
+		smallUser = LoginUserInfo.from(small.getUserId(0), "クエリ予算(少量)");
+		largeUser = LoginUserInfo.from(large.getUserId(0), "クエリ予算(大量)");
+	}
+
+	/**
+	 *<pre>
+	 * ユースケースを少量データ・大量データのユーザで実行し、クエリ予算を検証します。
+	 * ・大量データのユーザでステートメント数・取得行数が上限以下であること
+	 * ・データ件数の増加でステートメント数が増えないこと
+	 *</pre>
+	 * @param useCaseName ユースケース名(エラーメッセージ用)
+	 * @param maxStatements ステートメント数の上限
+	 * @param maxRows 取得行数の上限
+	 * @param useCase 実行するユースケース(引数はログインユーザ情報)
+	 *
+	 */
+	private void assertQueryBudget(String useCaseName, int maxStatements, long maxRows,
+			Function<LoginUserInfo, Object> useCase) {
+		DbAccessStatistics smallStatistics = measure(useCaseName, smallUser, useCase);
+		DbAccessStatistics largeStatistics = measure(useCaseName, largeUser, useCase);
+		log.info("query-budget:" + useCaseName + ":small=[" + smallStatistics + "], large=[" + largeStatistics + "]");
+		assertAll(useCaseName,
+				() -> assertTrue(largeStatistics.getStatementCount() <= maxStatements,
+						useCaseName + ":ステートメント数が予算を超えました。[予算=" + maxStatements + "][実績="
+						+ largeStatistics.getStatementCount() + "]" + largeStatistics.getStatementCountMap()),
+				() -> assertTrue(largeStatistics.getRowCount() <= maxRows,
+						useCaseName + ":取得行数が予算を超えました。[予算=" + maxRows + "][実績="
+						+ largeStatistics.getRowCount() + "]" + largeStatistics.getStatementCountMap()),
+				() -> assertTrue(largeStatistics.getStatementCount() <= smallStatistics.getStatementCount(),
+						useCaseName + ":データ件数の増加でステートメント数が増えました(明細ごとの繰り返し検索の可能性)。[少量="
+						+ smallStatistics.getStatementCountMap() + "][大量=" + largeStatistics.getStatementCountMap() + "]"));
+	}
+
+	/**
+	 * ユースケースを実行し、DBアクセス統計を返します。
+	 */
+	private DbAccessStatistics measure(String useCaseName, LoginUserInfo user, Function<LoginUserInfo, Object> useCase) {
+		Object response;
+		DbAccessStatistics statistics;
+		DbAccessStatisticsContext.begin(useCaseName);
+		try {
+			response = useCase.apply(user);
+		} finally {
+			statistics = DbAccessStatisticsContext.end();
+		}
+		assertNotNull(response, useCaseName);
+		if(response instanceof AbstractResponse abstractResponse) {
+			assertFalse(abstractResponse.isErrorResponse(), useCaseName + ":" + abstractResponse.getMessagesList());
+		}
+		return statistics;
+	}
+
+	@Test
+	@DisplayName("各月の収支参照(AccountMonthInquiryUseCase)")
+	void testAccountMonthInquiry() {
+		assertQueryBudget("AccountMonthInquiryUseCase.read", 6, 80,
+				user -> accountMonthInquiryUseCase.read(user, TARGET_YEAR_MONTH));
+		assertQueryBudget("AccountMonthInquiryUseCase.read(支出別)", 3, 130,
+				user -> accountMonthInquiryUseCase.read(user, TARGET_YEAR_MONTH, TARGET_YEAR_MONTH,
+						"expenditure"));
+	}
+
+	@Test
+	@DisplayName("年間収支参照(AccountYearInquiryUseCase)")
+	void testAccountYearInquiry() {
+		assertQueryBudget("AccountYearInquiryUseCase.readMage", 1, 12,
+				user -> accountYearInquiryUseCase.readMage(user, String.valueOf(TARGET_YEAR), TARGET_YEAR_MONTH));
+		assertQueryBudget("AccountYearInquiryUseCase.readMeisai", 1, 12,
+				user -> accountYearInquiryUseCase.readMeisai(user, String.valueOf(TARGET_YEAR), TARGET_YEAR_MONTH));
+	}
+
+	@Test
+	@DisplayName("収支登録(IncomeAndExpenditureInitUseCase、IncomeAndExpenditureRegistConfirmUseCase)")
+	void testIncomeAndExpenditureRegist() {
+		assertQueryBudget("IncomeAndExpenditureInitUseCase.readUpdateInfo", 3, 200,
+				user -> incomeAndExpenditureInitUseCase.readUpdateInfo(user, TARGET_YEAR_MONTH));
+		assertQueryBudget("ExpenditureItemSelectUseCase.readExpenditureAddSelect", 1, 80,
+				user -> expenditureItemSelectUseCase.readExpenditureAddSelect(user));
+		// 更新画面の初期表示で取得した登録済みの収入・支出情報(セッション情報)をユーザごとに準備
+		Map<String, IncomeAndExpenditureRegistResponse> initMap = Map.of(
+				smallUser.getUserId(), incomeAndExpenditureInitUseCase.readUpdateInfo(smallUser, TARGET_YEAR_MONTH),
+				largeUser.getUserId(), incomeAndExpenditureInitUseCase.readUpdateInfo(largeUser, TARGET_YEAR_MONTH));
+		assertQueryBudget("IncomeAndExpenditureRegistConfirmUseCase.execRegistAction", 11, 30, user -> {
+			// 登録済みの収入・支出情報に支出(通常の支出項目)を1件追加して登録
+			IncomeAndExpenditureRegistResponse init = initMap.get(user.getUserId());
+			List<ExpenditureRegistItem> expenditureList = new ArrayList<>(init.getExpenditureRegistItemList());
+			expenditureList.add(ExpenditureRegistItem.from(
+					MyHouseholdAccountBookContent.DATA_TYPE_NEW,
+					MyHouseholdAccountBookContent.ACTION_TYPE_ADD,
+					"20240315120000001", "0008", "", "クエリ予算の支出", "1", "クエリ予算", "15", new BigDecimal("500"), false));
+			return incomeAndExpenditureRegistConfirmUseCase.execRegistAction(user, TARGET_YEAR_MONTH,
+					init.getIncomeRegistItemList(), expenditureList);
+		});
+	}
+
+	@Test
+	@DisplayName("買い物登録(ShoppingRegistTopMenuUseCase、SimpleShoppingRegistUseCase)")
+	void testShoppingRegist() {
+		assertQueryBudget("ShoppingRegistTopMenuUseCase.read", 3, 50,
+				user -> shoppingRegistTopMenuUseCase.read(user, TARGET_YEAR_MONTH));
+		assertQueryBudget("SimpleShoppingRegistUseCase.read", 2, 50,
+				user -> simpleShoppingRegistUseCase.read(user, TARGET_YEAR_MONTH));
+		assertQueryBudget("SimpleShoppingRegistUseCase.execAction", 13, 100, user -> {
+			SimpleShoppingRegistInfoForm form = new SimpleShoppingRegistInfoForm();
+			form.setAction(MyHouseholdAccountBookContent.ACTION_TYPE_ADD);
+			form.setTargetYearMonth(TARGET_YEAR_MONTH);
+			form.setShopKubunCode(MyHouseholdAccountBookContent.SHOP_KUBUN_GROCERIES_SELECTED_VALUE);
+			form.setShopCode("001");
+			form.setShoppingDate(LocalDate.of(TARGET_YEAR, 3, 10));
+			form.setShoppingFoodExpenses(1000);
+			form.setTotalPurchasePrice(1000);
+			form.setShoppingTotalAmount(1000);
+			return simpleShoppingRegistUseCase.execAction(user, form);
+		});
+	}
+
+	@Test
+	@DisplayName("情報管理(固定費)(FixedCostInquiryUseCase、FixedCostAnnualSummaryUseCase、FixedCostMonthlyDetailUseCase)")
+	void testFixedCost() {
+		assertQueryBudget("FixedCostInquiryUseCase.readInitInfo", 3, 100,
+				user -> fixedCostInquiryUseCase.readInitInfo(user));
+		assertQueryBudget("FixedCostAnnualSummaryUseCase.readAnnualSummaryInfo", 1, 30,
+				user -> fixedCostAnnualSummaryUseCase.readAnnualSummaryInfo(user));
+		assertQueryBudget("FixedCostMonthlyDetailUseCase.readMonthlyDetail", 1, 30,
+				user -> fixedCostMonthlyDetailUseCase.readMonthlyDetail(user, "3"));
+	}
+
+	@Test
+	@DisplayName("情報管理(商品)(ShoppingItemInfoManageUseCase)")
+	void testShoppingItemInfoManage() {
+		assertQueryBudget("ShoppingItemInfoManageUseCase.readInitInfo", 1, 10,
+				user -> shoppingItemInfoManageUseCase.readInitInfo(user));
+		assertQueryBudget("ShoppingItemInfoManageUseCase.execSearch", 1, 20, user -> {
+			ShoppingItemInfoSearchForm form = new ShoppingItemInfoSearchForm();
+			form.setSearchTargetKubun(MyHouseholdAccountBookContent.SEARCH_TARGET_SHOPPING_ITEM_NAME);
+			form.setSearchValue("商品0000");
+			return shoppingItemInfoManageUseCase.execSearch(user, form);
+		});
+		assertQueryBudget("ShoppingItemInfoManageUseCase.execSearchBySisyutuItem", 2, 150,
+				user -> shoppingItemInfoManageUseCase.execSearchBySisyutuItem(user,
+						MyHouseholdAccountBookContent.SISYUTU_ITEM_CODE_INSYOKU_VALUE));
+	}
+
+	@Test
+	@DisplayName("情報管理(支出項目・店舗・イベント)(ExpenditureItemInfoManageUseCase、ShopInfoManageUseCase、EventInfoManageUseCase)")
+	void testItemManage() {
+		assertQueryBudget("ExpenditureItemInfoManageUseCase.readInitInfo", 1, 80,
+				user -> expenditureItemInfoManageUseCase.readInitInfo(user));
+		assertQueryBudget("ExpenditureItemInfoManageUseCase.readActSelectItemInfo", 3, 10,
+				user -> expenditureItemInfoManageUseCase.readActSelectItemInfo(user,
+						MyHouseholdAccountBookContent.SISYUTU_ITEM_CODE_INSYOKU_VALUE));
+		assertQueryBudget("ShopInfoManageUseCase.readShopInfo", 1, 20,
+				user -> shopInfoManageUseCase.readShopInfo(user));
+		assertQueryBudget("EventInfoManageUseCase.readEventInfo", 2, 10,
+				user -> eventInfoManageUseCase.readEventInfo(user));
+	}
+}
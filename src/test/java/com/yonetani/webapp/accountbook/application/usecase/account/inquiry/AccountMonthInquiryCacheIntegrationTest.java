@@ -0,0 +1,141 @@
+/**
+ * 各月の収支照会ユースケース(参照専用トランザクション)からの表示データキャッシュ利用の統合テストです。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・ユースケースは@Transactional(readOnly = true)で実行されるため、テストメソッドはトランザクション外で実行
+ * ・テスト用のH2インメモリDBは他のテストクラスと分離(テストデータのコミットが他のテストに影響しないようにする)
+ *
+ * [テストシナリオ]
+ * ①  正常系：2回目の照会はキャッシュから表示データを取得し、DBのデータを参照しないこと
+ * ②  正常系：キャッシュ破棄後の照会はDBから表示データを取得すること
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.account.inquiry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent.CacheStatistics;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.presentation.response.account.inquiry.AccountMonthInquiryResponse;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+
+/**
+ *<pre>
+ * 各月の収支照会ユースケース(参照専用トランザクション)からの表示データキャッシュ利用の統合テストです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:monthinquirycachedb;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("test")
+@DisplayName("各月の収支照会ユースケースの表示データキャッシュ利用の統合テスト")
+class AccountMonthInquiryCacheIntegrationTest {
+
+	// テストデータの登録先テーブル(削除順:外部キーの参照元から)
+	private static final String[] TEST_DATA_TABLES = {
+		"SISYUTU_KINGAKU_TABLE", "EXPENDITURE_TABLE", "INCOME_TABLE",
+		"INCOME_AND_EXPENDITURE_TABLE", "SISYUTU_ITEM_TABLE", "ACCOUNT_BOOK_USER"
+	};
+	// 収支データのテーブル(照会後に削除し、キャッシュから表示されることを確認)
+	private static final String[] MONTH_DATA_TABLES = {
+		"SISYUTU_KINGAKU_TABLE", "EXPENDITURE_TABLE", "INCOME_TABLE", "INCOME_AND_EXPENDITURE_TABLE"
+	};
+	// テストユーザ
+	private static final LoginUserInfo USER = LoginUserInfo.from("user01", "テストユーザ01");
+
+	// 各月の収支照会のユースケース
+	@Autowired
+	private AccountMonthInquiryUseCase useCase;
+
+	// 各月の収支画面の表示データキャッシュ
+	@Autowired
+	private AccountMonthInquiryCacheComponent monthInquiryCache;
+
+	// DBアクセス
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setup() {
+		ResourceDatabasePopulator schemaPopulator = new ResourceDatabasePopulator(
+				new ClassPathResource("sql/initsql/schema_test.sql"));
+		schemaPopulator.setSqlScriptEncoding("UTF-8");
+		ResourceDatabasePopulator dataPopulator = new ResourceDatabasePopulator(
+				new ClassPathResource("com/yonetani/webapp/accountbook/application/usecase/account/inquiry/AccountMonthInquiryIntegrationTest.sql"));
+		dataPopulator.setSqlScriptEncoding("UTF-8");
+		schemaPopulator.execute(jdbcTemplate.getDataSource());
+		for(String table : TEST_DATA_TABLES) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+		dataPopulator.execute(jdbcTemplate.getDataSource());
+		monthInquiryCache.evictAll(UserId.from("user01"));
+	}
+
+	/**
+	 * DBのテストデータ(収支データ)を削除します。
+	 */
+	private void deleteMonthData() {
+		for(String table : MONTH_DATA_TABLES) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+	}
+
+	@Test
+	@DisplayName("正常系：2回目の照会はキャッシュから表示データを取得し、DBのデータを参照しないこと")
+	void testReadFromCache() {
+		CacheStatistics before = monthInquiryCache.getStatistics();
+
+		AccountMonthInquiryResponse first = useCase.read(USER, "202511");
+		assertEquals("350,000円", first.getSyuunyuuKingaku());
+		// DBの収支データを削除(DBから取得した場合は収支データなし)
+		deleteMonthData();
+		AccountMonthInquiryResponse second = useCase.read(USER, "202511");
+
+		assertFalse(second.isErrorResponse());
+		assertTrue(second.isSyuusiDataFlg());
+		assertEquals("350,000円", second.getSyuunyuuKingaku());
+		assertEquals("280,000円", second.getSisyutuKingaku());
+		assertEquals(first.getExpenditureItemList().size(), second.getExpenditureItemList().size());
+		CacheStatistics after = monthInquiryCache.getStatistics();
+		assertEquals(1, after.getMissCount() - before.getMissCount());
+		assertEquals(1, after.getHitCount() - before.getHitCount());
+	}
+
+	@Test
+	@DisplayName("正常系：キャッシュ破棄後の照会はDBから表示データを取得すること")
+	void testReadAfterEvict() {
+		assertTrue(useCase.read(USER, "202511").isSyuusiDataFlg());
+		deleteMonthData();
+		monthInquiryCache.evict(SearchQueryUserIdAndYearMonth.from(
+				UserId.from("user01"), TargetYearMonth.from("202511")));
+
+		AccountMonthInquiryResponse response = useCase.read(USER, "202511");
+
+		assertFalse(response.isSyuusiDataFlg());
+	}
+}
@@ -0,0 +1,157 @@
+/**
+ * 各月の収支画面の表示データキャッシュコンポーネント(AccountMonthInquiryCacheComponent.java)の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  破棄世代によるキャッシュ登録制御のテスト追加
+ * 2026/10/17 : 1.02.00  他ユーザの破棄要求で登録が抑止されないことのテスト追加
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent.CacheStatistics;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent.MonthInquiryData;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+/**
+ *<pre>
+ * 各月の収支画面の表示データキャッシュコンポーネント(AccountMonthInquiryCacheComponent.java)の単体テストクラスです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+class AccountMonthInquiryCacheComponentTest {
+
+	// テスト用の表示データ
+	private final MonthInquiryData TEST_DATA = MonthInquiryData.from(null);
+
+	@Test
+	@DisplayName("キャッシュ登録前はミス、登録後はヒットとなること")
+	void testGetAndPut() {
+		AccountMonthInquiryCacheComponent cache = new AccountMonthInquiryCacheComponent(10);
+		SearchQueryUserIdAndYearMonth key = createKey("user01", "202510");
+
+		assertNull(cache.get(key));
+		cache.put(key, TEST_DATA, cache.getGeneration());
+		// 同一値の別インスタンスの検索条件でもヒットすること
+		assertSame(TEST_DATA, cache.get(createKey("user01", "202510")));
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getSize());
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(0, statistics.getEvictionCount());
+	}
+
+	@Test
+	@DisplayName("最大件数を超えた場合、最も長く参照されていないデータが破棄されること")
+	void testLruEviction() {
+		AccountMonthInquiryCacheComponent cache = new AccountMonthInquiryCacheComponent(2);
+		SearchQueryUserIdAndYearMonth key1 = createKey("user01", "202510");
+		SearchQueryUserIdAndYearMonth key2 = createKey("user01", "202511");
+		SearchQueryUserIdAndYearMonth key3 = createKey("user01", "202512");
+
+		cache.put(key1, TEST_DATA, cache.getGeneration());
+		cache.put(key2, TEST_DATA, cache.getGeneration());
+		// key1を参照して最新化
+		assertNotNull(cache.get(key1));
+		// key3登録でkey2が破棄されること
+		cache.put(key3, TEST_DATA, cache.getGeneration());
+
+		assertNotNull(cache.get(key1));
+		assertNull(cache.get(key2));
+		assertNotNull(cache.get(key3));
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getSize());
+		assertEquals(1, statistics.getEvictionCount());
+	}
+
+	@Test
+	@DisplayName("evictで指定の対象年月、evictAllで指定ユーザの全データが破棄されること")
+	void testEvict() {
+		AccountMonthInquiryCacheComponent cache = new AccountMonthInquiryCacheComponent(10);
+		SearchQueryUserIdAndYearMonth user1Oct = createKey("user01", "202510");
+		SearchQueryUserIdAndYearMonth user1Nov = createKey("user01", "202511");
+		SearchQueryUserIdAndYearMonth user2Oct = createKey("user02", "202510");
+		cache.put(user1Oct, TEST_DATA, cache.getGeneration());
+		cache.put(user1Nov, TEST_DATA, cache.getGeneration());
+		cache.put(user2Oct, TEST_DATA, cache.getGeneration());
+
+		cache.evict(user1Oct);
+		assertNull(cache.get(user1Oct));
+		assertNotNull(cache.get(user1Nov));
+
+		cache.evictAll(UserId.from("user01"));
+		assertNull(cache.get(user1Nov));
+		assertNotNull(cache.get(user2Oct));
+		assertEquals(2, cache.getStatistics().getInvalidationCount());
+	}
+
+	@Test
+	@DisplayName("最大件数が0の場合、キャッシュしないこと")
+	void testDisabled() {
+		AccountMonthInquiryCacheComponent cache = new AccountMonthInquiryCacheComponent(0);
+		SearchQueryUserIdAndYearMonth key = createKey("user01", "202510");
+		cache.put(key, TEST_DATA, cache.getGeneration());
+		assertNull(cache.get(key));
+		assertEquals(0, cache.getStatistics().getSize());
+	}
+
+	@Test
+	@DisplayName("データ取得開始以降に破棄要求があった場合、取得したデータは登録されないこと")
+	void testPutAfterInvalidation() {
+		AccountMonthInquiryCacheComponent cache = new AccountMonthInquiryCacheComponent(10);
+		SearchQueryUserIdAndYearMonth key = createKey("user01", "202510");
+		// データ取得開始前の破棄世代
+		long generation = cache.getGeneration();
+		// データ取得中に更新処理による破棄要求
+		cache.evict(key);
+		cache.put(key, TEST_DATA, generation);
+		assertNull(cache.get(key));
+
+		// 破棄要求後に取得を開始したデータは登録されること
+		cache.put(key, TEST_DATA, cache.getGeneration());
+		assertSame(TEST_DATA, cache.get(key));
+	}
+
+	@Test
+	@DisplayName("データ取得中に他ユーザの破棄要求があった場合、取得したデータは登録されること")
+	void testPutAfterOtherUserInvalidation() {
+		AccountMonthInquiryCacheComponent cache = new AccountMonthInquiryCacheComponent(10);
+		SearchQueryUserIdAndYearMonth user1Key = createKey("user01", "202510");
+		SearchQueryUserIdAndYearMonth user2Key = createKey("user02", "202510");
+		// データ取得開始前の破棄世代
+		long generation = cache.getGeneration();
+		// データ取得中に他ユーザの更新処理による破棄要求
+		cache.evict(user2Key);
+		cache.evictAll(UserId.from("user02"));
+		cache.put(user1Key, TEST_DATA, generation);
+		assertSame(TEST_DATA, cache.get(user1Key));
+
+		// 同一ユーザの他の対象年月の破棄要求では登録されないこと
+		SearchQueryUserIdAndYearMonth user1Nov = createKey("user01", "202511");
+		generation = cache.getGeneration();
+		cache.evict(user1Key);
+		cache.put(user1Nov, TEST_DATA, generation);
+		assertNull(cache.get(user1Nov));
+	}
+
+	/**
+	 * 検索条件(ユーザID、対象年月)を生成します。
+	 */
+	private SearchQueryUserIdAndYearMonth createKey(String userId, String yearMonth) {
+		return SearchQueryUserIdAndYearMonth.from(UserId.from(userId), TargetYearMonth.from(yearMonth));
+	}
+}
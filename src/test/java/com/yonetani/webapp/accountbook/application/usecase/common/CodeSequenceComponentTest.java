@@ -0,0 +1,110 @@
+/**
+ * コード採番コンポーネント(CodeSequenceComponent.java)の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  採番範囲の登録・加算(addOrIncrement)への変更に対応
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceBlock;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
+import com.yonetani.webapp.accountbook.domain.repository.common.CodeSequenceTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+/**
+ *<pre>
+ * コード採番コンポーネント(CodeSequenceComponent.java)の単体テストクラスです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+class CodeSequenceComponentTest {
+
+	// テスト対象のコンポーネント
+	@InjectMocks
+	private CodeSequenceComponent component;
+
+	// モック:コード採番テーブルリポジトリー
+	@Mock
+	private CodeSequenceTableRepository codeSequenceRepository;
+
+	// モック:初期値(登録済みのデータ件数)取得処理
+	@Mock
+	private IntSupplier initialNumberSupplier;
+
+	// 採番キー
+	private final CodeSequenceKey TEST_KEY = CodeSequenceKey.from(UserId.from("user01"), CodeSequenceKey.EVENT_CODE);
+
+	@Test
+	@DisplayName("初回採番時は初期値(登録済みのデータ件数)の次の番号から予約し、採番範囲を登録すること")
+	void testReserveInitial() {
+		when(codeSequenceRepository.increment(TEST_KEY, 3)).thenReturn(0);
+		when(initialNumberSupplier.getAsInt()).thenReturn(5);
+		when(codeSequenceRepository.addOrIncrement(TEST_KEY, 5, 3)).thenReturn(1);
+
+		CodeSequenceBlock block = component.reserve(TEST_KEY, 3, initialNumberSupplier);
+
+		assertEquals(6, block.next());
+		assertEquals(7, block.next());
+		assertEquals(8, block.next());
+		assertEquals(0, block.remaining());
+		assertThrows(MyHouseholdAccountBookRuntimeException.class, () -> block.next());
+		verify(codeSequenceRepository, never()).findLastIssuedNumber(TEST_KEY);
+	}
+
+	@Test
+	@DisplayName("採番範囲が登録済みの場合、加算後の最終番号から予約した範囲を返し、初期値は取得しないこと")
+	void testReserveRegistered() {
+		when(codeSequenceRepository.increment(TEST_KEY, 2)).thenReturn(1);
+		when(codeSequenceRepository.findLastIssuedNumber(TEST_KEY)).thenReturn(12);
+
+		CodeSequenceBlock block = component.reserve(TEST_KEY, 2, initialNumberSupplier);
+
+		assertEquals(11, block.next());
+		assertEquals(12, block.next());
+		verify(initialNumberSupplier, never()).getAsInt();
+		verify(codeSequenceRepository, never()).addOrIncrement(any(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("他のトランザクションが同時に初回採番した場合、登録された採番範囲に加算して採番すること")
+	void testReserveConcurrentInitial() {
+		// 加算時は未登録、登録・加算時は他のトランザクションが登録済み(最終番号1に加算)
+		when(codeSequenceRepository.increment(TEST_KEY, 1)).thenReturn(0);
+		when(initialNumberSupplier.getAsInt()).thenReturn(0);
+		when(codeSequenceRepository.addOrIncrement(TEST_KEY, 0, 1)).thenReturn(2);
+		when(codeSequenceRepository.findLastIssuedNumber(TEST_KEY)).thenReturn(2);
+
+		assertEquals(2, component.next(TEST_KEY, initialNumberSupplier));
+		verify(codeSequenceRepository, times(1)).increment(TEST_KEY, 1);
+	}
+
+	@Test
+	@DisplayName("予約件数が0以下の場合、エラーとなること")
+	void testReserveInvalidCount() {
+		assertThrows(MyHouseholdAccountBookRuntimeException.class, () -> component.reserve(TEST_KEY, 0, initialNumberSupplier));
+		verifyNoInteractions(codeSequenceRepository);
+	}
+}
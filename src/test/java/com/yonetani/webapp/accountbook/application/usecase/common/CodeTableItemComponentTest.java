@@ -0,0 +1,210 @@
+/**
+ * コードテーブル情報を取得するコンポーネント(CodeTableItemComponent.java)の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  起動時のコード定義の重複許容(後の定義を優先)のテストに変更
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeAndValuePair;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeTableItem;
+import com.yonetani.webapp.accountbook.domain.model.common.CodeTableItemList;
+import com.yonetani.webapp.accountbook.domain.repository.common.CodeTableRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ *<pre>
+ * コードテーブル情報を取得するコンポーネント(CodeTableItemComponent.java)の単体テストクラスです。
+ * コード区分ごとの不変リストの参照、コード定義の再読み込み(スナップショットの差し替え・不正時の継続使用)、
+ * コード定義ファイルの変更監視をテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+class CodeTableItemComponentTest {
+
+	// モック:コード定義テーブル参照リポジトリー
+	@Mock
+	private CodeTableRepository codeTableRepository;
+
+	// メトリクスの登録先
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	// テスト対象のコンポーネント
+	private CodeTableItemComponent component;
+
+	@AfterEach
+	void tearDown() {
+		if(component != null) {
+			component.destroy();
+		}
+	}
+
+	/**
+	 * 変更監視なしでテスト対象のコンポーネントを生成します。
+	 */
+	private CodeTableItemComponent createComponent() {
+		return new CodeTableItemComponent(codeTableRepository, meterRegistry, "codetable.csv", false);
+	}
+
+	/**
+	 * 指定した再読み込み結果の回数を返します。
+	 */
+	private double reloadCount(String result) {
+		return meterRegistry.get(CodeTableItemComponent.METRIC_NAME)
+				.tag(CodeTableItemComponent.TAG_RESULT, result).counter().count();
+	}
+
+	@Test
+	@DisplayName("コード区分ごとのコードと値のペア情報を読み込み時に生成した不変リストで返すこと")
+	void testGetCodeValues() {
+		when(codeTableRepository.findAll()).thenReturn(createCodeTable("毎月"));
+		component = createComponent();
+
+		List<CodeAndValuePair> result = component.getCodeValues("002");
+		assertEquals(List.of(CodeAndValuePair.from("00", "毎月"), CodeAndValuePair.from("01", "1月")), result);
+		// 呼び出しごとにリストを再生成しないこと
+		assertSame(result, component.getCodeValues("002"));
+		assertThrows(UnsupportedOperationException.class, () -> result.add(CodeAndValuePair.from("02", "2月")));
+		assertNull(component.getCodeValues("999"));
+
+		assertEquals("毎月", component.getCodeValue("002", "00"));
+		assertNull(component.getCodeValue("002", "99"));
+		assertNull(component.getCodeValue("999", "00"));
+	}
+
+	@Test
+	@DisplayName("起動時はコード区分・コードの重複を許容して後の定義を優先し、再読み込み時は重複をエラーとすること")
+	void testDuplicateOnStartup() {
+		CodeTableItemList duplicated = CodeTableItemList.from(List.of(
+				CodeTableItem.from("001", List.of(CodeAndValuePair.from("901", "店舗A"), CodeAndValuePair.from("902", "店舗B"),
+						CodeAndValuePair.from("901", "店舗C"))),
+				CodeTableItem.from("002", List.of(CodeAndValuePair.from("00", "変更前"))),
+				CodeTableItem.from("002", List.of(CodeAndValuePair.from("00", "毎月")))));
+		when(codeTableRepository.findAll()).thenReturn(duplicated);
+		component = createComponent();
+
+		assertEquals(List.of(CodeAndValuePair.from("901", "店舗C"), CodeAndValuePair.from("902", "店舗B")),
+				component.getCodeValues("001"));
+		assertEquals("店舗C", component.getCodeValue("001", "901"));
+		assertEquals(List.of(CodeAndValuePair.from("00", "毎月")), component.getCodeValues("002"));
+
+		assertFalse(component.reload());
+		assertEquals("店舗C", component.getCodeValue("001", "901"));
+		assertEquals(1.0, reloadCount(CodeTableItemComponent.RESULT_FAILURE));
+	}
+
+	@Test
+	@DisplayName("起動時のコード定義が0件の場合、エラーとしないこと")
+	void testEmptyOnStartup() {
+		when(codeTableRepository.findAll()).thenReturn(CodeTableItemList.from(List.of()));
+		component = createComponent();
+
+		assertNull(component.getCodeValues("001"));
+		assertNull(component.getCodeValue("001", "901"));
+	}
+
+	@Test
+	@DisplayName("再読み込みに成功した場合、新しいコード定義に差し替えること")
+	void testReload() {
+		when(codeTableRepository.findAll())
+			.thenReturn(createCodeTable("毎月"))
+			.thenReturn(createCodeTable("毎月(固定)"));
+		component = createComponent();
+
+		assertTrue(component.reload());
+
+		assertEquals("毎月(固定)", component.getCodeValue("002", "00"));
+		assertEquals(CodeAndValuePair.from("00", "毎月(固定)"), component.getCodeValues("002").get(0));
+		assertEquals(1.0, reloadCount(CodeTableItemComponent.RESULT_SUCCESS));
+		assertEquals(0.0, reloadCount(CodeTableItemComponent.RESULT_FAILURE));
+	}
+
+	@Test
+	@DisplayName("再読み込みしたコード定義が不正な場合、現在のコード定義を継続して使用すること")
+	void testReloadRejected() {
+		when(codeTableRepository.findAll())
+			.thenReturn(createCodeTable("毎月"))
+			// 読み込みエラー
+			.thenThrow(new MyHouseholdAccountBookRuntimeException("コード定義ファイル設定値不正"))
+			// 現在のコード区分(001)の削除
+			.thenReturn(CodeTableItemList.from(List.of(
+					CodeTableItem.from("002", List.of(CodeAndValuePair.from("00", "変更後"))))))
+			// コード区分の重複
+			.thenReturn(CodeTableItemList.from(List.of(
+					CodeTableItem.from("001", List.of(CodeAndValuePair.from("901", "変更後"))),
+					CodeTableItem.from("002", List.of(CodeAndValuePair.from("00", "変更後"))),
+					CodeTableItem.from("001", List.of(CodeAndValuePair.from("902", "変更後"))))))
+			// コード定義なし
+			.thenReturn(CodeTableItemList.from(List.of()));
+		component = createComponent();
+		List<CodeAndValuePair> before = component.getCodeValues("002");
+
+		for(int i = 0; i < 4; i++) {
+			assertFalse(component.reload());
+		}
+
+		assertSame(before, component.getCodeValues("002"));
+		assertEquals("店舗A", component.getCodeValue("001", "901"));
+		assertEquals(0.0, reloadCount(CodeTableItemComponent.RESULT_SUCCESS));
+		assertEquals(4.0, reloadCount(CodeTableItemComponent.RESULT_FAILURE));
+	}
+
+	@Test
+	@DisplayName("コード定義ファイルの変更を検知して再読み込みすること")
+	void testWatch(@TempDir Path tempDir) throws Exception {
+		Path codeTableFile = tempDir.resolve("codetable.csv");
+		Files.writeString(codeTableFile, "001,901,店舗A\n", StandardCharsets.UTF_8);
+		when(codeTableRepository.findAll())
+			.thenReturn(createCodeTable("毎月"))
+			.thenReturn(createCodeTable("毎月(固定)"));
+		component = new CodeTableItemComponent(codeTableRepository, meterRegistry, codeTableFile.toString(), true);
+
+		// 監視対象外のファイルの変更では再読み込みしないこと
+		Files.writeString(tempDir.resolve("other.csv"), "001,901,店舗A\n", StandardCharsets.UTF_8);
+		Files.writeString(codeTableFile, "001,901,店舗A\n002,00,毎月(固定)\n", StandardCharsets.UTF_8);
+
+		long timeout = System.currentTimeMillis() + 10000;
+		while(reloadCount(CodeTableItemComponent.RESULT_SUCCESS) < 1 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(50);
+		}
+		assertEquals("毎月(固定)", component.getCodeValue("002", "00"));
+		verify(codeTableRepository, times(2)).findAll();
+	}
+
+	/**
+	 * テスト用のコード定義テーブル情報(店舗区分・固定費支払月)を生成します。
+	 */
+	private CodeTableItemList createCodeTable(String everyMonthValue) {
+		return CodeTableItemList.from(List.of(
+				CodeTableItem.from("001", List.of(CodeAndValuePair.from("901", "店舗A"))),
+				CodeTableItem.from("002", List.of(CodeAndValuePair.from("00", everyMonthValue), CodeAndValuePair.from("01", "1月")))));
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * 支出項目情報を取得するコンポーネント(ExpenditureItemInfoComponent.java)の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  参照専用トランザクション内のキャッシュ利用のテスト追加
+ * 2026/10/17 : 1.02.00  キャッシュ件数の上限、ユーザ単位の破棄世代のテスト追加
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
+import com.yonetani.webapp.accountbook.domain.repository.account.expenditureinfo.SisyutuItemTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+/**
+ *<pre>
+ * 支出項目情報を取得するコンポーネント(ExpenditureItemInfoComponent.java)の単体テストクラスです。
+ * トランザクション外・参照専用トランザクション内での支出項目ツリーのキャッシュ・破棄・上限をテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+class ExpenditureItemInfoComponentTest {
+
+	// テスト対象のコンポーネント
+	private ExpenditureItemInfoComponent component;
+
+	// モック:支出項目テーブル参照リポジトリー
+	@Mock
+	private SisyutuItemTableRepository sisyutuItemRepository;
+
+	// ユーザID
+	private final UserId TEST_USER = UserId.from("user01");
+
+	@BeforeEach
+	void setUp() {
+		component = new ExpenditureItemInfoComponent(sisyutuItemRepository, 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	@DisplayName("ユーザの支出項目情報はツリー生成時の1回のみ取得し、以降はキャッシュから参照すること")
+	void testCachedTree() {
+		when(sisyutuItemRepository.findByUserId(any(SearchQueryUserId.class))).thenReturn(createList("固定経費"));
+
+		assertEquals("事業経費＞固定経費＞駐輪場代金", component.getExpenditureItemName(TEST_USER, ExpenditureItemCode.from("0003")));
+		assertEquals("事業経費＞固定経費", component.getExpenditureItemName(TEST_USER, ExpenditureItemCode.from("0002")));
+		assertEquals("駐輪場代金", component.getExpenditureItemInfo(TEST_USER, ExpenditureItemCode.from("0003")).getExpenditureItemName().getValue());
+		assertTrue(component.hasExpenditureItemInfo(TEST_USER, ExpenditureItemCode.from("0001")));
+		assertFalse(component.hasExpenditureItemInfo(TEST_USER, ExpenditureItemCode.from("0099")));
+
+		verify(sisyutuItemRepository, times(1)).findByUserId(any(SearchQueryUserId.class));
+	}
+
+	@Test
+	@DisplayName("evict後は最新の支出項目情報からツリーを再生成すること")
+	void testEvict() {
+		when(sisyutuItemRepository.findByUserId(any(SearchQueryUserId.class)))
+			.thenReturn(createList("固定経費"))
+			.thenReturn(createList("固定費"));
+
+		assertEquals("事業経費＞固定経費＞駐輪場代金", component.getExpenditureItemName(TEST_USER, ExpenditureItemCode.from("0003")));
+		component.evict(TEST_USER);
+		assertEquals("事業経費＞固定費＞駐輪場代金", component.getExpenditureItemName(TEST_USER, ExpenditureItemCode.from("0003")));
+
+		verify(sisyutuItemRepository, times(2)).findByUserId(any(SearchQueryUserId.class));
+	}
+
+	@Test
+	@DisplayName("参照専用トランザクション内では、キャッシュした支出項目ツリーを参照・登録すること")
+	void testCachedTreeInReadOnlyTransaction() {
+		when(sisyutuItemRepository.findByUserId(any(SearchQueryUserId.class))).thenReturn(createList("固定経費"));
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertEquals("事業経費＞固定経費＞駐輪場代金", component.getExpenditureItemName(TEST_USER, ExpenditureItemCode.from("0003")));
+		// トランザクション外の参照でも参照専用トランザクション内で登録したツリーを使用すること
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		assertTrue(component.hasExpenditureItemInfo(TEST_USER, ExpenditureItemCode.from("0002")));
+
+		verify(sisyutuItemRepository, times(1)).findByUserId(any(SearchQueryUserId.class));
+	}
+
+	@Test
+	@DisplayName("最大件数を超えた場合、最も長く参照されていないユーザの支出項目ツリーが破棄されること")
+	void testLruEviction() {
+		UserId user02 = UserId.from("user02");
+		UserId user03 = UserId.from("user03");
+		when(sisyutuItemRepository.findByUserId(any(SearchQueryUserId.class))).thenReturn(createList("固定経費"));
+		ExpenditureItemInfoComponent lruComponent = new ExpenditureItemInfoComponent(sisyutuItemRepository, 2);
+		lruComponent.getExpenditureItemInfoTree(TEST_USER);
+		lruComponent.getExpenditureItemInfoTree(user02);
+		// user01を参照して最新化
+		lruComponent.getExpenditureItemInfoTree(TEST_USER);
+		// user03登録でuser02が破棄されること
+		lruComponent.getExpenditureItemInfoTree(user03);
+		lruComponent.getExpenditureItemInfoTree(TEST_USER);
+		lruComponent.getExpenditureItemInfoTree(user02);
+
+		verify(sisyutuItemRepository, times(1)).findByUserId(SearchQueryUserId.from(TEST_USER));
+		verify(sisyutuItemRepository, times(2)).findByUserId(SearchQueryUserId.from(user02));
+	}
+
+	@Test
+	@DisplayName("取得中に他ユーザの破棄要求があった場合は登録し、同一ユーザの破棄要求があった場合は登録しないこと")
+	void testPutAfterInvalidation() {
+		UserId user02 = UserId.from("user02");
+		// 1回目の取得中に他ユーザ、2回目の取得中に同一ユーザの更新処理による破棄要求
+		when(sisyutuItemRepository.findByUserId(SearchQueryUserId.from(TEST_USER))).thenAnswer(invocation -> {
+			component.evict(user02);
+			return createList("固定経費");
+		});
+		when(sisyutuItemRepository.findByUserId(SearchQueryUserId.from(user02))).thenAnswer(invocation -> {
+			component.evict(user02);
+			return createList("固定経費");
+		});
+
+		component.getExpenditureItemInfoTree(TEST_USER);
+		component.getExpenditureItemInfoTree(TEST_USER);
+		component.getExpenditureItemInfoTree(user02);
+		component.getExpenditureItemInfoTree(user02);
+
+		verify(sisyutuItemRepository, times(1)).findByUserId(SearchQueryUserId.from(TEST_USER));
+		verify(sisyutuItemRepository, times(2)).findByUserId(SearchQueryUserId.from(user02));
+	}
+
+	@Test
+	@DisplayName("存在しない支出項目コードの場合、エラーとなること")
+	void testNotFound() {
+		when(sisyutuItemRepository.findByUserId(any(SearchQueryUserId.class))).thenReturn(createList("固定経費"));
+
+		MyHouseholdAccountBookRuntimeException ex = assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> component.getExpenditureItemInfo(TEST_USER, ExpenditureItemCode.from("0099")));
+		assertEquals("対象の支出項目情報が存在しません。管理者に問い合わせてください。sisyutuItemCode:0099", ex.getMessage());
+	}
+
+	/**
+	 * テスト用の支出項目情報(3階層)を生成します。
+	 */
+	private ExpenditureItemInfoInquiryList createList(String level2Name) {
+		return ExpenditureItemInfoInquiryList.from(List.of(
+				ExpenditureItemInfo.from("user01", "0001", "事業経費", "詳細", "0001", "1", "0100000000", false),
+				ExpenditureItemInfo.from("user01", "0002", level2Name, "詳細", "0001", "2", "0101000000", false),
+				ExpenditureItemInfo.from("user01", "0003", "駐輪場代金", "詳細", "0002", "3", "0101010000", false)));
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * 整合性検証済みバージョンの登録コンポーネント(IncomeAndExpenditureValidatedVersionComponent.java)の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
+import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+
+/**
+ *<pre>
+ * 整合性検証済みバージョンの登録コンポーネント(IncomeAndExpenditureValidatedVersionComponent.java)の単体テストクラスです。
+ * 参照専用トランザクションのコミット後の登録、登録失敗時に照会処理へ例外を返さないことをテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+class IncomeAndExpenditureValidatedVersionComponentTest {
+
+	// モック:収支テーブルリポジトリ
+	@Mock
+	private IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
+	// モック:トランザクションマネージャー
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	// テスト対象のコンポーネント
+	private IncomeAndExpenditureValidatedVersionComponent component;
+
+	// テスト用のデータバージョン
+	private final IncomeAndExpenditureDataVersion DATA_VERSION =
+			IncomeAndExpenditureDataVersion.from("user01", "2025", "11", 4L, 3L);
+
+	@BeforeEach
+	void setUp() {
+		component = new IncomeAndExpenditureValidatedVersionComponent(incomeAndExpenditureRepository, transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	/**
+	 * 参照専用トランザクション内の状態にします。
+	 */
+	private void beginReadOnlyTransaction() {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		doReturn(new SimpleTransactionStatus()).when(transactionManager).getTransaction(any(TransactionDefinition.class));
+	}
+
+	@Test
+	@DisplayName("参照専用トランザクション内の場合、コミット後に新規トランザクションで登録すること")
+	void testRegistAfterCommit() {
+		doReturn(1).when(incomeAndExpenditureRepository).updateValidatedVersion(DATA_VERSION);
+		beginReadOnlyTransaction();
+
+		component.regist(DATA_VERSION);
+		verify(incomeAndExpenditureRepository, never()).updateValidatedVersion(any());
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(incomeAndExpenditureRepository, times(1)).updateValidatedVersion(DATA_VERSION);
+		verify(transactionManager).commit(any());
+	}
+
+	@Test
+	@DisplayName("トランザクション外の場合は呼び出し時に新規トランザクション、更新トランザクション内の場合は現在のトランザクションで登録すること")
+	void testRegistOutsideReadOnlyTransaction() {
+		doReturn(1).when(incomeAndExpenditureRepository).updateValidatedVersion(DATA_VERSION);
+		doReturn(new SimpleTransactionStatus()).when(transactionManager).getTransaction(any(TransactionDefinition.class));
+
+		component.regist(DATA_VERSION);
+		verify(incomeAndExpenditureRepository, times(1)).updateValidatedVersion(DATA_VERSION);
+		verify(transactionManager, times(1)).commit(any());
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		component.regist(DATA_VERSION);
+		verify(incomeAndExpenditureRepository, times(2)).updateValidatedVersion(DATA_VERSION);
+		verify(transactionManager, times(1)).getTransaction(any(TransactionDefinition.class));
+	}
+
+	@Test
+	@DisplayName("登録に失敗した場合、ロールバックし例外を呼び出し元に返さないこと")
+	void testRegistFailure() {
+		doThrow(new QueryTimeoutException("timeout")).when(incomeAndExpenditureRepository).updateValidatedVersion(DATA_VERSION);
+		beginReadOnlyTransaction();
+		component.regist(DATA_VERSION);
+
+		assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+				.forEach(TransactionSynchronization::afterCommit));
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * 店舗情報キャッシュコンポーネント(ShopInquiryCacheComponent.java)の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  他ユーザの破棄要求で登録が抑止されないことのテスト追加
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yonetani.webapp.accountbook.domain.model.account.shop.Shop;
+import com.yonetani.webapp.accountbook.domain.model.account.shop.ShopInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndShopKubunCode;
+import com.yonetani.webapp.accountbook.domain.repository.account.shop.ShopTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.account.shop.ShopCode;
+import com.yonetani.webapp.accountbook.domain.type.account.shop.ShopKubunCode;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+/**
+ *<pre>
+ * 店舗情報キャッシュコンポーネント(ShopInquiryCacheComponent.java)の単体テストクラスです。
+ * 店舗コード・店舗区分コードの索引からの参照、キャッシュの破棄・上限、トランザクション内の参照をテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+class ShopInquiryCacheComponentTest {
+
+	// テストユーザのユーザID
+	private static final UserId USER01 = UserId.from("user01");
+	// テストユーザ2のユーザID
+	private static final UserId USER02 = UserId.from("user02");
+
+	// モック:店舗情報取得リポジトリー
+	@Mock
+	private ShopTableRepository shopRepository;
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	@DisplayName("全店舗情報を1回だけ取得し、店舗コード・店舗区分コード・店舗区分コードのリストの索引から返すこと")
+	void testIndexes() {
+		doReturn(createShopList(USER01)).when(shopRepository).findById(SearchQueryUserId.from(USER01));
+		ShopInquiryCacheComponent cache = new ShopInquiryCacheComponent(shopRepository, 10);
+
+		assertEquals(4, cache.getShopList(USER01).getValues().size());
+		assertEquals("イオン", cache.getShop(USER01, ShopCode.from("001")).getShopName().getValue());
+		assertNull(cache.getShop(USER01, ShopCode.from("004")));
+		assertEquals(List.of("002", "001"), shopCodes(cache.getShopList(USER01, ShopKubunCode.from("901"))));
+		assertTrue(cache.getShopList(USER01, ShopKubunCode.from("903")).isEmpty());
+		// 店舗区分コードのリスト:店舗表示順が900番以降の店舗は対象外
+		assertEquals(List.of("002", "001", "003"),
+				shopCodes(cache.getShopList(USER01, List.of(ShopKubunCode.from("901"), ShopKubunCode.from("902")))));
+		assertEquals(List.of("002", "001", "003"), shopCodes(cache.getShopList(USER01, List.of())));
+
+		verify(shopRepository, times(1)).findById(SearchQueryUserId.from(USER01));
+		verifyNoMoreInteractions(shopRepository);
+	}
+
+	@Test
+	@DisplayName("破棄したユーザの店舗情報のみ再取得すること")
+	void testEvict() {
+		doReturn(createShopList(USER01)).when(shopRepository).findById(SearchQueryUserId.from(USER01));
+		doReturn(createShopList(USER02)).when(shopRepository).findById(SearchQueryUserId.from(USER02));
+		ShopInquiryCacheComponent cache = new ShopInquiryCacheComponent(shopRepository, 10);
+		cache.getShopList(USER01);
+		cache.getShopList(USER02);
+
+		cache.evict(USER01);
+		cache.getShopList(USER01);
+		cache.getShopList(USER02);
+
+		verify(shopRepository, times(2)).findById(SearchQueryUserId.from(USER01));
+		verify(shopRepository, times(1)).findById(SearchQueryUserId.from(USER02));
+	}
+
+	@Test
+	@DisplayName("最大件数を超えた場合、最も長く参照されていないユーザの店舗情報が破棄されること")
+	void testLruEviction() {
+		UserId user03 = UserId.from("user03");
+		doReturn(createShopList(USER01)).when(shopRepository).findById(SearchQueryUserId.from(USER01));
+		doReturn(createShopList(USER02)).when(shopRepository).findById(SearchQueryUserId.from(USER02));
+		doReturn(createShopList(user03)).when(shopRepository).findById(SearchQueryUserId.from(user03));
+		ShopInquiryCacheComponent cache = new ShopInquiryCacheComponent(shopRepository, 2);
+		cache.getShopList(USER01);
+		cache.getShopList(USER02);
+		// user01を参照して最新化
+		cache.getShopList(USER01);
+		// user03登録でuser02が破棄されること
+		cache.getShopList(user03);
+		cache.getShopList(USER01);
+		cache.getShopList(USER02);
+
+		verify(shopRepository, times(1)).findById(SearchQueryUserId.from(USER01));
+		verify(shopRepository, times(2)).findById(SearchQueryUserId.from(USER02));
+	}
+
+	@Test
+	@DisplayName("データ取得中に破棄要求があった場合、取得したデータはキャッシュに登録されないこと")
+	void testPutAfterInvalidation() {
+		ShopInquiryCacheComponent cache = new ShopInquiryCacheComponent(shopRepository, 10);
+		// 1回目の取得中に更新処理による破棄要求
+		doAnswer(invocation -> {
+			cache.evict(USER01);
+			return createShopList(USER01);
+		}).doReturn(createShopList(USER01)).when(shopRepository).findById(SearchQueryUserId.from(USER01));
+
+		cache.getShopList(USER01);
+		cache.getShopList(USER01);
+		cache.getShopList(USER01);
+
+		verify(shopRepository, times(2)).findById(SearchQueryUserId.from(USER01));
+	}
+
+	@Test
+	@DisplayName("データ取得中に他ユーザの破棄要求があった場合、取得したデータはキャッシュに登録されること")
+	void testPutAfterOtherUserInvalidation() {
+		ShopInquiryCacheComponent cache = new ShopInquiryCacheComponent(shopRepository, 10);
+		// 取得中に他ユーザの更新処理による破棄要求
+		doAnswer(invocation -> {
+			cache.evict(USER02);
+			return createShopList(USER01);
+		}).when(shopRepository).findById(SearchQueryUserId.from(USER01));
+
+		cache.getShopList(USER01);
+		cache.getShopList(USER01);
+
+		verify(shopRepository, times(1)).findById(SearchQueryUserId.from(USER01));
+	}
+
+	@Test
+	@DisplayName("トランザクション内、または最大件数が0の場合、キャッシュを使用せず検索条件に対応する店舗情報を取得すること")
+	void testNotCacheable() {
+		ShopInquiryList kubunList = ShopInquiryList.from(List.of(createShop(USER01, "001", "901", "イオン", "002")));
+		doReturn(kubunList).when(shopRepository).findById(
+				SearchQueryUserIdAndShopKubunCode.from(USER01, ShopKubunCode.from("901")));
+		ShopInquiryCacheComponent cache = new ShopInquiryCacheComponent(shopRepository, 10);
+		ShopInquiryCacheComponent disabledCache = new ShopInquiryCacheComponent(shopRepository, 0);
+
+		assertSame(kubunList, disabledCache.getShopList(USER01, ShopKubunCode.from("901")));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		assertSame(kubunList, cache.getShopList(USER01, ShopKubunCode.from("901")));
+
+		verify(shopRepository, never()).findById(SearchQueryUserId.from(USER01));
+	}
+
+	/**
+	 * テスト用の店舗情報(店舗表示順)を生成します。
+	 */
+	private ShopInquiryList createShopList(UserId userId) {
+		return ShopInquiryList.from(List.of(
+				createShop(userId, "002", "901", "マルエツ", "001"),
+				createShop(userId, "001", "901", "イオン", "002"),
+				createShop(userId, "003", "902", "カインズ", "003"),
+				createShop(userId, "999", "999", "その他", "999")));
+	}
+
+	/**
+	 * テスト用の店舗情報を生成します。
+	 */
+	private Shop createShop(UserId userId, String shopCode, String shopKubunCode, String shopName, String shopSort) {
+		return Shop.from(userId.getValue(), shopCode, shopKubunCode, shopName, shopSort);
+	}
+
+	/**
+	 * 店舗情報のリストの店舗コードを返します。
+	 */
+	private List<String> shopCodes(ShopInquiryList shopList) {
+		return shopList.getValues().stream().map(shop -> shop.getShopCode().getValue()).toList();
+	}
+}
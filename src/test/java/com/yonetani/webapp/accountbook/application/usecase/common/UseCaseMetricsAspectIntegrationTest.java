@@ -0,0 +1,189 @@
+/**
+ * UseCaseMetricsAspectと管理者メニューのユースケース処理時間画面の統合テストです。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・メトリクスの登録先(MeterRegistry)はアプリケーションコンテキストで共有されるため、呼び出し前後の回数の差分で検証
+ * ・ログインユーザセッション(セッションスコープBean)はテスト用のMockHttpSessionに設定
+ *
+ * [テストシナリオ]
+ * ①  正常系：正常終了したユースケースのメソッドが処理結果successで記録されること
+ * ②  正常系：エラーメッセージ付きのレスポンスを返したユースケースのメソッドが処理結果business_errorで記録されること
+ * ③  正常系：例外が発生したユースケースのメソッドが処理結果runtime_errorと例外のクラス名で記録されること
+ * ④  正常系：ユースケース処理時間画面に記録したユースケースのメソッドが表示されること
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.common;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.accountingperiodupdate.TargetYearMonthUpdManageUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.expenditureinfo.ExpenditureItemInfoManageUseCase;
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserSession;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ *<pre>
+ * UseCaseMetricsAspectと管理者メニューのユースケース処理時間画面の統合テストです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = {
+	"/sql/initsql/schema_test.sql",
+	"/com/yonetani/webapp/accountbook/application/usecase/account/inquiry/AccountMonthInquiryIntegrationTest.sql"
+}, config = @SqlConfig(encoding = "UTF-8"))
+@DisplayName("ユースケース処理時間(UseCaseMetricsAspect)の統合テスト")
+class UseCaseMetricsAspectIntegrationTest {
+
+	// 対象年月更新画面の表示情報取得のユースケース名
+	private static final String TARGET_YEAR_MONTH_USE_CASE = "TargetYearMonthUpdManageUseCase";
+
+	// MVCモック(Spring Securityのフィルターを含む)
+	@Autowired
+	private MockMvc mockMvc;
+
+	// メトリクスの登録先
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// DBアクセス
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// 対象年月更新のユースケース(正常終了・業務エラー)
+	@Autowired
+	private TargetYearMonthUpdManageUseCase targetYearMonthUpdManageUseCase;
+
+	// 支出項目情報管理のユースケース(実行時エラー)
+	@Autowired
+	private ExpenditureItemInfoManageUseCase expenditureItemInfoManageUseCase;
+
+	// ログインユーザセッションを設定したHTTPセッション
+	private MockHttpSession session;
+
+	@BeforeEach
+	void setup() {
+		// 現在の対象年月の収支情報が未登録のユーザ(対象年月更新不可:業務エラー)
+		jdbcTemplate.update("INSERT INTO ACCOUNT_BOOK_USER (USER_ID, NOW_TARGET_YEAR, NOW_TARGET_MONTH, USER_NAME)"
+				+ " VALUES ('user02', '2025', '11', 'テストユーザ02')");
+		// セッションスコープBeanの格納キー(scopedTarget.Bean名)にログインユーザセッションを設定
+		LoginUserSession loginUserSession = new LoginUserSession();
+		loginUserSession.setLoginUserInfo(LoginUserInfo.from("admin", "管理者"));
+		session = new MockHttpSession();
+		session.setAttribute("scopedTarget.loginUserSession", loginUserSession);
+	}
+
+	/**
+	 * 指定したユースケースのメソッド・処理結果のタイマーの回数を返します(未登録の場合は0)。
+	 */
+	private long countOf(String useCase, String method, String outcome) {
+		Timer timer = findTimer(useCase, method, outcome);
+		return (timer == null) ? 0 : timer.count();
+	}
+
+	/**
+	 * 指定したユースケースのメソッド・処理結果のタイマーを返します(未登録の場合はnull)。
+	 */
+	private Timer findTimer(String useCase, String method, String outcome) {
+		return meterRegistry.find(UseCaseMetricsAspect.METRIC_NAME)
+				.tag(UseCaseMetricsAspect.TAG_USE_CASE, useCase)
+				.tag(UseCaseMetricsAspect.TAG_METHOD, method)
+				.tag(UseCaseMetricsAspect.TAG_OUTCOME, outcome)
+				.timer();
+	}
+
+	@Test
+	@DisplayName("正常系：正常終了したユースケースのメソッドが処理結果successで記録されること")
+	void testSuccess() {
+		long before = countOf(TARGET_YEAR_MONTH_USE_CASE, "readInitInfo", UseCaseMetricsAspect.OUTCOME_SUCCESS);
+
+		assertFalse(targetYearMonthUpdManageUseCase.readInitInfo(LoginUserInfo.from("user01", "テストユーザ01"))
+				.isErrorResponse());
+
+		Timer timer = findTimer(TARGET_YEAR_MONTH_USE_CASE, "readInitInfo", UseCaseMetricsAspect.OUTCOME_SUCCESS);
+		assertEquals(before + 1, timer.count());
+		assertEquals("none", timer.getId().getTag(UseCaseMetricsAspect.TAG_EXCEPTION));
+		// 50%・95%・99%のパーセンタイル
+		assertEquals(3, timer.takeSnapshot().percentileValues().length);
+	}
+
+	@Test
+	@DisplayName("正常系：エラーメッセージ付きのレスポンスを返したユースケースのメソッドが処理結果business_errorで記録されること")
+	void testBusinessError() {
+		long before = countOf(TARGET_YEAR_MONTH_USE_CASE, "readInitInfo", UseCaseMetricsAspect.OUTCOME_BUSINESS_ERROR);
+
+		assertTrue(targetYearMonthUpdManageUseCase.readInitInfo(LoginUserInfo.from("user02", "テストユーザ02"))
+				.isErrorResponse());
+
+		assertEquals(before + 1,
+				countOf(TARGET_YEAR_MONTH_USE_CASE, "readInitInfo", UseCaseMetricsAspect.OUTCOME_BUSINESS_ERROR));
+	}
+
+	@Test
+	@DisplayName("正常系：例外が発生したユースケースのメソッドが処理結果runtime_errorと例外のクラス名で記録されること")
+	void testRuntimeError() {
+		String useCase = "ExpenditureItemInfoManageUseCase";
+		long before = countOf(useCase, "readActSelectItemInfo", UseCaseMetricsAspect.OUTCOME_RUNTIME_ERROR);
+
+		// 存在しない支出項目コード
+		assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> expenditureItemInfoManageUseCase.readActSelectItemInfo(
+						LoginUserInfo.from("user01", "テストユーザ01"), "9999"));
+
+		Timer timer = findTimer(useCase, "readActSelectItemInfo", UseCaseMetricsAspect.OUTCOME_RUNTIME_ERROR);
+		assertEquals(before + 1, timer.count());
+		assertEquals("MyHouseholdAccountBookRuntimeException", timer.getId().getTag(UseCaseMetricsAspect.TAG_EXCEPTION));
+	}
+
+	@Test
+	@DisplayName("正常系：ユースケース処理時間画面に記録したユースケースのメソッドが表示されること")
+	void testUseCaseMetricsPage() throws Exception {
+		targetYearMonthUpdManageUseCase.readInitInfo(LoginUserInfo.from("user01", "テストユーザ01"));
+
+		mockMvc.perform(get("/myhacbook/admin/usecasemetrics/")
+				.session(session)
+				.with(user("admin").roles("ADMIN")))
+			.andExpect(status().isOk())
+			.andExpect(view().name("adminmenu/usecasemetrics"))
+			.andExpect(model().attribute("percentileExpiryMinutes", 5L))
+			.andExpect(model().attribute("useCaseItemList",
+					hasItem(hasProperty("useCase", is(TARGET_YEAR_MONTH_USE_CASE + ".readInitInfo")))))
+			.andExpect(content().string(containsString(TARGET_YEAR_MONTH_USE_CASE + ".readInitInfo")));
+	}
+}
@@ -0,0 +1,305 @@
+/**
+ * 支出項目情報管理ユースケース(ExpenditureItemInfoManageUseCase)の表示順変更の統合テストです。
+ * 5階層・数百件の支出項目ツリーで、子孫を含めた支出項目表示順の一括変更をテストします。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・レベル1:4件 × レベル2:5件(最後はその他項目(99)) × レベル3:4件 × レベル4:3件 × レベル5:2件の支出項目ツリーを生成
+ * ・テスト内で兄弟の並び順を保持し、全支出項目の期待する表示順(親の表示順＋兄弟内の並び順)とDBの値を比較
+ * ・表示順の変更はデータ件数(子孫の件数)によらず一定のステートメント数で実行されること
+ *
+ * [テストシナリオ]
+ * ①  正常系：レベル2の支出項目を後ろに移動した場合、子孫・間の兄弟の表示順が変更されること
+ * ②  正常系：レベル3の支出項目を前に移動した場合、子孫・間の兄弟の表示順が変更されること
+ * ③  正常系：レベル1の支出項目を移動した場合、全ての子孫の表示順が変更されること
+ * ④  正常系：レベル5の支出項目を移動した場合、兄弟の表示順のみ変更されること
+ * ⑤  正常系：支出項目を新規追加した場合、以降の兄弟(その他項目を除く)の表示順が子孫を含めて+1されること
+ * ⑥  正常系：表示順を変更しない更新の場合、表示順は変更されないこと
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.application.usecase.itemmanage.expenditureinfo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatistics;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsContext;
+import com.yonetani.webapp.accountbook.presentation.request.itemmanage.ExpenditureItemInfoForm;
+import com.yonetani.webapp.accountbook.presentation.response.itemmanage.ExpenditureItemInfoManageUpdateResponse;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+
+/**
+ *<pre>
+ * 支出項目情報管理ユースケース(ExpenditureItemInfoManageUseCase)の表示順変更の統合テストです。
+ * 5階層・数百件の支出項目ツリーで、子孫を含めた支出項目表示順の一括変更をテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = {
+	"/sql/initsql/schema_test.sql"
+}, config = @SqlConfig(encoding = "UTF-8"))
+@DisplayName("支出項目表示順の一括変更(5階層・数百件の支出項目ツリー)の統合テスト")
+class ExpenditureItemInfoManageSortOrderIntegrationTest {
+
+	// テストユーザのユーザID
+	private static final String USER_ID = "sortuser";
+	// 表示順が変更されないことを確認するユーザのユーザID
+	private static final String OTHER_USER_ID = "otheruser";
+	// 支出項目レベルごとの子の支出項目数(レベル1の件数、レベル1の子の件数、…)
+	private static final int[] CHILD_COUNTS = {4, 5, 4, 3, 2};
+	// 表示順変更のステートメント数の上限(子孫の件数によらない)
+	private static final int MAX_STATEMENTS = 8;
+	// 支出項目登録SQL
+	private static final String INSERT_SQL = "INSERT INTO SISYUTU_ITEM_TABLE (USER_ID, SISYUTU_ITEM_CODE, SISYUTU_ITEM_NAME,"
+			+ " SISYUTU_ITEM_DETAIL_CONTEXT, PARENT_SISYUTU_ITEM_CODE, SISYUTU_ITEM_LEVEL, SISYUTU_ITEM_SORT, ENABLE_UPDATE_FLG)"
+			+ " VALUES (?, ?, ?, ?, ?, ?, ?, true)";
+
+	/**
+	 * テスト用の支出項目(兄弟の並び順を保持)です。
+	 */
+	private static class Node {
+		// 支出項目コード
+		private final String code;
+		// 親の支出項目(レベル1の場合はnull)
+		private final Node parent;
+		// 支出項目レベル
+		private final int level;
+		// その他項目(99)かどうか
+		private final boolean other;
+		// 子の支出項目(表示順)
+		private final List<Node> children = new ArrayList<>();
+
+		Node(String code, Node parent, int level, boolean other) {
+			this.code = code;
+			this.parent = parent;
+			this.level = level;
+			this.other = other;
+		}
+	}
+
+	// 処理対象のユースケース
+	@Autowired
+	private ExpenditureItemInfoManageUseCase useCase;
+
+	// DBアクセス
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// レベル1の支出項目(表示順)
+	private final List<Node> roots = new ArrayList<>();
+	// 支出項目コードに対応する支出項目
+	private final Map<String, Node> nodeMap = new LinkedHashMap<>();
+	// 表示順が変更されないことを確認するユーザの登録時の表示順
+	private Map<String, String> otherUserSortMap;
+
+	@BeforeEach
+	void setup() {
+		jdbcTemplate.update("INSERT INTO ACCOUNT_BOOK_USER (USER_ID, NOW_TARGET_YEAR, NOW_TARGET_MONTH, USER_NAME)"
+				+ " VALUES (?, '2025', '11', '表示順テストユーザ')", USER_ID);
+		// レベル1から順に子の支出項目を生成(レベル2の最後の支出項目はその他項目)
+		List<Node> parents = new ArrayList<>();
+		parents.add(null);
+		for(int level = 1; level <= CHILD_COUNTS.length; level++) {
+			List<Node> nextParents = new ArrayList<>();
+			for(Node parent : parents) {
+				for(int i = 0; i < CHILD_COUNTS[level - 1]; i++) {
+					boolean other = (level == 2 && i == CHILD_COUNTS[level - 1] - 1);
+					Node node = new Node(String.format("%04d", nodeMap.size() + 1), parent, level, other);
+					nodeMap.put(node.code, node);
+					siblings(node).add(node);
+					// その他項目の子は生成しない
+					if(!other) {
+						nextParents.add(node);
+					}
+				}
+			}
+			parents = nextParents;
+		}
+		// 支出項目テーブルに登録(比較用に別ユーザにも同じ支出項目を登録)
+		List<Object[]> args = new ArrayList<>();
+		for(Node node : nodeMap.values()) {
+			String parentCode = (node.parent == null) ? node.code : node.parent.code;
+			args.add(new Object[] {USER_ID, node.code, "項目" + node.code, null, parentCode, String.valueOf(node.level), expectedSort(node)});
+			args.add(new Object[] {OTHER_USER_ID, node.code, "項目" + node.code, null, parentCode, String.valueOf(node.level), expectedSort(node)});
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, args);
+		otherUserSortMap = loadSortMap(OTHER_USER_ID);
+		assertTrue(nodeMap.size() > 500, "支出項目ツリーが数百件であること:" + nodeMap.size());
+		assertTreeSortOrder();
+	}
+
+	@Test
+	@DisplayName("正常系：レベル2の支出項目を後ろに移動した場合、子孫・間の兄弟の表示順が変更されること")
+	void testMoveLevel2Down() {
+		Node target = roots.get(1).children.get(0);
+		assertMove(target, 3);
+	}
+
+	@Test
+	@DisplayName("正常系：レベル3の支出項目を前に移動した場合、子孫・間の兄弟の表示順が変更されること")
+	void testMoveLevel3Up() {
+		Node target = roots.get(2).children.get(1).children.get(3);
+		assertMove(target, 1);
+	}
+
+	@Test
+	@DisplayName("正常系：レベル1の支出項目を移動した場合、全ての子孫の表示順が変更されること")
+	void testMoveLevel1() {
+		assertMove(roots.get(0), 3);
+		assertMove(roots.get(3), 0);
+	}
+
+	@Test
+	@DisplayName("正常系：レベル5の支出項目を移動した場合、兄弟の表示順のみ変更されること")
+	void testMoveLevel5() {
+		Node target = roots.get(3).children.get(3).children.get(2).children.get(1).children.get(0);
+		assertMove(target, 1);
+	}
+
+	@Test
+	@DisplayName("正常系：支出項目を新規追加した場合、以降の兄弟(その他項目を除く)の表示順が子孫を含めて+1されること")
+	void testAdd() {
+		Node parent = roots.get(1);
+		// 2番目の表示順で新規追加(その他項目(99)は変更されないこと)
+		String sort = expectedSort(parent).substring(0, 2) + "02000000";
+		ExpenditureItemInfoForm form = createForm(MyHouseholdAccountBookContent.ACTION_TYPE_ADD, null, parent.code, 2, sort);
+
+		ExpenditureItemInfoManageUpdateResponse response = execAction(form);
+
+		assertTrue(response.isTransactionSuccessFull(), response.getMessagesList().toString());
+		String addCode = jdbcTemplate.queryForObject(
+				"SELECT SISYUTU_ITEM_CODE FROM SISYUTU_ITEM_TABLE WHERE USER_ID = ? AND SISYUTU_ITEM_NAME = '新規項目'",
+				String.class, USER_ID);
+		Node added = new Node(addCode, parent, 2, false);
+		nodeMap.put(addCode, added);
+		parent.children.add(1, added);
+		assertEquals(sort, loadSortMap(USER_ID).get(addCode));
+		assertTreeSortOrder();
+	}
+
+	@Test
+	@DisplayName("正常系：表示順を変更しない更新の場合、表示順は変更されないこと")
+	void testUpdateWithoutMove() {
+		Node target = roots.get(2).children.get(2);
+		ExpenditureItemInfoForm form = createForm(MyHouseholdAccountBookContent.ACTION_TYPE_UPDATE, target.code,
+				target.parent.code, target.level, expectedSort(target));
+
+		assertTrue(execAction(form).isTransactionSuccessFull());
+
+		assertTreeSortOrder();
+	}
+
+	/**
+	 * 支出項目を兄弟内の指定位置に移動し、全支出項目の表示順を検証します。
+	 */
+	private void assertMove(Node target, int toIndex) {
+		List<Node> siblings = siblings(target);
+		siblings.remove(target);
+		siblings.add(toIndex, target);
+		ExpenditureItemInfoForm form = createForm(MyHouseholdAccountBookContent.ACTION_TYPE_UPDATE, target.code,
+				(target.parent == null) ? target.code : target.parent.code, target.level, expectedSort(target));
+
+		ExpenditureItemInfoManageUpdateResponse response = execAction(form);
+
+		assertTrue(response.isTransactionSuccessFull(), response.getMessagesList().toString());
+		assertTreeSortOrder();
+	}
+
+	/**
+	 * DBアクセス統計を計測してユースケースを実行し、ステートメント数が上限以下であることを検証します。
+	 */
+	private ExpenditureItemInfoManageUpdateResponse execAction(ExpenditureItemInfoForm form) {
+		ExpenditureItemInfoManageUpdateResponse response;
+		DbAccessStatistics statistics;
+		DbAccessStatisticsContext.begin("ExpenditureItemInfoManageUseCase.execAction");
+		try {
+			response = useCase.execAction(LoginUserInfo.from(USER_ID, "表示順テストユーザ"), form);
+		} finally {
+			statistics = DbAccessStatisticsContext.end();
+		}
+		assertTrue(statistics.getStatementCount() <= MAX_STATEMENTS,
+				"ステートメント数が上限を超えました。" + statistics.getStatementCountMap());
+		return response;
+	}
+
+	/**
+	 * 全支出項目の表示順が期待値(親の表示順＋兄弟内の並び順)と一致すること、別ユーザの表示順が変更されないことを検証します。
+	 */
+	private void assertTreeSortOrder() {
+		Map<String, String> expected = nodeMap.values().stream()
+				.collect(Collectors.toMap(node -> node.code, this::expectedSort));
+		assertEquals(expected, loadSortMap(USER_ID));
+		assertEquals(otherUserSortMap, loadSortMap(OTHER_USER_ID));
+	}
+
+	/**
+	 * 支出項目の期待する表示順(親の表示順のレベル位置まで＋兄弟内の並び順(その他項目は99)＋後続の00)を返します。
+	 */
+	private String expectedSort(Node node) {
+		String prefix = (node.parent == null) ? "" : expectedSort(node.parent).substring(0, node.parent.level * 2);
+		String value = node.other ? MyHouseholdAccountBookContent.OTHER_SISYUTU_ITEM_SORT_VALUE
+				: String.format("%02d", siblings(node).indexOf(node) + 1);
+		return (prefix + value + "0000000000").substring(0, 10);
+	}
+
+	/**
+	 * 支出項目の兄弟(自身を含む)のリストを返します。
+	 */
+	private List<Node> siblings(Node node) {
+		return (node.parent == null) ? roots : node.parent.children;
+	}
+
+	/**
+	 * 指定ユーザの支出項目コードと表示順のマップを取得します。
+	 */
+	private Map<String, String> loadSortMap(String userId) {
+		return jdbcTemplate.queryForList(
+				"SELECT SISYUTU_ITEM_CODE, SISYUTU_ITEM_SORT FROM SISYUTU_ITEM_TABLE WHERE USER_ID = ?", userId).stream()
+				.collect(Collectors.toMap(row -> (String) row.get("SISYUTU_ITEM_CODE"), row -> (String) row.get("SISYUTU_ITEM_SORT")));
+	}
+
+	/**
+	 * 支出項目入力フォームを生成します。
+	 */
+	private ExpenditureItemInfoForm createForm(String action, String code, String parentCode, int level, String sort) {
+		ExpenditureItemInfoForm form = new ExpenditureItemInfoForm();
+		form.setAction(action);
+		form.setSisyutuItemCode(code);
+		form.setSisyutuItemName((code == null) ? "新規項目" : "項目" + code);
+		form.setParentSisyutuItemCode(parentCode);
+		form.setSisyutuItemLevel(String.valueOf(level));
+		form.setSisyutuItemSort(sort);
+		form.setEnableUpdateFlg(true);
+		return form;
+	}
+}
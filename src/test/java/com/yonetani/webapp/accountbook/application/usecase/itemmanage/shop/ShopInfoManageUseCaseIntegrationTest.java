@@ -9,6 +9,7 @@
  * 更新履歴
  * 日付       : version     コメントなど
  * 2025/01/19 : 2.00.00(B)  新規作成
+ * 2026/10/17 : 1.02.00     店舗の表示順の一括変更(並び替え)のテストを追加
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop;
@@ -864,6 +865,109 @@ class ShopInfoManageUseCaseIntegrationTest {
 				"例外メッセージが等しいこと");
 	}
 	
+	/**
+	 * 並び替えた店舗一覧の順に表示順が一括で更新されることを確認します。
+	 * (表示順：001,002,003→003,001,002 ※変更不可の店舗(901～903)の表示順は変更なし)
+	 * {@link com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop.ShopInfoManageUseCase#execSortAction(com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo, java.util.List)} のためのテスト・メソッド。
+	 */
+	@Test
+	@Sql(scripts = "ReadShopInfoQueryResultSixTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	void testExecSortAction() {
+		// 店舗コード003を先頭に並び替え
+		ShopInfoManageResponse res = service.execSortAction(TEST_USER, List.of("003", "001", "002"));
+		// 更新完了のメッセージが設定されていること
+		if(res.getMessagesList().size() != 1) {
+			fail("更新完了のレスポンスメッセージが設定されていない");
+		} else {
+			assertEquals("店舗の表示順を変更しました。[変更件数:3]", res.getMessagesList().get(0), "更新完了のメッセージが設定されていること");
+		}
+		// トランザクションが完了のステータスになっていること
+		assertTrue(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていること");
+		
+		// DBデータの表示順の値更新結果が正しいこと(店舗コード順)
+		List<ShopReadWriteDto> resultList = execQueryAllShopList();
+		assertEquals(6, resultList.size(), "テストユーザの店舗情報が6件であること");
+		assertEquals("002", resultList.get(0).getShopSort(), "店舗コード001の店舗表示順が002であること");
+		assertEquals("003", resultList.get(1).getShopSort(), "店舗コード002の店舗表示順が003であること");
+		assertEquals("001", resultList.get(2).getShopSort(), "店舗コード003の店舗表示順が001であること");
+		assertEquals("901", resultList.get(3).getShopSort(), "店舗コード901の店舗表示順が901であること");
+		assertEquals("902", resultList.get(4).getShopSort(), "店舗コード902の店舗表示順が902であること");
+		assertEquals("903", resultList.get(5).getShopSort(), "店舗コード903の店舗表示順が903であること");
+		// 店舗名などの表示順以外の値は変更されないこと
+		assertEquals("テストユーザ登録店舗０３", resultList.get(2).getShopName(), "店舗名が変更されていないこと");
+		assertEquals("903", resultList.get(2).getShopKubunCode(), "店舗区分コードが変更されていないこと");
+	}
+	
+	/**
+	 * 表示順が変わった店舗のみ更新されることを確認します。
+	 * (表示順：001,002,003→001,003,002)
+	 * {@link com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop.ShopInfoManageUseCase#execSortAction(com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo, java.util.List)} のためのテスト・メソッド。
+	 */
+	@Test
+	@Sql(scripts = "ReadShopInfoQueryResultSixTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	void testExecSortActionPartial() {
+		ShopInfoManageResponse res = service.execSortAction(TEST_USER, List.of("001", "003", "002"));
+		// 変更件数が2件であること
+		assertEquals(List.of("店舗の表示順を変更しました。[変更件数:2]"), res.getMessagesList(), "更新完了のメッセージが設定されていること");
+		assertTrue(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていること");
+		
+		List<ShopReadWriteDto> resultList = execQueryAllShopList();
+		assertEquals("001", resultList.get(0).getShopSort(), "店舗コード001の店舗表示順が001であること");
+		assertEquals("003", resultList.get(1).getShopSort(), "店舗コード002の店舗表示順が003であること");
+		assertEquals("002", resultList.get(2).getShopSort(), "店舗コード003の店舗表示順が002であること");
+	}
+	
+	/**
+	 * 並び替え前と同じ順の場合、表示順が更新されないことを確認します。
+	 * {@link com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop.ShopInfoManageUseCase#execSortAction(com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo, java.util.List)} のためのテスト・メソッド。
+	 */
+	@Test
+	@Sql(scripts = "ReadShopInfoQueryResultSixTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	void testExecSortActionNoChange() {
+		ShopInfoManageResponse res = service.execSortAction(TEST_USER, List.of("001", "002", "003"));
+		// 変更なしのメッセージが設定されていること
+		assertEquals(List.of("店舗の表示順に変更はありませんでした。"), res.getMessagesList(), "変更なしのメッセージが設定されていること");
+		assertTrue(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていること");
+		
+		// 表示順が変更されていないこと
+		execQueryAllShopList().forEach(data -> {
+			assertEquals(data.getShopCode(), data.getShopSort(), "店舗コードと店舗表示順の値が等しいこと");
+		});
+	}
+	
+	/**
+	 * 並び替えた店舗一覧が登録済みの店舗(変更可能分)と一致しない場合、表示順が更新されずエラーメッセージが設定されることを確認します。
+	 * (店舗の不足、変更不可の店舗の指定、重複した店舗の指定、未指定)
+	 * {@link com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop.ShopInfoManageUseCase#execSortAction(com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo, java.util.List)} のためのテスト・メソッド。
+	 */
+	@Test
+	@Sql(scripts = "ReadShopInfoQueryResultSixTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	void testExecSortActionStaleList() {
+		List<List<String>> invalidLists = new ArrayList<>();
+		// 店舗の不足
+		invalidLists.add(List.of("002", "001"));
+		// 変更不可の店舗の指定
+		invalidLists.add(List.of("002", "001", "901"));
+		// 重複した店舗の指定
+		invalidLists.add(List.of("002", "002", "001"));
+		// 未指定
+		invalidLists.add(null);
+		
+		invalidLists.forEach(shopCodeList -> {
+			ShopInfoManageResponse res = service.execSortAction(TEST_USER, shopCodeList);
+			// エラーメッセージが設定されていること
+			assertEquals(List.of("店舗一覧が最新ではないため表示順を変更できませんでした。表示された店舗一覧で再度並び替えてください。"),
+					res.getMessagesList(), "エラーメッセージが設定されていること:" + shopCodeList);
+			// トランザクションが完了のステータスになっていないこと
+			assertFalse(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていないこと:" + shopCodeList);
+		});
+		
+		// 表示順が変更されていないこと
+		execQueryAllShopList().forEach(data -> {
+			assertEquals(data.getShopCode(), data.getShopSort(), "店舗コードと店舗表示順の値が等しいこと");
+		});
+	}
+	
 	/**
 	 *<pre>
 	 * 店舗グループの選択ボックス情報(固定値)をリスト形式で取得
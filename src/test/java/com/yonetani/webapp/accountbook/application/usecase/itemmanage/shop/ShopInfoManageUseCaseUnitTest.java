@@ -6,6 +6,8 @@
  * 更新履歴
  * 日付       : version     コメントなど
  * 2025/02/11 : 2.00.00(B)  新規作成
+ * 2026/10/17 : 1.02.00     店舗情報の参照を店舗情報キャッシュ経由に変更
+ * 2026/10/17 : 1.02.00     既存データの表示順調整のJDBCバッチによる一括更新に対応
  *
  */
 package com.yonetani.webapp.accountbook.application.usecase.itemmanage.shop;
@@ -27,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ui.ModelMap;
 
 import com.yonetani.webapp.accountbook.application.usecase.common.CodeTableItemComponent;
+import com.yonetani.webapp.accountbook.application.usecase.common.ShopInquiryCacheComponent;
 import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
 import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
 import com.yonetani.webapp.accountbook.domain.model.account.shop.Shop;
@@ -70,6 +73,10 @@ class ShopInfoManageUseCaseUnitTest {
 	@Mock
 	private ShopTableRepository shopRepository;
 	
+	// モック:店舗情報キャッシュ
+	@Mock
+	private ShopInquiryCacheComponent shopCache;
+	
 	// ユーザ情報
 	private final LoginUserInfo TEST_USER = LoginUserInfo.from("TESTUSER001", "テストユーザ01");
 	
@@ -107,7 +114,7 @@ class ShopInfoManageUseCaseUnitTest {
 		shopGroupList.add(CodeAndValuePair.from("901", "食品・日用品店舗"));
 		doReturn(shopGroupList).when(codeTableItem).getCodeValues(MyHouseholdAccountBookContent.CODE_DEFINES_SHOP_KUBUN);
 		// 検索結果0件を登録
-		doReturn(ShopInquiryList.from(null)).when(shopRepository).findById(SearchQueryUserId.from(UserId.from(TEST_USER.getUserId())));
+		doReturn(ShopInquiryList.from(null)).when(shopCache).getShopList(UserId.from(TEST_USER.getUserId()));
 		// 検索条件に対応する店情報0件で画面表示情報を取得
 		ShopInfoManageResponse res = service.readShopInfo(TEST_USER);
 		
@@ -135,7 +142,7 @@ class ShopInfoManageUseCaseUnitTest {
 		shopGroupList.add(CodeAndValuePair.from("903", "衣類店舗"));
 		doReturn(shopGroupList).when(codeTableItem).getCodeValues(MyHouseholdAccountBookContent.CODE_DEFINES_SHOP_KUBUN);
 		// 検索結果0件を登録
-		doReturn(ShopInquiryList.from(null)).when(shopRepository).findById(SearchQueryUserId.from(UserId.from(TEST_USER.getUserId())));
+		doReturn(ShopInquiryList.from(null)).when(shopCache).getShopList(UserId.from(TEST_USER.getUserId()));
 		// 検索条件に対応する店情報0件で画面表示情報を取得
 		ShopInfoManageResponse res = service.readShopInfo(TEST_USER);
 		
@@ -228,7 +235,9 @@ class ShopInfoManageUseCaseUnitTest {
 		assertTrue(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていること");
 		
 		// 表示順の更新処理が呼ばれないこと
-		verify(shopRepository, never()).updateShopSort(any());
+		verify(shopRepository, never()).updateShopSortAll(any());
+		// 店舗情報キャッシュが破棄されること
+		verify(shopCache).evict(userID);
 		
 		// addメソッドに渡された引数の値を確認
 		Shop addShop = addCaptor.getValue();
@@ -347,7 +356,7 @@ class ShopInfoManageUseCaseUnitTest {
 		assertTrue(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていること");
 		
 		// 表示順の更新処理が呼ばれないこと
-		verify(shopRepository, never()).updateShopSort(any());
+		verify(shopRepository, never()).updateShopSortAll(any());
 		
 		// updateメソッドに渡された引数の値を確認
 		Shop updShop = updateCaptor.getValue();
@@ -397,7 +406,7 @@ class ShopInfoManageUseCaseUnitTest {
 		assertTrue(res.isTransactionSuccessFull(), "トランザクションが完了のステータスになっていること");
 		
 		// 表示順の更新処理が呼ばれないこと
-		verify(shopRepository, never()).updateShopSort(any());
+		verify(shopRepository, never()).updateShopSortAll(any());
 		
 		// updateメソッドに渡された引数の値を確認
 		Shop addShop = updateCaptor.getValue();
@@ -456,8 +465,9 @@ class ShopInfoManageUseCaseUnitTest {
 		UserId userID = UserId.from(TEST_USER.getUserId());
 		// 更新テスト用フォームデータを作成
 		ShopInfoForm form = inputUpdShopInfoForm("002");
-		// 店舗情報取得リポジトリー(ShopTableRepository)のupdateShopSortメソッドに渡された引数の値をキャプチャー
-		ArgumentCaptor<Shop> updateShopSortCaptor = ArgumentCaptor.forClass(Shop.class);
+		// 店舗情報取得リポジトリー(ShopTableRepository)のupdateShopSortAllメソッドに渡された引数の値をキャプチャー
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Shop>> updateShopSortCaptor = ArgumentCaptor.forClass(List.class);
 		// 現在の900番以下の件数に10件を設定
 		doReturn(10).when(shopRepository).countByIdAndLessThanNineHundred(SearchQueryUserId.from(userID));
 		// 指定した店舗表示順A～店舗表示順B間の店舗情報を取得で空を返却(sortList.isEmpty()の結果が空の場合のカバレッジもここで行う)
@@ -480,7 +490,7 @@ class ShopInfoManageUseCaseUnitTest {
 		// 更新時の戻り値に1を指定
 		doReturn(1).when(shopRepository).update(any());
 		// 既存データのソート順の更新の戻り値に0を指定
-		doReturn(0).when(shopRepository).updateShopSort(updateShopSortCaptor.capture());
+		doReturn(new int[] {0}).when(shopRepository).updateShopSortAll(updateShopSortCaptor.capture());
 		
 		// 既存店舗情報の更新件数が1件以外の場合、業務エラーとなること
 		MyHouseholdAccountBookRuntimeException ex = assertThrows(
@@ -488,7 +498,7 @@ class ShopInfoManageUseCaseUnitTest {
 				() -> service.execAction(TEST_USER, form),
 				"更新件数が1件以外の場合、業務エラーとなること");
 		assertEquals(
-				"店舗テーブルへの更新件数が不正でした。[件数=0][update data:" + updateShopSortCaptor.getValue() + "]",
+				"店舗テーブルへの更新件数が不正でした。[件数=0][update data:" + updateShopSortCaptor.getValue().get(0) + "]",
 				ex.getLocalizedMessage(),
 				"例外メッセージが等しいこと");
 	}
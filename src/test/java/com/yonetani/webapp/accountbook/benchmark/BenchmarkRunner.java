@@ -0,0 +1,72 @@
+/**
+ * ベンチマークを一括で実行し、計測結果をJSON形式で出力するクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *<pre>
+ * ベンチマークを一括で実行し、計測結果をJSON形式で出力するクラスです。
+ * 出力したJSONファイルをリリース間で比較することで、性能の劣化を確認できます。
+ *
+ * [実行方法]
+ * mvn -Pbenchmark test
+ *
+ * ・出力先はシステムプロパティ「benchmark.result」で指定します(未指定時はtarget/jmh-result.json)
+ * ・引数にはJMHのコマンドラインオプションを指定できます(例: 実行するベンチマークの正規表現、-f 1 -wi 1 など)
+ * ・ベンチマークの正規表現を指定しない場合、本パッケージのベンチマークをすべて実行します
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+public class BenchmarkRunner {
+
+	// 計測結果の出力先のデフォルト値
+	private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+	/**
+	 *<pre>
+	 * インスタンス化不可
+	 *</pre>
+	 */
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 *<pre>
+	 * ベンチマークを実行し、計測結果をJSON形式で出力します。
+	 *</pre>
+	 * @param args JMHのコマンドラインオプション
+	 * @throws RunnerException ベンチマークの実行に失敗した場合
+	 * @throws CommandLineOptionException コマンドラインオプションが不正な場合
+	 *
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder()
+				.parent(commandLineOptions)
+				.resultFormat(ResultFormatType.JSON)
+				.result(System.getProperty("benchmark.result", DEFAULT_RESULT_FILE));
+		// ベンチマークの指定がない場合は本パッケージのベンチマークをすべて実行
+		if(commandLineOptions.getIncludes().isEmpty()) {
+			builder.include(BenchmarkRunner.class.getPackageName() + "\\..*Benchmark\\.");
+		}
+		new Runner(builder.build()).run();
+	}
+}
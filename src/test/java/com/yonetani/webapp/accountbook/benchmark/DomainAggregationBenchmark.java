@@ -0,0 +1,287 @@
+/**
+ * ドメインモデルの集計処理のマイクロベンチマークです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  支出項目情報コンポーネントの最大キャッシュ件数の指定に対応
+ *
+ */
+package com.yonetani.webapp.accountbook.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import com.yonetani.webapp.accountbook.application.usecase.common.ExpenditureItemInfoComponent;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemHolder;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfo;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo.ExpenditureItemInfoInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.fixedcost.FixedCostAnnualSummaryList;
+import com.yonetani.webapp.accountbook.domain.model.account.fixedcost.FixedCostAnnualSummaryList.FixedCostAnnualSummaryItem;
+import com.yonetani.webapp.accountbook.domain.model.account.fixedcost.FixedCostInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.fixedcost.FixedCostInquiryList.FixedCostInquiryItem;
+import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearMeisaiInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearMeisaiInquiryList.MeisaiInquiryListItem;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserId;
+import com.yonetani.webapp.accountbook.domain.repository.account.expenditureinfo.SisyutuItemTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostPaymentAmount;
+import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostTargetPaymentMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ *<pre>
+ * ドメインモデルの集計処理のマイクロベンチマークです。
+ * 合成したテストデータ(DBアクセスなし)を使用して、以下の集計処理の処理時間を計測します。
+ * ・expenditureAmountItemHolderAdd    : 支出金額テーブル情報ホルダーへの支出情報500件の追加
+ * ・expenditureAmountItemHolderUpdate : 支出金額テーブル情報ホルダーへの支出情報500件の更新
+ * ・expenditureAmountItemHolderDelete : 支出金額テーブル情報ホルダーへの支出情報500件の削除
+ * ・fixedCostAnnualSummaryList        : 固定費年間集計(FixedCostAnnualSummaryList.from)
+ * ・fixedCostMonthlyTotal             : 固定費の月合計(FixedCostInquiryList.calculateMonthlyTotal)の12か月分
+ * ・accountYearMeisaiInquiryList      : 年間収支(明細)の合計値計算(AccountYearMeisaiInquiryList.from)
+ *
+ * 支出項目は3階層(レベル1:10件、レベル2:30件、レベル3:90件)のツリーで、支出情報はレベル3の支出項目に登録します。
+ *
+ * [実行方法]
+ * テストクラスをコンパイル後、mainメソッドを実行してください。
+ * 全ベンチマークをまとめて実行し、結果をJSONで出力する場合はBenchmarkRunnerを実行してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainAggregationBenchmark {
+
+	// ユーザID
+	private static final String USER_ID = "BENCHMARK-USER";
+	// 支出情報の件数
+	private static final int EXPENDITURE_COUNT = 500;
+	// 固定費の件数
+	private static final int FIXED_COST_COUNT = 200;
+	// 固定費支払月コード(毎月、奇数月、偶数月、その他任意、1月～12月)
+	private static final String[] PAYMENT_MONTH_CODES = {
+			"00", "20", "30", "40", "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "12"};
+	// 固定費年間集計の集計対象となるレベル1・レベル2の支出項目コード
+	private static final String[][] SUMMARY_ITEM_CODES = {
+			{"0023", null}, {"0023", "0029"}, {"0023", "0031"}, {"0023", "0033"},
+			{"0013", null}, {"0001", null}, {"0045", null}, {"0049", null}, {"0056", null}};
+
+	// 支出項目情報取得コンポーネント(支出項目テーブルは合成データを返すモック)
+	private ExpenditureItemInfoComponent expenditureItemInfoComponent;
+	// 支出情報(更新前)
+	private List<ExpenditureItem> expenditureList;
+	// 支出情報(更新後)
+	private List<ExpenditureItem> updatedExpenditureList;
+	// 固定費年間集計の集計対象
+	private List<FixedCostAnnualSummaryItem> annualSummaryItemList;
+	// 固定費一覧
+	private FixedCostInquiryList fixedCostInquiryList;
+	// 集計対象の年月(12か月分)
+	private List<TargetYearMonth> targetYearMonthList;
+	// 年間収支(明細)の各月の値
+	private List<MeisaiInquiryListItem> meisaiItemList;
+
+	/**
+	 *<pre>
+	 * 合成したテストデータを生成します。
+	 *</pre>
+	 */
+	@Setup
+	public void setUp() {
+		// ログ設定ファイルを読み込まないため、アプリケーションと同じINFOレベルに設定(デバッグログの出力時間を計測に含めない)
+		((Logger)LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+		Random random = new Random(20261017L);
+
+		// 支出項目ツリー(3階層)
+		List<ExpenditureItemInfo> itemInfoList = new ArrayList<>();
+		List<String> leafCodeList = new ArrayList<>();
+		int code = 0;
+		for(int level1 = 1; level1 <= 10; level1++) {
+			String level1Code = String.format("%04d", ++code);
+			itemInfoList.add(itemInfo(level1Code, level1Code, "1", String.format("%02d00000000", level1)));
+			for(int level2 = 1; level2 <= 3; level2++) {
+				String level2Code = String.format("%04d", ++code);
+				itemInfoList.add(itemInfo(level2Code, level1Code, "2", String.format("%02d%02d000000", level1, level2)));
+				for(int level3 = 1; level3 <= 3; level3++) {
+					String level3Code = String.format("%04d", ++code);
+					itemInfoList.add(itemInfo(level3Code, level2Code, "3", String.format("%02d%02d%02d0000", level1, level2, level3)));
+					leafCodeList.add(level3Code);
+				}
+			}
+		}
+		SisyutuItemTableRepository sisyutuItemRepository = mock(SisyutuItemTableRepository.class);
+		when(sisyutuItemRepository.findByUserId(any(SearchQueryUserId.class)))
+			.thenReturn(ExpenditureItemInfoInquiryList.from(itemInfoList));
+		expenditureItemInfoComponent = new ExpenditureItemInfoComponent(sisyutuItemRepository, 100);
+
+		// 支出情報(支出区分は1:無駄遣いなし、2:無駄遣いB、3:無駄遣いC)
+		expenditureList = new ArrayList<>(EXPENDITURE_COUNT);
+		updatedExpenditureList = new ArrayList<>(EXPENDITURE_COUNT);
+		for(int i = 0; i < EXPENDITURE_COUNT; i++) {
+			String itemCode = leafCodeList.get(random.nextInt(leafCodeList.size()));
+			String expenditureCode = String.format("%03d", i + 1);
+			expenditureList.add(expenditure(expenditureCode, itemCode, String.valueOf(random.nextInt(3) + 1),
+					1 + random.nextInt(28), randomAmount(random)));
+			updatedExpenditureList.add(expenditure(expenditureCode, itemCode, String.valueOf(random.nextInt(3) + 1),
+					1 + random.nextInt(28), randomAmount(random)));
+		}
+
+		// 固定費
+		annualSummaryItemList = new ArrayList<>(FIXED_COST_COUNT);
+		List<FixedCostInquiryItem> fixedCostItemList = new ArrayList<>(FIXED_COST_COUNT);
+		for(int i = 0; i < FIXED_COST_COUNT; i++) {
+			String paymentMonth = PAYMENT_MONTH_CODES[random.nextInt(PAYMENT_MONTH_CODES.length)];
+			BigDecimal amount = randomAmount(random);
+			String[] summaryItemCode = SUMMARY_ITEM_CODES[random.nextInt(SUMMARY_ITEM_CODES.length)];
+			annualSummaryItemList.add(FixedCostAnnualSummaryItem.from(
+					FixedCostTargetPaymentMonth.from(paymentMonth),
+					FixedCostPaymentAmount.from(amount),
+					summaryItemCode[0],
+					summaryItemCode[1]));
+			fixedCostItemList.add(FixedCostInquiryItem.from(
+					String.format("%04d", i + 1), "固定費" + i, "", "支出項目" + i,
+					paymentMonth, null, "27", amount));
+		}
+		fixedCostInquiryList = FixedCostInquiryList.from(fixedCostItemList);
+		targetYearMonthList = new ArrayList<>(12);
+		for(int month = 1; month <= 12; month++) {
+			targetYearMonthList.add(TargetYearMonth.from(String.format("2025%02d", month)));
+		}
+
+		// 年間収支(明細)
+		meisaiItemList = new ArrayList<>(12);
+		for(int month = 1; month <= 12; month++) {
+			BigDecimal minorWaste = randomAmount(random);
+			BigDecimal severeWaste = randomAmount(random);
+			BigDecimal expenditure = randomAmount(random).add(minorWaste).add(severeWaste);
+			BigDecimal income = randomAmount(random).add(expenditure);
+			meisaiItemList.add(MeisaiInquiryListItem.from(
+					String.format("%02d", month),
+					income,
+					month % 3 == 0 ? randomAmount(random) : null,
+					randomAmount(random),
+					randomAmount(random),
+					randomAmount(random),
+					randomAmount(random),
+					randomAmount(random),
+					randomAmount(random),
+					minorWaste,
+					severeWaste,
+					expenditure,
+					income.subtract(expenditure)));
+		}
+	}
+
+	@Benchmark
+	public ExpenditureAmountItemHolder expenditureAmountItemHolderAdd() {
+		ExpenditureAmountItemHolder holder = ExpenditureAmountItemHolder.from(expenditureItemInfoComponent);
+		for(ExpenditureItem expenditure : expenditureList) {
+			holder.add(expenditure);
+		}
+		return holder;
+	}
+
+	@Benchmark
+	public ExpenditureAmountItemHolder expenditureAmountItemHolderUpdate() {
+		ExpenditureAmountItemHolder holder = ExpenditureAmountItemHolder.from(expenditureItemInfoComponent);
+		for(int i = 0; i < EXPENDITURE_COUNT; i++) {
+			holder.update(expenditureList.get(i), updatedExpenditureList.get(i));
+		}
+		return holder;
+	}
+
+	@Benchmark
+	public ExpenditureAmountItemHolder expenditureAmountItemHolderDelete() {
+		ExpenditureAmountItemHolder holder = ExpenditureAmountItemHolder.from(expenditureItemInfoComponent);
+		for(ExpenditureItem expenditure : expenditureList) {
+			holder.delete(expenditure);
+		}
+		return holder;
+	}
+
+	@Benchmark
+	public FixedCostAnnualSummaryList fixedCostAnnualSummaryList() {
+		return FixedCostAnnualSummaryList.from(annualSummaryItemList);
+	}
+
+	@Benchmark
+	public void fixedCostMonthlyTotal(Blackhole blackhole) {
+		for(TargetYearMonth targetYearMonth : targetYearMonthList) {
+			blackhole.consume(fixedCostInquiryList.calculateMonthlyTotal(targetYearMonth));
+		}
+	}
+
+	@Benchmark
+	public AccountYearMeisaiInquiryList accountYearMeisaiInquiryList() {
+		return AccountYearMeisaiInquiryList.from(meisaiItemList);
+	}
+
+	/**
+	 * 1円～10万円程度のランダムな金額(スケール2)を生成します。
+	 */
+	private static BigDecimal randomAmount(Random random) {
+		return BigDecimal.valueOf(100 + random.nextInt(10_000_000), 2);
+	}
+
+	/**
+	 * 支出項目情報を生成します。
+	 */
+	private static ExpenditureItemInfo itemInfo(String code, String parentCode, String level, String sortOrder) {
+		return ExpenditureItemInfo.from(USER_ID, code, "支出項目" + code, "", parentCode, level, sortOrder, true);
+	}
+
+	/**
+	 * 支出情報を生成します。
+	 */
+	private static ExpenditureItem expenditure(String expenditureCode, String itemCode, String category, int day, BigDecimal amount) {
+		return ExpenditureItem.from(USER_ID, "2025", "11", expenditureCode, itemCode, null,
+				"支出" + expenditureCode, category, "", LocalDate.of(2025, 11, day), amount, amount, false);
+	}
+
+	/**
+	 *<pre>
+	 * ベンチマークを実行します。
+	 *</pre>
+	 * @param args 未使用
+	 * @throws RunnerException ベンチマークの実行に失敗した場合
+	 *
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DomainAggregationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
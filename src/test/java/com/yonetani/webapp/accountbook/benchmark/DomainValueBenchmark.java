@@ -0,0 +1,167 @@
+/**
+ * 金額・日付のドメインタイプの演算処理のマイクロベンチマークです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.MinorWasteExpenditureAmount;
+import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.WithdrawingAmount;
+import com.yonetani.webapp.accountbook.domain.type.common.ExpenditureAmount;
+import com.yonetani.webapp.accountbook.domain.type.common.PaymentDate;
+
+/**
+ *<pre>
+ * 金額・日付のドメインタイプの演算処理のマイクロベンチマークです。
+ * 一覧画面1ページ分(256件)の値に対して、以下の処理時間を計測します。
+ * ・moneyAdd                    : 金額(Money)の加算
+ * ・moneyToFormatString         : 金額(Money)の表示用文字列編集
+ * ・nullableMoneyAdd            : null許容金額(NullableMoney)の加算(null値を含む)
+ * ・nullableMoneyToFormatString : null許容金額(NullableMoney)の表示用文字列編集(null値を含む)
+ * ・parseDate                   : 日付文字列(yyyyMMdd)のパース(DateValue.parseDate)
+ * ・parseYearMonthAndDay        : 年月(yyyyMM)と日(dd)からのパース(DateValue.parseDate)
+ *
+ * [実行方法]
+ * テストクラスをコンパイル後、mainメソッドを実行してください。
+ * 全ベンチマークをまとめて実行し、結果をJSONで出力する場合はBenchmarkRunnerを実行してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainValueBenchmark {
+
+	// 1回の計測で処理する値の件数
+	private static final int VALUE_COUNT = 256;
+
+	// 支出金額
+	private ExpenditureAmount[] expenditureAmounts;
+	// 積立金取崩金額(1/4はnull値)
+	private WithdrawingAmount[] withdrawingAmounts;
+	// 無駄遣い（軽度）支出金額(1/4はnull値)
+	private MinorWasteExpenditureAmount[] minorWasteAmounts;
+	// 日付文字列(yyyyMMdd)
+	private String[] dateStrings;
+	// 年月(yyyyMM)
+	private String[] yearMonths;
+	// 日(dd)
+	private String[] days;
+
+	/**
+	 *<pre>
+	 * 処理する値を生成します。
+	 *</pre>
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(20261017L);
+		expenditureAmounts = new ExpenditureAmount[VALUE_COUNT];
+		withdrawingAmounts = new WithdrawingAmount[VALUE_COUNT];
+		minorWasteAmounts = new MinorWasteExpenditureAmount[VALUE_COUNT];
+		dateStrings = new String[VALUE_COUNT];
+		yearMonths = new String[VALUE_COUNT];
+		days = new String[VALUE_COUNT];
+		for(int i = 0; i < VALUE_COUNT; i++) {
+			// 1円～100万円程度の金額
+			BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(100_000_000), 2);
+			expenditureAmounts[i] = ExpenditureAmount.from(amount);
+			withdrawingAmounts[i] = WithdrawingAmount.from(i % 4 == 0 ? null : amount);
+			minorWasteAmounts[i] = MinorWasteExpenditureAmount.from(i % 4 == 1 ? null : amount);
+			yearMonths[i] = String.format("20%02d%02d", 20 + random.nextInt(10), 1 + random.nextInt(12));
+			days[i] = String.format("%02d", 1 + random.nextInt(28));
+			dateStrings[i] = yearMonths[i] + days[i];
+		}
+	}
+
+	@Benchmark
+	public ExpenditureAmount moneyAdd() {
+		ExpenditureAmount total = ExpenditureAmount.ZERO;
+		for(ExpenditureAmount value : expenditureAmounts) {
+			total = total.add(value);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public void moneyToFormatString(Blackhole blackhole) {
+		for(ExpenditureAmount value : expenditureAmounts) {
+			blackhole.consume(value.toFormatString());
+		}
+	}
+
+	@Benchmark
+	public void nullableMoneyAdd(Blackhole blackhole) {
+		WithdrawingAmount withdrawingTotal = WithdrawingAmount.from((BigDecimal)null);
+		MinorWasteExpenditureAmount minorWasteTotal = MinorWasteExpenditureAmount.from(null);
+		for(int i = 0; i < VALUE_COUNT; i++) {
+			withdrawingTotal = withdrawingTotal.add(withdrawingAmounts[i]);
+			minorWasteTotal = minorWasteTotal.add(minorWasteAmounts[i]);
+		}
+		blackhole.consume(withdrawingTotal);
+		blackhole.consume(minorWasteTotal);
+	}
+
+	@Benchmark
+	public void nullableMoneyToFormatString(Blackhole blackhole) {
+		for(WithdrawingAmount value : withdrawingAmounts) {
+			blackhole.consume(value.toFormatString());
+		}
+	}
+
+	@Benchmark
+	public void parseDate(Blackhole blackhole) {
+		for(String dateString : dateStrings) {
+			blackhole.consume(PaymentDate.from(dateString));
+		}
+	}
+
+	@Benchmark
+	public void parseYearMonthAndDay(Blackhole blackhole) {
+		for(int i = 0; i < VALUE_COUNT; i++) {
+			blackhole.consume(PaymentDate.from(yearMonths[i], days[i]));
+		}
+	}
+
+	/**
+	 *<pre>
+	 * ベンチマークを実行します。
+	 *</pre>
+	 * @param args 未使用
+	 * @throws RunnerException ベンチマークの実行に失敗した場合
+	 *
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DomainValueBenchmark.class.getSimpleName()).build()).run();
+	}
+}
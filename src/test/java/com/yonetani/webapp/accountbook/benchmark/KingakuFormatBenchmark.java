@@ -0,0 +1,136 @@
+/**
+ * 金額のカンマ編集処理のマイクロベンチマークです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.yonetani.webapp.accountbook.domain.utils.KingakuFormatUtils;
+
+/**
+ *<pre>
+ * 金額のカンマ編集処理のマイクロベンチマークです。
+ * 以下の編集方法で、一覧画面1ページ分(256件)の金額を編集する処理時間を比較します。
+ * ・legacyDecimalFormat : 従来のDomainCommonUtils(共有のDecimalFormatをsynchronizedで排他)
+ * ・legacyStringFormat  : 従来のMoney.toFormatString(String.format("%,d円"))
+ * ・kingakuFormatUtils  : KingakuFormatUtils(同期化なし)
+ * 末尾が「Contended」のベンチマークは8スレッドで同時に実行し、排他による待ちの影響を計測します。
+ *
+ * [実行方法]
+ * テストクラスをコンパイル後、mainメソッドを実行してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KingakuFormatBenchmark {
+
+	// 1回の計測で編集する金額の件数
+	private static final int VALUE_COUNT = 256;
+	// 従来の金額のカンマ区切りフォーマッター
+	private static final DecimalFormat LEGACY_FORMAT = new DecimalFormat("#,###");
+
+	// 編集する金額(スケール2)
+	private BigDecimal[] values;
+
+	/**
+	 *<pre>
+	 * 編集する金額を生成します。
+	 *</pre>
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(20261017L);
+		values = new BigDecimal[VALUE_COUNT];
+		for(int i = 0; i < VALUE_COUNT; i++) {
+			// 1円～1億円程度の金額
+			values[i] = BigDecimal.valueOf(Math.floorMod(random.nextLong(), 10_000_000_000L), 2);
+		}
+	}
+
+	/**
+	 * 従来のDomainCommonUtils.formatKingakuAndYenの処理です。
+	 */
+	private static synchronized String legacyFormatKingakuAndYen(BigDecimal value) {
+		return LEGACY_FORMAT.format(value.setScale(0, RoundingMode.HALF_UP)) + "円";
+	}
+
+	@Benchmark
+	public void legacyDecimalFormat(Blackhole blackhole) {
+		for(BigDecimal value : values) {
+			blackhole.consume(legacyFormatKingakuAndYen(value));
+		}
+	}
+
+	@Benchmark
+	public void legacyStringFormat(Blackhole blackhole) {
+		for(BigDecimal value : values) {
+			blackhole.consume(String.format("%,d円", value.setScale(0, RoundingMode.HALF_UP).longValue()));
+		}
+	}
+
+	@Benchmark
+	public void kingakuFormatUtils(Blackhole blackhole) {
+		for(BigDecimal value : values) {
+			blackhole.consume(KingakuFormatUtils.formatYen(KingakuFormatUtils.round(value)));
+		}
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void legacyDecimalFormatContended(Blackhole blackhole) {
+		legacyDecimalFormat(blackhole);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void kingakuFormatUtilsContended(Blackhole blackhole) {
+		kingakuFormatUtils(blackhole);
+	}
+
+	/**
+	 *<pre>
+	 * ベンチマークを実行します。
+	 *</pre>
+	 * @param args 未使用
+	 * @throws RunnerException ベンチマークの実行に失敗した場合
+	 *
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(KingakuFormatBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * 金額(Money)の演算処理のマイクロベンチマークです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostPaymentAmount;
+import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostPaymentTotalAmount;
+import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.TotalAvailableFunds;
+import com.yonetani.webapp.accountbook.domain.type.common.BalanceAmount;
+import com.yonetani.webapp.accountbook.domain.type.common.ExpenditureAmount;
+
+/**
+ *<pre>
+ * 金額(Money)の演算処理のマイクロベンチマークです。
+ * 一覧画面1ページ分(256件)の金額に対して、集計・表示で使用する演算の処理時間を計測します。
+ * ・legacyBigDecimalSum       : 従来の内部表現(BigDecimal スケール2)での加算と値チェック(比較基準)
+ * ・expenditureAmountSum      : 支出金額の加算
+ * ・expenditureAmountSubtract : 支出金額の減算
+ * ・fixedCostPaymentTotal     : 支払金額合計の累積(固定費の年間集計と同じ処理)
+ * ・balanceAmountCalculate    : 収支金額の算出
+ * ・legacyToFormatString      : 従来の内部表現での表示用文字列編集(比較基準)
+ * ・toFormatString            : 表示用文字列編集
+ *
+ * [実行方法]
+ * テストクラスをコンパイル後、mainメソッドを実行してください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+	// 1回の計測で演算する金額の件数
+	private static final int VALUE_COUNT = 256;
+
+	// 演算する金額(スケール2)
+	private BigDecimal[] values;
+	// 支出金額
+	private ExpenditureAmount[] expenditureAmounts;
+	// 支払金額
+	private FixedCostPaymentAmount[] paymentAmounts;
+	// 収支の算出に使用する積立金取崩し前の収支(合計)
+	private TotalAvailableFunds[] availableFunds;
+
+	/**
+	 *<pre>
+	 * 演算する金額を生成します。
+	 *</pre>
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(20261017L);
+		values = new BigDecimal[VALUE_COUNT];
+		expenditureAmounts = new ExpenditureAmount[VALUE_COUNT];
+		paymentAmounts = new FixedCostPaymentAmount[VALUE_COUNT];
+		availableFunds = new TotalAvailableFunds[VALUE_COUNT];
+		for(int i = 0; i < VALUE_COUNT; i++) {
+			// 1円～100万円程度の金額
+			values[i] = BigDecimal.valueOf(Math.floorMod(random.nextLong(), 100_000_000L), 2);
+			expenditureAmounts[i] = ExpenditureAmount.from(values[i]);
+			paymentAmounts[i] = FixedCostPaymentAmount.from(values[i]);
+			availableFunds[i] = TotalAvailableFunds.from(values[i].add(values[i]));
+		}
+	}
+
+	@Benchmark
+	public BigDecimal legacyBigDecimalSum() {
+		BigDecimal total = BigDecimal.ZERO.setScale(2);
+		for(BigDecimal value : values) {
+			// 従来のMoney.addと各サブクラスの値チェック(スケール、マイナス値)
+			total = total.add(value);
+			if(total.scale() != 2 || BigDecimal.ZERO.compareTo(total) > 0) {
+				throw new IllegalStateException();
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public ExpenditureAmount expenditureAmountSum() {
+		ExpenditureAmount total = ExpenditureAmount.ZERO;
+		for(ExpenditureAmount value : expenditureAmounts) {
+			total = total.add(value);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public ExpenditureAmount expenditureAmountSubtract() {
+		ExpenditureAmount total = ExpenditureAmount.ZERO;
+		for(ExpenditureAmount value : expenditureAmounts) {
+			total = total.add(value).add(value).subtract(value);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public FixedCostPaymentTotalAmount fixedCostPaymentTotal() {
+		FixedCostPaymentTotalAmount total = FixedCostPaymentTotalAmount.ZERO;
+		for(FixedCostPaymentAmount value : paymentAmounts) {
+			total = total.add(value);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public void balanceAmountCalculate(Blackhole blackhole) {
+		for(int i = 0; i < VALUE_COUNT; i++) {
+			blackhole.consume(BalanceAmount.calculate(availableFunds[i], expenditureAmounts[VALUE_COUNT - 1 - i]));
+		}
+	}
+
+	@Benchmark
+	public void legacyToFormatString(Blackhole blackhole) {
+		for(BigDecimal value : values) {
+			blackhole.consume(String.format("%,d円", value.setScale(0, RoundingMode.HALF_UP).longValue()));
+		}
+	}
+
+	@Benchmark
+	public void toFormatString(Blackhole blackhole) {
+		for(ExpenditureAmount value : expenditureAmounts) {
+			blackhole.consume(value.toFormatString());
+		}
+	}
+
+	/**
+	 *<pre>
+	 * ベンチマークを実行します。
+	 *</pre>
+	 * @param args 未使用
+	 * @throws RunnerException ベンチマークの実行に失敗した場合
+	 *
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MoneyArithmeticBenchmark.class.getSimpleName()).build()).run();
+	}
+}
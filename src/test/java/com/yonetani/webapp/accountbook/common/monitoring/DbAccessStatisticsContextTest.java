@@ -0,0 +1,80 @@
+/**
+ * DbAccessStatisticsContextのテストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.common.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+/**
+ *<pre>
+ * DbAccessStatisticsContextのテストクラスです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@DisplayName("DBアクセス統計の計測状態(DbAccessStatisticsContext)のテスト")
+class DbAccessStatisticsContextTest {
+
+	@Test
+	@DisplayName("正常系：入れ子の計測単位に記録したステートメントが外側の計測単位にも加算されること")
+	void testNestedFrame() {
+		DbAccessStatisticsContext.begin("GET /request/");
+		DbAccessStatisticsContext.record("Mapper.select", 3, 1_000);
+		DbAccessStatisticsContext.begin("UseCase.read");
+		DbAccessStatisticsContext.record("Mapper.findByUniqueKey", 1, 2_000);
+		DbAccessStatisticsContext.record("Mapper.findByUniqueKey", 1, 3_000);
+		DbAccessStatistics useCase = DbAccessStatisticsContext.end();
+		DbAccessStatisticsContext.record("Mapper.update", 0, 4_000);
+		DbAccessStatistics request = DbAccessStatisticsContext.end();
+
+		assertEquals("UseCase.read", useCase.getName());
+		assertEquals(2, useCase.getStatementCount());
+		assertEquals(2, useCase.getRowCount());
+		assertEquals(5_000, useCase.getDbNanos());
+		assertEquals(Map.of("Mapper.findByUniqueKey", 2), useCase.getStatementCountMap());
+
+		assertEquals("GET /request/", request.getName());
+		assertEquals(4, request.getStatementCount());
+		assertEquals(5, request.getRowCount());
+		assertEquals(10_000, request.getDbNanos());
+		// 初回実行順
+		assertEquals(List.of("Mapper.select", "Mapper.findByUniqueKey", "Mapper.update"),
+				List.copyOf(request.getStatementCountMap().keySet()));
+		assertEquals(Map.of("Mapper.findByUniqueKey", 2), request.getStatementCountOver(1));
+		assertTrue(request.getStatementCountOver(2).isEmpty());
+		assertFalse(DbAccessStatisticsContext.isActive());
+	}
+
+	@Test
+	@DisplayName("正常系：計測中でない場合は記録しないこと")
+	void testRecordWithoutFrame() {
+		assertFalse(DbAccessStatisticsContext.isActive());
+		DbAccessStatisticsContext.record("Mapper.select", 1, 1_000);
+		DbAccessStatisticsContext.begin("GET /request/");
+		assertTrue(DbAccessStatisticsContext.isActive());
+		assertEquals(0, DbAccessStatisticsContext.end().getStatementCount());
+	}
+
+	@Test
+	@DisplayName("異常系：計測を開始せずに終了した場合はエラー")
+	void testEndWithoutBegin() {
+		assertThrows(MyHouseholdAccountBookRuntimeException.class, () -> DbAccessStatisticsContext.end());
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * DbAccessStatisticsRecorderのテストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.common.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ *<pre>
+ * DbAccessStatisticsRecorderのテストクラスです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@DisplayName("DBアクセス統計の記録(DbAccessStatisticsRecorder)のテスト")
+class DbAccessStatisticsRecorderTest {
+
+	/**
+	 * テスト用のDBアクセス統計を生成します。
+	 */
+	private DbAccessStatistics createStatistics(String name, Map<String, Integer> statementCountMap, long rowCount) {
+		int statementCount = statementCountMap.values().stream().mapToInt(Integer::intValue).sum();
+		return DbAccessStatistics.from(name, LocalDateTime.now(), statementCount, rowCount, 1_000_000, 2_000_000,
+				statementCountMap);
+	}
+
+	@Test
+	@DisplayName("正常系：リクエストのDBアクセス統計が新しい順に保持件数まで保持されること")
+	void testRecordRequest() {
+		DbAccessStatisticsRecorder recorder = new DbAccessStatisticsRecorder(10, 2);
+		recorder.recordRequest(createStatistics("GET /1/", Map.of("Mapper.select", 1), 1));
+		recorder.recordRequest(createStatistics("GET /2/", Map.of("Mapper.select", 1), 1));
+		recorder.recordRequest(createStatistics("GET /3/", Map.of("Mapper.select", 1), 1));
+		// ステートメントを実行していないリクエストは保持しない
+		recorder.recordRequest(createStatistics("GET /css/", Map.of(), 0));
+
+		List<DbAccessStatistics> historyList = recorder.getRequestHistoryList();
+		assertEquals(2, historyList.size());
+		assertEquals("GET /3/", historyList.get(0).getName());
+		assertEquals("GET /2/", historyList.get(1).getName());
+
+		recorder.clear();
+		assertTrue(recorder.getRequestHistoryList().isEmpty());
+	}
+
+	@Test
+	@DisplayName("正常系：保持件数が0の場合はリクエストのDBアクセス統計を保持しないこと")
+	void testRecordRequest_NoHistory() {
+		DbAccessStatisticsRecorder recorder = new DbAccessStatisticsRecorder(1, 0);
+		// 閾値超過(警告ログ出力)の場合も例外とならないこと
+		recorder.recordRequest(createStatistics("GET /1/", Map.of("Mapper.findByUniqueKey", 5), 5));
+		assertTrue(recorder.getRequestHistoryList().isEmpty());
+	}
+
+	@Test
+	@DisplayName("正常系：ユースケースのメソッドごとにDBアクセス統計が累計され、ステートメント数の合計が多い順に返されること")
+	void testRecordUseCase() {
+		DbAccessStatisticsRecorder recorder = new DbAccessStatisticsRecorder(10, 100);
+		recorder.recordUseCase(createStatistics("AUseCase.read", Map.of("Mapper.select", 2), 10));
+		recorder.recordUseCase(createStatistics("AUseCase.read", Map.of("Mapper.select", 4), 20));
+		recorder.recordUseCase(createStatistics("BUseCase.read", Map.of("Mapper.select", 10), 5));
+		recorder.recordUseCase(createStatistics("CUseCase.read", Map.of(), 0));
+
+		List<DbAccessStatisticsRecorder.UseCaseSummary> summaryList = recorder.getUseCaseSummaryList();
+		assertEquals(3, summaryList.size());
+		assertEquals("BUseCase.read", summaryList.get(0).getName());
+		DbAccessStatisticsRecorder.UseCaseSummary summary = summaryList.get(1);
+		assertEquals("AUseCase.read", summary.getName());
+		assertEquals(2, summary.getCallCount());
+		assertEquals(6, summary.getTotalStatementCount());
+		assertEquals(4, summary.getMaxStatementCount());
+		assertEquals(30, summary.getTotalRowCount());
+		assertEquals(3.0, summary.getAverageStatementCount());
+		assertEquals(15.0, summary.getAverageRowCount());
+		assertEquals(1.0, summary.getAverageDbMillis());
+		assertEquals(2.0, summary.getAverageElapsedMillis());
+		assertEquals("CUseCase.read", summaryList.get(2).getName());
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * ExpenditureItemInfoTree の単体テストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.model.account.expenditureinfo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+
+/**
+ *<pre>
+ * ExpenditureItemInfoTree の単体テストクラスです。
+ *
+ * [テストシナリオ]
+ *   ① 5階層の支出項目 → 祖先パス・表示名(＞区切り)・子の一覧が支出項目表示順で取得できること
+ *   ② 存在しない支出項目コード → 支出項目情報はnull、表示名はエラー
+ *   ③ 親の支出項目情報が存在しない → 表示名はエラー(支出項目情報自体は取得可能)
+ *   ④ 親子関係が循環している → 表示名はエラー
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+class ExpenditureItemInfoTreeTest {
+
+	@Test
+	@DisplayName("5階層の支出項目の祖先パス・表示名・子の一覧が取得できること")
+	void testFiveLevelTree() {
+		ExpenditureItemInfoTree tree = ExpenditureItemInfoTree.from(ExpenditureItemInfoInquiryList.from(List.of(
+				createItem("0001", "事業経費", "0001", "1", "0100000000"),
+				createItem("0002", "固定経費", "0001", "2", "0101000000"),
+				createItem("0003", "駐輪場代金", "0002", "3", "0101010000"),
+				createItem("0004", "電車定期券", "0002", "3", "0101020000"),
+				createItem("0005", "通勤", "0004", "4", "0101020100"),
+				createItem("0006", "定期券A", "0005", "5", "0101020101"))));
+
+		assertEquals(6, tree.size());
+		assertEquals("固定経費", tree.get(ExpenditureItemCode.from("0002")).getExpenditureItemName().getValue());
+		assertTrue(tree.contains(ExpenditureItemCode.from("0006")));
+		// 表示名
+		assertEquals("事業経費", tree.getDisplayName(ExpenditureItemCode.from("0001")));
+		assertEquals("事業経費＞固定経費＞電車定期券＞通勤＞定期券A", tree.getDisplayName(ExpenditureItemCode.from("0006")));
+		// 祖先パス(レベル1から自分自身まで)
+		assertEquals(List.of("0001", "0002", "0004", "0005", "0006"),
+				tree.getAncestorPath(ExpenditureItemCode.from("0006")).stream()
+					.map(item -> item.getExpenditureItemCode().getValue()).toList());
+		// 子の一覧(レベル1の自分自身は含まない)
+		assertEquals(List.of("0002"), toCodeList(tree.getChildren(ExpenditureItemCode.from("0001"))));
+		assertEquals(List.of("0003", "0004"), toCodeList(tree.getChildren(ExpenditureItemCode.from("0002"))));
+		assertTrue(tree.getChildren(ExpenditureItemCode.from("0006")).isEmpty());
+	}
+
+	@Test
+	@DisplayName("存在しない支出項目コードの場合、支出項目情報はnull、表示名はエラーとなること")
+	void testNotFound() {
+		ExpenditureItemInfoTree tree = ExpenditureItemInfoTree.from(ExpenditureItemInfoInquiryList.from(List.of(
+				createItem("0001", "事業経費", "0001", "1", "0100000000"))));
+
+		assertNull(tree.get(ExpenditureItemCode.from("0099")));
+		assertFalse(tree.contains(ExpenditureItemCode.from("0099")));
+		MyHouseholdAccountBookRuntimeException ex = assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> tree.getDisplayName(ExpenditureItemCode.from("0099")));
+		assertTrue(ex.getMessage().startsWith("支出項目情報が存在しません。"));
+	}
+
+	@Test
+	@DisplayName("親の支出項目情報が存在しない場合、表示名はエラーとなること")
+	void testParentNotFound() {
+		ExpenditureItemInfoTree tree = ExpenditureItemInfoTree.from(ExpenditureItemInfoInquiryList.from(List.of(
+				createItem("0001", "事業経費", "0001", "1", "0100000000"),
+				createItem("0003", "駐輪場代金", "0002", "3", "0101010000"))));
+
+		assertNotNull(tree.get(ExpenditureItemCode.from("0003")));
+		MyHouseholdAccountBookRuntimeException ex = assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> tree.getDisplayName(ExpenditureItemCode.from("0003")));
+		assertTrue(ex.getMessage().contains("存在しない親コード=parentExpenditureItemCode:0002"));
+		assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> tree.getAncestorPath(ExpenditureItemCode.from("0003")));
+		// 正常な支出項目には影響しないこと
+		assertEquals("事業経費", tree.getDisplayName(ExpenditureItemCode.from("0001")));
+	}
+
+	@Test
+	@DisplayName("親子関係が循環している場合、表示名はエラーとなること")
+	void testCyclicParent() {
+		ExpenditureItemInfoTree tree = ExpenditureItemInfoTree.from(ExpenditureItemInfoInquiryList.from(List.of(
+				createItem("0002", "項目A", "0003", "2", "0101000000"),
+				createItem("0003", "項目B", "0002", "2", "0102000000"))));
+
+		MyHouseholdAccountBookRuntimeException ex = assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> tree.getDisplayName(ExpenditureItemCode.from("0002")));
+		assertTrue(ex.getMessage().startsWith("予期しないエラー(DBデータ不正による繰り返し不正。"));
+	}
+
+	/**
+	 * テスト用の支出項目情報を生成します。
+	 */
+	private ExpenditureItemInfo createItem(String code, String name, String parentCode, String level, String sort) {
+		return ExpenditureItemInfo.from("user01", code, name, name + "詳細", parentCode, level, sort, false);
+	}
+
+	/**
+	 * 支出項目情報の一覧を支出項目コードの一覧に変換します。
+	 */
+	private List<String> toCodeList(List<ExpenditureItemInfo> list) {
+		return list.stream().map(item -> item.getExpenditureItemCode().getValue()).toList();
+	}
+}
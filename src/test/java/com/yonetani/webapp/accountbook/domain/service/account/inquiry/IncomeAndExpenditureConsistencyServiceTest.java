@@ -25,11 +25,14 @@ import com.yonetani.webapp.accountbook.domain.exception.IncomeAmountInconsistenc
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItemInquiryList;
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureItemList;
 import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountMonthInquiryExpenditureList;
 import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
 import com.yonetani.webapp.accountbook.domain.repository.account.income.IncomeTableRepository;
+import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.ExpenditureTotalAmount;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.TotalAvailableFunds;
 import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.WithdrawingAmount;
@@ -58,6 +61,12 @@ class IncomeAndExpenditureConsistencyServiceTest {
 	@Mock
 	private ExpenditureTableRepository expenditureRepository;
 
+	@Mock
+	private IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
+
+	@Mock
+	private SisyutuKingakuTableRepository sisyutuKingakuRepository;
+
 	@InjectMocks
 	private IncomeAndExpenditureConsistencyService service;
 
@@ -339,6 +348,83 @@ class IncomeAndExpenditureConsistencyServiceTest {
 		assertTrue(exception.getMessage().contains("202509"));
 	}
 
+	@Test
+	@DisplayName("正常系：validateDataExistence(存在確認) - 収支データありの場合、存在確認を行わない")
+	void testValidateDataExistenceByProbe_IncomeExists_NoProbe() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202501");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		// 収支集約：データあり
+		BalanceAmount balance = BalanceAmount.from(new BigDecimal("350000.00"));
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.reconstruct(
+			userId, yearMonth, null, null, null, null, balance
+		);
+
+		// 実行 & 検証
+		assertDoesNotThrow(() -> service.validateDataExistence(aggregate, searchCondition));
+		verifyNoInteractions(sisyutuKingakuRepository);
+		verifyNoInteractions(expenditureRepository);
+	}
+
+	@Test
+	@DisplayName("正常系：validateDataExistence(存在確認) - 収支データなし、支出データなしの場合、例外をスローしない")
+	void testValidateDataExistenceByProbe_BothEmpty_Success() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202501");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.empty(userId, yearMonth);
+		when(sisyutuKingakuRepository.existsBy(searchCondition)).thenReturn(false);
+		when(expenditureRepository.existsBy(searchCondition)).thenReturn(false);
+
+		// 実行 & 検証
+		assertDoesNotThrow(() -> service.validateDataExistence(aggregate, searchCondition));
+	}
+
+	@Test
+	@DisplayName("異常系：validateDataExistence(存在確認) - 収支データなし、支出金額データありの場合、例外をスロー")
+	void testValidateDataExistenceByProbe_ExpenditureItemExists_ThrowsException() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202508");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.empty(userId, yearMonth);
+		when(sisyutuKingakuRepository.existsBy(searchCondition)).thenReturn(true);
+
+		// 実行 & 検証
+		DataInconsistencyException exception = assertThrows(
+			DataInconsistencyException.class,
+			() -> service.validateDataExistence(aggregate, searchCondition)
+		);
+		assertTrue(exception.getMessage().contains("支出金額情報が登録済み"));
+		assertTrue(exception.getMessage().contains("202508"));
+	}
+
+	@Test
+	@DisplayName("異常系：validateDataExistence(存在確認) - 収支データなし、支出データありの場合、例外をスロー")
+	void testValidateDataExistenceByProbe_ExpenditureDetailExists_ThrowsException() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202509");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.empty(userId, yearMonth);
+		when(sisyutuKingakuRepository.existsBy(searchCondition)).thenReturn(false);
+		when(expenditureRepository.existsBy(searchCondition)).thenReturn(true);
+
+		// 実行 & 検証
+		DataInconsistencyException exception = assertThrows(
+			DataInconsistencyException.class,
+			() -> service.validateDataExistence(aggregate, searchCondition)
+		);
+		assertTrue(exception.getMessage().contains("支出情報が登録済み"));
+		assertTrue(exception.getMessage().contains("202509"));
+	}
+
 	@Test
 	@DisplayName("正常系：validateAll - すべての整合性が正しい場合、例外をスローしない")
 	void testValidateAll_Success() {
@@ -436,4 +522,120 @@ class IncomeAndExpenditureConsistencyServiceTest {
 		verify(incomeRepository, times(1)).getTotalAvailableFunds(searchCondition);
 		verify(expenditureRepository, times(1)).getExpenditureTotalAmount(searchCondition);
 	}
+
+	@Test
+	@DisplayName("正常系：validateAllIfChanged - 前回検証時からデータバージョンが変わっていない場合、検証を省略")
+	void testValidateAllIfChanged_NotChanged_Skip() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202511");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.reconstruct(
+			userId, yearMonth, RegularIncomeAmount.from(new BigDecimal("350000.00")),
+			WithdrawingAmount.from(new BigDecimal("50000.00")),
+			null, ExpenditureAmount.from(new BigDecimal("280000.00")), null
+		);
+
+		// モック設定：データバージョン3、検証済みバージョン3
+		when(incomeAndExpenditureRepository.findDataVersion(searchCondition))
+			.thenReturn(IncomeAndExpenditureDataVersion.from("user01", "2025", "11", 3L, 3L));
+
+		// 実行 & 検証
+		assertFalse(service.validateAllIfChanged(aggregate, searchCondition));
+
+		// 合計値の取得、検証済みバージョンの更新は行われない
+		verify(incomeRepository, never()).getTotalAvailableFunds(searchCondition);
+		verify(expenditureRepository, never()).getExpenditureTotalAmount(searchCondition);
+		verify(incomeAndExpenditureRepository, never()).updateValidatedVersion(any());
+	}
+
+	@Test
+	@DisplayName("正常系：validateAllIfChanged - データバージョンが変わっている場合、検証して検証済みバージョンを登録")
+	void testValidateAllIfChanged_Changed_ValidateAndMark() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202511");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.reconstruct(
+			userId, yearMonth, RegularIncomeAmount.from(new BigDecimal("350000.00")),
+			WithdrawingAmount.from(new BigDecimal("50000.00")),
+			null, ExpenditureAmount.from(new BigDecimal("280000.00")), null
+		);
+		IncomeAndExpenditureDataVersion dataVersion = IncomeAndExpenditureDataVersion.from("user01", "2025", "11", 4L, 3L);
+
+		// モック設定
+		when(incomeAndExpenditureRepository.findDataVersion(searchCondition)).thenReturn(dataVersion);
+		when(incomeRepository.getTotalAvailableFunds(searchCondition))
+			.thenReturn(TotalAvailableFunds.from(new BigDecimal("400000.00")));
+		when(expenditureRepository.getExpenditureTotalAmount(searchCondition))
+			.thenReturn(ExpenditureTotalAmount.from(new BigDecimal("280000.00")));
+
+		// 実行 & 検証
+		assertTrue(service.validateAllIfChanged(aggregate, searchCondition));
+
+		// 検証時に取得したデータバージョンで検証済みバージョンを登録
+		verify(incomeAndExpenditureRepository, times(1)).updateValidatedVersion(dataVersion);
+	}
+
+	@Test
+	@DisplayName("異常系：validateAllIfChanged - 不整合の場合、例外をスローし検証済みバージョンを登録しない")
+	void testValidateAllIfChanged_Inconsistent_ThrowsException() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202511");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.reconstruct(
+			userId, yearMonth, RegularIncomeAmount.from(new BigDecimal("350000.00")),
+			WithdrawingAmount.from(new BigDecimal("50000.00")),
+			null, ExpenditureAmount.from(new BigDecimal("280000.00")), null
+		);
+
+		// モック設定：未検証、収入が不整合
+		when(incomeAndExpenditureRepository.findDataVersion(searchCondition))
+			.thenReturn(IncomeAndExpenditureDataVersion.from("user01", "2025", "11", 0L, null));
+		when(incomeRepository.getTotalAvailableFunds(searchCondition))
+			.thenReturn(TotalAvailableFunds.from(new BigDecimal("420000.00")));
+
+		// 実行 & 検証
+		assertThrows(IncomeAmountInconsistencyException.class,
+			() -> service.validateAllIfChanged(aggregate, searchCondition)
+		);
+		verify(incomeAndExpenditureRepository, never()).updateValidatedVersion(any());
+	}
+
+	@Test
+	@DisplayName("正常系：validateAllIfChangedWithoutRegist - 検証して登録対象のデータバージョンを返し、検証済みバージョンは登録しない")
+	void testValidateAllIfChangedWithoutRegist() {
+		// 準備
+		UserId userId = UserId.from("user01");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202511");
+		SearchQueryUserIdAndYearMonth searchCondition =
+			SearchQueryUserIdAndYearMonth.from(userId, yearMonth);
+		IncomeAndExpenditure aggregate = IncomeAndExpenditure.reconstruct(
+			userId, yearMonth, RegularIncomeAmount.from(new BigDecimal("350000.00")),
+			WithdrawingAmount.from(new BigDecimal("50000.00")),
+			null, ExpenditureAmount.from(new BigDecimal("280000.00")), null
+		);
+		IncomeAndExpenditureDataVersion dataVersion = IncomeAndExpenditureDataVersion.from("user01", "2025", "11", 4L, 3L);
+
+		// モック設定：1回目は未検証、2回目は検証済み
+		when(incomeAndExpenditureRepository.findDataVersion(searchCondition))
+			.thenReturn(dataVersion)
+			.thenReturn(IncomeAndExpenditureDataVersion.from("user01", "2025", "11", 4L, 4L));
+		when(incomeRepository.getTotalAvailableFunds(searchCondition))
+			.thenReturn(TotalAvailableFunds.from(new BigDecimal("400000.00")));
+		when(expenditureRepository.getExpenditureTotalAmount(searchCondition))
+			.thenReturn(ExpenditureTotalAmount.from(new BigDecimal("280000.00")));
+
+		// 実行 & 検証
+		assertSame(dataVersion, service.validateAllIfChangedWithoutRegist(aggregate, searchCondition));
+		// 検証済みの場合は検証を省略してnull
+		assertNull(service.validateAllIfChangedWithoutRegist(aggregate, searchCondition));
+
+		verify(incomeRepository, times(1)).getTotalAvailableFunds(searchCondition);
+		verify(incomeAndExpenditureRepository, never()).updateValidatedVersion(any());
+	}
 }
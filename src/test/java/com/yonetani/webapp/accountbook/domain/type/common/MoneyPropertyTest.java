@@ -0,0 +1,157 @@
+/**
+ * Money抽象クラスの銭単位(long値)の内部表現が、BigDecimal(スケール2)で計算した結果と同等であることを
+ * 検証するプロパティテストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.type.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostPaymentAmount;
+import com.yonetani.webapp.accountbook.domain.type.account.fixedcost.FixedCostPaymentTotalAmount;
+import com.yonetani.webapp.accountbook.domain.type.account.incomeandexpenditure.TotalAvailableFunds;
+
+/**
+ *<pre>
+ * Money抽象クラスの銭単位(long値)の内部表現が、BigDecimal(スケール2)で計算した結果と同等であることを
+ * 検証するプロパティテストクラスです。
+ * 固定のシードで生成したランダムな金額(端数の銭、負の値、丸めの境界値を含む)に対して、各演算の結果を
+ * BigDecimalで計算した期待値と比較します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@DisplayName("金額基底クラス(Money)の内部表現のプロパティテスト")
+class MoneyPropertyTest {
+
+	// 試行回数
+	private static final int TRIALS = 20000;
+
+	// テスト用の具象クラス(マイナス値を許容)
+	private static class TestMoney extends Money {
+		private TestMoney(BigDecimal value) {
+			super(value);
+		}
+
+		public static TestMoney from(BigDecimal value) {
+			validate(value, "テスト金額");
+			return new TestMoney(value);
+		}
+
+		public TestMoney add(TestMoney other) {
+			return new TestMoney(super.add(other));
+		}
+
+		public TestMoney subtract(TestMoney other) {
+			return new TestMoney(super.subtract(other));
+		}
+	}
+
+	/**
+	 * テスト用の金額(スケール2)をランダムに生成します。1/4の確率で丸めの境界値(xx.50, xx.49, xx.51)を返します。
+	 */
+	private static BigDecimal randomAmount(Random random) {
+		// 桁数をばらつかせた金額(最大 ±1兆円)
+		long yen = random.nextLong() % (long)Math.pow(10, random.nextInt(13));
+		long sen = random.nextInt(4) == 0 ? 49 + random.nextInt(3) : random.nextInt(100);
+		long minorUnits = yen * 100 + (yen < 0 ? -sen : sen);
+		if(yen == 0 && random.nextBoolean()) {
+			minorUnits = -minorUnits;
+		}
+		return BigDecimal.valueOf(minorUnits, 2);
+	}
+
+	@Test
+	@DisplayName("プロパティ：getValue/toString/equals/hashCodeがBigDecimalの値と同等であること")
+	void testValueEquivalence() {
+		Random random = new Random(20261017L);
+		for(int i = 0; i < TRIALS; i++) {
+			BigDecimal value = randomAmount(random);
+			TestMoney money = TestMoney.from(value);
+			assertEquals(value, money.getValue(), "getValueで生成時の値(スケール2)が返ること");
+			assertEquals(value.toString(), money.toString());
+			assertEquals(money, TestMoney.from(new BigDecimal(value.toPlainString())));
+			assertEquals(money.hashCode(), TestMoney.from(new BigDecimal(value.toPlainString())).hashCode());
+			assertEquals(value.signum() == 0, money.isZero());
+			assertEquals(value.signum() > 0, money.isPositive());
+			assertEquals(value.signum() < 0, money.isNegative());
+		}
+	}
+
+	@Test
+	@DisplayName("プロパティ：add/subtract/compareToがBigDecimalの演算結果と同等であること")
+	void testArithmeticEquivalence() {
+		Random random = new Random(20261018L);
+		for(int i = 0; i < TRIALS; i++) {
+			BigDecimal left = randomAmount(random);
+			BigDecimal right = randomAmount(random);
+			TestMoney leftMoney = TestMoney.from(left);
+			TestMoney rightMoney = TestMoney.from(right);
+			assertEquals(left.add(right), leftMoney.add(rightMoney).getValue(), "[" + left + "+" + right + "]");
+			assertEquals(left.subtract(right), leftMoney.subtract(rightMoney).getValue(), "[" + left + "-" + right + "]");
+			assertEquals(Integer.signum(left.compareTo(right)), Integer.signum(leftMoney.compareTo(rightMoney)),
+					"[" + left + "<=>" + right + "]");
+		}
+	}
+
+	@Test
+	@DisplayName("プロパティ：toFormatString/toIntegerValueの丸め結果がBigDecimalの丸め結果と同等であること")
+	void testRoundingEquivalence() {
+		Random random = new Random(20261019L);
+		for(int i = 0; i < TRIALS; i++) {
+			BigDecimal value = randomAmount(random);
+			TestMoney money = TestMoney.from(value);
+			assertEquals(String.format("%,d円", value.setScale(0, RoundingMode.HALF_UP).longValue()), money.toFormatString(),
+					"四捨五入(HALF_UP)の結果が同じであること[value=" + value + "]");
+			BigDecimal halfDown = value.setScale(0, RoundingMode.HALF_DOWN);
+			if(halfDown.abs().compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) <= 0) {
+				assertEquals(Integer.valueOf(halfDown.intValueExact()), money.toIntegerValue(),
+						"五捨六入(HALF_DOWN)の結果が同じであること[value=" + value + "]");
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("プロパティ：サブクラスの加算・減算がBigDecimalの演算結果と同等であること")
+	void testSubclassEquivalence() {
+		Random random = new Random(20261020L);
+		FixedCostPaymentTotalAmount total = FixedCostPaymentTotalAmount.ZERO;
+		BigDecimal expectedTotal = BigDecimal.ZERO.setScale(2);
+		for(int i = 0; i < TRIALS; i++) {
+			BigDecimal left = randomAmount(random).abs();
+			BigDecimal right = randomAmount(random).abs();
+			// 支出金額(減算結果がマイナスの場合は例外)
+			ExpenditureAmount leftAmount = ExpenditureAmount.from(left);
+			ExpenditureAmount rightAmount = ExpenditureAmount.from(right);
+			assertEquals(ExpenditureAmount.from(left.add(right)), leftAmount.add(rightAmount));
+			if(left.compareTo(right) >= 0) {
+				assertEquals(ExpenditureAmount.from(left.subtract(right)), leftAmount.subtract(rightAmount));
+			} else {
+				assertThrows(MyHouseholdAccountBookRuntimeException.class, () -> leftAmount.subtract(rightAmount));
+			}
+			// 収支金額(マイナス値を許容)
+			assertEquals(BalanceAmount.from(left.subtract(right)),
+					BalanceAmount.calculate(TotalAvailableFunds.from(left), rightAmount));
+			// 支払金額合計の累積
+			total = total.add(FixedCostPaymentAmount.from(left));
+			expectedTotal = expectedTotal.add(left);
+		}
+		assertEquals(FixedCostPaymentTotalAmount.from(expectedTotal), total, "累積した支払金額合計が同じであること");
+	}
+}
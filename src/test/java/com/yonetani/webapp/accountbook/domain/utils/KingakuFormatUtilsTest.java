@@ -0,0 +1,95 @@
+/**
+ * KingakuFormatUtilsのテストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ *<pre>
+ * KingakuFormatUtilsのテストクラスです。
+ * 従来の編集方法(DecimalFormat("#,###")、String.format("%,d円"))と同じ結果となることを確認します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+class KingakuFormatUtilsTest {
+
+	@Test
+	@DisplayName("正常系：format - 桁区切りの境界値")
+	void testFormat_Boundary() {
+		assertEquals("0", KingakuFormatUtils.format(0));
+		assertEquals("999", KingakuFormatUtils.format(999));
+		assertEquals("1,000", KingakuFormatUtils.format(1000));
+		assertEquals("999,999", KingakuFormatUtils.format(999999));
+		assertEquals("1,000,000", KingakuFormatUtils.format(1000000));
+		assertEquals("-1", KingakuFormatUtils.format(-1));
+		assertEquals("-1,000", KingakuFormatUtils.format(-1000));
+		assertEquals("-999,999", KingakuFormatUtils.format(-999999));
+	}
+
+	@Test
+	@DisplayName("正常系：format - longの最大値・最小値")
+	void testFormat_MaxMin() {
+		assertEquals("9,223,372,036,854,775,807", KingakuFormatUtils.format(Long.MAX_VALUE));
+		assertEquals("-9,223,372,036,854,775,808", KingakuFormatUtils.format(Long.MIN_VALUE));
+	}
+
+	@Test
+	@DisplayName("正常系：formatYen - 円を付与")
+	void testFormatYen() {
+		assertEquals("0円", KingakuFormatUtils.formatYen(0));
+		assertEquals("10,000円", KingakuFormatUtils.formatYen(10000));
+		assertEquals("-1,234,567円", KingakuFormatUtils.formatYen(-1234567));
+	}
+
+	@Test
+	@DisplayName("正常系：round - スケール0で四捨五入")
+	void testRound() {
+		assertEquals(10000L, KingakuFormatUtils.round(new BigDecimal("10000")));
+		assertEquals(10000L, KingakuFormatUtils.round(new BigDecimal("10000.49")));
+		assertEquals(10001L, KingakuFormatUtils.round(new BigDecimal("10000.50")));
+		assertEquals(-10001L, KingakuFormatUtils.round(new BigDecimal("-10000.50")));
+	}
+
+	@Test
+	@DisplayName("正常系：format/formatYen - 従来の編集方法と同じ結果となること")
+	void testFormat_CompatibleWithLegacy() {
+		DecimalFormat legacyFormat = new DecimalFormat("#,###");
+		Random random = new Random(20261017L);
+		for(int i = 0; i < 10000; i++) {
+			// 桁数をばらつかせた金額(小数点以下2桁)
+			BigDecimal value = BigDecimal.valueOf(random.nextLong() % (long)Math.pow(10, random.nextInt(15) + 1), 2);
+			long rounded = KingakuFormatUtils.round(value);
+			assertEquals(legacyFormat.format(value.setScale(0, java.math.RoundingMode.HALF_UP)), KingakuFormatUtils.format(rounded),
+					"DecimalFormatと同じ結果となること[value=" + value + "]");
+			assertEquals(String.format("%,d円", rounded), KingakuFormatUtils.formatYen(rounded),
+					"String.formatと同じ結果となること[value=" + value + "]");
+		}
+	}
+
+	@Test
+	@DisplayName("正常系：DomainCommonUtils - formatKingaku/formatKingakuAndYenの編集結果")
+	void testDomainCommonUtils() {
+		assertEquals("", DomainCommonUtils.formatKingaku(null));
+		assertEquals("", DomainCommonUtils.formatKingakuAndYen(null));
+		assertEquals("12,346", DomainCommonUtils.formatKingaku(new BigDecimal("12345.50")));
+		assertEquals("12,345円", DomainCommonUtils.formatKingakuAndYen(new BigDecimal("12345.49")));
+	}
+}
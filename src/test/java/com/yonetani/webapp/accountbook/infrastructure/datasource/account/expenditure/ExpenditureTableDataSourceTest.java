@@ -6,6 +6,10 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/02/23 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)のテストを追加
+ * 2026/10/17 : 1.02.00  リポジトリー生成時にバッチ実行コンポーネントを設定
+ * 2026/10/17 : 1.02.00  支出コードのリストによる一括検索のテストを追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索のテストを追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.expenditure;
@@ -14,11 +18,14 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
@@ -28,7 +35,17 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItem;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureItemInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCode;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureCodeList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.ExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditure.ExpenditureCode;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.expenditure.ExpenditureTableMapper;
 
 /**
@@ -40,6 +57,9 @@ import com.yonetani.webapp.accountbook.infrastructure.mapper.account.expenditure
  * ・add()    : 支出テーブルへの新規登録(全カラムの登録データ確認)
  * ・update() : 支出テーブルの更新(更新対象カラムと非更新カラムの確認)
  * ・delete() : 支出テーブルの論理削除(DELETE_FLG=TRUEの確認)
+ * ・existsBy() : 指定月の支出情報の存在確認(論理削除済みデータは対象外)
+ * ・findByPrimaryKeyList() : 支出コードのリストによる一括検索(支出コードをキーとしたマップ)
+ * ・findByExpenditureItemCodeList() : 支出項目コードのリストによる一括検索
  *
  * [テストの着眼点]
  * ・add   : 全カラムが正しく登録されること。一意制約違反が正しく発生すること。
@@ -68,6 +88,12 @@ class ExpenditureTableDataSourceTest {
 	// ExpenditureTable mapper
 	@Autowired
 	private ExpenditureTableMapper mapper;
+	// バッチ実行用SqlSessionFactory
+	@Autowired
+	private SqlSessionFactory sqlSessionFactory;
+	// Spring管理のSqlSession
+	@Autowired
+	private SqlSessionTemplate sqlSessionTemplate;
 	// DBアクセス
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
@@ -82,7 +108,9 @@ class ExpenditureTableDataSourceTest {
 	@BeforeEach
 	void setUp() throws Exception {
 		// テスト対象のリポジトリーをテストごとに作成
-		repository = new ExpenditureTableDataSource(mapper);
+		// バッチ実行コンポーネント(テスト用のSqlSessionFactory、SqlSessionTemplateから生成)
+		MyBatisBatchExecutor batchExecutor = new MyBatisBatchExecutor(sqlSessionFactory, sqlSessionTemplate);
+		repository = new ExpenditureTableDataSource(mapper, batchExecutor);
 	}
 
 	/**
@@ -283,6 +311,113 @@ class ExpenditureTableDataSourceTest {
 		assertEquals(0, repository.delete(notFoundData), "対象データなしの場合、0件であること");
 	}
 
+	/**
+	 *<pre>
+	 * テストexistsBy：指定月の支出情報の存在確認テスト
+	 *
+	 * 【検証内容】
+	 * ・支出情報が存在する月の場合にtrueが返ること
+	 * ・支出情報が存在しない月の場合にfalseが返ること
+	 * ・論理削除済みの支出情報のみの月の場合にfalseが返ること
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "ExpenditureTableDataSourceDeleteTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("existsBy:指定月の支出情報の存在確認テスト")
+	void testExistsBy() {
+		SearchQueryUserIdAndYearMonth search = SearchQueryUserIdAndYearMonth.from(
+				UserId.from("TEST-USER-ID"), TargetYearMonth.from("202512"));
+		assertTrue(repository.existsBy(search), "支出情報が存在する月の場合、trueであること");
+		assertFalse(repository.existsBy(SearchQueryUserIdAndYearMonth.from(
+				UserId.from("TEST-USER-ID"), TargetYearMonth.from("202511"))), "支出情報が存在しない月の場合、falseであること");
+
+		// 論理削除後は存在しない扱いとなること
+		assertEquals(1, repository.delete(ExpenditureItem.from(
+				"TEST-USER-ID", "2025", "12", "001", "0001", "0001",
+				"削除対象支出名", "1", "削除対象詳細", LocalDate.of(2025, 12, 5),
+				new BigDecimal("50000.00"), new BigDecimal("40000.00"), false)), "削除データが1件であること");
+		assertFalse(repository.existsBy(search), "論理削除済みの支出情報のみの場合、falseであること");
+	}
+
+	/**
+	 *<pre>
+	 * テストfindByPrimaryKeyList：支出コードのリストによる支出テーブルの一括検索テスト
+	 *
+	 * 【検証内容】
+	 * ・指定した支出コードの支出情報が支出コードをキーとしたマップで返ること
+	 * ・各支出情報が主キー検索(findByPrimaryKey)の結果と一致すること
+	 * ・該当データのない支出コード、検索条件外の支出コードはマップに含まれないこと
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "ExpenditureTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("findByPrimaryKeyList:支出コードのリストによる支出テーブルの一括検索テスト")
+	void testFindByPrimaryKeyList() {
+		// テストデータを追加(支出コード:002, 003)
+		assertArrayEquals(new int[] {1, 1}, repository.addAll(List.of(
+				ExpenditureItem.from("TEST-USER-ID", "2025", "12", "002", "0002", null,
+						"一括検索支出名2", "1", null, null, new BigDecimal("0.00"), new BigDecimal("2000.00"), false),
+				ExpenditureItem.from("TEST-USER-ID", "2025", "12", "003", "0003", null,
+						"一括検索支出名3", "2", "詳細3", LocalDate.of(2025, 12, 3), new BigDecimal("3000.00"), new BigDecimal("3000.00"), false))),
+				"テストデータが登録されること");
+
+		UserId userId = UserId.from("TEST-USER-ID");
+		TargetYearMonth yearMonth = TargetYearMonth.from("202512");
+		Map<ExpenditureCode, ExpenditureItem> result = repository.findByPrimaryKeyList(
+				SearchQueryUserIdAndYearMonthAndExpenditureCodeList.from(userId, yearMonth,
+						List.of(ExpenditureCode.from("001"), ExpenditureCode.from("003"), ExpenditureCode.from("999"))));
+
+		// 該当データのある001, 003の2件のみであること
+		assertEquals(2, result.size(), "該当データのある支出コードのみ取得されること");
+		assertFalse(result.containsKey(ExpenditureCode.from("002")), "検索条件外の支出コードが含まれないこと");
+		assertFalse(result.containsKey(ExpenditureCode.from("999")), "該当データのない支出コードが含まれないこと");
+		// 主キー検索の結果と一致すること
+		for(String code : List.of("001", "003")) {
+			assertEquals(
+					repository.findByPrimaryKey(SearchQueryUserIdAndYearMonthAndExpenditureCode.from(
+							userId, yearMonth, ExpenditureCode.from(code))),
+					result.get(ExpenditureCode.from(code)),
+					"支出コード[" + code + "]の検索結果が主キー検索の結果と一致すること");
+		}
+	}
+
+	/**
+	 *<pre>
+	 * テストfindByExpenditureItemCodeList：支出項目コードのリストによる支出テーブルの一括検索テスト
+	 *
+	 * 【検証内容】
+	 * ・指定した支出項目コードのいずれかに該当する支出情報が全件取得されること(同一支出項目コードの複数件を含む)
+	 * ・検索条件外の支出項目コード、別の対象年月の支出情報は含まれないこと
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "ExpenditureTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("findByExpenditureItemCodeList:支出項目コードのリストによる支出テーブルの一括検索テスト")
+	void testFindByExpenditureItemCodeList() {
+		// テストデータを追加(支出項目コード:0002が2件、0003が1件、別月の0001が1件)
+		assertArrayEquals(new int[] {1, 1, 1, 1}, repository.addAll(List.of(
+				ExpenditureItem.from("TEST-USER-ID", "2025", "12", "002", "0002", null,
+						"一括検索支出名2", "1", null, null, new BigDecimal("0.00"), new BigDecimal("2000.00"), false),
+				ExpenditureItem.from("TEST-USER-ID", "2025", "12", "003", "0002", null,
+						"一括検索支出名3", "2", null, null, new BigDecimal("0.00"), new BigDecimal("3000.00"), false),
+				ExpenditureItem.from("TEST-USER-ID", "2025", "12", "004", "0003", null,
+						"一括検索支出名4", "1", null, null, new BigDecimal("0.00"), new BigDecimal("4000.00"), false),
+				ExpenditureItem.from("TEST-USER-ID", "2025", "11", "001", "0001", null,
+						"別月支出名", "1", null, null, new BigDecimal("0.00"), new BigDecimal("1000.00"), false))),
+				"テストデータが登録されること");
+
+		ExpenditureItemInquiryList result = repository.findByExpenditureItemCodeList(
+				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList.from(UserId.from("TEST-USER-ID"), TargetYearMonth.from("202512"),
+						List.of(ExpenditureItemCode.from("0001"), ExpenditureItemCode.from("0002"), ExpenditureItemCode.from("0999"))));
+
+		// 支出項目コード0001の1件(当月のみ)と0002の2件であること
+		assertEquals(3, result.getValues().size(), "指定した支出項目コードの支出情報のみ取得されること");
+		assertEquals(List.of("001", "002", "003"), result.getValues().stream()
+				.map(item -> item.getExpenditureCode().getValue()).sorted().toList(), "取得した支出コードが正しいこと");
+		assertTrue(result.getValues().stream().allMatch(item -> item.getTargetMonth().getValue().equals("12")),
+				"別の対象年月の支出情報が含まれないこと");
+	}
+
 	/**
 	 *<pre>
 	 * JdbcTemplateのqueryForMapで取得したDATE型カラムの値(java.sql.Date)をLocalDateに変換して返します。
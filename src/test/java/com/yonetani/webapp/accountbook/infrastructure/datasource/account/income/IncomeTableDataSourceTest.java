@@ -6,6 +6,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/02/23 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  JDBCバッチによる一括登録・更新・論理削除のテストを追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.income;
@@ -13,11 +14,14 @@ package com.yonetani.webapp.accountbook.infrastructure.datasource.account.income
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
@@ -27,7 +31,11 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
 import com.yonetani.webapp.accountbook.domain.model.account.income.IncomeItem;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.repository.account.income.IncomeTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.income.IncomeTableMapper;
 
 /**
@@ -39,6 +47,7 @@ import com.yonetani.webapp.accountbook.infrastructure.mapper.account.income.Inco
  * ・add()    : 収入テーブルへの新規登録(全カラムの登録データ確認)
  * ・update() : 収入テーブルの更新(更新対象カラムと非更新カラムの確認)
  * ・delete() : 収入テーブルの論理削除(DELETE_FLG=TRUEの確認)
+ * ・addAll() / updateAll() / deleteAll() : JDBCバッチによる一括登録・更新・論理削除(データごとの件数確認)
  *
  * [テストの着眼点]
  * ・add   : 全カラムが正しく登録されること。一意制約違反が正しく発生すること。
@@ -64,6 +73,12 @@ class IncomeTableDataSourceTest {
 	// IncomeTable mapper
 	@Autowired
 	private IncomeTableMapper mapper;
+	// バッチ実行用SqlSessionFactory
+	@Autowired
+	private SqlSessionFactory sqlSessionFactory;
+	// Spring管理のSqlSession
+	@Autowired
+	private SqlSessionTemplate sqlSessionTemplate;
 	// DBアクセス
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
@@ -78,7 +93,9 @@ class IncomeTableDataSourceTest {
 	@BeforeEach
 	void setUp() throws Exception {
 		// テスト対象のリポジトリーをテストごとに作成
-		repository = new IncomeTableDataSource(mapper);
+		// バッチ実行コンポーネント(テスト用のSqlSessionFactory、SqlSessionTemplateから生成)
+		MyBatisBatchExecutor batchExecutor = new MyBatisBatchExecutor(sqlSessionFactory, sqlSessionTemplate);
+		repository = new IncomeTableDataSource(mapper, batchExecutor);
 	}
 
 	/**
@@ -242,4 +259,60 @@ class IncomeTableDataSourceTest {
 				"TEST-USER-ID", "2025", "12", "99", "1", null, new BigDecimal("0.00"), false);
 		assertEquals(0, repository.delete(notFoundData), "対象データなしの場合、0件であること");
 	}
+
+	/**
+	 *<pre>
+	 * テストaddAll/updateAll/deleteAll：JDBCバッチによる一括登録・更新・論理削除テスト
+	 *
+	 * 【検証内容】
+	 * ・一括登録したデータが全件登録され、データごとの登録件数(1件)が引数の順番で返ること
+	 * ・一括更新で対象データなしのデータが含まれる場合、該当データの更新件数が0件で返ること
+	 * ・一括論理削除したデータのDELETE_FLGがTRUEとなること
+	 * ・一括登録で一意制約違反の場合、DuplicateKeyExceptionが発生すること
+	 * ・空のリストの場合、0件の結果が返ること
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "IncomeTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("addAll/updateAll/deleteAll:JDBCバッチによる一括登録・更新・論理削除テスト")
+	void testBatch() {
+		/* 一括登録 */
+		List<IncomeItem> addList = List.of(
+				IncomeItem.from("TEST-USER-ID", "2025", "12", "02", "1", "一括登録1", new BigDecimal("10000.00"), false),
+				IncomeItem.from("TEST-USER-ID", "2025", "12", "03", "2", null, new BigDecimal("20000.00"), false),
+				IncomeItem.from("TEST-USER-ID", "2025", "12", "04", "3", "一括登録3", new BigDecimal("30000.00"), false));
+		assertArrayEquals(new int[] {1, 1, 1}, repository.addAll(addList), "データごとの登録件数が1件であること");
+		assertEquals(4, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INCOME_TABLE WHERE USER_ID=? AND TARGET_YEAR=? AND TARGET_MONTH=?",
+				Integer.class, "TEST-USER-ID", "2025", "12"), "一括登録後の件数が4件であること");
+
+		/* 一括更新(対象データなしを含む) */
+		List<IncomeItem> updateList = List.of(
+				IncomeItem.from("TEST-USER-ID", "2025", "12", "01", "2", "一括更新1", new BigDecimal("110000.00"), false),
+				IncomeItem.from("TEST-USER-ID", "2025", "12", "99", "1", null, new BigDecimal("0.00"), false),
+				IncomeItem.from("TEST-USER-ID", "2025", "12", "03", "2", "一括更新3", new BigDecimal("25000.00"), false));
+		assertArrayEquals(new int[] {1, 0, 1}, repository.updateAll(updateList), "対象データなしの更新件数が0件であること");
+		// 一括更新前にMyBatis経由で参照していない場合も含め、更新後の値が参照できること
+		assertEquals(new BigDecimal("110000.00"), jdbcTemplate.queryForObject(
+				"SELECT INCOME_KINGAKU FROM INCOME_TABLE WHERE USER_ID=? AND TARGET_YEAR=? AND TARGET_MONTH=? AND INCOME_CODE=?",
+				BigDecimal.class, "TEST-USER-ID", "2025", "12", "01"), "収入金額が更新されていること");
+		assertEquals(new BigDecimal("25000.00"), repository.findBy(SearchQueryUserIdAndYearMonth.from(
+				UserId.from("TEST-USER-ID"), TargetYearMonth.from("202512"))).getValues().stream()
+				.filter(item -> item.getIncomeCode().getValue().equals("03")).findFirst().orElseThrow()
+				.getIncomeAmount().getValue(), "リポジトリーからも更新後の値が参照できること");
+
+		/* 一括論理削除 */
+		assertArrayEquals(new int[] {1, 1}, repository.deleteAll(List.of(addList.get(0), addList.get(2))),
+				"データごとの論理削除件数が1件であること");
+		assertEquals(2, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INCOME_TABLE WHERE USER_ID=? AND TARGET_YEAR=? AND TARGET_MONTH=? AND DELETE_FLG=TRUE",
+				Integer.class, "TEST-USER-ID", "2025", "12"), "論理削除されたデータが2件であること");
+
+		/* 一意制約違反 */
+		assertThrows(DuplicateKeyException.class, () -> repository.addAll(List.of(addList.get(1))),
+				"同じデータを一括登録した場合、一意制約違反となること");
+
+		/* 空のリスト */
+		assertEquals(0, repository.addAll(List.of()).length, "空のリストの場合、0件の結果であること");
+	}
 }
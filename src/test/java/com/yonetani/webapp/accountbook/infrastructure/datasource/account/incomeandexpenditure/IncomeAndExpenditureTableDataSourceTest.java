@@ -6,6 +6,7 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/02/23 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  データバージョン(整合性検証済みバージョン)のテストを追加
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.incomeandexpenditure;
@@ -13,6 +14,7 @@ package com.yonetani.webapp.accountbook.infrastructure.datasource.account.income
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +29,11 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
 import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditureDataVersion;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
 import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.incomeandexpenditure.IncomeAndExpenditureTableMapper;
 
 /**
@@ -38,6 +44,7 @@ import com.yonetani.webapp.accountbook.infrastructure.mapper.account.incomeandex
  * [テスト対象メソッド]
  * ・add()    : 収支テーブルへの新規登録(全カラムの登録データ確認)
  * ・update() : 収支テーブルの更新(更新対象カラムと非更新カラムの確認)
+ * ・findDataVersion()/findUnvalidatedDataVersions()/updateValidatedVersion() : データバージョンの参照・更新
  * ※deleteメソッドはこのリポジトリーには存在しません。
  *
  * [テストの着眼点]
@@ -227,4 +234,57 @@ class IncomeAndExpenditureTableDataSourceTest {
 		assertEquals(beforeEstimateKingaku, actualNullDataMap.get("EXPENDITURE_ESTIMATE_KINGAKU"),
 				"支出予定金額(EXPENDITURE_ESTIMATE_KINGAKU)が更新されていないこと(null可更新後も)");
 	}
+
+	/**
+	 *<pre>
+	 * テストデータバージョン：データバージョンの参照・更新テスト
+	 *
+	 * 【検証内容】
+	 * ・登録直後はデータバージョン0、整合性検証済みバージョンnull(未検証)であること
+	 * ・updateValidatedVersionで整合性検証済みバージョンが登録され、検証済みとなること
+	 * ・updateで収支テーブルを更新するとデータバージョンがカウントアップされ、未検証に戻ること
+	 * ・検証開始時点からデータバージョンが変わっている場合、整合性検証済みバージョンが更新されないこと
+	 * ・対象データなしの場合にfindDataVersionがnullを返すこと
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "IncomeAndExpenditureTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("データバージョン:データバージョンの参照・更新テスト")
+	void testDataVersion() {
+		SearchQueryUserIdAndYearMonth search = SearchQueryUserIdAndYearMonth.from(
+				UserId.from("TEST-USER-ID"), TargetYearMonth.from("2025", "12"));
+
+		/* 登録直後は未検証 */
+		IncomeAndExpenditureDataVersion initVersion = repository.findDataVersion(search);
+		assertEquals(0L, initVersion.getDataVersion(), "登録直後のデータバージョンが0であること");
+		assertNull(initVersion.getValidatedVersion(), "登録直後の整合性検証済みバージョンがnullであること");
+		assertFalse(initVersion.isValidated(), "登録直後は未検証であること");
+		List<IncomeAndExpenditureDataVersion> unvalidatedList = repository.findUnvalidatedDataVersions(10);
+		assertEquals(1, unvalidatedList.size(), "未検証データが1件であること");
+
+		/* 整合性検証済みバージョンの登録 */
+		assertEquals(1, repository.updateValidatedVersion(initVersion), "整合性検証済みバージョンの更新件数が1件であること");
+		assertTrue(repository.findDataVersion(search).isValidated(), "検証済みとなっていること");
+		assertEquals(0, repository.findUnvalidatedDataVersions(10).size(), "未検証データが0件であること");
+
+		/* 収支テーブル更新でデータバージョンがカウントアップされること */
+		IncomeAndExpenditure updateData = IncomeAndExpenditure.from(
+				"TEST-USER-ID", "2025", "12",
+				new BigDecimal("375000.00"), new BigDecimal("55000.00"),
+				new BigDecimal("50000.00"), new BigDecimal("69500.00"),
+				new BigDecimal("360500.00"));
+		assertEquals(1, repository.update(updateData), "更新データが1件であること");
+		IncomeAndExpenditureDataVersion updatedVersion = repository.findDataVersion(search);
+		assertEquals(1L, updatedVersion.getDataVersion(), "データバージョンがカウントアップされていること");
+		assertEquals(0L, updatedVersion.getValidatedVersion(), "整合性検証済みバージョンは更新前の値のままであること");
+		assertFalse(updatedVersion.isValidated(), "収支テーブル更新後は未検証に戻ること");
+
+		/* 検証開始時点(古いデータバージョン)での登録は無視されること */
+		assertEquals(0, repository.updateValidatedVersion(initVersion), "古いデータバージョンでは更新されないこと");
+		assertFalse(repository.findDataVersion(search).isValidated(), "未検証のままであること");
+
+		/* 対象データなし */
+		assertNull(repository.findDataVersion(SearchQueryUserIdAndYearMonth.from(
+				UserId.from("TEST-USER-ID"), TargetYearMonth.from("2025", "01"))), "対象データなしの場合nullであること");
+	}
 }
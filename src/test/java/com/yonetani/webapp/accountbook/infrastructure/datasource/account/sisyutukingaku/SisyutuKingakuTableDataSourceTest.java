@@ -6,30 +6,55 @@
  * 更新履歴
  * 日付       : version  コメントなど
  * 2026/02/23 : 1.00.00  新規作成
+ * 2026/10/17 : 1.02.00  年間収支(明細)の年度範囲一括取得テストを追加
+ * 2026/10/17 : 1.02.00  存在確認(existsBy)のテストを追加
+ * 2026/10/17 : 1.02.00  DB上での加減算(upsertAll/updateDeltaAll)のテストを追加
+ * 2026/10/17 : 1.02.00  支出項目コードのリストによる一括検索のテストを追加
+ * 2026/10/17 : 1.02.00  upsertAllの支出予定金額の加算、同時初回登録時の加算のテストを追加
+ * 2026/10/17 : 1.02.00  同時初回登録時の加算のテストを登録・加算(ON DUPLICATE KEY UPDATE)の確認に変更
  *
  */
 package com.yonetani.webapp.accountbook.infrastructure.datasource.account.sisyutukingaku;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountDelta;
 import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItem;
+import com.yonetani.webapp.accountbook.domain.model.account.expenditure.ExpenditureAmountItemInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearMeisaiInquiryList;
+import com.yonetani.webapp.accountbook.domain.model.account.inquiry.AccountYearMeisaiInquiryList.MeisaiInquiryListItem;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYear;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearRange;
 import com.yonetani.webapp.accountbook.domain.repository.account.expenditure.SisyutuKingakuTableRepository;
-import com.yonetani.webapp.accountbook.infrastructure.mapper.account.incomeandexpenditure.IncomeAndExpenditureTableMapper;
+import com.yonetani.webapp.accountbook.domain.type.account.expenditureinfo.ExpenditureItemCode;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYear;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.infrastructure.datasource.common.MyBatisBatchExecutor;
 import com.yonetani.webapp.accountbook.infrastructure.mapper.account.sisyutukingaku.SisyutuKingakuTableMapper;
 
 /**
@@ -40,6 +65,11 @@ import com.yonetani.webapp.accountbook.infrastructure.mapper.account.sisyutuking
  * [テスト対象メソッド]
  * ・add()    : 支出金額テーブルへの新規登録(全カラムの登録データ確認)
  * ・update() : 支出金額テーブルの更新(更新対象カラムと非更新カラムの確認)
+ * ・select(SearchQueryUserIdAndYear)      : 指定年度の年間収支(明細)の取得
+ * ・select(SearchQueryUserIdAndYearRange) : 指定年度範囲の年間収支(明細)の一括取得
+ * ・existsBy() : 指定月の支出金額情報の存在確認
+ * ・upsertAll() / updateDeltaAll() : DB上での加減算による一括登録・更新
+ * ・findByExpenditureItemCodeList() : 支出項目コードのリストによる一括検索
  * ※deleteメソッドはこのリポジトリーには存在しません。
  *
  * [テストの着眼点]
@@ -48,6 +78,8 @@ import com.yonetani.webapp.accountbook.infrastructure.mapper.account.sisyutuking
  * ・update: SISYUTU_KINGAKU, SISYUTU_KINGAKU_B, SISYUTU_KINGAKU_C, SISYUTU_SIHARAI_DATEのみ更新されること。
  *           SISYUTU_YOTEI_KINGAKU, PARENT_SISYUTU_ITEM_CODEは更新されないこと。
  *           対象なしの場合0件が返ること。
+ * ・select: 対象年月毎に支出項目レベル１の金額が集計されること。支出金額情報なしの月は含まれないこと。
+ *           年度範囲指定の場合、年度毎に振り分けられること。
  *
  *</pre>
  *
@@ -56,19 +88,27 @@ import com.yonetani.webapp.accountbook.infrastructure.mapper.account.sisyutuking
  *
  */
 // MyBatis関連のコンフィグレーションをインジェクションします
-@MybatisTest
+// 登録・加算(ON DUPLICATE KEY UPDATE)を検証するため、組み込みDBに置き換えずMySQLモードのDBを使用
+// (テスト用のH2インメモリDBは他のテストクラスと分離)
+@MybatisTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:sisyutukingakudb;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 // SpringBootアプリケーション設定ファイルにapplication-unit-test.ymlを設定
 @ActiveProfiles("unit-test")
 class SisyutuKingakuTableDataSourceTest {
 
 	// SisyutuKingakuTableRepository
 	private SisyutuKingakuTableRepository repository;
-	// IncomeAndExpenditureTable mapper(SisyutuKingakuTableDataSourceが内部で使用)
-	@Autowired
-	private IncomeAndExpenditureTableMapper incomeAndExpenditureMapper;
 	// SisyutuKingakuTable mapper
 	@Autowired
 	private SisyutuKingakuTableMapper sisyutuKingakuTableMapper;
+	// バッチ実行用SqlSessionFactory
+	@Autowired
+	private SqlSessionFactory sqlSessionFactory;
+	// Spring管理のSqlSession
+	@Autowired
+	private SqlSessionTemplate sqlSessionTemplate;
 	// DBアクセス
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
@@ -83,8 +123,9 @@ class SisyutuKingakuTableDataSourceTest {
 	@BeforeEach
 	void setUp() throws Exception {
 		// テスト対象のリポジトリーをテストごとに作成
-		// SisyutuKingakuTableDataSourceはincomeAndExpenditureMapperとsisyutuKingakuTableMapperの2つのマッパーが必要
-		repository = new SisyutuKingakuTableDataSource(incomeAndExpenditureMapper, sisyutuKingakuTableMapper);
+		// バッチ実行コンポーネント(テスト用のSqlSessionFactory、SqlSessionTemplateから生成)
+		MyBatisBatchExecutor batchExecutor = new MyBatisBatchExecutor(sqlSessionFactory, sqlSessionTemplate);
+		repository = new SisyutuKingakuTableDataSource(sisyutuKingakuTableMapper, batchExecutor);
 	}
 
 	/**
@@ -238,6 +279,251 @@ class SisyutuKingakuTableDataSourceTest {
 				"親支出項目コード(PARENT_SISYUTU_ITEM_CODE)が更新されていないこと(null可更新後も)");
 	}
 
+	/**
+	 *<pre>
+	 * テストselect(年度)：指定年度の年間収支(明細)の取得テスト
+	 *
+	 * 【検証内容】
+	 * ・対象年度の収支テーブルの各月について、支出項目レベル１の支出金額が項目毎に集計されること
+	 * ・支出金額B、支出金額Cは支出項目レベル１の値の合計となること
+	 * ・支出金額テーブルにデータがない月(2025/03)は結果に含まれないこと
+	 * ・他年度(2024年)のデータが含まれないこと
+	 * ・対象データなしの年度の場合、0件データが返ること
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "SisyutuKingakuTableDataSourceSelectYearTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("select(年度):指定年度の年間収支(明細)の取得テスト")
+	void testSelectYear() {
+		AccountYearMeisaiInquiryList result = repository.select(
+				SearchQueryUserIdAndYear.from(UserId.from("TEST-USER-ID"), TargetYear.from("2025")));
+
+		// 2025/01, 2025/02の2件(支出金額なしの2025/03は含まれない)
+		List<MeisaiInquiryListItem> values = result.getValues();
+		assertEquals(2, values.size(), "支出金額情報がある月のみ取得されること");
+
+		// 2025/01
+		MeisaiInquiryListItem january = values.get(0);
+		assertEquals("01", january.getMonth().getValue(), "1件目が1月であること");
+		assertEquals("300,000円", january.getRegularIncomeAmount().toFormatString(), "1月の収入金額が正しいこと");
+		assertEquals("10,000円", january.getJigyouKeihiKingaku().toString(), "1月の事業経費が正しいこと");
+		assertEquals("50,000円", january.getKoteiHikazeiKingaku().toString(), "1月の固定(非課税)が正しいこと");
+		assertEquals("20,000円", january.getKoteiKazeiKingaku().toString(), "1月の固定(課税)が正しいこと");
+		assertEquals("0円", january.getIruiJyuukyoSetubiKingaku().toString(), "1月の衣類住居設備が0であること");
+		assertEquals("40,000円", january.getInsyokuNitiyouhinKingaku().toString(), "1月の飲食日用品が正しいこと");
+		assertEquals("30,000円", january.getSyumiGotakuKingaku().toString(), "1月の趣味娯楽が正しいこと");
+		assertEquals("8,000円", january.getTotalWasteExpenditureAmount().toFormatString(), "1月の無駄遣い合計(B+C)が正しいこと");
+		assertEquals("150,000円", january.getExpenditureAmount().toFormatString(), "1月の支出金額が正しいこと");
+		assertEquals("150,000円", january.getBalanceAmount().toFormatString(), "1月の収支金額が正しいこと");
+
+		// 2025/02
+		MeisaiInquiryListItem february = values.get(1);
+		assertEquals("02", february.getMonth().getValue(), "2件目が2月であること");
+		assertEquals("25,000円", february.getIruiJyuukyoSetubiKingaku().toString(), "2月の衣類住居設備が正しいこと");
+		assertEquals("35,000円", february.getInsyokuNitiyouhinKingaku().toString(), "2月の飲食日用品が正しいこと");
+
+		// 合計値
+		assertEquals("600,000円", result.getRegularIncomeTotalAmount().toFormatString(), "収入金額合計が正しいこと");
+		assertEquals("75,000円", result.getInsyokuNitiyouhinKingakuGoukei().toString(), "飲食日用品合計が正しいこと");
+
+		/* 対象データなしの年度の場合、0件データが返ること */
+		AccountYearMeisaiInquiryList notFound = repository.select(
+				SearchQueryUserIdAndYear.from(UserId.from("TEST-USER-ID"), TargetYear.from("2023")));
+		assertTrue(notFound.isEmpty(), "対象データなしの年度の場合、0件であること");
+	}
+
+	/**
+	 *<pre>
+	 * テストselect(年度範囲)：指定年度範囲の年間収支(明細)の一括取得テスト
+	 *
+	 * 【検証内容】
+	 * ・開始年度～終了年度の年間収支(明細)が年度毎に振り分けられて返ること(年度の昇順)
+	 * ・年度毎の結果が年度指定の検索結果と一致すること
+	 * ・範囲外の年度が含まれないこと
+	 * ・開始年度が終了年度より後の年度の場合、MyHouseholdAccountBookRuntimeExceptionが発生すること
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "SisyutuKingakuTableDataSourceSelectYearTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("select(年度範囲):指定年度範囲の年間収支(明細)の一括取得テスト")
+	void testSelectYearRange() {
+		UserId userId = UserId.from("TEST-USER-ID");
+		Map<TargetYear, AccountYearMeisaiInquiryList> result = repository.select(
+				SearchQueryUserIdAndYearRange.from(userId, TargetYear.from("2023"), TargetYear.from("2025")));
+
+		// データありの2024年、2025年の2年度分が年度の昇順で返ること
+		assertEquals(List.of(TargetYear.from("2024"), TargetYear.from("2025")), List.copyOf(result.keySet()),
+				"データがある年度のみ年度の昇順で取得されること");
+		// 2024年：12月の1件
+		AccountYearMeisaiInquiryList year2024 = result.get(TargetYear.from("2024"));
+		assertEquals(1, year2024.getValues().size(), "2024年は1件であること");
+		assertEquals("12", year2024.getValues().get(0).getMonth().getValue(), "2024年の対象月が12月であること");
+		assertEquals("60,000円", year2024.getValues().get(0).getInsyokuNitiyouhinKingaku().toString(), "2024/12の飲食日用品が正しいこと");
+		// 2025年：年度指定の検索結果と一致すること
+		assertEquals(
+				repository.select(SearchQueryUserIdAndYear.from(userId, TargetYear.from("2025"))).getValues(),
+				result.get(TargetYear.from("2025")).getValues(),
+				"2025年の結果が年度指定の検索結果と一致すること");
+
+		/* 範囲外の年度が含まれないこと */
+		Map<TargetYear, AccountYearMeisaiInquiryList> onlyNextYear = repository.select(
+				SearchQueryUserIdAndYearRange.from(userId, TargetYear.from("2025"), TargetYear.from("2026")));
+		assertEquals(List.of(TargetYear.from("2025")), List.copyOf(onlyNextYear.keySet()), "範囲外の2024年が含まれないこと");
+
+		/* 開始年度が終了年度より後の年度の場合、例外が発生すること */
+		assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> SearchQueryUserIdAndYearRange.from(userId, TargetYear.from("2025"), TargetYear.from("2024")),
+				"開始年度が終了年度より後の年度の場合、例外が発生すること");
+	}
+
+	/**
+	 *<pre>
+	 * テストexistsBy：指定月の支出金額情報の存在確認テスト
+	 *
+	 * 【検証内容】
+	 * ・支出金額情報が存在する月の場合にtrueが返ること
+	 * ・支出金額情報が存在しない月(収支テーブルのみ存在)の場合にfalseが返ること
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "SisyutuKingakuTableDataSourceSelectYearTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("existsBy:指定月の支出金額情報の存在確認テスト")
+	void testExistsBy() {
+		UserId userId = UserId.from("TEST-USER-ID");
+		assertTrue(repository.existsBy(SearchQueryUserIdAndYearMonth.from(userId, TargetYearMonth.from("202501"))),
+				"支出金額情報が存在する月の場合、trueであること");
+		assertFalse(repository.existsBy(SearchQueryUserIdAndYearMonth.from(userId, TargetYearMonth.from("202503"))),
+				"支出金額情報が存在しない月の場合、falseであること");
+	}
+
+	/**
+	 *<pre>
+	 * テストupsertAll/updateDeltaAll：DB上での加減算による支出金額テーブルの一括登録・更新テスト
+	 *
+	 * 【検証内容】
+	 * ・upsertAll：対象データなしの場合は新規登録、登録済みの場合は支出予定金額・支出金額・支出金額B・支出金額Cが加算されること
+	 *              (支出支払日は大きいほうの値となること)
+	 * ・updateDeltaAll：増減値分加減算されること。増減値nullの項目・支払日nullの場合は変更されないこと
+	 *                   対象データなし、加減算後の値がマイナス値となる場合は更新件数0件で値が変わらないこと
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "SisyutuKingakuTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("upsertAll/updateDeltaAll:DB上での加減算による支出金額テーブルの一括登録・更新テスト")
+	void testUpsertAndDelta() {
+		/* 一括登録(登録済みの場合は加算) */
+		List<ExpenditureAmountItem> upsertList = List.of(
+				ExpenditureAmountItem.from("TEST-USER-ID", "2025", "12", "0001", "0000",
+						new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("200.00"), null, LocalDate.of(2025, 12, 20)),
+				ExpenditureAmountItem.from("TEST-USER-ID", "2025", "12", "0002", "0001",
+						new BigDecimal("10000.00"), new BigDecimal("9000.00"), null, new BigDecimal("9000.00"), null));
+		int[] upsertCounts = repository.upsertAll(upsertList);
+		assertArrayEquals(new int[] {1, 1}, upsertCounts, "登録・更新件数が1件であること");
+		Map<String, Object> row0001 = selectRow("0001");
+		assertEquals(new BigDecimal("51000.00"), row0001.get("SISYUTU_YOTEI_KINGAKU"), "登録済みの場合、支出予定金額が加算されること");
+		assertEquals(new BigDecimal("46000.00"), row0001.get("SISYUTU_KINGAKU"));
+		assertEquals(new BigDecimal("5200.00"), row0001.get("SISYUTU_KINGAKU_B"));
+		assertEquals(new BigDecimal("3000.00"), row0001.get("SISYUTU_KINGAKU_C"), "加算値nullの場合は変更されないこと");
+		assertEquals(LocalDate.of(2025, 12, 20), toLocalDate(row0001.get("SISYUTU_SIHARAI_DATE")));
+		Map<String, Object> row0002 = selectRow("0002");
+		assertEquals(new BigDecimal("10000.00"), row0002.get("SISYUTU_YOTEI_KINGAKU"));
+		assertEquals(new BigDecimal("9000.00"), row0002.get("SISYUTU_KINGAKU"));
+		assertNull(row0002.get("SISYUTU_KINGAKU_B"));
+		assertEquals(new BigDecimal("9000.00"), row0002.get("SISYUTU_KINGAKU_C"));
+
+		/* 増減値の一括加減算(対象データなし、マイナス値を含む) */
+		List<ExpenditureAmountDelta> deltaList = List.of(
+				createDelta("0001", "-6000.00", "-5200.00", null, LocalDate.of(2025, 12, 5)),
+				createDelta("0002", "500.00", null, "500.00", null),
+				createDelta("0999", "100.00", null, null, null),
+				createDelta("0002", "-9500.00", null, "-9600.00", null));
+		assertArrayEquals(new int[] {1, 1, 0, 0}, repository.updateDeltaAll(deltaList),
+				"対象データなし・加減算結果がマイナス値の場合は更新件数が0件であること");
+		row0001 = selectRow("0001");
+		assertEquals(new BigDecimal("40000.00"), row0001.get("SISYUTU_KINGAKU"));
+		assertEquals(new BigDecimal("0.00"), row0001.get("SISYUTU_KINGAKU_B"));
+		assertEquals(new BigDecimal("3000.00"), row0001.get("SISYUTU_KINGAKU_C"));
+		assertEquals(LocalDate.of(2025, 12, 20), toLocalDate(row0001.get("SISYUTU_SIHARAI_DATE")), "支払日は大きいほうの値であること");
+		row0002 = selectRow("0002");
+		assertEquals(new BigDecimal("9500.00"), row0002.get("SISYUTU_KINGAKU"));
+		assertNull(row0002.get("SISYUTU_KINGAKU_B"), "増減値nullの場合はnullのままであること");
+		assertEquals(new BigDecimal("9500.00"), row0002.get("SISYUTU_KINGAKU_C"));
+	}
+
+	/**
+	 *<pre>
+	 * テストupsertAll：他のトランザクションが同時に初回登録した場合の支出金額テーブルの一括登録テスト
+	 *
+	 * 【検証内容】
+	 * ・加算時に未登録だったデータを他のトランザクションが先に登録した場合、一意制約違反とならずに
+	 *   登録されたデータに支出予定金額・支出金額・支出金額Bが1回だけ加算され、件数が1件となること
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "SisyutuKingakuTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("upsertAll:同時に初回登録された場合、一意制約違反とならず登録されたデータに加算されること")
+	void testUpsertConcurrentInsert() {
+		// 加算時点では未登録(更新件数0件)だったものとし、新規登録時には登録済み(他のトランザクションが登録)の状態を再現
+		MyBatisBatchExecutor batchExecutor = spy(new MyBatisBatchExecutor(sqlSessionFactory, sqlSessionTemplate));
+		doReturn(new int[] {0}).when(batchExecutor).execute(any(), any(), any(), any());
+		SisyutuKingakuTableRepository concurrentRepository = new SisyutuKingakuTableDataSource(sisyutuKingakuTableMapper, batchExecutor);
+
+		int[] upsertCounts = concurrentRepository.upsertAll(List.of(
+				ExpenditureAmountItem.from("TEST-USER-ID", "2025", "12", "0001", "0000",
+						new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("200.00"), null, null)));
+		assertArrayEquals(new int[] {1}, upsertCounts, "登録されたデータへの加算件数が1件であること");
+		Map<String, Object> row0001 = selectRow("0001");
+		assertEquals(new BigDecimal("51000.00"), row0001.get("SISYUTU_YOTEI_KINGAKU"), "支出予定金額が1回だけ加算されること");
+		assertEquals(new BigDecimal("46000.00"), row0001.get("SISYUTU_KINGAKU"), "支出金額が1回だけ加算されること");
+		assertEquals(new BigDecimal("5200.00"), row0001.get("SISYUTU_KINGAKU_B"), "支出金額Bが1回だけ加算されること");
+	}
+
+	/**
+	 *<pre>
+	 * テストfindByExpenditureItemCodeList：支出項目コードのリストによる支出金額テーブルの一括検索テスト
+	 *
+	 * 【検証内容】
+	 * ・指定した支出項目コードの支出金額情報のみ取得されること
+	 * ・該当データのない支出項目コードは結果に含まれないこと
+	 *</pre>
+	 */
+	@Test
+	@Sql(value = "SisyutuKingakuTableDataSourceUpdateTest.sql", config = @SqlConfig(encoding = "UTF-8"))
+	@DisplayName("findByExpenditureItemCodeList:支出項目コードのリストによる支出金額テーブルの一括検索テスト")
+	void testFindByExpenditureItemCodeList() {
+		// テストデータを追加(支出項目コード:0002, 0003)
+		assertEquals(1, repository.add(ExpenditureAmountItem.from("TEST-USER-ID", "2025", "12", "0002", "0001",
+				new BigDecimal("10000.00"), new BigDecimal("9000.00"), null, null, null)));
+		assertEquals(1, repository.add(ExpenditureAmountItem.from("TEST-USER-ID", "2025", "12", "0003", "0001",
+				new BigDecimal("20000.00"), new BigDecimal("18000.00"), null, null, null)));
+
+		ExpenditureAmountItemInquiryList result = repository.findByExpenditureItemCodeList(
+				SearchQueryUserIdAndYearMonthAndExpenditureItemCodeList.from(UserId.from("TEST-USER-ID"), TargetYearMonth.from("202512"),
+						List.of(ExpenditureItemCode.from("0001"), ExpenditureItemCode.from("0003"), ExpenditureItemCode.from("0999"))));
+
+		assertEquals(List.of("0001", "0003"), result.getValues().stream()
+				.map(item -> item.getExpenditureItemCode().getValue()).sorted().toList(),
+				"指定した支出項目コードのうち該当データのあるものだけが取得されること");
+	}
+
+	/**
+	 * 支出金額テーブルの指定支出項目コードのデータを取得します。
+	 */
+	private Map<String, Object> selectRow(String sisyutuItemCode) {
+		return jdbcTemplate.queryForMap(
+				"SELECT * FROM SISYUTU_KINGAKU_TABLE WHERE USER_ID=? AND TARGET_YEAR=? AND TARGET_MONTH=? AND SISYUTU_ITEM_CODE=?",
+				"TEST-USER-ID", "2025", "12", sisyutuItemCode);
+	}
+
+	/**
+	 * テスト用の増減値を生成します。
+	 */
+	private ExpenditureAmountDelta createDelta(String sisyutuItemCode, String amount, String amountB, String amountC, LocalDate paymentDate) {
+		return ExpenditureAmountDelta.from(UserId.from("TEST-USER-ID"), TargetYear.from("2025"), TargetMonth.from("12"),
+				ExpenditureItemCode.from(sisyutuItemCode), new BigDecimal(amount),
+				amountB == null ? null : new BigDecimal(amountB), amountC == null ? null : new BigDecimal(amountC), paymentDate);
+	}
+
 	/**
 	 *<pre>
 	 * JdbcTemplateのqueryForMapで取得したDATE型カラムの値(java.sql.Date)をLocalDateに変換して返します。
@@ -0,0 +1,137 @@
+/**
+ * CodeSequenceTableDataSourceのテストクラスです。
+ *
+ * [テスト対象メソッド]
+ * ・increment() : 発番済みの最終番号の加算
+ * ・findLastIssuedNumber() : 発番済みの最終番号の取得
+ * ・addOrIncrement() : 採番範囲の新規登録(登録済みの場合は加算)
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  全コード種別の年月単位の採番範囲を登録できることのテストを追加
+ * 2026/10/17 : 1.02.00  採番範囲の登録・加算(addOrIncrement)への変更に対応
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.yonetani.webapp.accountbook.domain.model.common.CodeSequenceKey;
+import com.yonetani.webapp.accountbook.domain.repository.common.CodeSequenceTableRepository;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.infrastructure.mapper.common.CodeSequenceTableMapper;
+
+/**
+ *<pre>
+ * CodeSequenceTableDataSourceのテストクラスです。
+ *
+ * [テスト対象メソッド]
+ * ・increment() : 発番済みの最終番号の加算
+ * ・findLastIssuedNumber() : 発番済みの最終番号の取得
+ * ・addOrIncrement() : 採番範囲の新規登録(登録済みの場合は加算)
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+// MyBatis関連のコンフィグレーションをインジェクションします
+// 登録・加算(ON DUPLICATE KEY UPDATE)を検証するため、組み込みDBに置き換えずMySQLモードのDBを使用
+// (テスト用のH2インメモリDBは他のテストクラスと分離)
+@MybatisTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:codesequencedb;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// SpringBootアプリケーション設定ファイルにapplication-unit-test.ymlを設定
+@ActiveProfiles("unit-test")
+class CodeSequenceTableDataSourceTest {
+
+	// CodeSequenceTableRepository
+	private CodeSequenceTableRepository repository;
+	// CodeSequenceTable mapper
+	@Autowired
+	private CodeSequenceTableMapper codeSequenceTableMapper;
+
+	/**
+	 *<pre>
+	 * セットアップ時の処理
+	 *</pre>
+	 * @throws java.lang.Exception
+	 *
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+		// テスト対象のリポジトリーをテストごとに作成
+		repository = new CodeSequenceTableDataSource(codeSequenceTableMapper);
+	}
+
+	/**
+	 *<pre>
+	 * テストaddOrIncrement/increment/findLastIssuedNumber：採番範囲の登録・加算・取得テスト
+	 *
+	 * 【検証内容】
+	 * ・未登録の採番範囲は加算件数0件、取得結果nullとなること
+	 * ・登録後は指定の採番数分加算されること
+	 * ・採番範囲(ユーザID、コード種別、対象年月)ごとに独立して採番されること
+	 * ・登録済みの採番範囲を登録・加算した場合、一意制約違反とならずに採番数分加算されること
+	 *</pre>
+	 */
+	@Test
+	@DisplayName("addOrIncrement/increment/findLastIssuedNumber:採番範囲の登録・加算・取得テスト")
+	void testAddAndIncrement() {
+		CodeSequenceKey incomeKey = CodeSequenceKey.from(UserId.from("user01"), CodeSequenceKey.INCOME_CODE, TargetYearMonth.from("202510"));
+		CodeSequenceKey otherMonthKey = CodeSequenceKey.from(UserId.from("user01"), CodeSequenceKey.INCOME_CODE, TargetYearMonth.from("202511"));
+		CodeSequenceKey eventKey = CodeSequenceKey.from(UserId.from("user01"), CodeSequenceKey.EVENT_CODE);
+
+		// 未登録
+		assertEquals(0, repository.increment(incomeKey, 1));
+		assertNull(repository.findLastIssuedNumber(incomeKey));
+
+		// 登録・加算
+		assertEquals(1, repository.addOrIncrement(incomeKey, 2, 1));
+		assertEquals(1, repository.addOrIncrement(eventKey, 0, 10));
+		assertEquals(1, repository.increment(incomeKey, 2));
+		assertEquals(1, repository.increment(incomeKey, 1));
+		assertEquals(6, repository.findLastIssuedNumber(incomeKey));
+		assertEquals(10, repository.findLastIssuedNumber(eventKey));
+		assertNull(repository.findLastIssuedNumber(otherMonthKey), "別の対象年月の採番範囲には影響しないこと");
+
+		// 登録済みの採番範囲の登録・加算(他のトランザクションが同時に初回採番した場合)
+		assertEquals(2, repository.addOrIncrement(incomeKey, 0, 2), "加算した場合は2が返ること");
+		assertEquals(8, repository.findLastIssuedNumber(incomeKey), "初期値は使用されず採番数分加算されること");
+	}
+
+	/**
+	 *<pre>
+	 * テストaddOrIncrement：全コード種別の採番範囲の登録テスト
+	 *
+	 * 【検証内容】
+	 * ・最も長いコード種別(SHOPPING_REGIST)の年月単位の採番範囲(「コード種別:対象年月」)を含め、
+	 *   全コード種別の採番範囲を登録できること
+	 *</pre>
+	 */
+	@Test
+	@DisplayName("addOrIncrement:全コード種別の年月単位の採番範囲を登録できること")
+	void testAddAllCodeTypes() {
+		for(String codeType : new String[] {CodeSequenceKey.INCOME_CODE, CodeSequenceKey.EXPENDITURE_CODE, CodeSequenceKey.SHOPPING_REGIST_CODE,
+				CodeSequenceKey.SHOPPING_ITEM_CODE, CodeSequenceKey.EVENT_CODE, CodeSequenceKey.EXPENDITURE_ITEM_CODE}) {
+			CodeSequenceKey monthKey = CodeSequenceKey.from(UserId.from("user01"), codeType, TargetYearMonth.from("202512"));
+			CodeSequenceKey userKey = CodeSequenceKey.from(UserId.from("user01"), codeType);
+			assertEquals(1, repository.addOrIncrement(monthKey, 0, 1), codeType);
+			assertEquals(1, repository.addOrIncrement(userKey, 0, 1), codeType);
+			assertEquals(1, repository.findLastIssuedNumber(monthKey), codeType);
+		}
+	}
+}
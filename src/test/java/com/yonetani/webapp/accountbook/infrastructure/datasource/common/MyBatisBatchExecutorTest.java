@@ -0,0 +1,128 @@
+/**
+ * MyBatisBatchExecutorのテストクラスです。
+ *
+ * [テスト対象メソッド]
+ * ・execute() : JDBCバッチの実行と対象データごとの更新件数の返却
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Statement;
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+/**
+ *<pre>
+ * MyBatisBatchExecutorのテストクラスです。
+ *
+ * [テスト対象メソッド]
+ * ・execute() : JDBCバッチの実行と対象データごとの更新件数の返却
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+class MyBatisBatchExecutorTest {
+
+	/**
+	 * テスト用のマッパーです。
+	 */
+	interface TestMapper {
+		void write(String data);
+	}
+
+	// モック:SqlSessionFactory
+	@Mock
+	private SqlSessionFactory sqlSessionFactory;
+	// モック:Spring管理のSqlSession
+	@Mock
+	private SqlSessionTemplate sqlSessionTemplate;
+	// モック:BATCHエグゼキューターのSqlSession
+	@Mock
+	private SqlSession batchSession;
+	// モック:テスト用のマッパー
+	@Mock
+	private TestMapper mapper;
+
+	// テスト対象
+	private MyBatisBatchExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		executor = new MyBatisBatchExecutor(sqlSessionFactory, sqlSessionTemplate);
+	}
+
+	@Test
+	@DisplayName("対象データごとの更新件数を対象データと同じ順番で返すこと")
+	void testExecute() {
+		setUpBatchResult(SqlCommandType.UPDATE, 1, 0, 1);
+
+		int[] counts = executor.execute(TestMapper.class, List.of("a", "b", "c"), data -> data, TestMapper::write);
+
+		assertArrayEquals(new int[] {1, 0, 1}, counts);
+		verify(mapper, times(3)).write(anyString());
+		verify(sqlSessionTemplate).clearCache();
+	}
+
+	@Test
+	@DisplayName("登録の件数不明(SUCCESS_NO_INFO)は更新件数1件として返すこと")
+	void testExecuteInsertSuccessNoInfo() {
+		setUpBatchResult(SqlCommandType.INSERT, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO);
+
+		int[] counts = executor.execute(TestMapper.class, List.of("a", "b"), data -> data, TestMapper::write);
+
+		assertArrayEquals(new int[] {1, 1}, counts);
+	}
+
+	@Test
+	@DisplayName("更新の件数不明(SUCCESS_NO_INFO)は予期しないエラーとなること")
+	void testExecuteUpdateSuccessNoInfo() {
+		setUpBatchResult(SqlCommandType.UPDATE, 1, Statement.SUCCESS_NO_INFO);
+
+		MyHouseholdAccountBookRuntimeException ex = assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> executor.execute(TestMapper.class, List.of("a", "b"), data -> data, TestMapper::write));
+		assertEquals("JDBCドライバから更新件数が返されませんでした。更新件数を返すJDBCドライバの設定で実行してください。[statement=TestMapper.write]",
+				ex.getMessage());
+		verify(sqlSessionTemplate).clearCache();
+	}
+
+	/**
+	 * BATCHエグゼキューターのSqlSessionが指定のステートメント種別・件数の実行結果を返すよう設定します。
+	 */
+	private void setUpBatchResult(SqlCommandType commandType, int... updateCounts) {
+		MappedStatement mappedStatement = new MappedStatement.Builder(
+				new Configuration(), "TestMapper.write", parameter -> null, commandType).build();
+		BatchResult result = new BatchResult(mappedStatement, "sql");
+		result.setUpdateCounts(updateCounts);
+		doReturn(batchSession).when(sqlSessionFactory).openSession(ExecutorType.BATCH);
+		doReturn(mapper).when(batchSession).getMapper(TestMapper.class);
+		doReturn(List.of(result)).when(batchSession).flushStatements();
+	}
+}
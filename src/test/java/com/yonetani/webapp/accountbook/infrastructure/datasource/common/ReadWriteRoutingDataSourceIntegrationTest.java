@@ -0,0 +1,291 @@
+/**
+ * ReadWriteRoutingDataSource(参照専用トランザクションのレプリカへの振り分け)の統合テストです。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・プライマリ、レプリカを別々のH2インメモリDBとし、同じテストデータを登録後、片方のみ変更して振り分け先を判定
+ * ・コミット後の処理(整合性検証済みバージョンの登録、許容遅延時間)を検証するため、テストメソッドはトランザクション外で実行
+ * ・許容遅延時間は500ミリ秒(前のテストの更新コミットの影響を受けないよう、セットアップで経過を待機)
+ * ・ログインユーザ単位の判定は、スレッドの認証情報(SecurityContextHolder)にログインユーザを設定して検証
+ *
+ * [テストシナリオ]
+ * ①  正常系：参照専用トランザクションはレプリカ、更新トランザクション・トランザクション外はプライマリから参照すること
+ * ②  正常系：各月の収支照会(参照専用のユースケース)がレプリカのデータを表示すること
+ * ③  正常系：照会時の整合性検証済みバージョンがコミット後にプライマリに登録されること
+ * ④  正常系：更新トランザクションのコミット後、許容遅延時間内は参照専用トランザクションもプライマリから参照すること
+ * ⑤  正常系：他のユーザの更新コミット後の許容遅延時間内でも、参照専用トランザクションはレプリカから参照すること
+ * ⑥  正常系：更新トランザクション内で複数回接続を取得しても、コミット後処理の登録は1回のみであること
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  ログインユーザ単位の許容遅延時間、コミット後処理の登録回数のテスト追加
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yonetani.webapp.accountbook.application.usecase.account.inquiry.AccountMonthInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountMonthInquiryCacheComponent;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.presentation.response.account.inquiry.AccountMonthInquiryResponse;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+
+/**
+ *<pre>
+ * ReadWriteRoutingDataSource(参照専用トランザクションのレプリカへの振り分け)の統合テストです。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:routingprimarydb;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"accountbook.datasource.replica.enabled=true",
+	"accountbook.datasource.replica.jdbc-url=jdbc:h2:mem:routingreplicadb;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"accountbook.datasource.replica.username=sa",
+	"accountbook.datasource.replica.password=sa",
+	"accountbook.datasource.replica.driver-class-name=org.h2.Driver",
+	"accountbook.datasource.replica.pool-name=ReplicaConnectionPool",
+	"accountbook.datasource.replica.lag-tolerance-millis=500"
+})
+@ActiveProfiles("test")
+@DisplayName("参照専用トランザクションのレプリカへの振り分け(ReadWriteRoutingDataSource)の統合テスト")
+class ReadWriteRoutingDataSourceIntegrationTest {
+
+	// ユーザ情報の参照SQL
+	private static final String SELECT_USER_NAME = "SELECT USER_NAME FROM ACCOUNT_BOOK_USER WHERE USER_ID = 'user01'";
+	// 整合性検証済みバージョンの参照SQL(2025年11月)
+	private static final String SELECT_VALIDATED_VERSION = "SELECT VALIDATED_VERSION FROM INCOME_AND_EXPENDITURE_TABLE"
+			+ " WHERE USER_ID = 'user01' AND TARGET_YEAR = '2025' AND TARGET_MONTH = '11'";
+	// テストデータの登録先テーブル(削除順:外部キーの参照元から)
+	private static final String[] TEST_DATA_TABLES = {
+		"SISYUTU_KINGAKU_TABLE", "EXPENDITURE_TABLE", "INCOME_TABLE",
+		"INCOME_AND_EXPENDITURE_TABLE", "SISYUTU_ITEM_TABLE", "ACCOUNT_BOOK_USER"
+	};
+
+	// プライマリのデータソース(振り分けを経由しない)
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	// レプリカのデータソース(振り分けを経由しない)
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	// 振り分けデータソース
+	@Autowired
+	private ReadWriteRoutingDataSource routingDataSource;
+
+	// DBアクセス(振り分けデータソース経由)
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// トランザクションマネージャー
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// 各月の収支照会のユースケース
+	@Autowired
+	private AccountMonthInquiryUseCase accountMonthInquiryUseCase;
+
+	// 各月の収支画面の表示データキャッシュ
+	@Autowired
+	private AccountMonthInquiryCacheComponent monthInquiryCache;
+
+	// DBアクセス(プライマリ)
+	private JdbcTemplate primaryJdbcTemplate;
+	// DBアクセス(レプリカ)
+	private JdbcTemplate replicaJdbcTemplate;
+
+	@BeforeEach
+	void setup() throws InterruptedException {
+		primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+		replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		// プライマリ・レプリカに同じテストデータを登録(レプリカのテーブルはここで作成)
+		ResourceDatabasePopulator schemaPopulator = new ResourceDatabasePopulator(
+				new ClassPathResource("sql/initsql/schema_test.sql"));
+		schemaPopulator.setSqlScriptEncoding("UTF-8");
+		ResourceDatabasePopulator dataPopulator = new ResourceDatabasePopulator(
+				new ClassPathResource("com/yonetani/webapp/accountbook/application/usecase/account/inquiry/AccountMonthInquiryIntegrationTest.sql"));
+		dataPopulator.setSqlScriptEncoding("UTF-8");
+		for(JdbcTemplate template : new JdbcTemplate[] {primaryJdbcTemplate, replicaJdbcTemplate}) {
+			schemaPopulator.execute(template.getDataSource());
+			for(String table : TEST_DATA_TABLES) {
+				template.update("DELETE FROM " + table);
+			}
+			dataPopulator.execute(template.getDataSource());
+		}
+		monthInquiryCache.evictAll(UserId.from("user01"));
+		// 前のテストの更新コミット(ログインユーザなし、各テストユーザ)からの許容遅延時間の経過を待機
+		for(String userId : new String[] {null, "user01", "user02"}) {
+			setLoginUser(userId);
+			while(routingDataSource.isWithinLagTolerance()) {
+				Thread.sleep(50);
+			}
+		}
+		SecurityContextHolder.clearContext();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	/**
+	 * スレッドの認証情報にログインユーザを設定します(nullの場合はログインユーザなし)。
+	 */
+	private void setLoginUser(String userId) {
+		if(userId == null) {
+			SecurityContextHolder.clearContext();
+		} else {
+			SecurityContextHolder.getContext().setAuthentication(
+					new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+		}
+	}
+
+	/**
+	 * 更新トランザクションでユーザ名を更新します。
+	 */
+	private void updateUserName(String userName) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.executeWithoutResult(status -> jdbcTemplate.update(
+				"UPDATE ACCOUNT_BOOK_USER SET USER_NAME = ? WHERE USER_ID = 'user01'", userName));
+	}
+
+	/**
+	 * 参照専用/更新トランザクション内でユーザ名を参照します。
+	 */
+	private String readUserName(boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> jdbcTemplate.queryForObject(SELECT_USER_NAME, String.class));
+	}
+
+	@Test
+	@DisplayName("正常系：参照専用トランザクションはレプリカ、更新トランザクション・トランザクション外はプライマリから参照すること")
+	void testRouting() {
+		replicaJdbcTemplate.update("UPDATE ACCOUNT_BOOK_USER SET USER_NAME = 'レプリカ' WHERE USER_ID = 'user01'");
+
+		assertEquals("レプリカ", readUserName(true));
+		assertEquals("テストユーザ01", jdbcTemplate.queryForObject(SELECT_USER_NAME, String.class));
+		// 更新トランザクション(参照のみ)のコミット後は許容遅延時間内のためプライマリ
+		assertEquals("テストユーザ01", readUserName(false));
+		assertTrue(routingDataSource.isWithinLagTolerance());
+		assertEquals("テストユーザ01", readUserName(true));
+	}
+
+	@Test
+	@DisplayName("正常系：各月の収支照会(参照専用のユースケース)がレプリカのデータを表示すること")
+	void testAccountMonthInquiryReadsReplica() {
+		// プライマリのテストデータを削除(プライマリから参照した場合は収支データなし)
+		for(String table : TEST_DATA_TABLES) {
+			primaryJdbcTemplate.update("DELETE FROM " + table);
+		}
+
+		AccountMonthInquiryResponse response = accountMonthInquiryUseCase.read(
+				LoginUserInfo.from("user01", "テストユーザ01"));
+
+		assertFalse(response.isErrorResponse());
+		assertTrue(response.isSyuusiDataFlg());
+		assertEquals("350,000円", response.getSyuunyuuKingaku());
+	}
+
+	@Test
+	@DisplayName("正常系：照会時の整合性検証済みバージョンがコミット後にプライマリに登録されること")
+	void testValidatedVersionWrittenToPrimary() {
+		assertNull(primaryJdbcTemplate.queryForObject(SELECT_VALIDATED_VERSION, Long.class));
+
+		assertFalse(accountMonthInquiryUseCase.read(LoginUserInfo.from("user01", "テストユーザ01")).isErrorResponse());
+
+		// 照会(レプリカ)のコミット後に新規トランザクションでプライマリに登録
+		assertEquals(0L, primaryJdbcTemplate.queryForObject(SELECT_VALIDATED_VERSION, Long.class));
+		assertNull(replicaJdbcTemplate.queryForObject(SELECT_VALIDATED_VERSION, Long.class));
+		// 整合性検証済みバージョンの登録(更新トランザクション)のコミットで許容遅延時間の計測を開始
+		assertTrue(routingDataSource.isWithinLagTolerance());
+	}
+
+	@Test
+	@DisplayName("正常系：更新トランザクションのコミット後、許容遅延時間内は参照専用トランザクションもプライマリから参照すること")
+	void testLagTolerance() throws InterruptedException {
+		// レプリカに未反映の更新
+		updateUserName("更新後");
+		assertEquals("テストユーザ01", replicaJdbcTemplate.queryForObject(SELECT_USER_NAME, String.class));
+
+		// 許容遅延時間内:プライマリ(更新後のデータ)
+		assertEquals("更新後", readUserName(true));
+
+		// 許容遅延時間経過後:レプリカ
+		Thread.sleep(600);
+		assertFalse(routingDataSource.isWithinLagTolerance());
+		assertEquals("テストユーザ01", readUserName(true));
+	}
+
+	@Test
+	@DisplayName("正常系：他のユーザの更新コミット後の許容遅延時間内でも、参照専用トランザクションはレプリカから参照すること")
+	void testLagToleranceByUser() {
+		// ユーザ2の更新(レプリカに未反映)
+		setLoginUser("user02");
+		updateUserName("更新後");
+		assertTrue(routingDataSource.isWithinLagTolerance());
+		assertEquals("更新後", readUserName(true));
+
+		// ユーザ1の参照:レプリカ
+		setLoginUser("user01");
+		assertFalse(routingDataSource.isWithinLagTolerance());
+		assertEquals("テストユーザ01", readUserName(true));
+
+		// ログインユーザなしの更新:全ユーザの参照がプライマリ
+		setLoginUser(null);
+		updateUserName("定期実行");
+		setLoginUser("user01");
+		assertTrue(routingDataSource.isWithinLagTolerance());
+		assertEquals("定期実行", readUserName(true));
+	}
+
+	@Test
+	@DisplayName("正常系：更新トランザクション内で複数回接続を取得しても、コミット後処理の登録は1回のみであること")
+	void testSynchronizationRegisteredOnce() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.executeWithoutResult(status -> {
+			int before = TransactionSynchronizationManager.getSynchronizations().size();
+			for(int i = 0; i < 3; i++) {
+				try(Connection connection = routingDataSource.getConnection()) {
+					assertNotNull(connection);
+				} catch(Exception ex) {
+					fail(ex);
+				}
+			}
+			assertEquals(before + 1, TransactionSynchronizationManager.getSynchronizations().size());
+		});
+		assertTrue(routingDataSource.isWithinLagTolerance());
+	}
+}
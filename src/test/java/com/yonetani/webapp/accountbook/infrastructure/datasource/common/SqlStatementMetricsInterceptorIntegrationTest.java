@@ -0,0 +1,196 @@
+/**
+ * SqlStatementMetricsInterceptorの統合テストです。
+ * マップドステートメントごとの実行時間のヒストグラム(Micrometer)の記録、スロークエリログのバインドパラメータ、
+ * Actuatorのmetricsエンドポイントでの公開をテストします。
+ *
+ * <pre>
+ * [テストシナリオ]
+ * ①  正常系：動的SQL(mybatis-thymeleaf)の商品検索の実行時間がパーセンタイル付きで記録されること
+ * ②  正常系：動的SQLのバインドパラメータ(mb:bindの追加パラメータを含む)が取得できること
+ * ③  正常系：マスク対象のプロパティ名のバインドパラメータの値がマスクされること
+ * ④  正常系：Actuatorのmetricsエンドポイントで管理者がSQLステートメントの実行時間を参照できること
+ * ⑤  異常系：Actuatorのmetricsエンドポイントに一般ユーザはアクセスできないこと
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  バインドパラメータのマスクのテストを追加
+ *
+ */
+package com.yonetani.webapp.accountbook.infrastructure.datasource.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.binding.MapperMethod.ParamMap;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.shoppingitem.ShoppingItemInfoManageUseCase;
+import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryShoppingItemInfoSearchCondition;
+import com.yonetani.webapp.accountbook.domain.type.account.shoppingitem.ShoppingItemName;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.infrastructure.dto.searchquery.ShoppingItemInfoSearchConditionSearchQueryDto;
+import com.yonetani.webapp.accountbook.presentation.request.itemmanage.ShoppingItemInfoSearchForm;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+/**
+ *<pre>
+ * SqlStatementMetricsInterceptorの統合テストです。
+ * マップドステートメントごとの実行時間のヒストグラム(Micrometer)の記録、スロークエリログのバインドパラメータ、
+ * Actuatorのmetricsエンドポイントでの公開をテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = "/sql/initsql/schema_test.sql", config = @SqlConfig(encoding = "UTF-8"))
+@DisplayName("SQLステートメントの実行時間のメトリクス(SqlStatementMetricsInterceptor)の統合テスト")
+class SqlStatementMetricsInterceptorIntegrationTest {
+
+	// 商品検索(動的SQL:ShoppingItemInquirySelectSql02.sql)のマップドステートメントのID
+	private static final String SEARCH_STATEMENT_ID =
+			"com.yonetani.webapp.accountbook.infrastructure.mapper.account.shoppingitem.ShoppingItemTableMapper.selectShoppingItemInfoSearchCondition";
+
+	// MVCモック(Spring Securityのフィルターを含む)
+	@Autowired
+	private MockMvc mockMvc;
+
+	// メトリクスの登録先
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// テスト対象のインターセプター
+	@Autowired
+	private SqlStatementMetricsInterceptor interceptor;
+
+	// MyBatisのSqlSessionFactory
+	@Autowired
+	private SqlSessionFactory sqlSessionFactory;
+
+	// 商品検索のユースケース
+	@Autowired
+	private ShoppingItemInfoManageUseCase shoppingItemInfoManageUseCase;
+
+	/**
+	 * 商品検索(ユーザID、商品名)のマップドステートメントとバインド後のSQLを生成し、バインドパラメータの文字列を返します。
+	 */
+	private String toSearchParameterString(SqlStatementMetricsInterceptor target) {
+		MappedStatement mappedStatement = sqlSessionFactory.getConfiguration().getMappedStatement(SEARCH_STATEMENT_ID);
+		ParamMap<Object> parameterObject = new ParamMap<>();
+		parameterObject.put("dto", ShoppingItemInfoSearchConditionSearchQueryDto.from(
+				SearchQueryShoppingItemInfoSearchCondition.from(
+						UserId.from("user01"), null, ShoppingItemName.from("テスト"), null, null)));
+		BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
+		return target.toParameterString(mappedStatement.getConfiguration(), boundSql, parameterObject);
+	}
+
+	/**
+	 * 商品名で商品を検索します。
+	 */
+	private void searchByShoppingItemName(String shoppingItemName) {
+		ShoppingItemInfoSearchForm form = new ShoppingItemInfoSearchForm();
+		form.setSearchTargetKubun(MyHouseholdAccountBookContent.SEARCH_TARGET_SHOPPING_ITEM_NAME);
+		form.setSearchValue(shoppingItemName);
+		shoppingItemInfoManageUseCase.execSearch(LoginUserInfo.from("user01", "テストユーザ01"), form);
+	}
+
+	/**
+	 * 商品検索のタイマーを返します(未登録の場合はnull)。
+	 */
+	private Timer findSearchTimer() {
+		return meterRegistry.find(SqlStatementMetricsInterceptor.METRIC_NAME)
+				.tag(SqlStatementMetricsInterceptor.TAG_STATEMENT, SEARCH_STATEMENT_ID)
+				.timer();
+	}
+
+	@Test
+	@DisplayName("正常系：動的SQL(mybatis-thymeleaf)の商品検索の実行時間がパーセンタイル付きで記録されること")
+	void testRecordTimer() {
+		Timer before = findSearchTimer();
+		long beforeCount = (before == null) ? 0 : before.count();
+
+		searchByShoppingItemName("テスト商品");
+		searchByShoppingItemName("テスト");
+
+		Timer timer = findSearchTimer();
+		assertNotNull(timer);
+		assertEquals(beforeCount + 2, timer.count());
+		assertEquals("SELECT", timer.getId().getTag(SqlStatementMetricsInterceptor.TAG_TYPE));
+		assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+		// 50%・95%・99%のパーセンタイル
+		HistogramSnapshot snapshot = timer.takeSnapshot();
+		assertEquals(3, snapshot.percentileValues().length);
+	}
+
+	@Test
+	@DisplayName("正常系：動的SQLのバインドパラメータ(mb:bindの追加パラメータを含む)が取得できること")
+	void testToParameterString() {
+		String parameters = toSearchParameterString(interceptor);
+		// ユーザID(dtoのプロパティ)と商品名のLIKE検索パターン(mb:bindの追加パラメータ)、未指定の条件は出力しない
+		assertTrue(parameters.startsWith("dto.userId=user01, "), parameters);
+		assertTrue(parameters.endsWith("=%テスト%"), parameters);
+		assertEquals(2, parameters.split(", ").length, parameters);
+	}
+
+	@Test
+	@DisplayName("正常系：マスク対象のプロパティ名のバインドパラメータの値がマスクされること")
+	void testToParameterStringMasked() {
+		// ユーザIDをマスク対象とするインターセプター
+		SqlStatementMetricsInterceptor maskInterceptor = new SqlStatementMetricsInterceptor(meterRegistry, 1000, true, "(?i).*userId");
+
+		String parameters = toSearchParameterString(maskInterceptor);
+		assertTrue(parameters.startsWith("dto.userId=" + SqlStatementMetricsInterceptor.MASKED_VALUE + ", "), parameters);
+		assertFalse(parameters.contains("user01"), parameters);
+		assertTrue(parameters.endsWith("=%テスト%"), parameters);
+	}
+
+	@Test
+	@DisplayName("正常系：Actuatorのmetricsエンドポイントで管理者がSQLステートメントの実行時間を参照できること")
+	void testMetricsEndpoint() throws Exception {
+		searchByShoppingItemName("テスト");
+
+		mockMvc.perform(get("/actuator/metrics/" + SqlStatementMetricsInterceptor.METRIC_NAME)
+				.param("tag", SqlStatementMetricsInterceptor.TAG_STATEMENT + ":" + SEARCH_STATEMENT_ID)
+				.with(user("admin").roles("ADMIN")))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.name").value(SqlStatementMetricsInterceptor.METRIC_NAME))
+			.andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").isNotEmpty());
+	}
+
+	@Test
+	@DisplayName("異常系：Actuatorのmetricsエンドポイントに一般ユーザはアクセスできないこと")
+	void testMetricsEndpointForbidden() throws Exception {
+		mockMvc.perform(get("/actuator/metrics/" + SqlStatementMetricsInterceptor.METRIC_NAME)
+				.with(user("user01").roles("USER")))
+			.andExpect(status().isForbidden());
+	}
+}
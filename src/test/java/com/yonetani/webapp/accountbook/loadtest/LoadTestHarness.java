@@ -0,0 +1,122 @@
+/**
+ * 負荷試験のシナリオを指定した同時実行数で実行するクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 負荷試験のシナリオを指定した同時実行数で実行するクラスです。
+ * 同時実行数の仮想ユーザ(スレッド)が、それぞれ指定回数シナリオを繰り返し実行します。
+ * 全仮想ユーザの実行開始をそろえ、開始から全仮想ユーザの終了までの経過時間をスループットの計算に使用します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@Log4j2
+public class LoadTestHarness {
+
+	// 同時実行数(仮想ユーザ数)
+	private final int concurrency;
+	// 仮想ユーザごとのシナリオの実行回数
+	private final int iterations;
+
+	/**
+	 *<pre>
+	 * 引数の値から負荷試験の実行クラスを生成して返します。
+	 *</pre>
+	 * @param concurrency 同時実行数(仮想ユーザ数)
+	 * @param iterations 仮想ユーザごとのシナリオの実行回数
+	 * @return 負荷試験の実行クラス
+	 *
+	 */
+	public static LoadTestHarness from(int concurrency, int iterations) {
+		if(concurrency <= 0 || iterations <= 0) {
+			throw new MyHouseholdAccountBookRuntimeException("負荷試験の同時実行数、実行回数が不正です。[concurrency="
+					+ concurrency + "][iterations=" + iterations + "]");
+		}
+		return new LoadTestHarness(concurrency, iterations);
+	}
+
+	/**
+	 *<pre>
+	 * シナリオを実行し、計測結果のレポートを返します。
+	 * シナリオで例外が発生した場合は失敗回数に数え、次の実行を継続します。
+	 *</pre>
+	 * @param scenarioName シナリオ名
+	 * @param scenario 実行するシナリオ
+	 * @return 計測結果のレポート
+	 * @throws InterruptedException 実行中に割り込みが発生した場合
+	 *
+	 */
+	public LoadTestReport run(String scenarioName, LoadTestScenario scenario) throws InterruptedException {
+		log.info("run:scenario=" + scenarioName + ",concurrency=" + concurrency + ",iterations=" + iterations);
+		LoadTestRecorder recorder = new LoadTestRecorder();
+		AtomicInteger failedCount = new AtomicInteger();
+		CountDownLatch ready = new CountDownLatch(concurrency);
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			List<Future<?>> futureList = new ArrayList<>();
+			for(int i = 0; i < concurrency; i++) {
+				int virtualUserIndex = i;
+				futureList.add(executor.submit(() -> {
+					ready.countDown();
+					start.await();
+					for(int iteration = 0; iteration < iterations; iteration++) {
+						try {
+							scenario.execute(recorder, virtualUserIndex, iteration);
+						} catch(Exception | AssertionError ex) {
+							failedCount.incrementAndGet();
+							recorder.addError("virtualUser=" + virtualUserIndex + ",iteration=" + iteration + ":" + ex);
+						}
+					}
+					return null;
+				}));
+			}
+			ready.await();
+			long startNanos = System.nanoTime();
+			start.countDown();
+			for(Future<?> future : futureList) {
+				try {
+					future.get();
+				} catch(ExecutionException ex) {
+					throw new MyHouseholdAccountBookRuntimeException("負荷試験の仮想ユーザの実行に失敗しました。[scenario=" + scenarioName + "]", ex);
+				}
+			}
+			long elapsedNanos = System.nanoTime() - startNanos;
+			LoadTestReport report = LoadTestReport.from(scenarioName, concurrency, iterations, elapsedNanos,
+					failedCount.get(), recorder);
+			log.info("run:result=\n" + report);
+			return report;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
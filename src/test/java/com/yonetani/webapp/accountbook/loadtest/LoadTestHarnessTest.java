@@ -0,0 +1,76 @@
+/**
+ * LoadTestHarness、LoadTestReportのテストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+/**
+ *<pre>
+ * LoadTestHarness、LoadTestReportのテストクラスです。
+ * 負荷試験(WebFlowLoadTest)は通常のテストでは実行しないため、実行クラスと集計処理をここで確認します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@DisplayName("負荷試験の実行クラス(LoadTestHarness)・レポート(LoadTestReport)のテスト")
+class LoadTestHarnessTest {
+
+	@Test
+	@DisplayName("正常系：パーセンタイル値がnearest-rank法で求められること")
+	void testPercentile() {
+		long[] values = new long[100];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = i + 1;
+		}
+		assertEquals(50, LoadTestReport.percentile(values, 50));
+		assertEquals(95, LoadTestReport.percentile(values, 95));
+		assertEquals(99, LoadTestReport.percentile(values, 99));
+		assertEquals(7, LoadTestReport.percentile(new long[] {7}, 99));
+		assertEquals(0, LoadTestReport.percentile(new long[0], 50));
+	}
+
+	@Test
+	@DisplayName("正常系：全仮想ユーザが指定回数シナリオを実行し、失敗回数が集計されること")
+	void testRun() throws InterruptedException {
+		Set<String> executedSet = ConcurrentHashMap.newKeySet();
+		LoadTestReport report = LoadTestHarness.from(3, 4).run("test", (recorder, user, iteration) -> {
+			executedSet.add(user + ":" + iteration);
+			if(user == 1 && iteration == 2) {
+				throw new IllegalStateException("scenario error");
+			}
+		});
+		assertEquals(12, executedSet.size());
+		assertEquals("test", report.getScenarioName());
+		assertEquals(1, report.getFailedCount());
+		assertEquals(1, report.getErrorCount());
+		assertEquals(1, report.getErrorMessageList().size());
+		assertTrue(report.getErrorMessageList().get(0).contains("virtualUser=1,iteration=2"));
+		assertTrue(report.getElapsedNanos() > 0);
+		assertTrue(report.toString().contains("scenario error"));
+	}
+
+	@Test
+	@DisplayName("異常系：同時実行数、実行回数が0以下の場合はエラー")
+	void testFrom_Invalid() {
+		assertThrows(MyHouseholdAccountBookRuntimeException.class, () -> LoadTestHarness.from(0, 1));
+		assertThrows(MyHouseholdAccountBookRuntimeException.class, () -> LoadTestHarness.from(1, 0));
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * 負荷試験のリクエストごとの計測結果を記録するクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  ステートメント数の計測をDBアクセス統計(DbAccessStatisticsContext)に変更・取得行数を追加
+ *
+ */
+package com.yonetani.webapp.accountbook.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatistics;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsContext;
+
+/**
+ *<pre>
+ * 負荷試験のリクエストごとの計測結果(応答時間、MyBatisのステートメント数、取得行数)を記録するクラスです。
+ * 複数の仮想ユーザのスレッドから同時に呼び出されます。
+ * MockMvcのリクエストは呼び出し元のスレッドで処理されるため、リクエストの前後でDBアクセス統計の計測を開始・終了し、
+ * 1リクエストあたりのステートメント数、取得行数を取得します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+public class LoadTestRecorder {
+
+	/**
+	 *<pre>
+	 * 1リクエスト分の計測結果です。
+	 *</pre>
+	 */
+	static class Sample {
+		// 応答時間(ナノ秒)
+		final long elapsedNanos;
+		// MyBatisのステートメント数
+		final int statementCount;
+		// SELECTで取得した行数
+		final long rowCount;
+		// エラー(HTTPステータス400以上)かどうか
+		final boolean error;
+
+		Sample(long elapsedNanos, int statementCount, long rowCount, boolean error) {
+			this.elapsedNanos = elapsedNanos;
+			this.statementCount = statementCount;
+			this.rowCount = rowCount;
+			this.error = error;
+		}
+	}
+
+	// 記録するエラー内容の最大件数
+	private static final int MAX_ERROR_MESSAGES = 10;
+
+	// リクエスト名ごとの計測結果(記録順)
+	private final Map<String, List<Sample>> sampleMap = new LinkedHashMap<>();
+	// シナリオ実行時のエラー内容
+	private final List<String> errorMessageList = new ArrayList<>();
+
+	/**
+	 *<pre>
+	 * リクエストを実行し、応答時間とMyBatisのステートメント数、取得行数を記録します。
+	 * HTTPステータスが400以上の場合はエラーとして記録します。
+	 *</pre>
+	 * @param requestName 集計単位のリクエスト名
+	 * @param mockMvc 実行するMockMvc
+	 * @param requestBuilder 実行するリクエスト
+	 * @return リクエストの実行結果
+	 * @throws Exception リクエストの実行に失敗した場合
+	 *
+	 */
+	public MvcResult perform(String requestName, MockMvc mockMvc, RequestBuilder requestBuilder) throws Exception {
+		MvcResult result;
+		DbAccessStatistics statistics;
+		DbAccessStatisticsContext.begin(requestName);
+		try {
+			result = mockMvc.perform(requestBuilder).andReturn();
+		} finally {
+			statistics = DbAccessStatisticsContext.end();
+		}
+		int status = result.getResponse().getStatus();
+		add(requestName, new Sample(statistics.getElapsedNanos(), statistics.getStatementCount(), statistics.getRowCount(),
+				status >= 400));
+		if(status >= 400) {
+			addError(requestName + ":status=" + status + ",exception=" + result.getResolvedException());
+		}
+		return result;
+	}
+
+	/**
+	 *<pre>
+	 * シナリオ実行時のエラー内容を記録します。
+	 *</pre>
+	 * @param message エラー内容
+	 *
+	 */
+	public synchronized void addError(String message) {
+		if(errorMessageList.size() < MAX_ERROR_MESSAGES) {
+			errorMessageList.add(message);
+		}
+	}
+
+	/**
+	 * 計測結果を追加します。
+	 */
+	private synchronized void add(String requestName, Sample sample) {
+		sampleMap.computeIfAbsent(requestName, key -> new ArrayList<>()).add(sample);
+	}
+
+	/**
+	 * リクエスト名ごとの計測結果を返します。
+	 */
+	synchronized Map<String, List<Sample>> getSampleMap() {
+		Map<String, List<Sample>> result = new LinkedHashMap<>();
+		sampleMap.forEach((key, value) -> result.put(key, List.copyOf(value)));
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * 記録したエラー内容を返します。
+	 */
+	synchronized List<String> getErrorMessageList() {
+		return List.copyOf(errorMessageList);
+	}
+}
@@ -0,0 +1,195 @@
+/**
+ * 負荷試験のシナリオ1件分の計測結果のレポートです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  1リクエストあたりの取得行数を追加
+ *
+ */
+package com.yonetani.webapp.accountbook.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *<pre>
+ * 負荷試験のシナリオ1件分の計測結果のレポートです。
+ * リクエスト名ごとに以下を集計します。
+ * ・件数、エラー件数(HTTPステータス400以上)
+ * ・応答時間のp50/p95/p99/最大値(ミリ秒、nearest-rank法)
+ * ・スループット(シナリオの経過時間あたりのリクエスト数/秒)
+ * ・1リクエストあたりのMyBatisのステートメント数(平均、最大)
+ * ・1リクエストあたりのSELECTで取得した行数(平均)
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class LoadTestReport {
+
+	/**
+	 *<pre>
+	 * リクエスト名ごとの集計値です。
+	 *</pre>
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter
+	public static class RequestSummary {
+		// リクエスト名
+		private final String requestName;
+		// 件数
+		private final int count;
+		// エラー件数
+		private final int errorCount;
+		// 応答時間のp50(ミリ秒)
+		private final double p50Millis;
+		// 応答時間のp95(ミリ秒)
+		private final double p95Millis;
+		// 応答時間のp99(ミリ秒)
+		private final double p99Millis;
+		// 応答時間の最大値(ミリ秒)
+		private final double maxMillis;
+		// スループット(リクエスト数/秒)
+		private final double throughput;
+		// 1リクエストあたりのステートメント数の平均
+		private final double averageStatements;
+		// 1リクエストあたりのステートメント数の最大
+		private final int maxStatements;
+		// 1リクエストあたりの取得行数の平均
+		private final double averageRows;
+
+		/**
+		 * 計測結果から集計値を生成します。
+		 */
+		private static RequestSummary from(String requestName, List<LoadTestRecorder.Sample> sampleList, long elapsedNanos) {
+			long[] elapsed = sampleList.stream().mapToLong(sample -> sample.elapsedNanos).sorted().toArray();
+			return new RequestSummary(
+					requestName,
+					sampleList.size(),
+					(int)sampleList.stream().filter(sample -> sample.error).count(),
+					toMillis(percentile(elapsed, 50)),
+					toMillis(percentile(elapsed, 95)),
+					toMillis(percentile(elapsed, 99)),
+					toMillis(elapsed.length == 0 ? 0 : elapsed[elapsed.length - 1]),
+					elapsedNanos == 0 ? 0 : sampleList.size() * 1_000_000_000d / elapsedNanos,
+					sampleList.stream().mapToInt(sample -> sample.statementCount).average().orElse(0),
+					sampleList.stream().mapToInt(sample -> sample.statementCount).max().orElse(0),
+					sampleList.stream().mapToLong(sample -> sample.rowCount).average().orElse(0));
+		}
+	}
+
+	// シナリオ名
+	private final String scenarioName;
+	// 同時実行数
+	private final int concurrency;
+	// 仮想ユーザごとの実行回数
+	private final int iterations;
+	// シナリオの経過時間(ナノ秒)
+	private final long elapsedNanos;
+	// シナリオの失敗回数
+	private final int failedCount;
+	// リクエスト名ごとの集計値
+	private final List<RequestSummary> requestSummaryList;
+	// 全リクエストの集計値
+	private final RequestSummary totalSummary;
+	// エラー内容
+	private final List<String> errorMessageList;
+
+	/**
+	 *<pre>
+	 * 計測結果からレポートを生成して返します。
+	 *</pre>
+	 * @param scenarioName シナリオ名
+	 * @param concurrency 同時実行数
+	 * @param iterations 仮想ユーザごとの実行回数
+	 * @param elapsedNanos シナリオの経過時間(ナノ秒)
+	 * @param failedCount シナリオの失敗回数
+	 * @param recorder 計測結果
+	 * @return 計測結果のレポート
+	 *
+	 */
+	public static LoadTestReport from(String scenarioName, int concurrency, int iterations, long elapsedNanos,
+			int failedCount, LoadTestRecorder recorder) {
+		List<RequestSummary> summaryList = new ArrayList<>();
+		List<LoadTestRecorder.Sample> allSampleList = new ArrayList<>();
+		recorder.getSampleMap().forEach((requestName, sampleList) -> {
+			summaryList.add(RequestSummary.from(requestName, sampleList, elapsedNanos));
+			allSampleList.addAll(sampleList);
+		});
+		return new LoadTestReport(scenarioName, concurrency, iterations, elapsedNanos, failedCount,
+				Collections.unmodifiableList(summaryList), RequestSummary.from("(合計)", allSampleList, elapsedNanos),
+				recorder.getErrorMessageList());
+	}
+
+	/**
+	 *<pre>
+	 * 全リクエストのエラー件数とシナリオの失敗回数の合計を返します。
+	 *</pre>
+	 * @return エラー件数
+	 *
+	 */
+	public int getErrorCount() {
+		return totalSummary.getErrorCount() + failedCount;
+	}
+
+	/**
+	 *<pre>
+	 * レポートを表形式の文字列で返します。
+	 *</pre>
+	 * @return レポートの文字列
+	 *
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("[%s] concurrency=%d, iterations=%d, elapsed=%.1fms, failed=%d%n",
+				scenarioName, concurrency, iterations, elapsedNanos / 1_000_000d, failedCount));
+		builder.append(String.format("%-72s %7s %6s %9s %9s %9s %9s %10s %8s %6s %9s%n",
+				"request", "count", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "req/s", "stmt/req", "stmt", "rows/req"));
+		for(RequestSummary summary : requestSummaryList) {
+			appendSummary(builder, summary);
+		}
+		appendSummary(builder, totalSummary);
+		errorMessageList.forEach(message -> builder.append("  error: ").append(message).append(System.lineSeparator()));
+		return builder.toString();
+	}
+
+	/**
+	 * 集計値を1行分追加します。
+	 */
+	private static void appendSummary(StringBuilder builder, RequestSummary summary) {
+		builder.append(String.format("%-72s %7d %6d %9.2f %9.2f %9.2f %9.2f %10.1f %8.2f %6d %9.1f%n",
+				summary.getRequestName(), summary.getCount(), summary.getErrorCount(), summary.getP50Millis(),
+				summary.getP95Millis(), summary.getP99Millis(), summary.getMaxMillis(), summary.getThroughput(),
+				summary.getAverageStatements(), summary.getMaxStatements(), summary.getAverageRows()));
+	}
+
+	/**
+	 * ソート済みの値からパーセンタイル値(nearest-rank法)を返します。
+	 */
+	static long percentile(long[] sortedValues, int percent) {
+		if(sortedValues.length == 0) {
+			return 0;
+		}
+		int rank = (int)Math.ceil(percent / 100d * sortedValues.length);
+		return sortedValues[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * ナノ秒をミリ秒に変換します。
+	 */
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+}
@@ -0,0 +1,38 @@
+/**
+ * 負荷試験で仮想ユーザが繰り返し実行するシナリオです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.loadtest;
+
+/**
+ *<pre>
+ * 負荷試験で仮想ユーザが繰り返し実行するシナリオです。
+ * 1回の実行で画面操作1回分(複数リクエスト)を実行し、各リクエストをLoadTestRecorderで計測します。
+ * 想定外の応答の場合は例外(AssertionErrorなど)をスローしてください。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@FunctionalInterface
+public interface LoadTestScenario {
+
+	/**
+	 *<pre>
+	 * シナリオを1回実行します。
+	 *</pre>
+	 * @param recorder 計測結果の記録先
+	 * @param virtualUserIndex 仮想ユーザのインデックス(0始まり)
+	 * @param iteration 仮想ユーザごとの実行回数(0始まり)
+	 * @throws Exception シナリオの実行に失敗した場合
+	 *
+	 */
+	void execute(LoadTestRecorder recorder, int virtualUserIndex, int iteration) throws Exception;
+}
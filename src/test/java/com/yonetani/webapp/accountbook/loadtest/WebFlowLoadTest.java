@@ -0,0 +1,290 @@
+/**
+ * 主要な画面操作を同時実行する負荷試験です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  ステートメント数の計測をDBアクセス統計に変更(テスト用インターセプターを削除)
+ *
+ */
+package com.yonetani.webapp.accountbook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.yonetani.webapp.accountbook.common.content.MyHouseholdAccountBookContent;
+import com.yonetani.webapp.accountbook.testdata.SyntheticDataGenerator;
+import com.yonetani.webapp.accountbook.testdata.SyntheticDataSettings;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 主要な画面操作を同時実行する負荷試験です。
+ * 合成データ(SyntheticDataGenerator)で登録したユーザごとに仮想ユーザを割り当て、フォームログインで認証したセッションで
+ * 以下のシナリオをMockMvc経由で同時実行し、リクエストごとの応答時間(p50/p95/p99)、スループット、
+ * MyBatisのステートメント数、取得行数を計測します。
+ * ・ログイン(ログイン→トップメニュー)
+ * ・各月の収支参照
+ * ・年間収支(マージ)、年間収支(明細)
+ * ・買い物登録(簡易タイプ)(初期表示→登録)
+ * ・収支登録(更新)(初期表示→支出追加→内容確認→登録)
+ * ・商品検索(初期表示→商品名検索→支出項目別検索)
+ *
+ * 登録系のシナリオはDBにコミットするため、テストクラス終了時に合成データ(画面から登録したデータを含む)を削除します。
+ * 計測値がログ出力に左右されないように、アプリのログレベルはinfoに変更して実行します。
+ *
+ * [実行方法]
+ * 通常のテストでは実行しません。システムプロパティloadtest=trueを指定して実行してください。
+ *   mvn test -Dtest=WebFlowLoadTest -Dloadtest=true
+ * 以下のシステムプロパティで負荷を変更できます。
+ * ・loadtest.concurrency:同時実行数(仮想ユーザ数、デフォルト:4)
+ * ・loadtest.iterations:仮想ユーザごとのシナリオの実行回数(デフォルト:24)
+ * ・loadtest.expenditure-count:合成データの月ごとの支出件数(デフォルト:100)
+ * ・loadtest.result:レポートの出力先(デフォルト:target/loadtest-result.txt)
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest(properties = "logging.level.com.yonetani.webapp.accountbook=info")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Log4j2
+@DisplayName("主要な画面操作の負荷試験")
+class WebFlowLoadTest {
+
+	// 合成データの対象年
+	private static final int TARGET_YEAR = 2024;
+	// 合成データのユーザのパスワード
+	private static final String PASSWORD = "password";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// 負荷試験の実行クラス
+	private LoadTestHarness harness;
+	// 合成データの設定値
+	private SyntheticDataSettings settings;
+	// 仮想ユーザごとのログイン済みセッション
+	private MockHttpSession[] sessions;
+	// 計測結果のレポート
+	private final List<LoadTestReport> reportList = new ArrayList<>();
+
+	/**
+	 *<pre>
+	 * 合成データを登録し、仮想ユーザごとにログインしたセッションを作成します。
+	 *</pre>
+	 * @throws Exception ログインに失敗した場合
+	 *
+	 */
+	@BeforeAll
+	void setUp() throws Exception {
+		harness = LoadTestHarness.from(Integer.getInteger("loadtest.concurrency", 4), Integer.getInteger("loadtest.iterations", 24));
+		settings = SyntheticDataSettings.from("loadtest-", harness.getConcurrency(), TARGET_YEAR, 1,
+				Integer.getInteger("loadtest.expenditure-count", 100), 20261017L);
+		SyntheticDataGenerator.from(jdbcTemplate).delete(settings);
+		SyntheticDataGenerator.from(jdbcTemplate).generate(settings);
+		sessions = new MockHttpSession[harness.getConcurrency()];
+		for(int i = 0; i < sessions.length; i++) {
+			sessions[i] = login(null, settings.getUserId(i));
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 計測結果のレポートを出力し、合成データを削除します。
+	 *</pre>
+	 * @throws IOException レポートの出力に失敗した場合
+	 *
+	 */
+	@AfterAll
+	void tearDown() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		reportList.forEach(report -> builder.append(report).append(System.lineSeparator()));
+		Path resultPath = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.txt"));
+		if(resultPath.getParent() != null) {
+			Files.createDirectories(resultPath.getParent());
+		}
+		Files.writeString(resultPath, builder.toString(), StandardCharsets.UTF_8);
+		log.info("tearDown:result=" + resultPath.toAbsolutePath() + "\n" + builder);
+		SyntheticDataGenerator.from(jdbcTemplate).delete(settings);
+	}
+
+	@Test
+	@Order(1)
+	@DisplayName("ログイン(ログイン→トップメニュー)")
+	void testLogin() throws Exception {
+		run("ログイン", (recorder, user, iteration) -> login(recorder, settings.getUserId(user)));
+	}
+
+	@Test
+	@Order(2)
+	@DisplayName("各月の収支参照")
+	void testAccountMonthInquiry() throws Exception {
+		run("各月の収支参照", (recorder, user, iteration) -> {
+			MvcResult result = recorder.perform("POST /myhacbook/accountinquiry/accountmonth/", mockMvc,
+					post("/myhacbook/accountinquiry/accountmonth/").session(sessions[user]).with(csrf())
+						.param("targetYearMonth", targetYearMonth(iteration)));
+			assertStatus(result, 200);
+		});
+	}
+
+	@Test
+	@Order(3)
+	@DisplayName("年間収支(マージ)、年間収支(明細)")
+	void testAccountYearInquiry() throws Exception {
+		run("年間収支", (recorder, user, iteration) -> {
+			assertStatus(recorder.perform("POST /myhacbook/accountinquiry/accountyear/mage/", mockMvc,
+					post("/myhacbook/accountinquiry/accountyear/mage/").session(sessions[user]).with(csrf())
+						.param("targetYear", String.valueOf(TARGET_YEAR))
+						.param("returnYearMonth", targetYearMonth(iteration))), 200);
+			assertStatus(recorder.perform("POST /myhacbook/accountinquiry/accountyear/meisai/", mockMvc,
+					post("/myhacbook/accountinquiry/accountyear/meisai/").session(sessions[user]).with(csrf())
+						.param("targetYear", String.valueOf(TARGET_YEAR))
+						.param("returnYearMonth", targetYearMonth(iteration))), 200);
+		});
+	}
+
+	@Test
+	@Order(4)
+	@DisplayName("買い物登録(簡易タイプ)(初期表示→登録)")
+	void testSimpleShoppingRegist() throws Exception {
+		run("買い物登録(簡易タイプ)", (recorder, user, iteration) -> {
+			String targetYearMonth = targetYearMonth(iteration);
+			assertStatus(recorder.perform("GET /myhacbook/accountregist/simpleshoppingregist/", mockMvc,
+					get("/myhacbook/accountregist/simpleshoppingregist/").session(sessions[user])
+						.param("targetYearMonth", targetYearMonth)), 200);
+			assertStatus(recorder.perform("POST /myhacbook/accountregist/simpleshoppingregist/update/", mockMvc,
+					post("/myhacbook/accountregist/simpleshoppingregist/update/").session(sessions[user]).with(csrf())
+						.param("action", MyHouseholdAccountBookContent.ACTION_TYPE_ADD)
+						.param("targetYearMonth", targetYearMonth)
+						.param("shopKubunCode", MyHouseholdAccountBookContent.SHOP_KUBUN_GROCERIES_SELECTED_VALUE)
+						.param("shopCode", "001")
+						.param("shoppingDate", targetYearMonth.substring(0, 4) + "/" + targetYearMonth.substring(4) + "/10")
+						.param("shoppingFoodExpenses", "1000")
+						.param("totalPurchasePrice", "1000")
+						.param("shoppingTotalAmount", "1000")), 302);
+		});
+	}
+
+	@Test
+	@Order(5)
+	@DisplayName("収支登録(更新)(初期表示→支出追加→内容確認→登録)")
+	void testIncomeAndExpenditureRegist() throws Exception {
+		run("収支登録(更新)", (recorder, user, iteration) -> {
+			String targetYearMonth = targetYearMonth(iteration);
+			assertStatus(recorder.perform("GET /myhacbook/accountregist/incomeandexpenditure/updateload/", mockMvc,
+					get("/myhacbook/accountregist/incomeandexpenditure/updateload/").session(sessions[user])
+						.param("targetYearMonth", targetYearMonth)), 200);
+			assertStatus(recorder.perform("POST /myhacbook/accountregist/incomeandexpenditure/expenditureupdate/", mockMvc,
+					post("/myhacbook/accountregist/incomeandexpenditure/expenditureupdate/").session(sessions[user]).with(csrf())
+						.param("actionUpdate", "")
+						.param("action", MyHouseholdAccountBookContent.ACTION_TYPE_ADD)
+						// 文房具
+						.param("sisyutuItemCode", "0008")
+						.param("expenditureName", "負荷試験の支出" + iteration)
+						.param("expenditureKubun", "1")
+						.param("siharaiDate", targetYearMonth.substring(0, 4) + "/" + targetYearMonth.substring(4) + "/15")
+						.param("expenditureKingaku", "500")), 302);
+			assertStatus(recorder.perform("POST /myhacbook/accountregist/incomeandexpenditure/registcheck/", mockMvc,
+					post("/myhacbook/accountregist/incomeandexpenditure/registcheck/").session(sessions[user]).with(csrf())
+						.param("actionCheck", "")), 200);
+			assertStatus(recorder.perform("POST /myhacbook/accountregist/incomeandexpenditure/regist/", mockMvc,
+					post("/myhacbook/accountregist/incomeandexpenditure/regist/").session(sessions[user]).with(csrf())
+						.param("actionUpdate", "")), 302);
+		});
+	}
+
+	@Test
+	@Order(6)
+	@DisplayName("商品検索(初期表示→商品名検索→支出項目別検索)")
+	void testShoppingItemSearch() throws Exception {
+		run("商品検索", (recorder, user, iteration) -> {
+			assertStatus(recorder.perform("GET /myhacbook/managebaseinfo/shoppingiteminfo/initload/", mockMvc,
+					get("/myhacbook/managebaseinfo/shoppingiteminfo/initload/").session(sessions[user])), 200);
+			assertStatus(recorder.perform("POST /myhacbook/managebaseinfo/shoppingiteminfo/search/", mockMvc,
+					post("/myhacbook/managebaseinfo/shoppingiteminfo/search/").session(sessions[user]).with(csrf())
+						.param("search", "")
+						.param("searchTargetKubun", MyHouseholdAccountBookContent.SEARCH_TARGET_SHOPPING_ITEM_NAME)
+						.param("searchValue", "商品" + String.format("%05d", iteration % 100 + 1))), 200);
+			assertStatus(recorder.perform("GET /myhacbook/managebaseinfo/shoppingiteminfo/searchbysisyutuitem", mockMvc,
+					get("/myhacbook/managebaseinfo/shoppingiteminfo/searchbysisyutuitem").session(sessions[user])
+						.param("sisyutuItemCode", MyHouseholdAccountBookContent.SISYUTU_ITEM_CODE_INSYOKU_VALUE)), 200);
+		});
+	}
+
+	/**
+	 * シナリオを実行し、レポートを保存してエラーがないことを確認します。
+	 */
+	private void run(String scenarioName, LoadTestScenario scenario) throws InterruptedException {
+		LoadTestReport report = harness.run(scenarioName, scenario);
+		reportList.add(report);
+		assertEquals(0, report.getErrorCount(), report.toString());
+	}
+
+	/**
+	 * フォームログインし、トップメニューを表示してログインユーザセッションを設定したセッションを返します。
+	 * 計測結果の記録先を指定した場合は、各リクエストを計測します。
+	 */
+	private MockHttpSession login(LoadTestRecorder recorder, String userId) throws Exception {
+		MockHttpSession session = new MockHttpSession();
+		LoadTestRecorder target = recorder == null ? new LoadTestRecorder() : recorder;
+		MvcResult loginResult = target.perform("POST /login/", mockMvc, post("/login/").session(session).with(csrf())
+				.param("username", userId)
+				.param("password", PASSWORD));
+		assertEquals("/myhacbook/topmenu/", loginResult.getResponse().getRedirectedUrl(), "ログインに成功すること[" + userId + "]");
+		assertStatus(target.perform("GET /myhacbook/topmenu/", mockMvc, get("/myhacbook/topmenu/").session(session)), 200);
+		return session;
+	}
+
+	/**
+	 * 実行回数に対応する対象年月(対象年の1月～12月を順に使用)を返します。
+	 */
+	private static String targetYearMonth(int iteration) {
+		return String.format("%d%02d", TARGET_YEAR, iteration % 12 + 1);
+	}
+
+	/**
+	 * HTTPステータスを確認します。
+	 */
+	private static void assertStatus(MvcResult result, int expected) {
+		assertEquals(expected, result.getResponse().getStatus(), () -> result.getRequest().getMethod() + " "
+				+ result.getRequest().getRequestURI() + ":" + result.getResolvedException());
+	}
+}
@@ -7,6 +7,7 @@
  * 日付       : version  コメントなど
  * 2025/12/07 : 1.00.00  新規作成
  * 2026/06/13 : 1.02.00  支出別一覧追加対応のテスト追加
+ * 2026/10/17 : 1.02.00  支出一覧エリア取得エンドポイントのテスト追加
  *
  */
 package com.yonetani.webapp.accountbook.presentation.controller.account.inquiry;
@@ -744,4 +745,30 @@ public class AccountMonthInquiryControllerIntegrationTest {
 					"/myhacbook/accountregist/incomeandexpenditure/expenditurecorrectload/"
 					+ "?targetYearMonth=202511&expenditureCode=001"));
 	}
+
+	/**
+	 *<pre>
+	 * 【正常系】GET /myhacbook/accountinquiry/accountmonth/expenditurearea/
+	 * 支出一覧エリアの取得_viewType=expenditure
+	 * - AccountMonth画面の支出一覧エリア(フラグメント)のみを返却することを確認
+	 *</pre>
+	 */
+	@Test
+	@DisplayName("正常系：支出一覧エリア取得_viewType=expenditure")
+	public void testGetExpenditureArea_ViewTypeIsExpenditure() throws Exception {
+		// ユーザ情報をモックに設定
+		doReturn(createLoginUser()).when(mockLloginUserSession).getLoginUserInfo();
+		// 画面表示の検証
+		mockMvc.perform(get("/myhacbook/accountinquiry/accountmonth/expenditurearea/")
+				.param("targetYearMonth", "202511")
+				.param("viewType", "expenditure")
+				.with(user("user01").password("password").roles("USER")))
+			.andExpect(status().isOk())
+			.andExpect(view().name("account/inquiry/AccountMonth :: expenditureArea"))
+			.andExpect(model().attribute("viewType", is("expenditure")))
+			.andExpect(model().attributeExists("expenditureList"))
+			.andExpect(model().attributeExists("expenditureTotalAmount"))
+			// 支出一覧エリアの表示に不要な収支金額は返却しないこと
+			.andExpect(model().attributeDoesNotExist("syuunyuuKingaku"));
+	}
 }
@@ -0,0 +1,183 @@
+/**
+ * DbAccessStatisticsFilter、DbAccessStatisticsInterceptor、UseCaseDbAccessStatisticsAspectの統合テストです。
+ * リクエスト単位・ユースケース単位のDBアクセス統計の計測と、管理者メニューのDBアクセス統計画面をテストします。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・@AutoConfigureMockMvcのMockMvc(Spring Securityのフィルター、DbAccessStatisticsFilterを含む)を使用
+ * ・ログインユーザセッション(セッションスコープBean)はテスト用のMockHttpSessionに設定
+ *
+ * [テストシナリオ]
+ * ①  正常系：各月の収支画面表示でリクエスト・ユースケースのDBアクセス統計が記録されること
+ * ②  正常系：DBアクセス統計画面に記録したリクエスト・ユースケースが表示されること
+ * ③  正常系：DBアクセス統計のクリアでリクエストのDBアクセス統計がクリアされること
+ * ④  正常系：ステートメントを実行しないリクエストは記録されないこと
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.presentation.filter;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatistics;
+import com.yonetani.webapp.accountbook.common.monitoring.DbAccessStatisticsRecorder;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserSession;
+
+/**
+ *<pre>
+ * DbAccessStatisticsFilter、DbAccessStatisticsInterceptor、UseCaseDbAccessStatisticsAspectの統合テストです。
+ * リクエスト単位・ユースケース単位のDBアクセス統計の計測と、管理者メニューのDBアクセス統計画面をテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = {
+	"/sql/initsql/schema_test.sql",
+	"/com/yonetani/webapp/accountbook/application/usecase/account/inquiry/AccountMonthInquiryIntegrationTest.sql"
+}, config = @SqlConfig(encoding = "UTF-8"))
+@DisplayName("DBアクセス統計(リクエスト単位・ユースケース単位)の統合テスト")
+class DbAccessStatisticsFilterIntegrationTest {
+
+	// 各月の収支画面のURL
+	private static final String ACCOUNT_MONTH_URL = "/myhacbook/accountinquiry/accountmonth/";
+
+	// MVCモック(Spring Securityのフィルター、DbAccessStatisticsFilterを含む)
+	@Autowired
+	private MockMvc mockMvc;
+
+	// DBアクセス統計の記録先
+	@Autowired
+	private DbAccessStatisticsRecorder recorder;
+
+	// ログインユーザセッションを設定したHTTPセッション
+	private MockHttpSession session;
+
+	@BeforeEach
+	void setup() {
+		recorder.clear();
+		// セッションスコープBeanの格納キー(scopedTarget.Bean名)にログインユーザセッションを設定
+		LoginUserSession loginUserSession = new LoginUserSession();
+		loginUserSession.setLoginUserInfo(LoginUserInfo.from("user01", "テストユーザ01"));
+		session = new MockHttpSession();
+		session.setAttribute("scopedTarget.loginUserSession", loginUserSession);
+	}
+
+	@Test
+	@DisplayName("正常系：各月の収支画面表示でリクエスト・ユースケースのDBアクセス統計が記録されること")
+	void testRecordRequestAndUseCase() throws Exception {
+		mockMvc.perform(post(ACCOUNT_MONTH_URL)
+				.param("targetYearMonth", "202511")
+				.session(session)
+				.with(user("user01").roles("USER"))
+				.with(csrf()))
+			.andExpect(status().isOk());
+
+		List<DbAccessStatistics> historyList = recorder.getRequestHistoryList();
+		assertEquals(1, historyList.size());
+		DbAccessStatistics statistics = historyList.get(0);
+		assertEquals("POST " + ACCOUNT_MONTH_URL, statistics.getName());
+		assertTrue(statistics.getStatementCount() > 0);
+		assertTrue(statistics.getRowCount() > 0);
+		assertTrue(statistics.getDbNanos() > 0);
+		assertTrue(statistics.getElapsedNanos() >= statistics.getDbNanos());
+		// マップドステートメントのID(マッパーのクラス名.メソッド名)ごとの実行回数の合計がステートメント数と一致
+		assertEquals(statistics.getStatementCount(),
+				statistics.getStatementCountMap().values().stream().mapToInt(Integer::intValue).sum());
+		assertTrue(statistics.getStatementCountMap().keySet().stream()
+				.allMatch(statementId -> statementId.startsWith("com.yonetani.webapp.accountbook.infrastructure.")));
+
+		// ユースケースのメソッド単位の累計値(ステートメント数はリクエストと同じ)
+		DbAccessStatisticsRecorder.UseCaseSummary summary = recorder.getUseCaseSummaryList().stream()
+				.filter(item -> item.getName().equals("AccountMonthInquiryUseCase.read"))
+				.findFirst().orElseThrow();
+		assertEquals(1, summary.getCallCount());
+		assertEquals(statistics.getStatementCount(), summary.getTotalStatementCount());
+		assertEquals(statistics.getRowCount(), summary.getTotalRowCount());
+	}
+
+	@Test
+	@DisplayName("正常系：DBアクセス統計画面に記録したリクエスト・ユースケースが表示されること")
+	void testDbAccessStatisticsPage() throws Exception {
+		mockMvc.perform(post(ACCOUNT_MONTH_URL)
+				.param("targetYearMonth", "202511")
+				.session(session)
+				.with(user("user01").roles("USER"))
+				.with(csrf()))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(get("/myhacbook/admin/dbaccessstatistics/")
+				.session(session)
+				.with(user("admin").roles("ADMIN")))
+			.andExpect(status().isOk())
+			.andExpect(view().name("adminmenu/dbaccessstatistics"))
+			.andExpect(model().attribute("sameStatementWarnThreshold", recorder.getSameStatementWarnThreshold()))
+			.andExpect(model().attribute("requestItemList", hasSize(1)))
+			.andExpect(model().attribute("requestItemList",
+					contains(hasProperty("request", is("POST " + ACCOUNT_MONTH_URL)))))
+			.andExpect(model().attribute("useCaseItemList",
+					hasItem(hasProperty("useCase", is("AccountMonthInquiryUseCase.read")))))
+			.andExpect(content().string(containsString("POST " + ACCOUNT_MONTH_URL)));
+	}
+
+	@Test
+	@DisplayName("正常系：DBアクセス統計のクリアでリクエストのDBアクセス統計がクリアされること")
+	void testClear() throws Exception {
+		mockMvc.perform(post(ACCOUNT_MONTH_URL)
+				.param("targetYearMonth", "202511")
+				.session(session)
+				.with(user("user01").roles("USER"))
+				.with(csrf()))
+			.andExpect(status().isOk());
+		assertEquals(1, recorder.getRequestHistoryList().size());
+
+		mockMvc.perform(post("/myhacbook/admin/cleardbaccessstatistics/")
+				.session(session)
+				.with(user("admin").roles("ADMIN"))
+				.with(csrf()))
+			.andExpect(status().is3xxRedirection())
+			.andExpect(redirectedUrl("/myhacbook/admin/completeClearDbAccessStatistics/"));
+		assertTrue(recorder.getRequestHistoryList().isEmpty());
+		assertTrue(recorder.getUseCaseSummaryList().stream()
+				.noneMatch(item -> item.getName().equals("AccountMonthInquiryUseCase.read")));
+	}
+
+	@Test
+	@DisplayName("正常系：ステートメントを実行しないリクエストは記録されないこと")
+	void testNoStatementRequest() throws Exception {
+		mockMvc.perform(get("/"))
+			.andExpect(status().isOk());
+		assertTrue(recorder.getRequestHistoryList().isEmpty());
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ * ログインユーザ情報(セッション)に保持した現在の対象年月、ユーザ名の参照・最新化の統合テストです。
+ * AccountBookUserInquiryUseCase、AccountBookUserVersionComponent、LoginUserSessionRefreshFilterをテストします。
+ *
+ * <pre>
+ * [テスト方針]
+ * ・@AutoConfigureMockMvcのMockMvc(LoginUserSessionRefreshFilterを含む)を使用
+ * ・ログインユーザセッション(セッションスコープBean)はテスト用のMockHttpSessionに設定
+ * ・ログインユーザ情報に保持した値を使用したことは、家計簿利用ユーザテーブルのみを直接更新して判定
+ *
+ * [テストシナリオ]
+ * ①  正常系：保持した現在の対象年月が最新の場合、家計簿利用ユーザテーブルを参照せずに保持した値を返すこと
+ * ②  正常系：対象年月更新後は保持した値を使用せず、家計簿利用ユーザテーブルから再取得すること
+ * ③  正常系：現在の対象年月を保持していない場合、家計簿利用ユーザテーブルから取得すること
+ * ④  正常系：トップ画面表示でセッションに現在の対象年月、ユーザ名を保持すること
+ * ⑤  正常系：別セッションで更新した場合、次のリクエストでセッションのログインユーザ情報を再取得すること
+ *
+ * </pre>
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ *
+ */
+package com.yonetani.webapp.accountbook.presentation.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.application.usecase.common.AccountBookUserInquiryUseCase;
+import com.yonetani.webapp.accountbook.application.usecase.itemmanage.accountingperiodupdate.TargetYearMonthUpdManageUseCase;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserInfo;
+import com.yonetani.webapp.accountbook.presentation.session.LoginUserSession;
+
+/**
+ *<pre>
+ * ログインユーザ情報(セッション)に保持した現在の対象年月、ユーザ名の参照・最新化の統合テストです。
+ * AccountBookUserInquiryUseCase、AccountBookUserVersionComponent、LoginUserSessionRefreshFilterをテストします。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = {
+	"/sql/initsql/schema_test.sql",
+	"/com/yonetani/webapp/accountbook/application/usecase/account/inquiry/AccountMonthInquiryIntegrationTest.sql"
+}, config = @SqlConfig(encoding = "UTF-8"))
+@DisplayName("ログインユーザ情報(セッション)の現在の対象年月、ユーザ名の保持・最新化の統合テスト")
+class LoginUserSessionRefreshFilterIntegrationTest {
+
+	// 家計簿利用ユーザテーブルを直接更新するSQL(ログインユーザ情報のバージョンは更新しない)
+	private static final String UPDATE_USER = "UPDATE ACCOUNT_BOOK_USER SET NOW_TARGET_YEAR = '2030', NOW_TARGET_MONTH = '01', USER_NAME = '直接更新' WHERE USER_ID = 'user01'";
+
+	// MVCモック(LoginUserSessionRefreshFilterを含む)
+	@Autowired
+	private MockMvc mockMvc;
+
+	// DBアクセス
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// ユーザ情報照会ユースケース
+	@Autowired
+	private AccountBookUserInquiryUseCase userInquiry;
+
+	// 情報管理(対象年月更新)ユースケース
+	@Autowired
+	private TargetYearMonthUpdManageUseCase targetYearMonthUpdManageUseCase;
+
+	// ログインユーザセッション
+	private LoginUserSession loginUserSession;
+	// ログインユーザセッションを設定したHTTPセッション
+	private MockHttpSession session;
+
+	@BeforeEach
+	void setup() {
+		// セッションスコープBeanの格納キー(scopedTarget.Bean名)にログインユーザセッションを設定
+		loginUserSession = new LoginUserSession();
+		session = new MockHttpSession();
+		session.setAttribute("scopedTarget.loginUserSession", loginUserSession);
+	}
+
+	@Test
+	@DisplayName("正常系：保持した現在の対象年月が最新の場合、家計簿利用ユーザテーブルを参照せずに保持した値を返すこと")
+	void testGetTargetYearMonthFromSession() {
+		LoginUserInfo user = userInquiry.createLoginUserInfo(UserId.from("user01"));
+		assertEquals("テストユーザ01", user.getUserName());
+		assertEquals("202511", user.getTargetYearMonth());
+
+		jdbcTemplate.update(UPDATE_USER);
+
+		assertTrue(userInquiry.isCurrent(user));
+		assertEquals("202511", userInquiry.getTargetYearMonth(user).getValue());
+		assertSame(user, userInquiry.refreshLoginUserInfo(user));
+	}
+
+	@Test
+	@DisplayName("正常系：対象年月更新後は保持した値を使用せず、家計簿利用ユーザテーブルから再取得すること")
+	void testRefreshAfterTargetYearMonthUpdate() {
+		LoginUserInfo user = userInquiry.createLoginUserInfo(UserId.from("user01"));
+
+		assertTrue(targetYearMonthUpdManageUseCase.execAction(user).isTransactionSuccessFull());
+
+		assertFalse(userInquiry.isCurrent(user));
+		assertEquals("202512", userInquiry.getTargetYearMonth(user).getValue());
+		LoginUserInfo refreshed = userInquiry.refreshLoginUserInfo(user);
+		assertEquals("202512", refreshed.getTargetYearMonth());
+		assertTrue(userInquiry.isCurrent(refreshed));
+	}
+
+	@Test
+	@DisplayName("正常系：現在の対象年月を保持していない場合、家計簿利用ユーザテーブルから取得すること")
+	void testGetTargetYearMonthWithoutSnapshot() {
+		LoginUserInfo user = LoginUserInfo.from("user01", "テストユーザ01");
+		assertFalse(userInquiry.isCurrent(user));
+
+		jdbcTemplate.update(UPDATE_USER);
+
+		assertEquals("203001", userInquiry.getTargetYearMonth(user).getValue());
+	}
+
+	@Test
+	@DisplayName("正常系：トップ画面表示でセッションに現在の対象年月、ユーザ名を保持すること")
+	void testTopMenuStoresLoginUserInfo() throws Exception {
+		mockMvc.perform(get("/myhacbook/topmenu/")
+				.session(session)
+				.with(user("user01").roles("USER")))
+			.andExpect(status().isOk());
+
+		LoginUserInfo user = loginUserSession.getLoginUserInfo();
+		assertEquals("user01", user.getUserId());
+		assertEquals("テストユーザ01", user.getUserName());
+		assertEquals("202511", user.getTargetYearMonth());
+		assertTrue(userInquiry.isCurrent(user));
+	}
+
+	@Test
+	@DisplayName("正常系：別セッションで更新した場合、次のリクエストでセッションのログインユーザ情報を再取得すること")
+	void testFilterRefreshesStaleSession() throws Exception {
+		LoginUserInfo user = userInquiry.createLoginUserInfo(UserId.from("user01"));
+		loginUserSession.setLoginUserInfo(user);
+
+		// 最新の場合はそのまま
+		mockMvc.perform(get("/myhacbook/accountinquiry/accountmonth/")
+				.session(session)
+				.with(user("user01").roles("USER")))
+			.andExpect(status().isOk());
+		assertSame(user, loginUserSession.getLoginUserInfo());
+
+		// 別セッションで対象年月を更新
+		targetYearMonthUpdManageUseCase.execAction(LoginUserInfo.from("user01", "テストユーザ01"));
+
+		mockMvc.perform(get("/myhacbook/accountinquiry/accountmonth/")
+				.session(session)
+				.with(user("user01").roles("USER")))
+			.andExpect(status().isOk());
+		LoginUserInfo refreshed = loginUserSession.getLoginUserInfo();
+		assertNotSame(user, refreshed);
+		assertEquals("202512", refreshed.getTargetYearMonth());
+		assertTrue(userInquiry.isCurrent(refreshed));
+	}
+}
@@ -0,0 +1,541 @@
+/**
+ * 負荷試験・容量試験用の合成データを生成するクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  買い物登録に必須の支出情報を月ごとに生成し、買い物登録情報は飲食(無駄遣いなし)に集計するように変更
+ *
+ */
+package com.yonetani.webapp.accountbook.testdata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.yonetani.webapp.accountbook.MyHouseholdAccountBookApplication;
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ *<pre>
+ * 負荷試験・容量試験用の合成データを生成するクラスです。
+ * 設定値(ユーザ数 × 年数 × 月ごとの支出件数)に従い、既存のスキーマに以下のテーブルのデータをバッチINSERTで登録します。
+ * ・ユーザ情報(USERS、AUTHORITIES、ACCOUNT_BOOK_USER)
+ * ・支出項目テーブル(SISYUTU_ITEM_TABLE):data.sqlと同じ構成の支出項目(testdata/sisyutu_item_template.tsv)
+ * ・店舗テーブル(SHOP_TABLE)、商品テーブル(SHOPPING_ITEM_TABLE)、固定費テーブル(FIXED_COST_TABLE)
+ * ・月ごとの収入テーブル(INCOME_TABLE)、支出テーブル(EXPENDITURE_TABLE)、買い物登録テーブル(SHOPPING_REGIST_TABLE)
+ * ・月ごとの支出金額テーブル(SISYUTU_KINGAKU_TABLE)、収支テーブル(INCOME_AND_EXPENDITURE_TABLE)
+ *
+ * 支出金額テーブルは支出情報を支出項目(自分自身と親の支出項目)ごとに集計した値、収支テーブルは収入情報・支出情報の
+ * 合計値で登録するため、生成したデータは収支整合性検証(IncomeAndExpenditureConsistencyService)を満たします。
+ * また、各月には買い物登録に必須の支出情報(飲食(無駄遣いなし/B/C)、外食、日用消耗品、被服費、流動経費、住居設備)を
+ * 1件ずつ登録し、買い物登録情報の金額は飲食(無駄遣いなし)の支出情報に集計するため、生成した月に対して
+ * 買い物登録(SimpleShoppingRegistUseCase)を実行できます。
+ * コード採番テーブル(CODE_SEQUENCE_TABLE)は登録しません(初回採番時に登録済みの件数から採番範囲が登録されます)。
+ *
+ * [実行方法]
+ * ・テストユーティリティ:SyntheticDataGenerator.from(jdbcTemplate).generate(settings)
+ * ・コマンドライン:mainメソッドを実行(Webサーバは起動せず、データ生成後に終了)
+ *   --generator.user-id-prefix(デフォルト:load-user-) --generator.user-count(10) --generator.start-year(2024)
+ *   --generator.year-count(1) --generator.expenditure-count-per-month(100) --generator.seed(20261017)
+ *   接続先のDBはspring.datasource.urlなど通常のSpring Bootの設定で指定します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+public class SyntheticDataGenerator {
+
+	// バッチINSERTの件数
+	private static final int BATCH_SIZE = 1000;
+	// 支出項目テンプレートの格納場所
+	private static final String ITEM_TEMPLATE_PATH = "/testdata/sisyutu_item_template.tsv";
+	// 買い物登録に必須の支出情報(支出項目コード, 支出区分)。先頭の飲食(無駄遣いなし)に買い物登録情報の金額を集計
+	private static final String[][] SHOPPING_REQUIRED_EXPENDITURES = {
+			{"0051", "1"}, {"0051", "2"}, {"0051", "3"}, {"0052", "1"}, {"0050", "1"}, {"0046", "1"}, {"0007", "1"}, {"0047", "1"}};
+	// 商品の支出項目(日用消耗品、食費)
+	private static final String[] SHOPPING_ITEM_EXPENDITURE_ITEM_CODES = {"0050", "0051"};
+	// 固定費の支出項目(レベル1:固定費(非課税)、固定費(課税))
+	private static final Set<String> FIXED_COST_LEVEL1_ITEM_CODES = Set.of("0013", "0023");
+	// 固定費支払月(毎月、奇数月、偶数月、その他任意、1月～12月)
+	private static final String[] FIXED_COST_PAYMENT_MONTH_CODES = {
+			"00", "00", "00", "00", "20", "30", "40", "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "12"};
+	// 店舗数
+	private static final int SHOP_COUNT = 10;
+	// 商品数
+	private static final int SHOPPING_ITEM_COUNT = 100;
+	// 固定費数
+	private static final int FIXED_COST_COUNT = 20;
+	// 削除対象のテーブル(ユーザ情報以外、子テーブルから順に指定)
+	private static final String[] DELETE_TARGET_TABLES = {
+			"CODE_SEQUENCE_TABLE", "INCOME_AND_EXPENDITURE_TABLE", "SISYUTU_KINGAKU_TABLE", "SHOPPING_REGIST_TABLE",
+			"EXPENDITURE_TABLE", "INCOME_TABLE", "EVENT_ITEM_TABLE", "FIXED_COST_TABLE", "SHOPPING_ITEM_TABLE", "SHOP_TABLE",
+			"SISYUTU_ITEM_TABLE", "ACCOUNT_BOOK_USER"};
+	// 生成ユーザのパスワード(パスワードエンコーダなし)
+	private static final String PASSWORD = "{noop}password";
+
+	/**
+	 *<pre>
+	 * 支出項目テンプレートの1行分の値です。
+	 *</pre>
+	 */
+	@RequiredArgsConstructor
+	private static class ItemTemplate {
+		// 支出項目コード
+		private final String code;
+		// 支出項目名
+		private final String name;
+		// 支出項目詳細内容
+		private final String detailContext;
+		// 親支出項目コード
+		private final String parentCode;
+		// 支出項目レベル
+		private final String level;
+		// 支出項目表示順
+		private final String sort;
+		// 更新可否フラグ
+		private final boolean enableUpdate;
+
+		/**
+		 * レベル1の支出項目かどうかを判定します。
+		 */
+		private boolean isTopLevel() {
+			return code.equals(parentCode);
+		}
+	}
+
+	/**
+	 *<pre>
+	 * 支出金額テーブルの1行分の集計値です。
+	 *</pre>
+	 */
+	private static class ExpenditureAmountTotal {
+		// 支出予定金額
+		private BigDecimal expectedAmount = BigDecimal.ZERO.setScale(2);
+		// 支出金額
+		private BigDecimal amount = BigDecimal.ZERO.setScale(2);
+		// 支出金額B(該当なしの場合null)
+		private BigDecimal amountB;
+		// 支出金額C(該当なしの場合null)
+		private BigDecimal amountC;
+		// 支出支払日(該当なしの場合null)
+		private LocalDate paymentDate;
+	}
+
+	/**
+	 *<pre>
+	 * テーブルごとのバッチINSERTです。
+	 * いずれかのテーブルの未実行の行がBATCH_SIZE件に達した場合、外部キーの参照先のテーブルから順にすべてのテーブルのINSERTを実行します。
+	 *</pre>
+	 */
+	private class BatchInserter {
+		// テーブル名ごとのINSERT文(参照先のテーブルから順に登録)
+		private final Map<String, String> sqlMap = createInsertSqlMap();
+		// テーブル名ごとの未実行の行
+		private final Map<String, List<Object[]>> rowsMap = new LinkedHashMap<>();
+		// テーブル名ごとの登録件数
+		private final Map<String, Integer> insertCountMap = new LinkedHashMap<>();
+		// 未実行の行の件数
+		private int pendingCount;
+
+		/**
+		 * 1行分の値を追加します。
+		 */
+		private void add(String tableName, Object... row) {
+			rowsMap.computeIfAbsent(tableName, key -> new ArrayList<>()).add(row);
+			if(++pendingCount >= BATCH_SIZE) {
+				flush();
+			}
+		}
+
+		/**
+		 * 未実行の行を参照先のテーブルから順にINSERTします。
+		 */
+		private void flush() {
+			sqlMap.forEach((tableName, sql) -> {
+				List<Object[]> rows = rowsMap.get(tableName);
+				if(rows != null && !rows.isEmpty()) {
+					jdbcTemplate.batchUpdate(sql, rows);
+					insertCountMap.merge(tableName, rows.size(), Integer::sum);
+					rows.clear();
+				}
+			});
+			pendingCount = 0;
+		}
+
+		/**
+		 * テーブル名ごとの登録件数を返します。
+		 */
+		private Map<String, Integer> getInsertCountMap() {
+			Map<String, Integer> result = new LinkedHashMap<>();
+			sqlMap.keySet().forEach(tableName -> result.put(tableName, insertCountMap.getOrDefault(tableName, 0)));
+			return result;
+		}
+	}
+
+	// JdbcTemplate
+	private final JdbcTemplate jdbcTemplate;
+	// 支出項目テンプレート(支出項目コード順)
+	private final Map<String, ItemTemplate> itemTemplateMap = loadItemTemplate();
+
+	/**
+	 *<pre>
+	 * 合成データ生成クラスを生成して返します。
+	 *</pre>
+	 * @param jdbcTemplate 登録先DBのJdbcTemplate
+	 * @return 合成データ生成クラス
+	 *
+	 */
+	public static SyntheticDataGenerator from(JdbcTemplate jdbcTemplate) {
+		return new SyntheticDataGenerator(jdbcTemplate);
+	}
+
+	/**
+	 *<pre>
+	 * 設定値に従い合成データを生成します。
+	 *</pre>
+	 * @param settings 合成データ生成の設定値
+	 * @return テーブル名ごとの登録件数
+	 *
+	 */
+	public Map<String, Integer> generate(SyntheticDataSettings settings) {
+		log.info("generate:settings=" + settings);
+		Random random = new Random(settings.getSeed());
+		BatchInserter inserter = new BatchInserter();
+		List<ItemTemplate> expenditureItemList = getExpenditureTargetItemList();
+		List<ItemTemplate> fixedCostItemList = getFixedCostTargetItemList();
+		for(int userIndex = 0; userIndex < settings.getUserCount(); userIndex++) {
+			String userId = settings.getUserId(userIndex);
+			generateUser(inserter, userId, settings, random, fixedCostItemList);
+			for(int year = settings.getStartYear(); year < settings.getStartYear() + settings.getYearCount(); year++) {
+				for(int month = 1; month <= 12; month++) {
+					generateMonth(inserter, userId, year, month, settings.getExpenditureCountPerMonth(), random, expenditureItemList);
+				}
+			}
+		}
+		// 未実行の行をINSERTし、登録件数を返却
+		inserter.flush();
+		Map<String, Integer> result = inserter.getInsertCountMap();
+		log.info("generate:result=" + result);
+		return result;
+	}
+
+	/**
+	 *<pre>
+	 * 設定値のユーザIDのプレフィックスに一致するユーザのデータを全テーブルから削除します。
+	 * 負荷試験などでコミットした合成データ(画面操作で登録したデータ、コード採番テーブルを含む)の後始末に使用します。
+	 *</pre>
+	 * @param settings 合成データ生成の設定値
+	 * @return 削除件数
+	 */
+	public int delete(SyntheticDataSettings settings) {
+		String userIdPattern = settings.getUserIdPrefix().replace("_", "\\_").replace("%", "\\%") + "%";
+		int count = 0;
+		// 子テーブルから順に削除
+		for(String table : DELETE_TARGET_TABLES) {
+			count += jdbcTemplate.update("DELETE FROM " + table + " WHERE USER_ID LIKE ?", userIdPattern);
+		}
+		count += jdbcTemplate.update("DELETE FROM AUTHORITIES WHERE USERNAME LIKE ?", userIdPattern);
+		count += jdbcTemplate.update("DELETE FROM USERS WHERE USERNAME LIKE ?", userIdPattern);
+		log.info("delete:settings=" + settings + ",count=" + count);
+		return count;
+	}
+
+	/**
+	 * ユーザ単位のデータ(ユーザ情報、支出項目、店舗、商品、固定費)を生成します。
+	 */
+	private void generateUser(BatchInserter inserter, String userId, SyntheticDataSettings settings,
+			Random random, List<ItemTemplate> fixedCostItemList) {
+		// ユーザ情報(現在の対象年月は生成する最終月)
+		inserter.add("USERS", userId, PASSWORD, true);
+		inserter.add("AUTHORITIES", userId, "ROLE_USER");
+		inserter.add("ACCOUNT_BOOK_USER", userId, String.valueOf(settings.getStartYear() + settings.getYearCount() - 1),
+				"12", "負荷試験ユーザ" + userId + "さん");
+		// 支出項目
+		for(ItemTemplate item : itemTemplateMap.values()) {
+			inserter.add("SISYUTU_ITEM_TABLE", userId, item.code, item.name, item.detailContext, item.parentCode,
+					item.level, item.sort, item.enableUpdate);
+		}
+		// 店舗
+		for(int i = 1; i <= SHOP_COUNT; i++) {
+			String shopCode = String.format("%03d", i);
+			inserter.add("SHOP_TABLE", userId, shopCode, "901", "店舗" + shopCode, shopCode);
+		}
+		// 商品
+		for(int i = 1; i <= SHOPPING_ITEM_COUNT; i++) {
+			String itemCode = String.format("%05d", i);
+			inserter.add("SHOPPING_ITEM_TABLE", userId, itemCode, "食品", "商品" + itemCode, null,
+					String.format("49%011d", i), SHOPPING_ITEM_EXPENDITURE_ITEM_CODES[i % SHOPPING_ITEM_EXPENDITURE_ITEM_CODES.length],
+					"メーカー" + (i % 10), String.format("%03d", 1 + random.nextInt(SHOP_COUNT)), randomAmount(random, 100, 2000));
+		}
+		// 固定費
+		for(int i = 1; i <= FIXED_COST_COUNT; i++) {
+			String paymentMonth = FIXED_COST_PAYMENT_MONTH_CODES[random.nextInt(FIXED_COST_PAYMENT_MONTH_CODES.length)];
+			inserter.add("FIXED_COST_TABLE", userId, String.format("%04d", i), "固定費" + i, null,
+					fixedCostItemList.get(random.nextInt(fixedCostItemList.size())).code,
+					String.valueOf(1 + random.nextInt(2)), paymentMonth, "40".equals(paymentMonth) ? "不定期の支払" : null,
+					String.format("%02d", 1 + random.nextInt(28)), randomAmount(random, 1000, 100000), false);
+		}
+	}
+
+	/**
+	 * 月単位のデータ(収入、支出、買い物登録、支出金額、収支)を生成します。
+	 */
+	private void generateMonth(BatchInserter inserter, String userId, int year, int month, int expenditureCount,
+			Random random, List<ItemTemplate> expenditureItemList) {
+		String targetYear = String.valueOf(year);
+		String targetMonth = String.format("%02d", month);
+		int lengthOfMonth = LocalDate.of(year, month, 1).lengthOfMonth();
+
+		// 収入(給料、4か月に1回は積立金取崩し)
+		BigDecimal incomeAmount = randomAmount(random, 300000, 500000);
+		inserter.add("INCOME_TABLE", userId, targetYear, targetMonth, "01", "1", targetMonth + "月分給料", incomeAmount, false);
+		BigDecimal withdrewAmount = null;
+		if(month % 4 == 0) {
+			withdrewAmount = randomAmount(random, 10000, 100000);
+			inserter.add("INCOME_TABLE", userId, targetYear, targetMonth, "02", "3", "積立金取崩し", withdrewAmount, false);
+		}
+
+		// 支出(支出件数の1/4件の買い物登録情報は、買い物登録に必須の支出情報の飲食(無駄遣いなし)に集計)
+		Map<String, ExpenditureAmountTotal> amountTotalMap = new LinkedHashMap<>();
+		BigDecimal expectedTotal = BigDecimal.ZERO.setScale(2);
+		BigDecimal expenditureTotal = BigDecimal.ZERO.setScale(2);
+		BigDecimal shoppingTotal = BigDecimal.ZERO.setScale(2);
+		LocalDate shoppingLastDate = LocalDate.of(year, month, 1);
+		for(int i = 1; i <= expenditureCount / 4; i++) {
+			String shopCode = String.format("%03d", 1 + random.nextInt(SHOP_COUNT));
+			LocalDate shoppingDate = LocalDate.of(year, month, 1 + random.nextInt(lengthOfMonth));
+			BigDecimal amount = randomAmount(random, 500, 10000);
+			inserter.add("SHOPPING_REGIST_TABLE", userId, targetYear, targetMonth, String.format("%03d", i), "901", shopCode,
+					Date.valueOf(shoppingDate), null, amount, amount, amount);
+			shoppingTotal = shoppingTotal.add(amount);
+			if(shoppingLastDate.isBefore(shoppingDate)) {
+				shoppingLastDate = shoppingDate;
+			}
+		}
+		for(int i = 1; i <= expenditureCount; i++) {
+			String expenditureCode = String.format("%03d", i);
+			LocalDate paymentDate;
+			BigDecimal amount;
+			BigDecimal expectedAmount;
+			ItemTemplate item;
+			String category;
+			String expenditureName;
+			if(i <= SHOPPING_REQUIRED_EXPENDITURES.length) {
+				// 買い物登録に必須の支出情報
+				item = itemTemplateMap.get(SHOPPING_REQUIRED_EXPENDITURES[i - 1][0]);
+				category = SHOPPING_REQUIRED_EXPENDITURES[i - 1][1];
+				paymentDate = i == 1 ? shoppingLastDate : LocalDate.of(year, month, 1 + random.nextInt(lengthOfMonth));
+				amount = i == 1 ? shoppingTotal : randomAmount(random, 100, 30000);
+				expectedAmount = BigDecimal.ZERO.setScale(2);
+				expenditureName = item.name;
+			} else {
+				paymentDate = LocalDate.of(year, month, 1 + random.nextInt(lengthOfMonth));
+				amount = randomAmount(random, 100, 30000);
+				expectedAmount = random.nextBoolean() ? amount : BigDecimal.ZERO.setScale(2);
+				item = expenditureItemList.get(random.nextInt(expenditureItemList.size()));
+				// 支出区分(無駄遣いなし:70%、無駄遣いB:20%、無駄遣いC:10%)
+				int categoryValue = random.nextInt(10);
+				category = categoryValue < 7 ? "1" : categoryValue < 9 ? "2" : "3";
+				expenditureName = item.name + "の支出" + expenditureCode;
+			}
+			inserter.add("EXPENDITURE_TABLE", userId, targetYear, targetMonth, expenditureCode, item.code, null,
+					expenditureName, category, null, Date.valueOf(paymentDate), expectedAmount, amount, false);
+			expectedTotal = expectedTotal.add(expectedAmount);
+			expenditureTotal = expenditureTotal.add(amount);
+			addExpenditureAmountTotal(amountTotalMap, item, category, paymentDate, expectedAmount, amount);
+		}
+
+		// 支出金額(自分自身と親の支出項目ごとの集計値)
+		amountTotalMap.forEach((itemCode, total) -> inserter.add("SISYUTU_KINGAKU_TABLE", userId, targetYear, targetMonth,
+				itemCode, itemTemplateMap.get(itemCode).parentCode, total.expectedAmount, total.amount, total.amountB, total.amountC,
+				total.paymentDate == null ? null : Date.valueOf(total.paymentDate)));
+
+		// 収支(収支金額 = 収入金額 + 積立金取崩金額 - 支出金額)
+		BigDecimal balance = incomeAmount.add(withdrewAmount == null ? BigDecimal.ZERO : withdrewAmount).subtract(expenditureTotal);
+		inserter.add("INCOME_AND_EXPENDITURE_TABLE", userId, targetYear, targetMonth, incomeAmount, withdrewAmount,
+				expectedTotal, expenditureTotal, balance);
+	}
+
+	/**
+	 * 支出情報の金額を、支出項目(自分自身と親の支出項目)ごとの集計値に加算します。
+	 */
+	private void addExpenditureAmountTotal(Map<String, ExpenditureAmountTotal> amountTotalMap, ItemTemplate item, String category,
+			LocalDate paymentDate, BigDecimal expectedAmount, BigDecimal amount) {
+		ItemTemplate target = item;
+		while(true) {
+			ExpenditureAmountTotal total = amountTotalMap.computeIfAbsent(target.code, key -> new ExpenditureAmountTotal());
+			total.expectedAmount = total.expectedAmount.add(expectedAmount);
+			total.amount = total.amount.add(amount);
+			if("2".equals(category)) {
+				total.amountB = total.amountB == null ? amount : total.amountB.add(amount);
+			} else if("3".equals(category)) {
+				total.amountC = total.amountC == null ? amount : total.amountC.add(amount);
+			}
+			if(total.paymentDate == null || total.paymentDate.isBefore(paymentDate)) {
+				total.paymentDate = paymentDate;
+			}
+			if(target.isTopLevel()) {
+				return;
+			}
+			target = itemTemplateMap.get(target.parentCode);
+		}
+	}
+
+	/**
+	 * 支出の登録対象となる支出項目(子を持たない支出項目、イベント用の支出項目は除く)を返します。
+	 * 買い物登録に必須の支出項目は月に1件のみ登録するため、対象外とします。
+	 */
+	private List<ItemTemplate> getExpenditureTargetItemList() {
+		Set<String> parentCodeSet = new HashSet<>();
+		itemTemplateMap.values().stream().filter(item -> !item.isTopLevel()).forEach(item -> parentCodeSet.add(item.parentCode));
+		Set<String> shoppingRequiredCodeSet = new HashSet<>();
+		for(String[] required : SHOPPING_REQUIRED_EXPENDITURES) {
+			shoppingRequiredCodeSet.add(required[0]);
+		}
+		return itemTemplateMap.values().stream()
+				.filter(item -> !parentCodeSet.contains(item.code) && !item.enableUpdate)
+				.filter(item -> !shoppingRequiredCodeSet.contains(item.code))
+				.toList();
+	}
+
+	/**
+	 * 固定費の登録対象となる支出項目(固定費(非課税)、固定費(課税)配下の支出の登録対象の支出項目)を返します。
+	 */
+	private List<ItemTemplate> getFixedCostTargetItemList() {
+		return getExpenditureTargetItemList().stream().filter(item -> {
+			ItemTemplate target = item;
+			while(!target.isTopLevel()) {
+				target = itemTemplateMap.get(target.parentCode);
+			}
+			return FIXED_COST_LEVEL1_ITEM_CODES.contains(target.code);
+		}).toList();
+	}
+
+	/**
+	 * テーブルごとのINSERT文を生成します。
+	 */
+	private static Map<String, String> createInsertSqlMap() {
+		Map<String, String> sqlMap = new LinkedHashMap<>();
+		sqlMap.put("USERS", "INSERT INTO USERS (USERNAME, PASSWORD, ENABLED) VALUES (?, ?, ?)");
+		sqlMap.put("AUTHORITIES", "INSERT INTO AUTHORITIES (USERNAME, AUTHORITY) VALUES (?, ?)");
+		sqlMap.put("ACCOUNT_BOOK_USER",
+				"INSERT INTO ACCOUNT_BOOK_USER (USER_ID, NOW_TARGET_YEAR, NOW_TARGET_MONTH, USER_NAME) VALUES (?, ?, ?, ?)");
+		sqlMap.put("SISYUTU_ITEM_TABLE",
+				"INSERT INTO SISYUTU_ITEM_TABLE (USER_ID, SISYUTU_ITEM_CODE, SISYUTU_ITEM_NAME, SISYUTU_ITEM_DETAIL_CONTEXT, "
+				+ "PARENT_SISYUTU_ITEM_CODE, SISYUTU_ITEM_LEVEL, SISYUTU_ITEM_SORT, ENABLE_UPDATE_FLG) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("SHOP_TABLE",
+				"INSERT INTO SHOP_TABLE (USER_ID, SHOP_CODE, SHOP_KUBUN_CODE, SHOP_NAME, SHOP_SORT) VALUES (?, ?, ?, ?, ?)");
+		sqlMap.put("SHOPPING_ITEM_TABLE",
+				"INSERT INTO SHOPPING_ITEM_TABLE (USER_ID, SHOPPING_ITEM_CODE, SHOPPING_ITEM_KUBUN_NAME, SHOPPING_ITEM_NAME, "
+				+ "SHOPPING_ITEM_DETAIL_CONTEXT, SHOPPING_ITEM_JAN_CODE, SISYUTU_ITEM_CODE, COMPANY_NAME, STANDARD_SHOP_CODE, "
+				+ "STANDARD_PRICE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("FIXED_COST_TABLE",
+				"INSERT INTO FIXED_COST_TABLE (USER_ID, FIXED_COST_CODE, FIXED_COST_NAME, FIXED_COST_DETAIL_CONTEXT, SISYUTU_ITEM_CODE, "
+				+ "FIXED_COST_KUBUN, FIXED_COST_SHIHARAI_TUKI, FIXED_COST_SHIHARAI_TUKI_OPTIONAL_CONTEXT, FIXED_COST_SHIHARAI_DAY, "
+				+ "SHIHARAI_KINGAKU, DELETE_FLG) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("INCOME_TABLE",
+				"INSERT INTO INCOME_TABLE (USER_ID, TARGET_YEAR, TARGET_MONTH, INCOME_CODE, INCOME_KUBUN, INCOME_DETAIL_CONTEXT, "
+				+ "INCOME_KINGAKU, DELETE_FLG) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("EXPENDITURE_TABLE",
+				"INSERT INTO EXPENDITURE_TABLE (USER_ID, TARGET_YEAR, TARGET_MONTH, EXPENDITURE_CODE, SISYUTU_ITEM_CODE, EVENT_CODE, "
+				+ "EXPENDITURE_NAME, EXPENDITURE_KUBUN, EXPENDITURE_DETAIL_CONTEXT, SIHARAI_DATE, EXPENDITURE_ESTIMATE_KINGAKU, "
+				+ "EXPENDITURE_KINGAKU, DELETE_FLG) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("SHOPPING_REGIST_TABLE",
+				"INSERT INTO SHOPPING_REGIST_TABLE (USER_ID, TARGET_YEAR, TARGET_MONTH, SHOPPING_REGIST_CODE, SHOP_KUBUN_CODE, "
+				+ "SHOP_CODE, SHOPPING_DATE, SHOPPING_REMARKS, SHOPPING_FOOD_EXPENSES, TOTAL_PURCHASE_PRICE, SHOPPING_TOTAL_AMOUNT) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("SISYUTU_KINGAKU_TABLE",
+				"INSERT INTO SISYUTU_KINGAKU_TABLE (USER_ID, TARGET_YEAR, TARGET_MONTH, SISYUTU_ITEM_CODE, PARENT_SISYUTU_ITEM_CODE, "
+				+ "SISYUTU_YOTEI_KINGAKU, SISYUTU_KINGAKU, SISYUTU_KINGAKU_B, SISYUTU_KINGAKU_C, SISYUTU_SIHARAI_DATE) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		sqlMap.put("INCOME_AND_EXPENDITURE_TABLE",
+				"INSERT INTO INCOME_AND_EXPENDITURE_TABLE (USER_ID, TARGET_YEAR, TARGET_MONTH, INCOME_KINGAKU, WITHDREW_KINGAKU, "
+				+ "EXPENDITURE_ESTIMATE_KINGAKU, EXPENDITURE_KINGAKU, INCOME_AND_EXPENDITURE_KINGAKU) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+		return sqlMap;
+	}
+
+	/**
+	 * 指定範囲(円単位)のランダムな金額(スケール2)を返します。
+	 */
+	private static BigDecimal randomAmount(Random random, int minYen, int maxYen) {
+		return BigDecimal.valueOf(minYen + random.nextInt(maxYen - minYen + 1)).setScale(2);
+	}
+
+	/**
+	 * 支出項目テンプレートを読み込みます。
+	 */
+	private static Map<String, ItemTemplate> loadItemTemplate() {
+		Map<String, ItemTemplate> templateMap = new LinkedHashMap<>();
+		try(InputStream in = SyntheticDataGenerator.class.getResourceAsStream(ITEM_TEMPLATE_PATH)) {
+			if(in == null) {
+				throw new MyHouseholdAccountBookRuntimeException("支出項目テンプレートが存在しません。[path=" + ITEM_TEMPLATE_PATH + "]");
+			}
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			String line;
+			while((line = reader.readLine()) != null) {
+				if(line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				String[] values = line.split("\t");
+				templateMap.put(values[0], new ItemTemplate(values[0], values[1], values[2], values[3], values[4], values[5],
+						Boolean.parseBoolean(values[6])));
+			}
+		} catch(IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return Collections.unmodifiableMap(templateMap);
+	}
+
+	/**
+	 *<pre>
+	 * コマンドラインから合成データを生成します。Webサーバは起動せず、データ生成後に終了します。
+	 *</pre>
+	 * @param args Spring Bootのコマンドライン引数(--generator.user-countなど)
+	 *
+	 */
+	public static void main(String[] args) {
+		try(ConfigurableApplicationContext context = new SpringApplicationBuilder(MyHouseholdAccountBookApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(args)) {
+			Environment env = context.getEnvironment();
+			SyntheticDataSettings settings = SyntheticDataSettings.from(
+					env.getProperty("generator.user-id-prefix", "load-user-"),
+					env.getProperty("generator.user-count", Integer.class, 10),
+					env.getProperty("generator.start-year", Integer.class, 2024),
+					env.getProperty("generator.year-count", Integer.class, 1),
+					env.getProperty("generator.expenditure-count-per-month", Integer.class, 100),
+					env.getProperty("generator.seed", Long.class, 20261017L));
+			SyntheticDataGenerator.from(context.getBean(JdbcTemplate.class)).generate(settings);
+		}
+	}
+}
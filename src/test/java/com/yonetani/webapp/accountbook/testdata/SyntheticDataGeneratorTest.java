@@ -0,0 +1,140 @@
+/**
+ * SyntheticDataGeneratorのテストクラスです。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  買い物登録に必須の支出情報のチェック、合成データの削除のテストを追加
+ *
+ */
+package com.yonetani.webapp.accountbook.testdata;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yonetani.webapp.accountbook.application.usecase.account.component.ShoppingRegistExpenditureItemComponent;
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+import com.yonetani.webapp.accountbook.domain.model.account.incomeandexpenditure.IncomeAndExpenditure;
+import com.yonetani.webapp.accountbook.domain.model.searchquery.SearchQueryUserIdAndYearMonth;
+import com.yonetani.webapp.accountbook.domain.repository.account.incomeandexpenditure.IncomeAndExpenditureTableRepository;
+import com.yonetani.webapp.accountbook.domain.service.account.inquiry.IncomeAndExpenditureConsistencyService;
+import com.yonetani.webapp.accountbook.domain.type.common.TargetYearMonth;
+import com.yonetani.webapp.accountbook.domain.type.common.UserId;
+
+/**
+ *<pre>
+ * SyntheticDataGeneratorのテストクラスです。
+ * 生成したデータの件数と、収支整合性検証(IncomeAndExpenditureConsistencyService)、買い物登録に必須の支出情報の
+ * チェック(ShoppingRegistExpenditureItemComponent)を満たすことを確認します。
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = "/sql/initsql/schema_test.sql", config = @SqlConfig(encoding = "UTF-8"))
+@DisplayName("合成データ生成(SyntheticDataGenerator)のテスト")
+class SyntheticDataGeneratorTest {
+
+	// 生成するユーザ数
+	private static final int USER_COUNT = 3;
+	// 生成する年数
+	private static final int YEAR_COUNT = 2;
+	// 月ごとの支出件数
+	private static final int EXPENDITURE_COUNT_PER_MONTH = 40;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private IncomeAndExpenditureTableRepository incomeAndExpenditureRepository;
+
+	@Autowired
+	private IncomeAndExpenditureConsistencyService consistencyService;
+
+	@Autowired
+	private ShoppingRegistExpenditureItemComponent shoppingRegistExpenditureItemComponent;
+
+	@Test
+	@DisplayName("正常系：生成したデータの件数が設定値どおりで、全ユーザ・全月の収支整合性検証を満たすこと")
+	void testGenerate() {
+		SyntheticDataSettings settings = SyntheticDataSettings.from("synthetic-", USER_COUNT, 2024, YEAR_COUNT,
+				EXPENDITURE_COUNT_PER_MONTH, 20261017L);
+		Map<String, Integer> result = SyntheticDataGenerator.from(jdbcTemplate).generate(settings);
+
+		int monthCount = USER_COUNT * YEAR_COUNT * 12;
+		assertEquals(USER_COUNT, result.get("USERS"));
+		assertEquals(USER_COUNT, result.get("ACCOUNT_BOOK_USER"));
+		assertEquals(USER_COUNT * 63, result.get("SISYUTU_ITEM_TABLE"));
+		assertEquals(monthCount * EXPENDITURE_COUNT_PER_MONTH, result.get("EXPENDITURE_TABLE"));
+		assertEquals(monthCount * EXPENDITURE_COUNT_PER_MONTH / 4, result.get("SHOPPING_REGIST_TABLE"));
+		assertEquals(monthCount, result.get("INCOME_AND_EXPENDITURE_TABLE"));
+		assertEquals(result.get("EXPENDITURE_TABLE"),
+				jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EXPENDITURE_TABLE WHERE USER_ID LIKE 'synthetic-%'", Integer.class));
+
+		for(int userIndex = 0; userIndex < USER_COUNT; userIndex++) {
+			String userId = settings.getUserId(userIndex);
+			for(int year = 2024; year < 2024 + YEAR_COUNT; year++) {
+				for(int month = 1; month <= 12; month++) {
+					TargetYearMonth yearMonth = TargetYearMonth.from(String.format("%d%02d", year, month));
+					SearchQueryUserIdAndYearMonth searchCondition = SearchQueryUserIdAndYearMonth.from(UserId.from(userId), yearMonth);
+					IncomeAndExpenditure aggregate = incomeAndExpenditureRepository.findByPrimaryKey(searchCondition);
+					assertFalse(aggregate.isEmpty(), "収支データが登録されていること[" + userId + ":" + yearMonth + "]");
+					// 収入金額・支出金額の整合性
+					assertDoesNotThrow(() -> consistencyService.validateAll(aggregate, searchCondition),
+							"収支整合性検証を満たすこと[" + userId + ":" + yearMonth + "]");
+					// 支出金額テーブル(レベル1の支出項目の合計)と支出テーブルの合計の一致
+					BigDecimal level1Total = jdbcTemplate.queryForObject(
+							"SELECT SUM(SISYUTU_KINGAKU) FROM SISYUTU_KINGAKU_TABLE WHERE USER_ID = ? AND TARGET_YEAR = ? AND TARGET_MONTH = ? "
+							+ "AND SISYUTU_ITEM_CODE = PARENT_SISYUTU_ITEM_CODE", BigDecimal.class,
+							userId, yearMonth.getYear(), yearMonth.getMonth());
+					assertEquals(aggregate.getExpenditureAmount().getValue(), level1Total,
+							"支出金額テーブルの合計が支出金額と一致すること[" + userId + ":" + yearMonth + "]");
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("正常系：ユーザIDのプレフィックスに一致するユーザのデータのみ削除されること")
+	void testDelete() {
+		SyntheticDataSettings settings = SyntheticDataSettings.from("synthetic-", 2, 2024, 1, 8, 1L);
+		SyntheticDataSettings otherSettings = SyntheticDataSettings.from("other_", 1, 2024, 1, 8, 1L);
+		SyntheticDataGenerator generator = SyntheticDataGenerator.from(jdbcTemplate);
+		int insertCount = generator.generate(settings).values().stream().mapToInt(Integer::intValue).sum();
+		generator.generate(otherSettings);
+
+		assertEquals(insertCount, generator.delete(settings));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USERS WHERE USERNAME LIKE 'synthetic-%'", Integer.class));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EXPENDITURE_TABLE WHERE USER_ID LIKE 'synthetic-%'", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USERS WHERE USERNAME LIKE 'other_%'", Integer.class));
+	}
+
+	@Test
+	@DisplayName("異常系：月ごとの支出件数が範囲外(買い物登録に必須の支出情報の件数未満、支出コードの桁数超過)の場合はエラー")
+	void testSettings_InvalidExpenditureCount() {
+		assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> SyntheticDataSettings.from("synthetic-", 1, 2024, 1, 1000, 1L));
+		assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> SyntheticDataSettings.from("synthetic-", 1, 2024, 1, 7, 1L));
+		assertThrows(MyHouseholdAccountBookRuntimeException.class,
+				() -> SyntheticDataSettings.from("synthetic-", 0, 2024, 1, 10, 1L));
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * 合成データ生成の設定値です。
+ *
+ *------------------------------------------------
+ * 更新履歴
+ * 日付       : version  コメントなど
+ * 2026/10/17 : 1.02.00  新規作成
+ * 2026/10/17 : 1.02.00  月ごとの支出件数の最小値を買い物登録に必須の支出情報の件数(8件)に変更
+ *
+ */
+package com.yonetani.webapp.accountbook.testdata;
+
+import com.yonetani.webapp.accountbook.common.exception.MyHouseholdAccountBookRuntimeException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ *<pre>
+ * 合成データ生成の設定値です。
+ * ユーザ数 × 年数 × 月ごとの支出件数で生成するデータ量を指定します。
+ *
+ * [月ごとの生成件数]
+ * ・支出情報:支出件数(8～999件)。うち8件は買い物登録に必須の支出情報
+ * ・買い物登録情報:支出件数の1/4件(飲食(無駄遣いなし)の支出情報に集計)
+ * ・収入情報:給料1件、4か月に1回は積立金取崩し1件
+ *
+ *</pre>
+ *
+ * @author ：Kouki Yonetani
+ * @since 家計簿アプリ(1.02)
+ *
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+public class SyntheticDataSettings {
+	// 月ごとの支出件数の最小値(買い物登録に必須の支出情報の件数)
+	private static final int MIN_EXPENDITURE_COUNT_PER_MONTH = 8;
+	// 月ごとの支出件数の最大値(支出コードが3桁のため)
+	private static final int MAX_EXPENDITURE_COUNT_PER_MONTH = 999;
+
+	// ユーザIDのプレフィックス
+	private final String userIdPrefix;
+	// ユーザ数
+	private final int userCount;
+	// 開始年
+	private final int startYear;
+	// 年数
+	private final int yearCount;
+	// 月ごとの支出件数
+	private final int expenditureCountPerMonth;
+	// 乱数のシード
+	private final long seed;
+
+	/**
+	 *<pre>
+	 * 引数の値から合成データ生成の設定値を生成して返します。
+	 *</pre>
+	 * @param userIdPrefix ユーザIDのプレフィックス(ユーザIDはプレフィックス + 5桁の連番)
+	 * @param userCount ユーザ数
+	 * @param startYear 開始年
+	 * @param yearCount 年数
+	 * @param expenditureCountPerMonth 月ごとの支出件数
+	 * @param seed 乱数のシード
+	 * @return 合成データ生成の設定値
+	 *
+	 */
+	public static SyntheticDataSettings from(String userIdPrefix, int userCount, int startYear, int yearCount,
+			int expenditureCountPerMonth, long seed) {
+		if(userIdPrefix == null || userIdPrefix.isEmpty() || userIdPrefix.length() > 45) {
+			throw new MyHouseholdAccountBookRuntimeException("ユーザIDのプレフィックスが不正です。[userIdPrefix=" + userIdPrefix + "]");
+		}
+		if(userCount <= 0 || userCount > 99999) {
+			throw new MyHouseholdAccountBookRuntimeException("ユーザ数が不正です。[userCount=" + userCount + "]");
+		}
+		if(startYear < 1000 || yearCount <= 0 || startYear + yearCount > 10000) {
+			throw new MyHouseholdAccountBookRuntimeException("開始年、年数が不正です。[startYear=" + startYear + "][yearCount=" + yearCount + "]");
+		}
+		if(expenditureCountPerMonth < MIN_EXPENDITURE_COUNT_PER_MONTH || expenditureCountPerMonth > MAX_EXPENDITURE_COUNT_PER_MONTH) {
+			throw new MyHouseholdAccountBookRuntimeException("月ごとの支出件数が不正です。[expenditureCountPerMonth=" + expenditureCountPerMonth + "]");
+		}
+		return new SyntheticDataSettings(userIdPrefix, userCount, startYear, yearCount, expenditureCountPerMonth, seed);
+	}
+
+	/**
+	 *<pre>
+	 * 指定したインデックス(0始まり)のユーザIDを返します。
+	 *</pre>
+	 * @param index ユーザのインデックス(0始まり)
+	 * @return ユーザID
+	 *
+	 */
+	public String getUserId(int index) {
+		return userIdPrefix + String.format("%05d", index + 1);
+	}
+}
@@ -13,6 +13,7 @@ TRUNCATE TABLE INCOME_AND_EXPENDITURE_TABLE;
 TRUNCATE TABLE SISYUTU_ITEM_TABLE;
 TRUNCATE TABLE SISYUTU_ITEM_BASE_TABLE;
 TRUNCATE TABLE ACCOUNT_BOOK_USER;
+TRUNCATE TABLE CODE_SEQUENCE_TABLE;
 
 -- FK制約を再有効化
 SET REFERENTIAL_INTEGRITY TRUE;
@@ -0,0 +1,29 @@
+-- SisyutuKingakuTableDataSourceTest#testSelectYear, testSelectYearRange 用テストデータ
+-- 収支テーブル：2024/12, 2025/01, 2025/02, 2025/03
+--   2025/03は支出金額テーブルのデータなし(年間収支(明細)に含まれないことを確認)
+-- 支出金額テーブル：支出項目レベル１(0001,0013,0023,0045,0049,0055)と集計対象外の子項目(0050)
+INSERT INTO INCOME_AND_EXPENDITURE_TABLE (
+    USER_ID, TARGET_YEAR, TARGET_MONTH, INCOME_KINGAKU, WITHDREW_KINGAKU,
+    EXPENDITURE_ESTIMATE_KINGAKU, EXPENDITURE_KINGAKU, INCOME_AND_EXPENDITURE_KINGAKU)
+VALUES
+    ('TEST-USER-ID', '2024', '12', 300000.00, NULL, 200000.00, 180000.00, 120000.00),
+    ('TEST-USER-ID', '2025', '01', 300000.00, NULL, 200000.00, 150000.00, 150000.00),
+    ('TEST-USER-ID', '2025', '02', 300000.00, 10000.00, 200000.00, 160000.00, 150000.00),
+    ('TEST-USER-ID', '2025', '03', 300000.00, NULL, 200000.00, 0.00, 300000.00);
+
+INSERT INTO SISYUTU_KINGAKU_TABLE (
+    USER_ID, TARGET_YEAR, TARGET_MONTH, SISYUTU_ITEM_CODE, PARENT_SISYUTU_ITEM_CODE,
+    SISYUTU_YOTEI_KINGAKU, SISYUTU_KINGAKU, SISYUTU_KINGAKU_B, SISYUTU_KINGAKU_C, SISYUTU_SIHARAI_DATE)
+VALUES
+    -- 2024/12
+    ('TEST-USER-ID', '2024', '12', '0049', '0000', 60000.00, 60000.00, 3000.00, NULL, NULL),
+    -- 2025/01
+    ('TEST-USER-ID', '2025', '01', '0001', '0000', 10000.00, 10000.00, NULL, NULL, NULL),
+    ('TEST-USER-ID', '2025', '01', '0013', '0000', 50000.00, 50000.00, NULL, NULL, NULL),
+    ('TEST-USER-ID', '2025', '01', '0023', '0000', 20000.00, 20000.00, NULL, NULL, NULL),
+    ('TEST-USER-ID', '2025', '01', '0049', '0000', 40000.00, 40000.00, 5000.00, 1000.00, NULL),
+    ('TEST-USER-ID', '2025', '01', '0050', '0049', 40000.00, 40000.00, 5000.00, 1000.00, NULL),
+    ('TEST-USER-ID', '2025', '01', '0055', '0000', 30000.00, 30000.00, 2000.00, NULL, NULL),
+    -- 2025/02
+    ('TEST-USER-ID', '2025', '02', '0045', '0000', 25000.00, 25000.00, NULL, NULL, NULL),
+    ('TEST-USER-ID', '2025', '02', '0049', '0000', 35000.00, 35000.00, NULL, NULL, NULL);